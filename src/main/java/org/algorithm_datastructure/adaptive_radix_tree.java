@@ -0,0 +1,1197 @@
+package org.algorithm_datastructure;
+
+import java.lang.invoke.VarHandle;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicLongFieldUpdater;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BiConsumer;
+
+/**
+ * Adaptive Radix Tree (ART) Implementation
+ *
+ * A radix tree over byte[] keys whose inner nodes change layout with their
+ * fan-out, so sparse nodes stay small and dense nodes stay fast:
+ * - Node4:   up to 4 children, sorted key bytes + child array
+ * - Node16:  up to 16 children, sorted key bytes + child array
+ * - Node48:  up to 48 children, 256-entry byte index into a 48-slot child array
+ * - Node256: up to 256 children, direct child array indexed by key byte
+ *
+ * Path compression: every inner node stores the bytes shared by all keys below
+ * it (its prefix), so chains of single-child nodes never exist. Leaves store the
+ * full key, so lazy expansion only creates inner nodes where keys diverge.
+ * A key that ends inside the tree (a prefix of another key) is kept as the
+ * "terminal" leaf of the inner node where it ends.
+ *
+ * Concurrency (optional): optimistic lock coupling (Leis et al., "The ART of
+ * Practical Synchronization"). Each inner node has a version word
+ * (bit 0 = obsolete, bit 1 = locked, rest = counter). Readers never write shared
+ * memory: they read a node's version, read the node, then validate the version
+ * and restart on conflict. Writers lock at most the node they modify and its
+ * parent by CAS-upgrading the version they read. Replaced nodes are marked
+ * obsolete so stale readers restart.
+ *
+ * Operations:
+ * - get(key): Lookup - O(k) where k is key length
+ * - put(key, value): Insert or replace - O(k)
+ * - remove(key): Delete, shrinking and merging nodes - O(k)
+ * - forEach(action): Visit entries in unsigned lexicographic key order - O(n)
+ * - range(from, to, action): Visit keys in [from, to) - O(k + m) for m results
+ *
+ * Time Complexity: O(k) per point operation, independent of the number of keys
+ * Space Complexity: O(n) with node size adapted to fan-out
+ *
+ * Applications:
+ * - In-memory secondary indexes
+ * - Main-memory databases (HyPer, DuckDB)
+ * - IP routing tables
+ * - Ordered key-value stores
+ */
+public class adaptive_radix_tree {
+
+    private static final long OBSOLETE = 1;
+    private static final long LOCKED = 2;
+    private static final long RESTART = -1;
+    private static final Object RETRY = new Object();
+
+    /**
+     * Base class for leaves and inner nodes
+     */
+    abstract static class Node {
+    }
+
+    /**
+     * Leaf class holds the complete key and its value
+     */
+    static final class Leaf<V> extends Node {
+        final byte[] key;
+        volatile V value;
+
+        Leaf(byte[] key, V value) {
+            this.key = key;
+            this.value = value;
+        }
+    }
+
+    /**
+     * InnerNode class holds the compressed prefix, optional terminal leaf,
+     * and the optimistic lock version word
+     */
+    abstract static class InnerNode extends Node {
+        static final AtomicLongFieldUpdater<InnerNode> VERSION =
+            AtomicLongFieldUpdater.newUpdater(InnerNode.class, "version");
+
+        volatile long version;
+        final byte[] prefix;     // immutable; a node with a new prefix is a new node
+        Leaf<?> terminal;        // key ending exactly after prefix
+        int count;               // number of children
+
+        InnerNode(byte[] prefix) {
+            this.prefix = prefix;
+        }
+
+        abstract Node findChild(byte b);
+
+        /** Adds a child; caller guarantees the node is not full and b is absent */
+        abstract void addChild(byte b, Node child);
+
+        abstract void replaceChild(byte b, Node child);
+
+        abstract void removeChild(byte b);
+
+        abstract boolean isFull();
+
+        /** True if removing one child should move the node to a smaller layout */
+        abstract boolean shouldShrink();
+
+        /** Copies children in ascending unsigned byte order, returns the count */
+        abstract int snapshot(byte[] keys, Node[] children);
+
+        abstract InnerNode emptyOfSameKind(byte[] prefix);
+
+        /** Next larger layout; only reached when isFull(), which Node256 never is */
+        InnerNode emptyOfNextKind(byte[] prefix) {
+            throw new AssertionError(getClass().getSimpleName() + " has no larger layout");
+        }
+
+        /** Next smaller layout; only reached when shouldShrink(), which Node4 never is */
+        InnerNode emptyOfPreviousKind(byte[] prefix) {
+            throw new AssertionError(getClass().getSimpleName() + " has no smaller layout");
+        }
+
+        InnerNode copyInto(InnerNode target) {
+            byte[] keys = new byte[256];
+            Node[] children = new Node[256];
+            int n = snapshot(keys, children);
+            for (int i = 0; i < n; i++) {
+                target.addChild(keys[i], children[i]);
+            }
+            target.terminal = terminal;
+            return target;
+        }
+
+        InnerNode grow() {
+            return copyInto(emptyOfNextKind(prefix));
+        }
+
+        InnerNode shrink() {
+            return copyInto(emptyOfPreviousKind(prefix));
+        }
+
+        InnerNode withPrefix(byte[] newPrefix) {
+            return copyInto(emptyOfSameKind(newPrefix));
+        }
+    }
+
+    /**
+     * SortedArrayNode class is the shared layout of Node4 and Node16:
+     * key bytes kept sorted (unsigned) with a parallel child array
+     */
+    abstract static class SortedArrayNode extends InnerNode {
+        final byte[] keys;
+        final Node[] children;
+
+        SortedArrayNode(byte[] prefix, int capacity) {
+            super(prefix);
+            this.keys = new byte[capacity];
+            this.children = new Node[capacity];
+        }
+
+        private int indexOf(byte b) {
+            int n = Math.min(count, keys.length);
+            for (int i = 0; i < n; i++) {
+                if (keys[i] == b) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        @Override
+        Node findChild(byte b) {
+            int i = indexOf(b);
+            return i < 0 ? null : children[i];
+        }
+
+        @Override
+        void addChild(byte b, Node child) {
+            int pos = 0;
+            while (pos < count && Byte.toUnsignedInt(keys[pos]) < Byte.toUnsignedInt(b)) {
+                pos++;
+            }
+            System.arraycopy(keys, pos, keys, pos + 1, count - pos);
+            System.arraycopy(children, pos, children, pos + 1, count - pos);
+            keys[pos] = b;
+            children[pos] = child;
+            count++;
+        }
+
+        @Override
+        void replaceChild(byte b, Node child) {
+            children[indexOf(b)] = child;
+        }
+
+        @Override
+        void removeChild(byte b) {
+            int pos = indexOf(b);
+            System.arraycopy(keys, pos + 1, keys, pos, count - pos - 1);
+            System.arraycopy(children, pos + 1, children, pos, count - pos - 1);
+            count--;
+            children[count] = null;
+        }
+
+        @Override
+        boolean isFull() {
+            return count == keys.length;
+        }
+
+        @Override
+        int snapshot(byte[] outKeys, Node[] outChildren) {
+            int n = Math.min(count, keys.length);
+            System.arraycopy(keys, 0, outKeys, 0, n);
+            System.arraycopy(children, 0, outChildren, 0, n);
+            return n;
+        }
+    }
+
+    static final class Node4 extends SortedArrayNode {
+        Node4(byte[] prefix) {
+            super(prefix, 4);
+        }
+
+        @Override
+        boolean shouldShrink() {
+            return false;  // single-child Node4s are merged with their child instead
+        }
+
+        @Override
+        InnerNode emptyOfSameKind(byte[] prefix) {
+            return new Node4(prefix);
+        }
+
+        @Override
+        InnerNode emptyOfNextKind(byte[] prefix) {
+            return new Node16(prefix);
+        }
+    }
+
+    static final class Node16 extends SortedArrayNode {
+        Node16(byte[] prefix) {
+            super(prefix, 16);
+        }
+
+        @Override
+        boolean shouldShrink() {
+            return count == 4;
+        }
+
+        @Override
+        InnerNode emptyOfSameKind(byte[] prefix) {
+            return new Node16(prefix);
+        }
+
+        @Override
+        InnerNode emptyOfNextKind(byte[] prefix) {
+            return new Node48(prefix);
+        }
+
+        @Override
+        InnerNode emptyOfPreviousKind(byte[] prefix) {
+            return new Node4(prefix);
+        }
+    }
+
+    static final class Node48 extends InnerNode {
+        final byte[] childIndex = new byte[256];  // slot + 1, 0 = no child
+        final Node[] children = new Node[48];
+
+        Node48(byte[] prefix) {
+            super(prefix);
+        }
+
+        @Override
+        Node findChild(byte b) {
+            int slot = childIndex[Byte.toUnsignedInt(b)];
+            return slot == 0 ? null : children[slot - 1];
+        }
+
+        @Override
+        void addChild(byte b, Node child) {
+            int slot = 0;
+            while (children[slot] != null) {
+                slot++;
+            }
+            children[slot] = child;
+            childIndex[Byte.toUnsignedInt(b)] = (byte) (slot + 1);
+            count++;
+        }
+
+        @Override
+        void replaceChild(byte b, Node child) {
+            children[childIndex[Byte.toUnsignedInt(b)] - 1] = child;
+        }
+
+        @Override
+        void removeChild(byte b) {
+            int index = Byte.toUnsignedInt(b);
+            children[childIndex[index] - 1] = null;
+            childIndex[index] = 0;
+            count--;
+        }
+
+        @Override
+        boolean isFull() {
+            return count == 48;
+        }
+
+        @Override
+        boolean shouldShrink() {
+            return count == 13;
+        }
+
+        @Override
+        int snapshot(byte[] outKeys, Node[] outChildren) {
+            int n = 0;
+            for (int i = 0; i < 256; i++) {
+                int slot = childIndex[i];
+                if (slot != 0 && children[slot - 1] != null) {
+                    outKeys[n] = (byte) i;
+                    outChildren[n++] = children[slot - 1];
+                }
+            }
+            return n;
+        }
+
+        @Override
+        InnerNode emptyOfSameKind(byte[] prefix) {
+            return new Node48(prefix);
+        }
+
+        @Override
+        InnerNode emptyOfNextKind(byte[] prefix) {
+            return new Node256(prefix);
+        }
+
+        @Override
+        InnerNode emptyOfPreviousKind(byte[] prefix) {
+            return new Node16(prefix);
+        }
+    }
+
+    static final class Node256 extends InnerNode {
+        final Node[] children = new Node[256];
+
+        Node256(byte[] prefix) {
+            super(prefix);
+        }
+
+        @Override
+        Node findChild(byte b) {
+            return children[Byte.toUnsignedInt(b)];
+        }
+
+        @Override
+        void addChild(byte b, Node child) {
+            children[Byte.toUnsignedInt(b)] = child;
+            count++;
+        }
+
+        @Override
+        void replaceChild(byte b, Node child) {
+            children[Byte.toUnsignedInt(b)] = child;
+        }
+
+        @Override
+        void removeChild(byte b) {
+            children[Byte.toUnsignedInt(b)] = null;
+            count--;
+        }
+
+        @Override
+        boolean isFull() {
+            return false;
+        }
+
+        @Override
+        boolean shouldShrink() {
+            return count == 38;
+        }
+
+        @Override
+        int snapshot(byte[] outKeys, Node[] outChildren) {
+            int n = 0;
+            for (int i = 0; i < 256; i++) {
+                if (children[i] != null) {
+                    outKeys[n] = (byte) i;
+                    outChildren[n++] = children[i];
+                }
+            }
+            return n;
+        }
+
+        @Override
+        InnerNode emptyOfSameKind(byte[] prefix) {
+            return new Node256(prefix);
+        }
+
+        @Override
+        InnerNode emptyOfPreviousKind(byte[] prefix) {
+            return new Node48(prefix);
+        }
+    }
+
+    /**
+     * AdaptiveRadixTree class implements the ordered byte[] -> V map
+     */
+    static class AdaptiveRadixTree<V> {
+        // Root is a Node256 with an empty prefix: it never splits, grows or shrinks,
+        // so every other inner node always has a parent to be replaced in.
+        private final Node256 root = new Node256(new byte[0]);
+        private final LongAdder size = new LongAdder();
+        private final boolean concurrent;
+
+        /**
+         * Constructor - creates empty single-threaded tree
+         */
+        public AdaptiveRadixTree() {
+            this(false);
+        }
+
+        /**
+         * Constructor - creates empty tree
+         * @param concurrent true to enable optimistic lock coupling for use
+         *                   by many reader and writer threads
+         */
+        public AdaptiveRadixTree(boolean concurrent) {
+            this.concurrent = concurrent;
+        }
+
+        // ---- Optimistic lock coupling primitives ----
+
+        private long readLock(InnerNode node) {
+            if (!concurrent) {
+                return 0;
+            }
+            long v = node.version;
+            while ((v & LOCKED) != 0) {
+                Thread.onSpinWait();
+                v = node.version;
+            }
+            return (v & OBSOLETE) != 0 ? RESTART : v;
+        }
+
+        private boolean validate(InnerNode node, long version) {
+            if (!concurrent) {
+                return true;
+            }
+            VarHandle.acquireFence();  // order the node reads before the version re-check
+            return node.version == version;
+        }
+
+        private boolean upgrade(InnerNode node, long version) {
+            return !concurrent || InnerNode.VERSION.compareAndSet(node, version, version + LOCKED);
+        }
+
+        private void unlock(InnerNode node) {
+            if (concurrent) {
+                InnerNode.VERSION.addAndGet(node, LOCKED);
+            }
+        }
+
+        private void unlockObsolete(InnerNode node) {
+            if (concurrent) {
+                InnerNode.VERSION.addAndGet(node, LOCKED + OBSOLETE);
+            }
+        }
+
+        // ---- Point operations ----
+
+        /**
+         * Looks up the value stored for key
+         * Time Complexity: O(k) where k is key length
+         * @param key Key bytes
+         * @return Value, or null if absent
+         */
+        public V get(byte[] key) {
+            while (true) {
+                Object result = tryGet(key);
+                if (result != RETRY) {
+                    return cast(result);
+                }
+            }
+        }
+
+        private Object tryGet(byte[] key) {
+            InnerNode node = root;
+            long version = readLock(node);
+            int level = 0;
+
+            while (true) {
+                byte[] prefix = node.prefix;
+                if (matchPrefix(prefix, key, level) < prefix.length) {
+                    return validate(node, version) ? null : RETRY;
+                }
+                level += prefix.length;
+
+                if (level == key.length) {
+                    Leaf<?> terminal = node.terminal;
+                    if (!validate(node, version)) {
+                        return RETRY;
+                    }
+                    return terminal == null ? null : terminal.value;
+                }
+
+                Node next = node.findChild(key[level]);
+                if (!validate(node, version)) {
+                    return RETRY;
+                }
+                if (next == null) {
+                    return null;
+                }
+                if (next instanceof Leaf) {
+                    Leaf<?> leaf = (Leaf<?>) next;
+                    return Arrays.equals(leaf.key, key) ? leaf.value : null;
+                }
+
+                InnerNode child = (InnerNode) next;
+                long childVersion = readLock(child);
+                if (childVersion == RESTART || !validate(node, version)) {
+                    return RETRY;
+                }
+                node = child;
+                version = childVersion;
+                level++;
+            }
+        }
+
+        /**
+         * Checks if key is present
+         * Time Complexity: O(k)
+         * @param key Key bytes
+         * @return true if present
+         */
+        public boolean containsKey(byte[] key) {
+            return get(key) != null;
+        }
+
+        /**
+         * Inserts or replaces the value for key
+         * Time Complexity: O(k)
+         * @param key Key bytes (must not be modified afterwards)
+         * @param value Value, must not be null
+         * @return Previous value, or null if key was absent
+         */
+        public V put(byte[] key, V value) {
+            if (value == null) {
+                throw new IllegalArgumentException("Null values are not supported");
+            }
+            while (true) {
+                Object result = tryPut(key, value);
+                if (result != RETRY) {
+                    return cast(result);
+                }
+            }
+        }
+
+        private Object tryPut(byte[] key, V value) {
+            InnerNode parent = null;
+            long parentVersion = 0;
+            byte parentKey = 0;
+            InnerNode node = root;
+            long version = readLock(node);
+            int level = 0;
+
+            while (true) {
+                byte[] prefix = node.prefix;
+                int match = matchPrefix(prefix, key, level);
+
+                if (match < prefix.length) {
+                    // Key diverges inside the prefix: split with a new Node4 above node
+                    if (!upgrade(parent, parentVersion)) {
+                        return RETRY;
+                    }
+                    if (!upgrade(node, version)) {
+                        unlock(parent);
+                        return RETRY;
+                    }
+                    Node4 split = new Node4(Arrays.copyOfRange(prefix, 0, match));
+                    split.addChild(prefix[match],
+                        node.withPrefix(Arrays.copyOfRange(prefix, match + 1, prefix.length)));
+                    place(split, new Leaf<>(key, value), level + match);
+                    parent.replaceChild(parentKey, split);
+                    size.increment();
+                    unlockObsolete(node);
+                    unlock(parent);
+                    return null;
+                }
+                level += prefix.length;
+
+                if (level == key.length) {
+                    if (!upgrade(node, version)) {
+                        return RETRY;
+                    }
+                    Object previous = replaceTerminal(node, key, value);
+                    unlock(node);
+                    return previous;
+                }
+
+                byte b = key[level];
+                Node next = node.findChild(b);
+                if (!validate(node, version)) {
+                    return RETRY;
+                }
+
+                if (next == null) {
+                    if (node.isFull()) {
+                        if (!upgrade(parent, parentVersion)) {
+                            return RETRY;
+                        }
+                        if (!upgrade(node, version)) {
+                            unlock(parent);
+                            return RETRY;
+                        }
+                        InnerNode grown = node.grow();
+                        grown.addChild(b, new Leaf<>(key, value));
+                        parent.replaceChild(parentKey, grown);
+                        unlockObsolete(node);
+                        unlock(parent);
+                    } else {
+                        if (!upgrade(node, version)) {
+                            return RETRY;
+                        }
+                        node.addChild(b, new Leaf<>(key, value));
+                        unlock(node);
+                    }
+                    size.increment();
+                    return null;
+                }
+
+                if (next instanceof Leaf) {
+                    @SuppressWarnings("unchecked")
+                    Leaf<V> leaf = (Leaf<V>) next;
+                    if (!upgrade(node, version)) {
+                        return RETRY;
+                    }
+                    if (Arrays.equals(leaf.key, key)) {
+                        V previous = leaf.value;
+                        leaf.value = value;
+                        unlock(node);
+                        return previous;
+                    }
+
+                    // Lazy expansion: two keys now share this slot
+                    int start = level + 1;
+                    int common = commonPrefixLength(leaf.key, key, start);
+                    Node4 expanded = new Node4(Arrays.copyOfRange(key, start, start + common));
+                    place(expanded, leaf, start + common);
+                    place(expanded, new Leaf<>(key, value), start + common);
+                    node.replaceChild(b, expanded);
+                    size.increment();
+                    unlock(node);
+                    return null;
+                }
+
+                InnerNode child = (InnerNode) next;
+                long childVersion = readLock(child);
+                if (childVersion == RESTART || !validate(node, version)) {
+                    return RETRY;
+                }
+                parent = node;
+                parentVersion = version;
+                parentKey = b;
+                node = child;
+                version = childVersion;
+                level++;
+            }
+        }
+
+        private Object replaceTerminal(InnerNode node, byte[] key, V value) {
+            @SuppressWarnings("unchecked")
+            Leaf<V> terminal = (Leaf<V>) node.terminal;
+            if (terminal != null) {
+                V previous = terminal.value;
+                terminal.value = value;
+                return previous;
+            }
+            node.terminal = new Leaf<>(key, value);
+            size.increment();
+            return null;
+        }
+
+        /**
+         * Removes key and its value. Underfull nodes move to a smaller layout
+         * and single-child Node4s are merged into their child.
+         * Time Complexity: O(k)
+         * @param key Key bytes
+         * @return Removed value, or null if key was absent
+         */
+        public V remove(byte[] key) {
+            while (true) {
+                Object result = tryRemove(key);
+                if (result != RETRY) {
+                    return cast(result);
+                }
+            }
+        }
+
+        private Object tryRemove(byte[] key) {
+            InnerNode parent = null;
+            long parentVersion = 0;
+            byte parentKey = 0;
+            InnerNode node = root;
+            long version = readLock(node);
+            int level = 0;
+
+            while (true) {
+                byte[] prefix = node.prefix;
+                if (matchPrefix(prefix, key, level) < prefix.length) {
+                    return validate(node, version) ? null : RETRY;
+                }
+                level += prefix.length;
+
+                if (level == key.length) {
+                    Leaf<?> terminal = node.terminal;
+                    if (!validate(node, version)) {
+                        return RETRY;
+                    }
+                    if (terminal == null) {
+                        return null;
+                    }
+                    if (node != root && node.count == 0) {
+                        // Node holds nothing else: unlink it
+                        if (!lockPair(parent, parentVersion, node, version)) {
+                            return RETRY;
+                        }
+                        parent.removeChild(parentKey);
+                        unlockObsolete(node);
+                        unlock(parent);
+                    } else {
+                        if (!upgrade(node, version)) {
+                            return RETRY;
+                        }
+                        node.terminal = null;
+                        unlock(node);
+                    }
+                    size.decrement();
+                    return terminal.value;
+                }
+
+                byte b = key[level];
+                Node next = node.findChild(b);
+                if (!validate(node, version)) {
+                    return RETRY;
+                }
+                if (next == null) {
+                    return null;
+                }
+
+                if (next instanceof Leaf) {
+                    Leaf<?> leaf = (Leaf<?>) next;
+                    if (!Arrays.equals(leaf.key, key)) {
+                        return null;
+                    }
+                    Object removed = removeLeaf(parent, parentVersion, parentKey, node, version, b);
+                    if (removed == RETRY) {
+                        return RETRY;
+                    }
+                    size.decrement();
+                    return leaf.value;
+                }
+
+                InnerNode child = (InnerNode) next;
+                long childVersion = readLock(child);
+                if (childVersion == RESTART || !validate(node, version)) {
+                    return RETRY;
+                }
+                parent = node;
+                parentVersion = version;
+                parentKey = b;
+                node = child;
+                version = childVersion;
+                level++;
+            }
+        }
+
+        private Object removeLeaf(InnerNode parent, long parentVersion, byte parentKey,
+                                  InnerNode node, long version, byte b) {
+            if (node == root) {
+                if (!upgrade(node, version)) {
+                    return RETRY;
+                }
+                node.removeChild(b);
+                unlock(node);
+                return null;
+            }
+
+            int remainingChildren = node.count - 1;
+            Leaf<?> terminal = node.terminal;
+
+            if (remainingChildren == 0) {
+                // Replace node by its terminal leaf, or drop it entirely
+                if (!lockPair(parent, parentVersion, node, version)) {
+                    return RETRY;
+                }
+                if (terminal != null) {
+                    parent.replaceChild(parentKey, terminal);
+                } else {
+                    parent.removeChild(parentKey);
+                }
+                unlockObsolete(node);
+                unlock(parent);
+                return null;
+            }
+
+            if (remainingChildren == 1 && terminal == null) {
+                return mergeWithOnlyChild(parent, parentVersion, parentKey, node, version, b);
+            }
+
+            if (node.shouldShrink()) {
+                if (!lockPair(parent, parentVersion, node, version)) {
+                    return RETRY;
+                }
+                InnerNode smaller = node.shrink();
+                smaller.removeChild(b);
+                parent.replaceChild(parentKey, smaller);
+                unlockObsolete(node);
+                unlock(parent);
+                return null;
+            }
+
+            if (!upgrade(node, version)) {
+                return RETRY;
+            }
+            node.removeChild(b);
+            unlock(node);
+            return null;
+        }
+
+        /**
+         * Restores path compression: node keeps one child after removing b,
+         * so the child takes node's place with node's prefix prepended.
+         */
+        private Object mergeWithOnlyChild(InnerNode parent, long parentVersion, byte parentKey,
+                                          InnerNode node, long version, byte b) {
+            byte[] keys = new byte[256];
+            Node[] children = new Node[256];
+            int n = node.snapshot(keys, children);
+            if (!validate(node, version) || n != 2) {
+                return RETRY;
+            }
+            int other = keys[0] == b ? 1 : 0;
+            Node survivor = children[other];
+
+            if (survivor instanceof Leaf) {
+                if (!lockPair(parent, parentVersion, node, version)) {
+                    return RETRY;
+                }
+                parent.replaceChild(parentKey, survivor);
+                unlockObsolete(node);
+                unlock(parent);
+                return null;
+            }
+
+            InnerNode child = (InnerNode) survivor;
+            long childVersion = readLock(child);
+            if (childVersion == RESTART || !lockPair(parent, parentVersion, node, version)) {
+                return RETRY;
+            }
+            if (!upgrade(child, childVersion)) {
+                unlock(node);
+                unlock(parent);
+                return RETRY;
+            }
+
+            byte[] merged = new byte[node.prefix.length + 1 + child.prefix.length];
+            System.arraycopy(node.prefix, 0, merged, 0, node.prefix.length);
+            merged[node.prefix.length] = keys[other];
+            System.arraycopy(child.prefix, 0, merged, node.prefix.length + 1, child.prefix.length);
+
+            parent.replaceChild(parentKey, child.withPrefix(merged));
+            unlockObsolete(child);
+            unlockObsolete(node);
+            unlock(parent);
+            return null;
+        }
+
+        private boolean lockPair(InnerNode parent, long parentVersion, InnerNode node, long version) {
+            if (!upgrade(parent, parentVersion)) {
+                return false;
+            }
+            if (!upgrade(node, version)) {
+                unlock(parent);
+                return false;
+            }
+            return true;
+        }
+
+        /**
+         * Returns the number of keys
+         * Time Complexity: O(1) single-threaded, O(cores) when concurrent
+         * @return Number of keys
+         */
+        public int size() {
+            return size.intValue();
+        }
+
+        /**
+         * Checks if tree is empty
+         * @return true if empty, false otherwise
+         */
+        public boolean isEmpty() {
+            return size() == 0;
+        }
+
+        // ---- Ordered traversal ----
+
+        /**
+         * Visits all entries in unsigned lexicographic key order.
+         * Under concurrent updates the traversal is weakly consistent.
+         * Time Complexity: O(n)
+         * @param action Callback receiving key and value
+         */
+        public void forEach(BiConsumer<byte[], ? super V> action) {
+            range(null, null, action);
+        }
+
+        /**
+         * Visits entries with from <= key < to in key order. Subtrees whose
+         * path lies entirely outside the range are skipped.
+         * Time Complexity: O(k + m) where m is the number of visited keys
+         * @param from Inclusive lower bound, or null for unbounded
+         * @param to Exclusive upper bound, or null for unbounded
+         * @param action Callback receiving key and value
+         */
+        public void range(byte[] from, byte[] to, BiConsumer<byte[], ? super V> action) {
+            scan(root, new byte[16], 0, from, to, action);
+        }
+
+        /**
+         * Collects keys with from <= key < to
+         * Time Complexity: O(k + m)
+         * @param from Inclusive lower bound, or null
+         * @param to Exclusive upper bound, or null
+         * @return Keys in order
+         */
+        public List<byte[]> keysInRange(byte[] from, byte[] to) {
+            List<byte[]> keys = new ArrayList<>();
+            range(from, to, (key, value) -> keys.add(key));
+            return keys;
+        }
+
+        @SuppressWarnings("unchecked")
+        private void scan(InnerNode node, byte[] path, int pathLength,
+                          byte[] from, byte[] to, BiConsumer<byte[], ? super V> action) {
+            byte[] keys = new byte[256];
+            Node[] children = new Node[256];
+            byte[] prefix;
+            Leaf<?> terminal;
+            int n;
+
+            // Take a validated snapshot; obsolete nodes are frozen and safe to read
+            while (true) {
+                long version = concurrent ? awaitUnlocked(node) : 0;
+                prefix = node.prefix;
+                terminal = node.terminal;
+                n = node.snapshot(keys, children);
+                if (!concurrent || (version & OBSOLETE) != 0 || validate(node, version)) {
+                    break;
+                }
+            }
+
+            if (path.length < pathLength + prefix.length + 1) {
+                path = Arrays.copyOf(path, Math.max(path.length * 2, pathLength + prefix.length + 1));
+            }
+            System.arraycopy(prefix, 0, path, pathLength, prefix.length);
+            pathLength += prefix.length;
+
+            // Every key below starts with path: prune subtrees outside [from, to)
+            if (to != null && Arrays.compareUnsigned(path, 0, pathLength, to, 0, to.length) >= 0) {
+                return;
+            }
+            if (from != null && !isPrefixOf(path, pathLength, from)
+                && Arrays.compareUnsigned(path, 0, pathLength, from, 0, from.length) < 0) {
+                return;
+            }
+
+            if (terminal != null && inRange(terminal.key, from, to)) {
+                action.accept(terminal.key, (V) terminal.value);
+            }
+            for (int i = 0; i < n; i++) {
+                if (children[i] instanceof Leaf) {
+                    Leaf<?> leaf = (Leaf<?>) children[i];
+                    if (inRange(leaf.key, from, to)) {
+                        action.accept(leaf.key, (V) leaf.value);
+                    }
+                } else {
+                    path[pathLength] = keys[i];
+                    scan((InnerNode) children[i], path, pathLength + 1, from, to, action);
+                }
+            }
+        }
+
+        private long awaitUnlocked(InnerNode node) {
+            long v = node.version;
+            while ((v & LOCKED) != 0) {
+                Thread.onSpinWait();
+                v = node.version;
+            }
+            return v;
+        }
+
+        @SuppressWarnings("unchecked")
+        private V cast(Object value) {
+            return (V) value;
+        }
+    }
+
+    // ---- Key helpers ----
+
+    private static int matchPrefix(byte[] prefix, byte[] key, int level) {
+        int max = Math.min(prefix.length, key.length - level);
+        int i = 0;
+        while (i < max && prefix[i] == key[level + i]) {
+            i++;
+        }
+        return i;
+    }
+
+    private static int commonPrefixLength(byte[] a, byte[] b, int start) {
+        int i = start;
+        while (i < a.length && i < b.length && a[i] == b[i]) {
+            i++;
+        }
+        return i - start;
+    }
+
+    private static void place(InnerNode node, Leaf<?> leaf, int depth) {
+        if (leaf.key.length == depth) {
+            node.terminal = leaf;
+        } else {
+            node.addChild(leaf.key[depth], leaf);
+        }
+    }
+
+    private static boolean isPrefixOf(byte[] path, int pathLength, byte[] key) {
+        return pathLength <= key.length && Arrays.equals(path, 0, pathLength, key, 0, pathLength);
+    }
+
+    private static boolean inRange(byte[] key, byte[] from, byte[] to) {
+        return (from == null || Arrays.compareUnsigned(key, from) >= 0)
+            && (to == null || Arrays.compareUnsigned(key, to) < 0);
+    }
+
+    /**
+     * Encodes a string as UTF-8 key bytes (byte order matches code point order)
+     * @param s String to encode
+     * @return Key bytes
+     */
+    public static byte[] key(String s) {
+        return s.getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Encodes a long so that unsigned byte order matches signed numeric order
+     * @param value Value to encode
+     * @return 8 big-endian key bytes with the sign bit flipped
+     */
+    public static byte[] key(long value) {
+        long flipped = value ^ Long.MIN_VALUE;
+        byte[] bytes = new byte[8];
+        for (int i = 7; i >= 0; i--) {
+            bytes[i] = (byte) flipped;
+            flipped >>>= 8;
+        }
+        return bytes;
+    }
+
+    private static long decodeLong(byte[] bytes) {
+        long value = 0;
+        for (byte b : bytes) {
+            value = (value << 8) | Byte.toUnsignedInt(b);
+        }
+        return value ^ Long.MIN_VALUE;
+    }
+
+    public static void main(String[] args) throws InterruptedException {
+        System.out.println("Adaptive Radix Tree Implementation Demo\n");
+
+        // Test 1: Basic operations with prefix keys
+        System.out.println("Test 1: Basic Put, Get and Prefix Keys");
+        AdaptiveRadixTree<Integer> art = new AdaptiveRadixTree<>();
+        String[] words = {"app", "apple", "application", "apply", "banana", "band", "a"};
+        for (int i = 0; i < words.length; i++) {
+            art.put(key(words[i]), i);
+        }
+        System.out.println("Inserted: " + Arrays.toString(words));
+        System.out.println("get(apple): " + art.get(key("apple")));
+        System.out.println("get(app): " + art.get(key("app")));
+        System.out.println("get(appl): " + art.get(key("appl")));
+        System.out.println("get(a): " + art.get(key("a")));
+        System.out.println("Size: " + art.size());
+        System.out.println();
+
+        // Test 2: Ordered iteration and range scan
+        System.out.println("Test 2: Ordered Iteration and Range Scan");
+        List<String> ordered = new ArrayList<>();
+        art.forEach((k, v) -> ordered.add(new String(k, StandardCharsets.UTF_8)));
+        System.out.println("In order: " + ordered);
+        List<String> ranged = new ArrayList<>();
+        art.range(key("apple"), key("b"), (k, v) -> ranged.add(new String(k, StandardCharsets.UTF_8)));
+        System.out.println("Range [apple, b): " + ranged);
+        System.out.println();
+
+        // Test 3: Delete with node merging
+        System.out.println("Test 3: Delete");
+        System.out.println("remove(app): " + art.remove(key("app")));
+        System.out.println("remove(apply): " + art.remove(key("apply")));
+        System.out.println("remove(missing): " + art.remove(key("missing")));
+        List<String> remaining = new ArrayList<>();
+        art.forEach((k, v) -> remaining.add(new String(k, StandardCharsets.UTF_8)));
+        System.out.println("Remaining: " + remaining + ", size: " + art.size());
+        System.out.println();
+
+        // Test 4: Node growth and shrinking against TreeMap
+        System.out.println("Test 4: Long Keys (Node4 -> Node256 and back) vs TreeMap");
+        AdaptiveRadixTree<Long> index = new AdaptiveRadixTree<>();
+        TreeMap<Long, Long> reference = new TreeMap<>();
+        Random random = new Random(7);
+        for (int i = 0; i < 200_000; i++) {
+            long value = random.nextInt(1_000_000) - 500_000;
+            index.put(key(value), value);
+            reference.put(value, value);
+        }
+        for (int i = 0; i < 100_000; i++) {
+            long value = random.nextInt(1_000_000) - 500_000;
+            Long removedArt = index.remove(key(value));
+            Long removedRef = reference.remove(value);
+            if (!Objects.equals(removedArt, removedRef)) {
+                System.out.println("Mismatch removing " + value);
+            }
+        }
+        List<Long> scanned = new ArrayList<>();
+        index.range(key(-1000L), key(1000L), (k, v) -> scanned.add(decodeLong(k)));
+        List<Long> expected = new ArrayList<>(reference.subMap(-1000L, 1000L).keySet());
+        List<Long> all = new ArrayList<>();
+        index.forEach((k, v) -> all.add(v));
+        System.out.println("Size: " + index.size() + " (TreeMap: " + reference.size() + ")");
+        System.out.println("Full iteration matches TreeMap: " + all.equals(new ArrayList<>(reference.keySet())));
+        System.out.println("Range [-1000, 1000) matches subMap: " + scanned.equals(expected) +
+            " (" + scanned.size() + " keys)");
+        System.out.println();
+
+        // Test 5: Concurrent writers and readers with optimistic lock coupling
+        System.out.println("Test 5: Concurrent Mode (4 writers, 2 readers)");
+        AdaptiveRadixTree<Integer> shared = new AdaptiveRadixTree<>(true);
+        int perThread = 50_000;
+        List<Thread> threads = new ArrayList<>();
+        for (int t = 0; t < 4; t++) {
+            final int offset = t;
+            threads.add(new Thread(() -> {
+                for (int i = 0; i < perThread; i++) {
+                    int value = i * 4 + offset;
+                    shared.put(key("user:" + value), value);
+                    if (i % 3 == 0) {
+                        shared.remove(key("user:" + value));
+                    }
+                }
+            }));
+        }
+        for (int t = 0; t < 2; t++) {
+            threads.add(new Thread(() -> {
+                for (int i = 0; i < perThread; i++) {
+                    Integer seen = shared.get(key("user:" + i));
+                    if (seen != null && seen != i) {
+                        throw new AssertionError("Wrong value for user:" + i);
+                    }
+                }
+            }));
+        }
+        long start = System.nanoTime();
+        for (Thread thread : threads) {
+            thread.start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        long elapsedMs = (System.nanoTime() - start) / 1_000_000;
+
+        int missing = 0;
+        int present = 0;
+        for (int value = 0; value < perThread * 4; value++) {
+            boolean removed = (value / 4) % 3 == 0;
+            Integer seen = shared.get(key("user:" + value));
+            if (removed && seen != null) {
+                missing++;
+            } else if (!removed && (seen == null || seen != value)) {
+                missing++;
+            } else if (!removed) {
+                present++;
+            }
+        }
+        int[] counted = {0};
+        shared.forEach((k, v) -> counted[0]++);
+        System.out.println("Finished in " + elapsedMs + " ms");
+        System.out.println("Present: " + present + ", size(): " + shared.size() +
+            ", iterated: " + counted[0] + ", inconsistencies: " + missing);
+    }
+}
@@ -0,0 +1,468 @@
+package org.algorithm_datastructure;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.io.UncheckedIOException;
+import java.util.*;
+
+/**
+ * Aho-Corasick Multi-Pattern Matching Algorithm
+ *
+ * Finds all occurrences of many patterns in a single pass over the text.
+ * The patterns are taken from a trie_implementation.Trie, whose nodes become
+ * the states of an automaton:
+ * - Failure link of a state: the state of its longest proper suffix that is
+ *   also a prefix of some pattern (the KMP LPS idea generalised to a trie)
+ * - Output link of a state: the nearest state on the failure chain that ends
+ *   a pattern, so all patterns ending at a position are reported in O(1) each
+ *
+ * Failure links are folded into a complete DFA stored as one flat int[] table
+ * of size states x alphabet, where the alphabet is compressed to the characters
+ * that occur in the patterns. Matching is then one table lookup per character,
+ * never following failure links at search time.
+ *
+ * Match kinds:
+ * - OVERLAPPING: every occurrence of every pattern
+ * - LEFTMOST_LONGEST: non-overlapping, scanning left to right, preferring the
+ *   occurrence that starts first and then the longest one
+ * Both kinds work on a CharSequence or a streamed Reader without buffering
+ * the whole input.
+ *
+ * Algorithm:
+ * 1. Number the trie nodes in BFS order (root = state 0)
+ * 2. Compute failure transitions level by level, filling the DFA table
+ * 3. Compute output links from failure links
+ * 4. Scan text: state = delta[state][class(ch)], report outputs of the state
+ *
+ * Time Complexity: O(M * σ) to build where M is total pattern length and σ the
+ *                  compressed alphabet size; O(n + z) to scan, z = matches
+ * Space Complexity: O(M * σ) for the transition table
+ *
+ * Applications:
+ * - Log scanning for thousands of keywords
+ * - Intrusion detection signatures
+ * - Content filtering
+ * - DNA motif search
+ */
+public class aho_corasick {
+
+    /**
+     * Which occurrences to report
+     */
+    enum MatchKind {
+        OVERLAPPING,
+        LEFTMOST_LONGEST
+    }
+
+    /**
+     * Callback receiving matches without allocating a Match object
+     */
+    @FunctionalInterface
+    interface MatchHandler {
+        /**
+         * @param start Offset of the first matched character
+         * @param end Offset one past the last matched character
+         * @param patternId Index of the pattern in patterns()
+         */
+        void onMatch(long start, long end, int patternId);
+    }
+
+    /**
+     * Match class represents a single occurrence
+     */
+    static class Match {
+        final long start;
+        final long end;
+        final String pattern;
+
+        Match(long start, long end, String pattern) {
+            this.start = start;
+            this.end = end;
+            this.pattern = pattern;
+        }
+
+        @Override
+        public String toString() {
+            return pattern + "@[" + start + "," + end + ")";
+        }
+    }
+
+    /**
+     * AhoCorasick class holds the compiled automaton. It is immutable and can
+     * be shared by any number of scanning threads.
+     */
+    static class AhoCorasick {
+        private final int[] charClass;      // char -> alphabet class, 0 = not in any pattern
+        private final int width;            // alphabet classes per state
+        private final int[] delta;          // delta[state * width + class] = next state
+        private final int[] depth;          // length of the prefix a state represents
+        private final int[] patternAt;      // pattern ending exactly at state, or -1
+        private final int[] firstOutput;    // state itself or nearest output state, or -1
+        private final int[] outputLink;     // next output state on the failure chain, or -1
+        private final int maxDepth;         // longest pattern length
+        private final String[] patterns;
+
+        private AhoCorasick(int[] charClass, int width, int[] delta, int[] depth, int[] patternAt,
+                            int[] firstOutput, int[] outputLink, String[] patterns) {
+            this.charClass = charClass;
+            this.width = width;
+            this.delta = delta;
+            this.depth = depth;
+            this.patternAt = patternAt;
+            this.firstOutput = firstOutput;
+            this.outputLink = outputLink;
+            this.maxDepth = depth[depth.length - 1];  // states are numbered in BFS order
+            this.patterns = patterns;
+        }
+
+        /**
+         * Builds an automaton for the given patterns
+         * Time Complexity: O(M * σ)
+         * @param patterns Patterns to search for
+         * @return Compiled automaton
+         */
+        public static AhoCorasick build(Collection<String> patterns) {
+            trie_implementation.Trie trie = new trie_implementation.Trie();
+            for (String pattern : patterns) {
+                trie.insert(pattern);
+            }
+            return fromTrie(trie);
+        }
+
+        /**
+         * Compiles the words of a trie into an automaton
+         * Time Complexity: O(M * σ)
+         * @param trie Trie holding the patterns
+         * @return Compiled automaton
+         */
+        public static AhoCorasick fromTrie(trie_implementation.Trie trie) {
+            // BFS numbering of trie nodes; collect the alphabet on the way
+            List<trie_implementation.TrieNode> states = new ArrayList<>();
+            TreeSet<Character> alphabet = new TreeSet<>();
+            states.add(trie.getRootNode());
+            for (int i = 0; i < states.size(); i++) {
+                for (Map.Entry<Character, trie_implementation.TrieNode> entry
+                        : states.get(i).children.entrySet()) {
+                    alphabet.add(entry.getKey());
+                    states.add(entry.getValue());
+                }
+            }
+
+            int maxChar = alphabet.isEmpty() ? 0 : alphabet.last();
+            int[] charClass = new int[maxChar + 1];
+            int width = 1;
+            for (char ch : alphabet) {
+                charClass[ch] = width++;
+            }
+
+            int n = states.size();
+            Map<trie_implementation.TrieNode, Integer> stateId = new IdentityHashMap<>();
+            for (int i = 0; i < n; i++) {
+                stateId.put(states.get(i), i);
+            }
+
+            int[] delta = new int[n * width];
+            int[] fail = new int[n];
+            int[] depth = new int[n];
+            int[] patternAt = new int[n];
+            List<String> patternList = new ArrayList<>();
+            Arrays.fill(patternAt, -1);
+
+            // States are in BFS order, so fail[s] and its row are ready before s
+            for (int s = 0; s < n; s++) {
+                trie_implementation.TrieNode node = states.get(s);
+                if (node.isEndOfWord) {
+                    patternAt[s] = patternList.size();
+                    patternList.add(node.word);
+                }
+                int row = s * width;
+                int failRow = fail[s] * width;
+
+                for (int c = 1; c < width; c++) {
+                    delta[row + c] = s == 0 ? 0 : delta[failRow + c];
+                }
+                for (Map.Entry<Character, trie_implementation.TrieNode> entry : node.children.entrySet()) {
+                    int c = charClass[entry.getKey()];
+                    int child = stateId.get(entry.getValue());
+                    fail[child] = s == 0 ? 0 : delta[failRow + c];
+                    depth[child] = depth[s] + 1;
+                    delta[row + c] = child;
+                }
+            }
+
+            int[] outputLink = new int[n];
+            int[] firstOutput = new int[n];
+            outputLink[0] = -1;
+            firstOutput[0] = patternAt[0] >= 0 ? 0 : -1;
+            for (int s = 1; s < n; s++) {
+                int f = fail[s];
+                outputLink[s] = patternAt[f] >= 0 ? f : outputLink[f];
+                firstOutput[s] = patternAt[s] >= 0 ? s : outputLink[s];
+            }
+
+            return new AhoCorasick(charClass, width, delta, depth, patternAt,
+                firstOutput, outputLink, patternList.toArray(new String[0]));
+        }
+
+        /**
+         * Returns the patterns indexed by pattern id
+         * @return Patterns
+         */
+        public List<String> patterns() {
+            return Collections.unmodifiableList(Arrays.asList(patterns));
+        }
+
+        /**
+         * Returns the number of automaton states
+         * @return State count
+         */
+        public int stateCount() {
+            return depth.length;
+        }
+
+        /**
+         * Scans text in one pass and reports matches to handler
+         * Time Complexity: O(n + z) where z is the number of reported matches
+         * @param text Text to scan
+         * @param kind Which occurrences to report
+         * @param handler Match callback
+         */
+        public void scan(CharSequence text, MatchKind kind, MatchHandler handler) {
+            Scanner scanner = new Scanner(kind, handler);
+            for (int i = 0, n = text.length(); i < n; i++) {
+                scanner.feed(text.charAt(i));
+            }
+            scanner.finish();
+        }
+
+        /**
+         * Scans a stream in one pass, reading it in fixed-size chunks
+         * Time Complexity: O(n + z)
+         * Space Complexity: O(chunk + longest pattern)
+         * @param reader Stream to scan (not closed)
+         * @param kind Which occurrences to report
+         * @param handler Match callback, offsets are relative to the stream start
+         */
+        public void scan(Reader reader, MatchKind kind, MatchHandler handler) {
+            Scanner scanner = new Scanner(kind, handler);
+            char[] buffer = new char[8192];
+            try {
+                int read;
+                while ((read = reader.read(buffer)) != -1) {
+                    for (int i = 0; i < read; i++) {
+                        scanner.feed(buffer[i]);
+                    }
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            scanner.finish();
+        }
+
+        /**
+         * Collects all matches in text
+         * Time Complexity: O(n + z)
+         * @param text Text to scan
+         * @param kind Which occurrences to report
+         * @return Matches ordered by end offset (OVERLAPPING) or start offset (LEFTMOST_LONGEST)
+         */
+        public List<Match> findAll(CharSequence text, MatchKind kind) {
+            List<Match> matches = new ArrayList<>();
+            scan(text, kind, (start, end, id) -> matches.add(new Match(start, end, patterns[id])));
+            return matches;
+        }
+
+        /**
+         * Checks whether text contains any pattern, stopping at the first match
+         * Time Complexity: O(n)
+         * @param text Text to scan
+         * @return true if some pattern occurs
+         */
+        public boolean containsAny(CharSequence text) {
+            int state = 0;
+            if (firstOutput[0] >= 0) {
+                return true;
+            }
+            for (int i = 0, n = text.length(); i < n; i++) {
+                state = delta[state * width + classOf(text.charAt(i))];
+                if (firstOutput[state] >= 0) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private int classOf(char ch) {
+            return ch < charClass.length ? charClass[ch] : 0;
+        }
+
+        /**
+         * Scanner class carries the matching state across characters so that
+         * CharSequence and Reader inputs share one code path
+         */
+        private final class Scanner {
+            private final MatchKind kind;
+            private final MatchHandler handler;
+            private int state = 0;
+            private long position = 0;  // offset of the next character
+
+            // LEFTMOST_LONGEST bookkeeping: the longest candidate for every start in
+            // [cursor, position), kept in a ring indexed by start % (maxDepth + 1).
+            // Unresolved starts never span more than maxDepth + 1 offsets.
+            private final long[] candidateEnd;
+            private final int[] candidatePattern;  // -1 = no candidate at this start
+            private long cursor = 0;               // smallest start not yet resolved
+            private long lastEnd = 0;
+
+            Scanner(MatchKind kind, MatchHandler handler) {
+                this.kind = kind;
+                this.handler = handler;
+                int ring = kind == MatchKind.LEFTMOST_LONGEST ? maxDepth + 1 : 0;
+                this.candidateEnd = new long[ring];
+                this.candidatePattern = new int[ring];
+                Arrays.fill(candidatePattern, -1);
+            }
+
+            void feed(char ch) {
+                state = delta[state * width + classOf(ch)];
+                position++;
+
+                int out = firstOutput[state];
+                if (kind == MatchKind.OVERLAPPING) {
+                    for (; out >= 0; out = outputLink[out]) {
+                        handler.onMatch(position - depth[out], position, patternAt[out]);
+                    }
+                    return;
+                }
+
+                // Ends only grow, so the latest candidate for a start is its longest
+                for (; out >= 0; out = outputLink[out]) {
+                    long start = position - depth[out];
+                    if (start >= lastEnd) {
+                        int slot = (int) (start % candidateEnd.length);
+                        candidateEnd[slot] = position;
+                        candidatePattern[slot] = patternAt[out];
+                    }
+                }
+                // No future occurrence can start before the current live prefix does
+                emitFinal(position - depth[state]);
+            }
+
+            void finish() {
+                if (kind == MatchKind.LEFTMOST_LONGEST) {
+                    emitFinal(Long.MAX_VALUE);
+                }
+            }
+
+            /**
+             * Resolves every start before earliestFutureStart; the cursor only
+             * moves forward, so this is O(1) amortized per character
+             */
+            private void emitFinal(long earliestFutureStart) {
+                long limit = Math.min(earliestFutureStart, position);
+                while (cursor < limit) {
+                    int slot = (int) (cursor % candidateEnd.length);
+                    int pattern = candidatePattern[slot];
+                    if (pattern < 0) {
+                        cursor++;
+                        continue;
+                    }
+                    long end = candidateEnd[slot];
+                    handler.onMatch(cursor, end, pattern);
+                    lastEnd = end;
+                    // Candidates starting inside the match overlap it: drop them
+                    // (an empty match still consumes its start)
+                    for (long stop = Math.max(end, cursor + 1); cursor < stop; cursor++) {
+                        candidatePattern[(int) (cursor % candidateEnd.length)] = -1;
+                    }
+                }
+            }
+        }
+    }
+
+    public static void main(String[] args) {
+        System.out.println("Aho-Corasick Multi-Pattern Matching Demo\n");
+
+        // Test 1: Classic example
+        System.out.println("Test 1: Overlapping Matches");
+        AhoCorasick automaton = AhoCorasick.build(Arrays.asList("he", "she", "his", "hers"));
+        String text = "ushers";
+        System.out.println("Patterns: [he, she, his, hers], text: \"" + text + "\"");
+        System.out.println("Matches: " + automaton.findAll(text, MatchKind.OVERLAPPING));
+        System.out.println("States: " + automaton.stateCount());
+        System.out.println();
+
+        // Test 2: Leftmost-longest
+        System.out.println("Test 2: Leftmost-Longest Matches");
+        AhoCorasick words = AhoCorasick.build(Arrays.asList("abc", "abcd", "bcde", "e", "de"));
+        String input = "abcdexabcx";
+        System.out.println("Patterns: [abc, abcd, bcde, e, de], text: \"" + input + "\"");
+        System.out.println("Overlapping: " + words.findAll(input, MatchKind.OVERLAPPING));
+        System.out.println("Leftmost-longest: " + words.findAll(input, MatchKind.LEFTMOST_LONGEST));
+        System.out.println();
+
+        // Test 3: Built from an existing Trie, streamed through a Reader
+        System.out.println("Test 3: From Trie, Streaming Reader");
+        trie_implementation.Trie keywords = new trie_implementation.Trie();
+        for (String keyword : new String[]{"ERROR", "WARN", "timeout", "OutOfMemory"}) {
+            keywords.insert(keyword);
+        }
+        AhoCorasick logScanner = AhoCorasick.fromTrie(keywords);
+        String log = "INFO start\nWARN slow disk\nERROR timeout after 30s\nERROR OutOfMemoryError\n";
+        Map<String, Integer> counts = new TreeMap<>();
+        logScanner.scan(new StringReader(log), MatchKind.OVERLAPPING,
+            (start, end, id) -> counts.merge(logScanner.patterns().get(id), 1, Integer::sum));
+        System.out.println("Keyword counts: " + counts);
+        System.out.println("containsAny(\"all good\"): " + logScanner.containsAny("all good"));
+        System.out.println();
+
+        // Test 4: Edge cases
+        System.out.println("Test 4: Edge Cases");
+        AhoCorasick none = AhoCorasick.build(Collections.emptyList());
+        System.out.println("No patterns: " + none.findAll("anything", MatchKind.OVERLAPPING));
+        AhoCorasick repeated = AhoCorasick.build(Arrays.asList("aa", "a"));
+        System.out.println("Patterns [aa, a] on \"aaa\" overlapping: " +
+            repeated.findAll("aaa", MatchKind.OVERLAPPING));
+        System.out.println("Patterns [aa, a] on \"aaa\" leftmost-longest: " +
+            repeated.findAll("aaa", MatchKind.LEFTMOST_LONGEST));
+        System.out.println("Unicode: " + AhoCorasick.build(Arrays.asList("Δx", "∞"))
+            .findAll("a Δx → ∞", MatchKind.OVERLAPPING));
+        System.out.println();
+
+        // Test 5: Many patterns vs KMP per pattern
+        System.out.println("Test 5: 2,000 Patterns vs KMP Per Pattern");
+        Random random = new Random(3);
+        List<String> patterns = new ArrayList<>();
+        for (int i = 0; i < 2000; i++) {
+            StringBuilder sb = new StringBuilder();
+            int len = 4 + random.nextInt(6);
+            for (int j = 0; j < len; j++) {
+                sb.append((char) ('a' + random.nextInt(8)));
+            }
+            patterns.add(sb.toString());
+        }
+        StringBuilder big = new StringBuilder();
+        for (int i = 0; i < 200_000; i++) {
+            big.append((char) ('a' + random.nextInt(8)));
+        }
+        String haystack = big.toString();
+
+        long start = System.nanoTime();
+        AhoCorasick many = AhoCorasick.build(patterns);
+        long[] acCount = {0};
+        many.scan(haystack, MatchKind.OVERLAPPING, (s, e, id) -> acCount[0]++);
+        long acMs = (System.nanoTime() - start) / 1_000_000;
+
+        start = System.nanoTime();
+        long kmpCount = 0;
+        for (String pattern : new LinkedHashSet<>(patterns)) {
+            kmpCount += kmp_pattern_matching.kmpSearch(haystack, pattern).size();
+        }
+        long kmpMs = (System.nanoTime() - start) / 1_000_000;
+
+        System.out.println("Aho-Corasick: " + acCount[0] + " matches in " + acMs + " ms (incl. build)");
+        System.out.println("KMP x patterns: " + kmpCount + " matches in " + kmpMs + " ms");
+        System.out.println("Counts agree: " + (acCount[0] == kmpCount));
+    }
+}
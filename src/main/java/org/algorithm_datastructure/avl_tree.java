@@ -0,0 +1,601 @@
+package org.algorithm_datastructure;
+
+import java.util.*;
+
+/**
+ * AVL Tree (Self-Balancing Binary Search Tree) Implementation
+ *
+ * A binary search tree that keeps, for every node, the heights of its two
+ * subtrees within one of each other. After each insert or delete the nodes on
+ * the modified path are re-balanced with single or double rotations, so the
+ * height never exceeds about 1.44 log2(n) regardless of insertion order.
+ *
+ * All operations are iterative: descents are loops, and insert/delete record
+ * the path in a fixed-size array (an AVL tree of 2^31 nodes is at most 45
+ * levels deep) and re-balance bottom-up, so no operation can overflow the stack.
+ *
+ * Every node also stores its subtree size, which gives order statistics:
+ * rank(x) counts the elements below x and select(k) finds the k-th smallest.
+ *
+ * Rotations (for a left-heavy node; right-heavy is symmetric):
+ * - Left-Left: single right rotation
+ * - Left-Right: left rotation of the left child, then right rotation
+ *
+ * Operations:
+ * - insert(data): Add element - O(log n)
+ * - delete(data): Remove element - O(log n)
+ * - search(data): Check membership - O(log n)
+ * - floor(x) / ceiling(x): Nearest element <= x / >= x - O(log n)
+ * - rank(x): Number of elements < x - O(log n)
+ * - select(k): k-th smallest element (0-based) - O(log n)
+ * - findMin() / findMax(): Smallest / largest element - O(log n)
+ * - size() / height(): O(1)
+ *
+ * Time Complexity: O(log n) worst case for all point operations
+ * Space Complexity: O(n) for storage, O(1) auxiliary (bounded path array)
+ *
+ * Applications:
+ * - Ordered indexes with sorted inserts (timestamps, sequence ids)
+ * - Leaderboards and percentiles
+ * - Interval scheduling
+ * - In-memory database indexes
+ */
+public class avl_tree {
+
+    /**
+     * Maximum AVL height for int-sized trees (1.44 * log2(2^31) < 48)
+     */
+    private static final int MAX_HEIGHT = 48;
+
+    /**
+     * AVLNode class represents a node with cached height and subtree size
+     */
+    static class AVLNode<T extends Comparable<T>> {
+        T data;
+        AVLNode<T> left;
+        AVLNode<T> right;
+        int height;
+        int size;
+
+        AVLNode(T data) {
+            this.data = data;
+            this.height = 1;
+            this.size = 1;
+        }
+    }
+
+    /**
+     * AVLTree class implements the balanced ordered set
+     */
+    static class AVLTree<T extends Comparable<T>> {
+        private AVLNode<T> root;
+        private final AVLNode<T>[] path;  // reusable insert/delete path buffer
+
+        /**
+         * Constructor - creates empty tree
+         */
+        @SuppressWarnings("unchecked")
+        public AVLTree() {
+            this.root = null;
+            this.path = (AVLNode<T>[]) new AVLNode<?>[MAX_HEIGHT];
+        }
+
+        private static int height(AVLNode<?> node) {
+            return node == null ? 0 : node.height;
+        }
+
+        private static int size(AVLNode<?> node) {
+            return node == null ? 0 : node.size;
+        }
+
+        private static void update(AVLNode<?> node) {
+            node.height = 1 + Math.max(height(node.left), height(node.right));
+            node.size = 1 + size(node.left) + size(node.right);
+        }
+
+        private AVLNode<T> rotateRight(AVLNode<T> y) {
+            AVLNode<T> x = y.left;
+            y.left = x.right;
+            x.right = y;
+            update(y);
+            update(x);
+            return x;
+        }
+
+        private AVLNode<T> rotateLeft(AVLNode<T> x) {
+            AVLNode<T> y = x.right;
+            x.right = y.left;
+            y.left = x;
+            update(x);
+            update(y);
+            return y;
+        }
+
+        /**
+         * Recomputes node's cached fields and restores the AVL property
+         * @return New root of this subtree
+         */
+        private AVLNode<T> rebalance(AVLNode<T> node) {
+            update(node);
+            int balance = height(node.left) - height(node.right);
+
+            if (balance > 1) {
+                if (height(node.left.left) < height(node.left.right)) {
+                    node.left = rotateLeft(node.left);   // Left-Right case
+                }
+                return rotateRight(node);
+            }
+            if (balance < -1) {
+                if (height(node.right.right) < height(node.right.left)) {
+                    node.right = rotateRight(node.right); // Right-Left case
+                }
+                return rotateLeft(node);
+            }
+            return node;
+        }
+
+        /**
+         * Re-balances path[0..last] bottom-up, relinking each subtree root
+         */
+        private void rebalancePath(int last) {
+            for (int i = last; i >= 0; i--) {
+                AVLNode<T> node = path[i];
+                AVLNode<T> balanced = rebalance(node);
+                if (i == 0) {
+                    root = balanced;
+                } else if (path[i - 1].left == node) {
+                    path[i - 1].left = balanced;
+                } else {
+                    path[i - 1].right = balanced;
+                }
+            }
+        }
+
+        /**
+         * Inserts an element (duplicates are ignored)
+         * Time Complexity: O(log n)
+         * @param data Data to insert
+         * @return true if inserted, false if already present
+         */
+        public boolean insert(T data) {
+            if (root == null) {
+                root = new AVLNode<>(data);
+                return true;
+            }
+
+            int depth = 0;
+            AVLNode<T> current = root;
+            int cmp = 0;
+
+            while (current != null) {
+                cmp = data.compareTo(current.data);
+                if (cmp == 0) {
+                    return false;
+                }
+                path[depth++] = current;
+                current = cmp < 0 ? current.left : current.right;
+            }
+
+            AVLNode<T> parent = path[depth - 1];
+            if (cmp < 0) {
+                parent.left = new AVLNode<>(data);
+            } else {
+                parent.right = new AVLNode<>(data);
+            }
+
+            rebalancePath(depth - 1);
+            return true;
+        }
+
+        /**
+         * Deletes an element
+         * Time Complexity: O(log n)
+         * @param data Data to delete
+         * @return true if deleted, false if not found
+         */
+        public boolean delete(T data) {
+            int depth = 0;
+            AVLNode<T> current = root;
+
+            while (current != null) {
+                path[depth++] = current;
+                int cmp = data.compareTo(current.data);
+                if (cmp == 0) {
+                    break;
+                }
+                current = cmp < 0 ? current.left : current.right;
+            }
+            if (current == null) {
+                return false;
+            }
+
+            // Two children: copy the inorder successor up, then unlink the successor
+            if (current.left != null && current.right != null) {
+                AVLNode<T> successor = current.right;
+                path[depth++] = successor;
+                while (successor.left != null) {
+                    successor = successor.left;
+                    path[depth++] = successor;
+                }
+                current.data = successor.data;
+            }
+
+            AVLNode<T> target = path[depth - 1];
+            AVLNode<T> replacement = target.left != null ? target.left : target.right;
+            if (depth == 1) {
+                root = replacement;
+            } else if (path[depth - 2].left == target) {
+                path[depth - 2].left = replacement;
+            } else {
+                path[depth - 2].right = replacement;
+            }
+
+            rebalancePath(depth - 2);
+            return true;
+        }
+
+        /**
+         * Searches for an element
+         * Time Complexity: O(log n)
+         * @param data Data to search for
+         * @return true if found, false otherwise
+         */
+        public boolean search(T data) {
+            AVLNode<T> current = root;
+            while (current != null) {
+                int cmp = data.compareTo(current.data);
+                if (cmp == 0) {
+                    return true;
+                }
+                current = cmp < 0 ? current.left : current.right;
+            }
+            return false;
+        }
+
+        /**
+         * Finds the greatest element less than or equal to x
+         * Time Complexity: O(log n)
+         * @param x Query value
+         * @return Floor element, or null if none
+         */
+        public T floor(T x) {
+            T best = null;
+            AVLNode<T> current = root;
+            while (current != null) {
+                int cmp = x.compareTo(current.data);
+                if (cmp == 0) {
+                    return current.data;
+                }
+                if (cmp < 0) {
+                    current = current.left;
+                } else {
+                    best = current.data;
+                    current = current.right;
+                }
+            }
+            return best;
+        }
+
+        /**
+         * Finds the smallest element greater than or equal to x
+         * Time Complexity: O(log n)
+         * @param x Query value
+         * @return Ceiling element, or null if none
+         */
+        public T ceiling(T x) {
+            T best = null;
+            AVLNode<T> current = root;
+            while (current != null) {
+                int cmp = x.compareTo(current.data);
+                if (cmp == 0) {
+                    return current.data;
+                }
+                if (cmp > 0) {
+                    current = current.right;
+                } else {
+                    best = current.data;
+                    current = current.left;
+                }
+            }
+            return best;
+        }
+
+        /**
+         * Counts elements strictly less than x
+         * Time Complexity: O(log n)
+         * @param x Query value (need not be present)
+         * @return Number of elements < x
+         */
+        public int rank(T x) {
+            int rank = 0;
+            AVLNode<T> current = root;
+            while (current != null) {
+                int cmp = x.compareTo(current.data);
+                if (cmp < 0) {
+                    current = current.left;
+                } else if (cmp > 0) {
+                    rank += size(current.left) + 1;
+                    current = current.right;
+                } else {
+                    return rank + size(current.left);
+                }
+            }
+            return rank;
+        }
+
+        /**
+         * Finds the k-th smallest element (0-based)
+         * Time Complexity: O(log n)
+         * @param k Index in sorted order
+         * @return Element with exactly k smaller elements
+         */
+        public T select(int k) {
+            if (k < 0 || k >= size()) {
+                throw new IndexOutOfBoundsException("Invalid rank: " + k);
+            }
+            AVLNode<T> current = root;
+            while (true) {
+                int leftSize = size(current.left);
+                if (k < leftSize) {
+                    current = current.left;
+                } else if (k > leftSize) {
+                    k -= leftSize + 1;
+                    current = current.right;
+                } else {
+                    return current.data;
+                }
+            }
+        }
+
+        /**
+         * Finds the minimum element
+         * Time Complexity: O(log n)
+         * @return Minimum element
+         */
+        public T findMin() {
+            if (root == null) {
+                throw new NoSuchElementException("Tree is empty");
+            }
+            AVLNode<T> current = root;
+            while (current.left != null) {
+                current = current.left;
+            }
+            return current.data;
+        }
+
+        /**
+         * Finds the maximum element
+         * Time Complexity: O(log n)
+         * @return Maximum element
+         */
+        public T findMax() {
+            if (root == null) {
+                throw new NoSuchElementException("Tree is empty");
+            }
+            AVLNode<T> current = root;
+            while (current.right != null) {
+                current = current.right;
+            }
+            return current.data;
+        }
+
+        /**
+         * Inorder traversal with an explicit stack
+         * Time Complexity: O(n)
+         * @return List of elements in sorted order
+         */
+        public List<T> inorder() {
+            List<T> result = new ArrayList<>(size());
+            Deque<AVLNode<T>> stack = new ArrayDeque<>();
+            AVLNode<T> current = root;
+            while (current != null || !stack.isEmpty()) {
+                while (current != null) {
+                    stack.push(current);
+                    current = current.left;
+                }
+                current = stack.pop();
+                result.add(current.data);
+                current = current.right;
+            }
+            return result;
+        }
+
+        /**
+         * Gets the number of elements
+         * Time Complexity: O(1)
+         * @return Number of elements
+         */
+        public int size() {
+            return size(root);
+        }
+
+        /**
+         * Gets the height of the tree
+         * Time Complexity: O(1)
+         * @return Height of tree
+         */
+        public int height() {
+            return height(root);
+        }
+
+        /**
+         * Checks if tree is empty
+         * Time Complexity: O(1)
+         * @return true if empty, false otherwise
+         */
+        public boolean isEmpty() {
+            return root == null;
+        }
+
+        /**
+         * Verifies ordering, balance and cached height/size of every node
+         * Time Complexity: O(n)
+         * @return true if all AVL invariants hold
+         */
+        public boolean isValidAVL() {
+            T previous = null;
+            for (T value : inorder()) {
+                if (previous != null && previous.compareTo(value) >= 0) {
+                    return false;
+                }
+                previous = value;
+            }
+
+            Deque<AVLNode<T>> stack = new ArrayDeque<>();
+            if (root != null) {
+                stack.push(root);
+            }
+            while (!stack.isEmpty()) {
+                AVLNode<T> node = stack.pop();
+                int hl = height(node.left);
+                int hr = height(node.right);
+                if (Math.abs(hl - hr) > 1 || node.height != 1 + Math.max(hl, hr)
+                    || node.size != 1 + size(node.left) + size(node.right)) {
+                    return false;
+                }
+                if (node.left != null) {
+                    stack.push(node.left);
+                }
+                if (node.right != null) {
+                    stack.push(node.right);
+                }
+            }
+            return true;
+        }
+    }
+
+    private static int[] insertionOrder(String order, int n) {
+        int[] keys = new int[n];
+        for (int i = 0; i < n; i++) {
+            keys[i] = order.equals("reverse") ? n - i : i;
+        }
+        if (order.equals("random")) {
+            Random random = new Random(42);
+            for (int i = n - 1; i > 0; i--) {
+                int j = random.nextInt(i + 1);
+                int tmp = keys[i];
+                keys[i] = keys[j];
+                keys[j] = tmp;
+            }
+        }
+        return keys;
+    }
+
+    public static void main(String[] args) {
+        System.out.println("AVL Tree Implementation Demo\n");
+
+        // Test 1: Basic operations
+        System.out.println("Test 1: Basic Operations");
+        AVLTree<Integer> tree = new AVLTree<>();
+        int[] values = {50, 30, 70, 20, 40, 60, 80, 35, 45, 65};
+        for (int value : values) {
+            tree.insert(value);
+        }
+        System.out.println("Inserted: " + Arrays.toString(values));
+        System.out.println("Inorder: " + tree.inorder());
+        System.out.println("Size: " + tree.size() + ", height: " + tree.height());
+        System.out.println("Search 45: " + tree.search(45) + ", search 55: " + tree.search(55));
+        System.out.println("Insert duplicate 40: " + tree.insert(40));
+        System.out.println();
+
+        // Test 2: Floor, ceiling, rank and select
+        System.out.println("Test 2: Ordered Queries");
+        System.out.println("floor(55): " + tree.floor(55) + ", ceiling(55): " + tree.ceiling(55));
+        System.out.println("floor(10): " + tree.floor(10) + ", ceiling(90): " + tree.ceiling(90));
+        System.out.println("rank(50): " + tree.rank(50) + ", rank(51): " + tree.rank(51));
+        System.out.println("select(0): " + tree.select(0) + ", select(4): " + tree.select(4) +
+            ", select(9): " + tree.select(9));
+        System.out.println("min: " + tree.findMin() + ", max: " + tree.findMax());
+        System.out.println();
+
+        // Test 3: Delete
+        System.out.println("Test 3: Delete Operations");
+        System.out.println("Delete 20 (leaf): " + tree.delete(20));
+        System.out.println("Delete 30 (two children): " + tree.delete(30));
+        System.out.println("Delete 50 (root): " + tree.delete(50));
+        System.out.println("Delete 100 (absent): " + tree.delete(100));
+        System.out.println("Inorder: " + tree.inorder() + ", valid AVL: " + tree.isValidAVL());
+        System.out.println();
+
+        // Test 4: Randomized cross-check against TreeSet
+        System.out.println("Test 4: Randomized Check vs TreeSet");
+        AVLTree<Integer> avl = new AVLTree<>();
+        TreeSet<Integer> reference = new TreeSet<>();
+        Random random = new Random(7);
+        boolean consistent = true;
+        for (int i = 0; i < 100_000; i++) {
+            int value = random.nextInt(20_000);
+            if (random.nextInt(3) == 0) {
+                consistent &= avl.delete(value) == reference.remove(value);
+            } else {
+                consistent &= avl.insert(value) == reference.add(value);
+            }
+        }
+        for (int i = 0; i < 1000; i++) {
+            int q = random.nextInt(22_000) - 1000;
+            consistent &= Objects.equals(avl.floor(q), reference.floor(q));
+            consistent &= Objects.equals(avl.ceiling(q), reference.ceiling(q));
+            consistent &= avl.rank(q) == reference.headSet(q).size();
+        }
+        System.out.println("Matches TreeSet: " + consistent + ", valid AVL: " + avl.isValidAVL() +
+            ", size: " + avl.size());
+        System.out.println();
+
+        // Test 5: Benchmark by insertion order
+        System.out.println("Test 5: Benchmark (insert n keys, then n searches)");
+        String[] orders = {"sorted", "reverse", "random"};
+        int smallN = 5_000;
+        System.out.println("n = " + smallN + " (unbalanced BST recursion limits n)");
+        for (String order : orders) {
+            int[] keys = insertionOrder(order, smallN);
+            binary_search_tree.BST<Integer> bst = new binary_search_tree.BST<>();
+            long start = System.nanoTime();
+            for (int key : keys) {
+                bst.insert(key);
+            }
+            for (int key : keys) {
+                bst.search(key);
+            }
+            long bstMs = (System.nanoTime() - start) / 1_000_000;
+
+            AVLTree<Integer> balanced = new AVLTree<>();
+            start = System.nanoTime();
+            for (int key : keys) {
+                balanced.insert(key);
+            }
+            for (int key : keys) {
+                balanced.search(key);
+            }
+            long avlMs = (System.nanoTime() - start) / 1_000_000;
+            System.out.printf("  %-8s BST: %4d ms, height %5d | AVL: %3d ms, height %2d%n",
+                order, bstMs, bst.height(), avlMs, balanced.height());
+        }
+
+        int largeN = 1_000_000;
+        System.out.println("n = " + largeN + " (AVL vs java.util.TreeSet)");
+        for (String order : orders) {
+            int[] keys = insertionOrder(order, largeN);
+            AVLTree<Integer> balanced = new AVLTree<>();
+            long start = System.nanoTime();
+            for (int key : keys) {
+                balanced.insert(key);
+            }
+            for (int key : keys) {
+                balanced.search(key);
+            }
+            long avlMs = (System.nanoTime() - start) / 1_000_000;
+
+            TreeSet<Integer> treeSet = new TreeSet<>();
+            start = System.nanoTime();
+            for (int key : keys) {
+                treeSet.add(key);
+            }
+            for (int key : keys) {
+                treeSet.contains(key);
+            }
+            long treeSetMs = (System.nanoTime() - start) / 1_000_000;
+            System.out.printf("  %-8s AVL: %4d ms, height %2d | TreeSet: %4d ms%n",
+                order, avlMs, balanced.height(), treeSetMs);
+        }
+    }
+}
@@ -0,0 +1,741 @@
+package org.algorithm_datastructure;
+
+import java.util.*;
+
+/**
+ * B+ Tree Implementation (primitive long keys)
+ *
+ * A balanced multi-way search tree where all values live in the leaves and
+ * leaves are linked left to right. Inner nodes only hold separator keys, so
+ * many children fit in one node and the tree stays very shallow.
+ *
+ * Cache-conscious layout:
+ * - Keys are a primitive long[] per node, separate from child/value pointers,
+ *   so a binary search touches only contiguous key cache lines
+ * - Default capacity is 64 keys per node (512 bytes = 8 cache lines of keys);
+ *   10^8 keys fit in 5 levels, and the top levels stay cache resident
+ * - Range scans walk the leaf chain sequentially with no parent lookups
+ *
+ * Split rules:
+ * - Leaf overflow: the upper half moves to a new right sibling whose first key
+ *   is copied up as separator
+ * - Inner overflow: the middle separator moves up, halves become siblings
+ * Deletes use "free-at-empty": a leaf is unlinked only once it is empty.
+ * This keeps deletion O(log n) without merge logic; under-full leaves are
+ * compacted by bulk-loading a fresh tree.
+ *
+ * Operations:
+ * - get(key): Point lookup - O(log n)
+ * - put(key, value): Insert or replace - O(log n)
+ * - remove(key): Delete - O(log n)
+ * - range(from, to, consumer): Visit keys in [from, to) - O(log n + m)
+ * - bulkLoad(keys, values): Build from sorted input - O(n)
+ *
+ * Time Complexity: O(log_B n) node visits per operation, B = node capacity
+ * Space Complexity: O(n)
+ *
+ * Applications:
+ * - Database and file-system indexes
+ * - Ordered in-memory indexes for query engines
+ * - Time-series storage keyed by timestamp
+ */
+public class b_plus_tree {
+
+    /**
+     * Default keys per node: 8 cache lines of long keys
+     */
+    static final int DEFAULT_CAPACITY = 64;
+
+    /**
+     * Callback for range scans that avoids boxing keys
+     */
+    @FunctionalInterface
+    interface EntryConsumer<V> {
+        void accept(long key, V value);
+    }
+
+    /**
+     * Base class of leaf and inner nodes
+     */
+    abstract static class Node {
+        final long[] keys;
+        int count;  // number of keys in use
+
+        Node(int capacity) {
+            this.keys = new long[capacity];
+        }
+    }
+
+    /**
+     * Leaf class stores keys with their values and sibling links
+     */
+    static final class Leaf extends Node {
+        final Object[] values;
+        Leaf next;
+        Leaf prev;
+
+        Leaf(int capacity) {
+            super(capacity);
+            this.values = new Object[capacity];
+        }
+    }
+
+    /**
+     * Inner class stores count separators and count + 1 children; child i
+     * holds keys in [keys[i - 1], keys[i])
+     */
+    static final class Inner extends Node {
+        final Node[] children;
+
+        Inner(int capacity) {
+            super(capacity);
+            this.children = new Node[capacity + 1];
+        }
+    }
+
+    /**
+     * LongBPlusTree class implements the ordered long -> V index
+     */
+    static class LongBPlusTree<V> {
+        private static final int MAX_DEPTH = 32;
+
+        private final int leafCapacity;
+        private final int innerCapacity;
+        private Node root;
+        private Leaf head;      // leftmost leaf
+        private int size;
+        private int height;     // levels including the leaf level
+
+        // Reusable descent path for put/remove
+        private final Inner[] pathNodes = new Inner[MAX_DEPTH];
+        private final int[] pathIndex = new int[MAX_DEPTH];
+
+        /**
+         * Constructor - creates empty tree with default node capacity
+         */
+        public LongBPlusTree() {
+            this(DEFAULT_CAPACITY, DEFAULT_CAPACITY);
+        }
+
+        /**
+         * Constructor - creates empty tree
+         * @param leafCapacity Maximum keys per leaf (at least 3)
+         * @param innerCapacity Maximum separators per inner node (at least 3)
+         */
+        public LongBPlusTree(int leafCapacity, int innerCapacity) {
+            if (leafCapacity < 3 || innerCapacity < 3) {
+                throw new IllegalArgumentException("Node capacity must be at least 3");
+            }
+            this.leafCapacity = leafCapacity;
+            this.innerCapacity = innerCapacity;
+            this.head = new Leaf(leafCapacity);
+            this.root = head;
+            this.height = 1;
+        }
+
+        /**
+         * First index i with keys[i] >= key
+         */
+        private static int lowerBound(long[] keys, int count, long key) {
+            int lo = 0;
+            int hi = count;
+            while (lo < hi) {
+                int mid = (lo + hi) >>> 1;
+                if (keys[mid] < key) {
+                    lo = mid + 1;
+                } else {
+                    hi = mid;
+                }
+            }
+            return lo;
+        }
+
+        /**
+         * First index i with keys[i] > key, i.e. the child to descend into
+         */
+        private static int upperBound(long[] keys, int count, long key) {
+            int lo = 0;
+            int hi = count;
+            while (lo < hi) {
+                int mid = (lo + hi) >>> 1;
+                if (keys[mid] <= key) {
+                    lo = mid + 1;
+                } else {
+                    hi = mid;
+                }
+            }
+            return lo;
+        }
+
+        private Leaf findLeaf(long key) {
+            Node node = root;
+            while (node instanceof Inner) {
+                Inner inner = (Inner) node;
+                node = inner.children[upperBound(inner.keys, inner.count, key)];
+            }
+            return (Leaf) node;
+        }
+
+        /**
+         * Descends to the leaf for key, recording inner nodes and child indexes
+         * @return Depth of the leaf (number of recorded inner nodes)
+         */
+        private int descend(long key) {
+            Node node = root;
+            int depth = 0;
+            while (node instanceof Inner) {
+                Inner inner = (Inner) node;
+                int index = upperBound(inner.keys, inner.count, key);
+                pathNodes[depth] = inner;
+                pathIndex[depth] = index;
+                depth++;
+                node = inner.children[index];
+            }
+            return depth;
+        }
+
+        private Leaf leafAt(int depth) {
+            return depth == 0 ? (Leaf) root : (Leaf) pathNodes[depth - 1].children[pathIndex[depth - 1]];
+        }
+
+        /**
+         * Looks up the value for key
+         * Time Complexity: O(log n)
+         * @param key Key
+         * @return Value, or null if absent
+         */
+        @SuppressWarnings("unchecked")
+        public V get(long key) {
+            Leaf leaf = findLeaf(key);
+            int pos = lowerBound(leaf.keys, leaf.count, key);
+            return pos < leaf.count && leaf.keys[pos] == key ? (V) leaf.values[pos] : null;
+        }
+
+        /**
+         * Checks if key is present
+         * Time Complexity: O(log n)
+         * @param key Key
+         * @return true if present
+         */
+        public boolean containsKey(long key) {
+            Leaf leaf = findLeaf(key);
+            int pos = lowerBound(leaf.keys, leaf.count, key);
+            return pos < leaf.count && leaf.keys[pos] == key;
+        }
+
+        /**
+         * Inserts or replaces the value for key
+         * Time Complexity: O(log n)
+         * @param key Key
+         * @param value Value
+         * @return Previous value, or null if key was absent
+         */
+        @SuppressWarnings("unchecked")
+        public V put(long key, V value) {
+            int depth = descend(key);
+            Leaf leaf = leafAt(depth);
+            int pos = lowerBound(leaf.keys, leaf.count, key);
+
+            if (pos < leaf.count && leaf.keys[pos] == key) {
+                V previous = (V) leaf.values[pos];
+                leaf.values[pos] = value;
+                return previous;
+            }
+            size++;
+
+            if (leaf.count < leafCapacity) {
+                insertIntoLeaf(leaf, pos, key, value);
+                return null;
+            }
+
+            // Leaf split: move the upper half to a new right sibling
+            Leaf right = new Leaf(leafCapacity);
+            int keep = (leafCapacity + 1) / 2;
+            int moved = leaf.count - keep;
+            System.arraycopy(leaf.keys, keep, right.keys, 0, moved);
+            System.arraycopy(leaf.values, keep, right.values, 0, moved);
+            Arrays.fill(leaf.values, keep, leaf.count, null);
+            right.count = moved;
+            leaf.count = keep;
+
+            if (pos <= keep) {
+                insertIntoLeaf(leaf, pos, key, value);
+            } else {
+                insertIntoLeaf(right, pos - keep, key, value);
+            }
+
+            right.next = leaf.next;
+            right.prev = leaf;
+            if (leaf.next != null) {
+                leaf.next.prev = right;
+            }
+            leaf.next = right;
+
+            insertIntoParent(depth, right.keys[0], right);
+            return null;
+        }
+
+        private static void insertIntoLeaf(Leaf leaf, int pos, long key, Object value) {
+            System.arraycopy(leaf.keys, pos, leaf.keys, pos + 1, leaf.count - pos);
+            System.arraycopy(leaf.values, pos, leaf.values, pos + 1, leaf.count - pos);
+            leaf.keys[pos] = key;
+            leaf.values[pos] = value;
+            leaf.count++;
+        }
+
+        /**
+         * Adds (separator, rightChild) next to the child at pathIndex[depth - 1],
+         * splitting inner nodes upwards as needed
+         */
+        private void insertIntoParent(int depth, long separator, Node rightChild) {
+            for (int level = depth - 1; level >= 0; level--) {
+                Inner parent = pathNodes[level];
+                int index = pathIndex[level];
+
+                if (parent.count < innerCapacity) {
+                    insertIntoInner(parent, index, separator, rightChild);
+                    return;
+                }
+
+                // Inner split: gather count + 1 separators, push the middle one up
+                long[] keys = new long[innerCapacity + 1];
+                Node[] children = new Node[innerCapacity + 2];
+                System.arraycopy(parent.keys, 0, keys, 0, index);
+                keys[index] = separator;
+                System.arraycopy(parent.keys, index, keys, index + 1, parent.count - index);
+                System.arraycopy(parent.children, 0, children, 0, index + 1);
+                children[index + 1] = rightChild;
+                System.arraycopy(parent.children, index + 1, children, index + 2, parent.count - index);
+
+                int mid = (innerCapacity + 1) / 2;
+                Inner right = new Inner(innerCapacity);
+                parent.count = mid;
+                System.arraycopy(keys, 0, parent.keys, 0, mid);
+                System.arraycopy(children, 0, parent.children, 0, mid + 1);
+                Arrays.fill(parent.children, mid + 1, parent.children.length, null);
+
+                right.count = innerCapacity - mid;
+                System.arraycopy(keys, mid + 1, right.keys, 0, right.count);
+                System.arraycopy(children, mid + 1, right.children, 0, right.count + 1);
+
+                separator = keys[mid];
+                rightChild = right;
+            }
+
+            // Root split: grow the tree by one level
+            Inner newRoot = new Inner(innerCapacity);
+            newRoot.keys[0] = separator;
+            newRoot.children[0] = root;
+            newRoot.children[1] = rightChild;
+            newRoot.count = 1;
+            root = newRoot;
+            height++;
+        }
+
+        private static void insertIntoInner(Inner inner, int index, long separator, Node child) {
+            System.arraycopy(inner.keys, index, inner.keys, index + 1, inner.count - index);
+            System.arraycopy(inner.children, index + 1, inner.children, index + 2, inner.count - index);
+            inner.keys[index] = separator;
+            inner.children[index + 1] = child;
+            inner.count++;
+        }
+
+        /**
+         * Removes key. Empty leaves are unlinked and removed from their parent;
+         * a root with a single child is collapsed.
+         * Time Complexity: O(log n)
+         * @param key Key to remove
+         * @return Removed value, or null if absent
+         */
+        @SuppressWarnings("unchecked")
+        public V remove(long key) {
+            int depth = descend(key);
+            Leaf leaf = leafAt(depth);
+            int pos = lowerBound(leaf.keys, leaf.count, key);
+            if (pos >= leaf.count || leaf.keys[pos] != key) {
+                return null;
+            }
+
+            V removed = (V) leaf.values[pos];
+            System.arraycopy(leaf.keys, pos + 1, leaf.keys, pos, leaf.count - pos - 1);
+            System.arraycopy(leaf.values, pos + 1, leaf.values, pos, leaf.count - pos - 1);
+            leaf.count--;
+            leaf.values[leaf.count] = null;
+            size--;
+
+            if (leaf.count == 0 && depth > 0) {
+                if (leaf.prev != null) {
+                    leaf.prev.next = leaf.next;
+                } else {
+                    head = leaf.next;
+                }
+                if (leaf.next != null) {
+                    leaf.next.prev = leaf.prev;
+                }
+                removeFromParent(depth);
+            }
+            return removed;
+        }
+
+        private void removeFromParent(int depth) {
+            for (int level = depth - 1; level >= 0; level--) {
+                Inner parent = pathNodes[level];
+                int index = pathIndex[level];
+
+                if (parent.count == 0) {
+                    // Parent loses its only child: remove the parent too
+                    parent.children[0] = null;
+                    continue;
+                }
+
+                // Drop child index and the separator on its left (or right for child 0)
+                int keyIndex = index == 0 ? 0 : index - 1;
+                System.arraycopy(parent.keys, keyIndex + 1, parent.keys, keyIndex, parent.count - keyIndex - 1);
+                System.arraycopy(parent.children, index + 1, parent.children, index, parent.count - index);
+                parent.children[parent.count] = null;
+                parent.count--;
+                break;
+            }
+
+            while (root instanceof Inner && ((Inner) root).count == 0) {
+                root = ((Inner) root).children[0];
+                height--;
+                if (root == null) {
+                    head = new Leaf(leafCapacity);
+                    root = head;
+                    height = 1;
+                }
+            }
+        }
+
+        /**
+         * Visits entries with from <= key < to in ascending key order
+         * Time Complexity: O(log n + m) where m is the number of results
+         * @param from Inclusive lower bound
+         * @param to Exclusive upper bound
+         * @param consumer Callback receiving key and value
+         */
+        @SuppressWarnings("unchecked")
+        public void range(long from, long to, EntryConsumer<? super V> consumer) {
+            Leaf leaf = findLeaf(from);
+            int pos = lowerBound(leaf.keys, leaf.count, from);
+            while (leaf != null) {
+                for (; pos < leaf.count; pos++) {
+                    long key = leaf.keys[pos];
+                    if (key >= to) {
+                        return;
+                    }
+                    consumer.accept(key, (V) leaf.values[pos]);
+                }
+                leaf = leaf.next;
+                pos = 0;
+            }
+        }
+
+        /**
+         * Counts keys in [from, to) by walking the leaf chain
+         * Time Complexity: O(log n + m / B) where B is leaf capacity
+         * @param from Inclusive lower bound
+         * @param to Exclusive upper bound
+         * @return Number of keys in range
+         */
+        public long countRange(long from, long to) {
+            if (from >= to) {
+                return 0;
+            }
+            Leaf leaf = findLeaf(from);
+            long count = -lowerBound(leaf.keys, leaf.count, from);
+            while (leaf != null) {
+                if (leaf.count > 0 && leaf.keys[leaf.count - 1] >= to) {
+                    return count + lowerBound(leaf.keys, leaf.count, to);
+                }
+                count += leaf.count;
+                leaf = leaf.next;
+            }
+            return count;
+        }
+
+        /**
+         * Returns the smallest key
+         * Time Complexity: O(1)
+         * @return Smallest key
+         */
+        public long firstKey() {
+            if (size == 0) {
+                throw new NoSuchElementException("Tree is empty");
+            }
+            return head.keys[0];
+        }
+
+        /**
+         * Returns the number of keys
+         * Time Complexity: O(1)
+         * @return Number of keys
+         */
+        public int size() {
+            return size;
+        }
+
+        /**
+         * Returns the number of levels including the leaf level
+         * Time Complexity: O(1)
+         * @return Height of tree
+         */
+        public int height() {
+            return height;
+        }
+
+        /**
+         * Checks if tree is empty
+         * @return true if empty, false otherwise
+         */
+        public boolean isEmpty() {
+            return size == 0;
+        }
+
+        /**
+         * Builds a tree from strictly increasing keys in O(n) by filling leaves
+         * left to right and then building each inner level from the one below.
+         * Time Complexity: O(n)
+         * @param keys Strictly increasing keys
+         * @param values Values parallel to keys
+         * @param fillFactor Fraction of each node to fill, in (0, 1]; leave room
+         *                   for later inserts to avoid immediate splits
+         * @return New tree with default node capacity containing all entries
+         */
+        public static <V> LongBPlusTree<V> bulkLoad(long[] keys, V[] values, double fillFactor) {
+            return bulkLoad(keys, values, fillFactor, DEFAULT_CAPACITY, DEFAULT_CAPACITY);
+        }
+
+        /**
+         * Builds a tree from strictly increasing keys with the given node capacities
+         * Time Complexity: O(n)
+         * @param keys Strictly increasing keys
+         * @param values Values parallel to keys
+         * @param fillFactor Fraction of each node to fill, in (0, 1]
+         * @param leafCapacity Maximum keys per leaf (at least 3)
+         * @param innerCapacity Maximum separators per inner node (at least 3)
+         * @return New tree containing all entries
+         */
+        public static <V> LongBPlusTree<V> bulkLoad(long[] keys, V[] values, double fillFactor,
+                                                    int leafCapacity, int innerCapacity) {
+            if (keys.length != values.length) {
+                throw new IllegalArgumentException("Keys and values must have the same length");
+            }
+            if (fillFactor <= 0 || fillFactor > 1) {
+                throw new IllegalArgumentException("Fill factor must be in (0, 1]");
+            }
+            for (int i = 1; i < keys.length; i++) {
+                if (keys[i - 1] >= keys[i]) {
+                    throw new IllegalArgumentException("Keys must be strictly increasing at index " + i);
+                }
+            }
+
+            LongBPlusTree<V> tree = new LongBPlusTree<>(leafCapacity, innerCapacity);
+            int n = keys.length;
+            if (n == 0) {
+                return tree;
+            }
+
+            // Leaf level
+            int perLeaf = Math.max(2, (int) (tree.leafCapacity * fillFactor));
+            int leafCount = (n + perLeaf - 1) / perLeaf;
+            List<Node> level = new ArrayList<>(leafCount);
+            List<Long> minKeys = new ArrayList<>(leafCount);
+            Leaf previous = null;
+            for (int start = 0; start < n; start += perLeaf) {
+                Leaf leaf = new Leaf(tree.leafCapacity);
+                leaf.count = Math.min(perLeaf, n - start);
+                System.arraycopy(keys, start, leaf.keys, 0, leaf.count);
+                System.arraycopy(values, start, leaf.values, 0, leaf.count);
+                leaf.prev = previous;
+                if (previous != null) {
+                    previous.next = leaf;
+                }
+                previous = leaf;
+                level.add(leaf);
+                minKeys.add(keys[start]);
+            }
+            tree.head = (Leaf) level.get(0);
+            int height = 1;
+
+            // Inner levels: spread children evenly so no node is nearly empty
+            int perInner = Math.max(2, (int) ((tree.innerCapacity + 1) * fillFactor));
+            while (level.size() > 1) {
+                int parents = (level.size() + perInner - 1) / perInner;
+                List<Node> upper = new ArrayList<>(parents);
+                List<Long> upperMinKeys = new ArrayList<>(parents);
+                int child = 0;
+                for (int p = 0; p < parents; p++) {
+                    int take = (level.size() - child) / (parents - p);
+                    Inner inner = new Inner(tree.innerCapacity);
+                    for (int c = 0; c < take; c++) {
+                        inner.children[c] = level.get(child + c);
+                        if (c > 0) {
+                            inner.keys[c - 1] = minKeys.get(child + c);
+                        }
+                    }
+                    inner.count = take - 1;
+                    upper.add(inner);
+                    upperMinKeys.add(minKeys.get(child));
+                    child += take;
+                }
+                level = upper;
+                minKeys = upperMinKeys;
+                height++;
+            }
+
+            tree.root = level.get(0);
+            tree.size = n;
+            tree.height = height;
+            return tree;
+        }
+    }
+
+    public static void main(String[] args) {
+        System.out.println("B+ Tree Implementation Demo\n");
+
+        // Test 1: Basic operations with a small capacity to show splits
+        System.out.println("Test 1: Basic Operations (capacity 4)");
+        LongBPlusTree<String> small = new LongBPlusTree<>(4, 4);
+        long[] inserted = {50, 20, 80, 10, 30, 60, 90, 40, 70, 25, 35};
+        for (long key : inserted) {
+            small.put(key, "v" + key);
+        }
+        System.out.println("Inserted: " + Arrays.toString(inserted));
+        System.out.println("Size: " + small.size() + ", height: " + small.height());
+        System.out.println("get(30): " + small.get(30) + ", get(31): " + small.get(31));
+        System.out.println("put(30, updated) returned: " + small.put(30, "updated"));
+        StringBuilder all = new StringBuilder();
+        small.range(Long.MIN_VALUE, Long.MAX_VALUE, (k, v) -> all.append(k).append("=").append(v).append(" "));
+        System.out.println("All: " + all.toString().trim());
+        System.out.println();
+
+        // Test 2: Range scans
+        System.out.println("Test 2: Range Scans");
+        StringBuilder ranged = new StringBuilder();
+        small.range(25, 61, (k, v) -> ranged.append(k).append(" "));
+        System.out.println("range [25, 61): " + ranged.toString().trim());
+        System.out.println("countRange(25, 61): " + small.countRange(25, 61));
+        System.out.println("countRange(100, 200): " + small.countRange(100, 200));
+        System.out.println("countRange(61, 25): " + small.countRange(61, 25));
+        System.out.println();
+
+        // Test 3: Deletes
+        System.out.println("Test 3: Delete Operations");
+        for (long key : new long[]{10, 20, 25, 30, 35}) {
+            System.out.print("remove(" + key + ")=" + small.remove(key) + " ");
+        }
+        System.out.println();
+        System.out.println("remove(999): " + small.remove(999));
+        StringBuilder afterDelete = new StringBuilder();
+        small.range(Long.MIN_VALUE, Long.MAX_VALUE, (k, v) -> afterDelete.append(k).append(" "));
+        System.out.println("Remaining: " + afterDelete.toString().trim() + ", first key: " + small.firstKey());
+        System.out.println();
+
+        // Test 4: Randomized check against TreeMap
+        System.out.println("Test 4: Randomized Check vs TreeMap");
+        LongBPlusTree<Long> tree = new LongBPlusTree<>(8, 8);
+        TreeMap<Long, Long> reference = new TreeMap<>();
+        Random random = new Random(11);
+        boolean consistent = true;
+        for (int i = 0; i < 200_000; i++) {
+            long key = random.nextInt(50_000);
+            if (random.nextInt(3) == 0) {
+                consistent &= Objects.equals(tree.remove(key), reference.remove(key));
+            } else {
+                consistent &= Objects.equals(tree.put(key, key * 2), reference.put(key, key * 2));
+            }
+        }
+        for (int i = 0; i < 1000; i++) {
+            long from = random.nextInt(50_000);
+            long to = from + random.nextInt(500);
+            consistent &= tree.countRange(from, to) == reference.subMap(from, to).size();
+        }
+        List<Long> scanned = new ArrayList<>();
+        tree.range(Long.MIN_VALUE, Long.MAX_VALUE, (k, v) -> scanned.add(k));
+        consistent &= scanned.equals(new ArrayList<>(reference.keySet()));
+        System.out.println("Matches TreeMap: " + consistent + ", size: " + tree.size() +
+            ", height: " + tree.height());
+        for (Long key : new ArrayList<>(reference.keySet())) {
+            tree.remove(key);
+        }
+        tree.put(7, 14L);
+        System.out.println("After removing all and re-inserting 7: size " + tree.size() +
+            ", height " + tree.height() + ", get(7) = " + tree.get(7));
+        System.out.println();
+
+        // Test 5: Bulk load vs one-by-one insertion
+        System.out.println("Test 5: Bulk Load 5,000,000 Sorted Keys");
+        int n = 5_000_000;
+        long[] keys = new long[n];
+        Long[] values = new Long[n];
+        for (int i = 0; i < n; i++) {
+            keys[i] = i * 3L;
+            values[i] = (long) i;
+        }
+        long start = System.nanoTime();
+        LongBPlusTree<Long> bulk = LongBPlusTree.bulkLoad(keys, values, 1.0);
+        long bulkMs = (System.nanoTime() - start) / 1_000_000;
+
+        start = System.nanoTime();
+        LongBPlusTree<Long> incremental = new LongBPlusTree<>();
+        for (int i = 0; i < n; i++) {
+            incremental.put(keys[i], values[i]);
+        }
+        long insertMs = (System.nanoTime() - start) / 1_000_000;
+        System.out.println("bulkLoad: " + bulkMs + " ms, height " + bulk.height());
+        System.out.println("put x n:  " + insertMs + " ms, height " + incremental.height());
+        System.out.println("bulk.get(3 * 123456): " + bulk.get(3L * 123_456) +
+            ", bulk.get(1): " + bulk.get(1));
+        LongBPlusTree<Long> narrow = LongBPlusTree.bulkLoad(Arrays.copyOf(keys, 10_000),
+            Arrays.copyOf(values, 10_000), 0.75, 4, 4);
+        for (long k = 1; k < 3_000; k += 3) {
+            narrow.put(k, k);
+        }
+        System.out.println("bulkLoad with capacity 4: height " + narrow.height() + ", size " + narrow.size() +
+            ", countRange(0, 3000): " + narrow.countRange(0, 3_000));
+        System.out.println();
+
+        // Test 6: Lookups and range scan vs TreeMap
+        System.out.println("Test 6: Point Lookups and Range Scans vs TreeMap");
+        TreeMap<Long, Long> treeMap = new TreeMap<>();
+        for (int i = 0; i < n; i++) {
+            treeMap.put(keys[i], values[i]);
+        }
+        int lookups = 2_000_000;
+        long[] probes = new long[lookups];
+        for (int i = 0; i < lookups; i++) {
+            probes[i] = random.nextInt(n) * 3L;
+        }
+        start = System.nanoTime();
+        long hits = 0;
+        for (long probe : probes) {
+            if (bulk.get(probe) != null) {
+                hits++;
+            }
+        }
+        long bptMs = (System.nanoTime() - start) / 1_000_000;
+        start = System.nanoTime();
+        for (long probe : probes) {
+            if (treeMap.get(probe) != null) {
+                hits++;
+            }
+        }
+        long tmMs = (System.nanoTime() - start) / 1_000_000;
+
+        long[] sum = {0};
+        start = System.nanoTime();
+        bulk.range(0, 3L * n, (k, v) -> sum[0] += v);
+        long bptScanMs = (System.nanoTime() - start) / 1_000_000;
+        start = System.nanoTime();
+        for (Long v : treeMap.subMap(0L, 3L * n).values()) {
+            sum[0] -= v;
+        }
+        long tmScanMs = (System.nanoTime() - start) / 1_000_000;
+
+        System.out.println(lookups + " lookups: B+ tree " + bptMs + " ms, TreeMap " + tmMs + " ms (hits " + hits + ")");
+        System.out.println("Full range scan: B+ tree " + bptScanMs + " ms, TreeMap " + tmScanMs +
+            " ms (checksum " + sum[0] + ")");
+    }
+}
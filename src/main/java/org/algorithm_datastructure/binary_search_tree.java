@@ -1,6 +1,12 @@
 package org.algorithm_datastructure;
 
 import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * Binary Search Tree (BST) Implementation
@@ -17,6 +23,37 @@ import java.util.*;
  * - findMin(): Find minimum value - O(log n) avg, O(n) worst
  * - findMax(): Find maximum value - O(log n) avg, O(n) worst
  * - inorder(): Returns sorted elements - O(n)
+ * - select(k): Find k-th smallest element - O(log n) avg, O(n) worst
+ * - rank(x): Count elements less than x - O(log n) avg, O(n) worst
+ * - countInRange(lo, hi): Count elements in [lo, hi] - O(log n) avg, O(n) worst
+ * - size(), height(): Read from root augmentation - O(1)
+ * - inorderIterator() / preorderIterator(): Lazy traversals - O(1) amortized per element
+ * - morrisInorder(visitor): Sorted walk with O(1) extra space - O(n)
+ * - stream(): Sorted, sized stream whose spliterator splits by subtree
+ * - fromSorted(array): Build a perfectly balanced tree - O(n)
+ * - union / intersection / difference(a, b): Join-based set operations -
+ *   O(m log(n/m + 1)) for AVL-balanced inputs of sizes m <= n
+ *
+ * Augmentation:
+ * - Every node stores the size and height of its subtree
+ * - insert/delete refresh them on the way back up the search path, so the
+ *   order-statistic queries descend a single path instead of listing nodes
+ * - Subtree sizes also let the spliterator report exact sizes after splits
+ *
+ * Join-based set operations:
+ * - split(t, k) cuts a tree into keys < k and keys > k along one path
+ * - union takes the larger tree's root as pivot, splits the other tree by it,
+ *   recurses on both sides and joins the results under the pivot; the two
+ *   recursive calls touch disjoint nodes, so large ones run as fork/join tasks
+ * - join(l, k, r) is the AVL join: if one side is more than one level
+ *   taller it walks down that side's inner spine and rebalances on the way
+ *   back up, so results are AVL trees whenever the operands are
+ * - An operand taller than the AVL height bound (e.g. built by sorted
+ *   insert) is first relinked into a perfectly balanced shape in O(n)
+ * - split and join walk explicit paths instead of recursing, and the
+ *   set-operation recursion is bounded by the O(log n) tree height
+ * - Operands are consumed: their nodes are relinked into the result and both
+ *   input trees are left empty
  *
  * Time Complexity: O(log n) average for balanced tree, O(n) for skewed tree
  * Space Complexity: O(n) for storage, O(h) for recursion
@@ -36,37 +73,210 @@ public class binary_search_tree {
         T data;
         TreeNode<T> left;
         TreeNode<T> right;
+        int size;    // nodes in this subtree
+        int height;  // levels in this subtree
 
         TreeNode(T data) {
             this.data = data;
             this.left = null;
             this.right = null;
+            this.size = 1;
+            this.height = 1;
+        }
+    }
+
+    /**
+     * Lazy inorder iterator: the stack holds the left spine still to visit
+     */
+    static class InorderIterator<T extends Comparable<T>> implements Iterator<T> {
+        private final ArrayDeque<TreeNode<T>> stack = new ArrayDeque<>();
+
+        InorderIterator(TreeNode<T> root) {
+            pushLeft(root);
+        }
+
+        private void pushLeft(TreeNode<T> node) {
+            while (node != null) {
+                stack.push(node);
+                node = node.left;
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            return !stack.isEmpty();
+        }
+
+        @Override
+        public T next() {
+            if (stack.isEmpty()) {
+                throw new NoSuchElementException();
+            }
+            TreeNode<T> node = stack.pop();
+            pushLeft(node.right);
+            return node.data;
+        }
+    }
+
+    /**
+     * Lazy preorder iterator: the stack holds subtrees still to visit
+     */
+    static class PreorderIterator<T extends Comparable<T>> implements Iterator<T> {
+        private final ArrayDeque<TreeNode<T>> stack = new ArrayDeque<>();
+
+        PreorderIterator(TreeNode<T> root) {
+            if (root != null) {
+                stack.push(root);
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            return !stack.isEmpty();
+        }
+
+        @Override
+        public T next() {
+            if (stack.isEmpty()) {
+                throw new NoSuchElementException();
+            }
+            TreeNode<T> node = stack.pop();
+            if (node.right != null) stack.push(node.right);
+            if (node.left != null) stack.push(node.left);
+            return node.data;
+        }
+    }
+
+    /**
+     * Sorted spliterator that splits by subtree with exact sizes.
+     *
+     * The remaining sequence is: lone (if set), then for each stack entry from
+     * top to bottom, the entry followed by its whole right subtree. trySplit
+     * moves entries from the top into the prefix until it holds about half of
+     * the remaining elements; subtree sizes make both counts exact.
+     */
+    static class InorderSpliterator<T extends Comparable<T>> implements Spliterator<T> {
+        private TreeNode<T> lone;  // emitted first, without its right subtree
+        private final ArrayDeque<TreeNode<T>> stack;
+        private long remaining;
+
+        InorderSpliterator(TreeNode<T> root) {
+            this.stack = new ArrayDeque<>();
+            this.remaining = root == null ? 0 : root.size;
+            pushLeft(root);
+        }
+
+        private InorderSpliterator(TreeNode<T> lone, ArrayDeque<TreeNode<T>> stack, long remaining) {
+            this.lone = lone;
+            this.stack = stack;
+            this.remaining = remaining;
+        }
+
+        private void pushLeft(TreeNode<T> node) {
+            while (node != null) {
+                stack.push(node);
+                node = node.left;
+            }
+        }
+
+        private static long entrySize(TreeNode<?> node) {
+            return 1 + (node.right == null ? 0 : node.right.size);
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super T> action) {
+            T data;
+            if (lone != null) {
+                data = lone.data;
+                lone = null;
+            } else if (!stack.isEmpty()) {
+                TreeNode<T> node = stack.pop();
+                pushLeft(node.right);
+                data = node.data;
+            } else {
+                return false;
+            }
+            remaining--;
+            action.accept(data);
+            return true;
+        }
+
+        @Override
+        public Spliterator<T> trySplit() {
+            if (lone == null && stack.size() == 1) {
+                // Expose the single entry's right subtree so it can be divided
+                lone = stack.pop();
+                pushLeft(lone.right);
+            }
+            if (stack.isEmpty() || (lone == null && stack.size() < 2)) {
+                return null;
+            }
+            ArrayDeque<TreeNode<T>> prefix = new ArrayDeque<>();
+            long prefixSize = lone == null ? 0 : 1;
+            long target = remaining / 2;
+            while (stack.size() > 1 && (prefixSize == 0 || prefixSize < target)) {
+                TreeNode<T> entry = stack.pollFirst();
+                prefixSize += entrySize(entry);
+                prefix.addLast(entry);
+            }
+            InorderSpliterator<T> split = new InorderSpliterator<>(lone, prefix, prefixSize);
+            lone = null;
+            remaining -= prefixSize;
+            return split;
+        }
+
+        @Override
+        public long estimateSize() {
+            return remaining;
+        }
+
+        @Override
+        public int characteristics() {
+            return ORDERED | SORTED | DISTINCT | NONNULL | SIZED | SUBSIZED;
+        }
+
+        @Override
+        public Comparator<? super T> getComparator() {
+            return null;  // natural ordering
         }
     }
 
     /**
      * BST class implements the binary search tree data structure
      */
-    static class BST<T extends Comparable<T>> {
+    static class BST<T extends Comparable<T>> implements Iterable<T> {
         private TreeNode<T> root;
-        private int size;
 
         /**
          * Constructor - creates empty BST
          */
         public BST() {
             this.root = null;
-            this.size = 0;
+        }
+
+        private static int size(TreeNode<?> node) {
+            return node == null ? 0 : node.size;
+        }
+
+        private static int height(TreeNode<?> node) {
+            return node == null ? 0 : node.height;
+        }
+
+        /**
+         * Recomputes a node's subtree size and height from its children
+         */
+        private static void update(TreeNode<?> node) {
+            node.size = 1 + size(node.left) + size(node.right);
+            node.height = 1 + Math.max(height(node.left), height(node.right));
         }
 
         /**
-         * Inserts a node in the BST
+         * Inserts a node in the BST (duplicates are ignored)
          * Time Complexity: O(log n) average, O(n) worst
          * @param data Data to insert
          */
         public void insert(T data) {
             root = insertHelper(root, data);
-            size++;
         }
 
         private TreeNode<T> insertHelper(TreeNode<T> node, T data) {
@@ -81,6 +291,7 @@ public class binary_search_tree {
             }
             // If equal, don't insert (no duplicates)
 
+            update(node);
             return node;
         }
 
@@ -91,9 +302,9 @@ public class binary_search_tree {
          * @return true if deleted, false if not found
          */
         public boolean delete(T data) {
-            int originalSize = size;
+            int originalSize = size();
             root = deleteHelper(root, data);
-            return size < originalSize;
+            return size() < originalSize;
         }
 
         private TreeNode<T> deleteHelper(TreeNode<T> node, T data) {
@@ -105,7 +316,6 @@ public class binary_search_tree {
                 node.right = deleteHelper(node.right, data);
             } else {
                 // Node found - delete it
-                size--;
 
                 // Case 1: No children (leaf node)
                 if (node.left == null && node.right == null) {
@@ -125,9 +335,9 @@ public class binary_search_tree {
                 TreeNode<T> successor = findMinNode(node.right);
                 node.data = successor.data;
                 node.right = deleteHelper(node.right, successor.data);
-                size++; // Compensate for extra decrement
             }
 
+            update(node);
             return node;
         }
 
@@ -194,48 +404,107 @@ public class binary_search_tree {
          * @return List of elements in sorted order
          */
         public List<T> inorder() {
-            List<T> result = new ArrayList<>();
-            inorderHelper(root, result);
+            List<T> result = new ArrayList<>(size());
+            inorderIterator().forEachRemaining(result::add);
             return result;
         }
 
-        private void inorderHelper(TreeNode<T> node, List<T> result) {
-            if (node == null) return;
-            inorderHelper(node.left, result);
-            result.add(node.data);
-            inorderHelper(node.right, result);
-        }
-
         /**
          * Preorder traversal
          * Time Complexity: O(n)
          * @return List of elements in preorder
          */
         public List<T> preorder() {
-            List<T> result = new ArrayList<>();
-            preorderHelper(root, result);
+            List<T> result = new ArrayList<>(size());
+            preorderIterator().forEachRemaining(result::add);
             return result;
         }
 
-        private void preorderHelper(TreeNode<T> node, List<T> result) {
-            if (node == null) return;
-            result.add(node.data);
-            preorderHelper(node.left, result);
-            preorderHelper(node.right, result);
+        /**
+         * Lazy sorted iterator using an explicit stack
+         * Time Complexity: O(1) amortized per element, O(h) space
+         * @return Iterator in sorted order
+         */
+        public Iterator<T> inorderIterator() {
+            return new InorderIterator<>(root);
         }
 
         /**
-         * Gets the height of the BST
+         * Lazy preorder iterator using an explicit stack
+         * Time Complexity: O(1) per element, O(h) space
+         * @return Iterator in preorder
+         */
+        public Iterator<T> preorderIterator() {
+            return new PreorderIterator<>(root);
+        }
+
+        /**
+         * Iterates in sorted order (same as inorderIterator)
+         * @return Iterator in sorted order
+         */
+        @Override
+        public Iterator<T> iterator() {
+            return inorderIterator();
+        }
+
+        /**
+         * Sorted spliterator that splits by subtree with exact sizes
+         * @return Spliterator in sorted order
+         */
+        @Override
+        public Spliterator<T> spliterator() {
+            return new InorderSpliterator<>(root);
+        }
+
+        /**
+         * Stream of elements in sorted order; call parallel() to divide by subtree
+         * @return Sequential sorted stream
+         */
+        public Stream<T> stream() {
+            return StreamSupport.stream(spliterator(), false);
+        }
+
+        /**
+         * Morris inorder traversal with O(1) extra space. Right pointers of
+         * inorder predecessors are threaded temporarily and restored, so the
+         * tree must not be read or modified concurrently. If the visitor stops
+         * early, the walk still finishes (without visiting) to undo threads.
          * Time Complexity: O(n)
-         * @return Height of tree
+         * @param visitor Returns false to stop visiting
+         * @return true if every element was visited
          */
-        public int height() {
-            return heightHelper(root);
+        public boolean morrisInorder(Predicate<? super T> visitor) {
+            boolean visiting = true;
+            TreeNode<T> current = root;
+            while (current != null) {
+                if (current.left == null) {
+                    visiting = visiting && visitor.test(current.data);
+                    current = current.right;
+                    continue;
+                }
+                TreeNode<T> predecessor = current.left;
+                while (predecessor.right != null && predecessor.right != current) {
+                    predecessor = predecessor.right;
+                }
+                if (predecessor.right == null) {
+                    predecessor.right = current;  // thread back to current
+                    current = current.left;
+                } else {
+                    predecessor.right = null;     // restore
+                    visiting = visiting && visitor.test(current.data);
+                    current = current.right;
+                }
+            }
+            return visiting;
         }
 
-        private int heightHelper(TreeNode<T> node) {
-            if (node == null) return 0;
-            return 1 + Math.max(heightHelper(node.left), heightHelper(node.right));
+        /**
+         * Gets the height of the BST
+         * Time Complexity: O(1)
+         * @return Height of tree
+         */
+        public int height() {
+            return height(root);
         }
 
         /**
@@ -244,7 +513,75 @@ public class binary_search_tree {
          * @return Number of nodes
          */
         public int size() {
-            return size;
+            return size(root);
+        }
+
+        /**
+         * Finds the k-th smallest element (0-based)
+         * Time Complexity: O(log n) average, O(n) worst
+         * @param k Index in sorted order
+         * @return Element with exactly k smaller elements
+         */
+        public T select(int k) {
+            if (k < 0 || k >= size()) {
+                throw new IndexOutOfBoundsException("Invalid rank: " + k);
+            }
+            TreeNode<T> current = root;
+            while (true) {
+                int leftSize = size(current.left);
+                if (k < leftSize) {
+                    current = current.left;
+                } else if (k > leftSize) {
+                    k -= leftSize + 1;
+                    current = current.right;
+                } else {
+                    return current.data;
+                }
+            }
+        }
+
+        /**
+         * Counts elements strictly less than x
+         * Time Complexity: O(log n) average, O(n) worst
+         * @param x Query value (need not be present)
+         * @return Number of elements < x
+         */
+        public int rank(T x) {
+            return countBelow(x, false);
+        }
+
+        /**
+         * Counts elements in the closed range [lo, hi]
+         * Time Complexity: O(log n) average, O(n) worst
+         * @param lo Lower bound (inclusive)
+         * @param hi Upper bound (inclusive)
+         * @return Number of elements x with lo <= x <= hi
+         */
+        public int countInRange(T lo, T hi) {
+            if (lo.compareTo(hi) > 0) {
+                return 0;
+            }
+            return countBelow(hi, true) - countBelow(lo, false);
+        }
+
+        /**
+         * Counts elements < x, or <= x when inclusive, along one search path
+         */
+        private int countBelow(T x, boolean inclusive) {
+            int count = 0;
+            TreeNode<T> current = root;
+            while (current != null) {
+                int cmp = x.compareTo(current.data);
+                if (cmp < 0) {
+                    current = current.left;
+                } else if (cmp > 0) {
+                    count += size(current.left) + 1;
+                    current = current.right;
+                } else {
+                    return count + size(current.left) + (inclusive ? 1 : 0);
+                }
+            }
+            return count;
         }
 
         /**
@@ -276,6 +613,377 @@ public class binary_search_tree {
             return isValidBSTHelper(node.left, min, node.data) &&
                    isValidBSTHelper(node.right, node.data, max);
         }
+
+        /**
+         * Builds a perfectly balanced BST from strictly increasing elements
+         * by making each middle element the root of its range
+         * Time Complexity: O(n)
+         * @param sorted Elements in strictly increasing order
+         * @return Balanced BST containing all elements
+         */
+        public static <T extends Comparable<T>> BST<T> fromSorted(T[] sorted) {
+            for (int i = 1; i < sorted.length; i++) {
+                if (sorted[i - 1].compareTo(sorted[i]) >= 0) {
+                    throw new IllegalArgumentException("Elements must be strictly increasing at index " + i);
+                }
+            }
+            BST<T> tree = new BST<>();
+            tree.root = buildBalanced(sorted, 0, sorted.length - 1);
+            return tree;
+        }
+
+        private static <T extends Comparable<T>> TreeNode<T> buildBalanced(T[] sorted, int lo, int hi) {
+            if (lo > hi) return null;
+            int mid = (lo + hi) >>> 1;
+            TreeNode<T> node = new TreeNode<>(sorted[mid]);
+            node.left = buildBalanced(sorted, lo, mid - 1);
+            node.right = buildBalanced(sorted, mid + 1, hi);
+            update(node);
+            return node;
+        }
+
+        /**
+         * Union of two trees; both operands are left empty
+         * Time Complexity: O(m log(n/m + 1)) work for AVL-balanced inputs, plus O(n)
+         *                  to rebalance an operand taller than the AVL bound
+         * @param a First tree (consumed)
+         * @param b Second tree (consumed)
+         * @return Tree with elements in a or b
+         */
+        public static <T extends Comparable<T>> BST<T> union(BST<T> a, BST<T> b) {
+            return runSetOperation(SetOperation.Kind.UNION, a, b);
+        }
+
+        /**
+         * Intersection of two trees; both operands are left empty
+         * Time Complexity: O(m log(n/m + 1)) work for AVL-balanced inputs, plus O(n)
+         *                  to rebalance an operand taller than the AVL bound
+         * @param a First tree (consumed)
+         * @param b Second tree (consumed)
+         * @return Tree with elements in both a and b
+         */
+        public static <T extends Comparable<T>> BST<T> intersection(BST<T> a, BST<T> b) {
+            return runSetOperation(SetOperation.Kind.INTERSECTION, a, b);
+        }
+
+        /**
+         * Difference of two trees; both operands are left empty
+         * Time Complexity: O(m log(n/m + 1)) work for AVL-balanced inputs, plus O(n)
+         *                  to rebalance an operand taller than the AVL bound
+         * @param a Tree to subtract from (consumed)
+         * @param b Tree of elements to remove (consumed)
+         * @return Tree with elements in a but not in b
+         */
+        public static <T extends Comparable<T>> BST<T> difference(BST<T> a, BST<T> b) {
+            return runSetOperation(SetOperation.Kind.DIFFERENCE, a, b);
+        }
+
+        /**
+         * Returns the subtree unchanged if its height is within the AVL bound
+         * 1.44 log2(n + 2), otherwise relinks its nodes into a perfectly balanced tree
+         * Time Complexity: O(1) if balanced, O(n) otherwise
+         */
+        @SuppressWarnings("unchecked")
+        private static <T extends Comparable<T>> TreeNode<T> balanced(TreeNode<T> root) {
+            int n = size(root);
+            if (height(root) <= 1.4405 * (Math.log(n + 2) / Math.log(2))) {
+                return root;
+            }
+            TreeNode<T>[] nodes = (TreeNode<T>[]) new TreeNode<?>[n];
+            ArrayDeque<TreeNode<T>> stack = new ArrayDeque<>();
+            int count = 0;
+            TreeNode<T> current = root;
+            while (current != null || !stack.isEmpty()) {
+                while (current != null) {
+                    stack.push(current);
+                    current = current.left;
+                }
+                current = stack.pop();
+                nodes[count++] = current;
+                current = current.right;
+            }
+            return relinkBalanced(nodes, 0, n - 1);
+        }
+
+        private static <T extends Comparable<T>> TreeNode<T> relinkBalanced(TreeNode<T>[] nodes, int lo, int hi) {
+            if (lo > hi) return null;
+            int mid = (lo + hi) >>> 1;
+            TreeNode<T> node = nodes[mid];
+            node.left = relinkBalanced(nodes, lo, mid - 1);
+            node.right = relinkBalanced(nodes, mid + 1, hi);
+            update(node);
+            return node;
+        }
+
+        private static <T extends Comparable<T>> BST<T> runSetOperation(SetOperation.Kind kind, BST<T> a, BST<T> b) {
+            if (a == b) {
+                throw new IllegalArgumentException("Operands must be different trees");
+            }
+            SetOperation<T> task = new SetOperation<>(kind, balanced(a.root), balanced(b.root));
+            a.root = null;
+            b.root = null;
+            BST<T> result = new BST<>();
+            result.root = size(task.a) + size(task.b) > SetOperation.PARALLEL_GRAIN
+                ? ForkJoinPool.commonPool().invoke(task)
+                : task.compute();
+            return result;
+        }
+    }
+
+    /**
+     * Result of splitting a tree by a key: keys below, whether the key was
+     * present, and keys above
+     */
+    static class Split<T extends Comparable<T>> {
+        final TreeNode<T> left;
+        final boolean found;
+        final TreeNode<T> right;
+
+        Split(TreeNode<T> left, boolean found, TreeNode<T> right) {
+            this.left = left;
+            this.found = found;
+            this.right = right;
+        }
+    }
+
+    /**
+     * SetOperation class runs join-based union, intersection and difference
+     * as a fork/join task over disjoint subtrees
+     */
+    static class SetOperation<T extends Comparable<T>> extends RecursiveTask<TreeNode<T>> {
+        private static final long serialVersionUID = 1L;
+
+        enum Kind { UNION, INTERSECTION, DIFFERENCE }
+
+        /** Subproblems with fewer nodes than this run sequentially */
+        static final int PARALLEL_GRAIN = 1 << 13;
+
+        final Kind kind;
+        final transient TreeNode<T> a;
+        final transient TreeNode<T> b;
+
+        SetOperation(Kind kind, TreeNode<T> a, TreeNode<T> b) {
+            this.kind = kind;
+            this.a = a;
+            this.b = b;
+        }
+
+        @Override
+        protected TreeNode<T> compute() {
+            return run(a, b);
+        }
+
+        private TreeNode<T> run(TreeNode<T> a, TreeNode<T> b) {
+            switch (kind) {
+                case UNION:
+                    if (a == null) return b;
+                    if (b == null) return a;
+                    if (a.size < b.size) {
+                        TreeNode<T> swap = a;
+                        a = b;
+                        b = swap;
+                    }
+                    break;
+                case INTERSECTION:
+                    if (a == null || b == null) return null;
+                    break;
+                default:
+                    if (a == null) return null;
+                    if (b == null) return a;
+            }
+
+            // Union and intersection pivot on a's root; difference on b's root
+            TreeNode<T> pivot = kind == Kind.DIFFERENCE ? b : a;
+            TreeNode<T> other = kind == Kind.DIFFERENCE ? a : b;
+            TreeNode<T> pivotLeft = pivot.left;
+            TreeNode<T> pivotRight = pivot.right;
+            Split<T> split = split(other, pivot.data);
+
+            TreeNode<T> left;
+            TreeNode<T> right;
+            if (kind == Kind.DIFFERENCE) {
+                // a - b: split side comes first
+                if (size(split.left) + size(pivotLeft) > PARALLEL_GRAIN) {
+                    SetOperation<T> leftTask = new SetOperation<>(kind, split.left, pivotLeft);
+                    leftTask.fork();
+                    right = run(split.right, pivotRight);
+                    left = leftTask.join();
+                } else {
+                    left = run(split.left, pivotLeft);
+                    right = run(split.right, pivotRight);
+                }
+                return join2(left, right);
+            }
+
+            if (size(pivotLeft) + size(split.left) > PARALLEL_GRAIN) {
+                SetOperation<T> leftTask = new SetOperation<>(kind, pivotLeft, split.left);
+                leftTask.fork();
+                right = run(pivotRight, split.right);
+                left = leftTask.join();
+            } else {
+                left = run(pivotLeft, split.left);
+                right = run(pivotRight, split.right);
+            }
+
+            if (kind == Kind.INTERSECTION && !split.found) {
+                return join2(left, right);
+            }
+            return join(left, pivot, right);
+        }
+
+        private static int size(TreeNode<?> node) {
+            return BST.size(node);
+        }
+
+        private static int height(TreeNode<?> node) {
+            return node == null ? 0 : node.height;
+        }
+
+        private static <T extends Comparable<T>> TreeNode<T> link(TreeNode<T> left, TreeNode<T> middle,
+                                                                   TreeNode<T> right) {
+            middle.left = left;
+            middle.right = right;
+            BST.update(middle);
+            return middle;
+        }
+
+        private static <T extends Comparable<T>> TreeNode<T> rotateLeft(TreeNode<T> node) {
+            TreeNode<T> pivot = node.right;
+            node.right = pivot.left;
+            BST.update(node);
+            pivot.left = node;
+            BST.update(pivot);
+            return pivot;
+        }
+
+        private static <T extends Comparable<T>> TreeNode<T> rotateRight(TreeNode<T> node) {
+            TreeNode<T> pivot = node.left;
+            node.left = pivot.right;
+            BST.update(node);
+            pivot.right = node;
+            BST.update(pivot);
+            return pivot;
+        }
+
+        /**
+         * Restores the AVL condition at node after one child grew by one level
+         */
+        private static <T extends Comparable<T>> TreeNode<T> rebalance(TreeNode<T> node) {
+            BST.update(node);
+            int balance = height(node.left) - height(node.right);
+            if (balance > 1) {
+                if (height(node.left.right) > height(node.left.left)) {
+                    node.left = rotateLeft(node.left);
+                }
+                return rotateRight(node);
+            }
+            if (balance < -1) {
+                if (height(node.right.left) > height(node.right.right)) {
+                    node.right = rotateRight(node.right);
+                }
+                return rotateLeft(node);
+            }
+            return node;
+        }
+
+        /**
+         * AVL join: every key of left < middle < every key of right. The
+         * taller side is descended along its inner spine to a subtree at most
+         * one level taller than the other side, middle is linked there, and
+         * the spine is rebalanced bottom-up.
+         * Time Complexity: O(|height(left) - height(right)| + 1)
+         */
+        static <T extends Comparable<T>> TreeNode<T> join(TreeNode<T> left, TreeNode<T> middle,
+                                                           TreeNode<T> right) {
+            int hl = height(left);
+            int hr = height(right);
+            if (hl <= hr + 1 && hr <= hl + 1) {
+                return link(left, middle, right);
+            }
+            ArrayDeque<TreeNode<T>> spine = new ArrayDeque<>();
+            TreeNode<T> sub;
+            if (hl > hr) {
+                TreeNode<T> node = left;
+                while (height(node) > hr + 1) {
+                    spine.push(node);
+                    node = node.right;
+                }
+                sub = link(node, middle, right);
+                while (!spine.isEmpty()) {
+                    TreeNode<T> parent = spine.pop();
+                    parent.right = sub;
+                    sub = rebalance(parent);
+                }
+            } else {
+                TreeNode<T> node = right;
+                while (height(node) > hl + 1) {
+                    spine.push(node);
+                    node = node.left;
+                }
+                sub = link(left, middle, node);
+                while (!spine.isEmpty()) {
+                    TreeNode<T> parent = spine.pop();
+                    parent.left = sub;
+                    sub = rebalance(parent);
+                }
+            }
+            return sub;
+        }
+
+        /**
+         * Splits a tree into keys < key and keys > key: walks down to key,
+         * then joins the subtrees hanging off the path on the way back up
+         * Time Complexity: O(h)
+         */
+        static <T extends Comparable<T>> Split<T> split(TreeNode<T> node, T key) {
+            ArrayDeque<TreeNode<T>> path = new ArrayDeque<>();
+            TreeNode<T> left = null;
+            TreeNode<T> right = null;
+            boolean found = false;
+            while (node != null) {
+                int cmp = key.compareTo(node.data);
+                if (cmp == 0) {
+                    found = true;
+                    left = node.left;
+                    right = node.right;
+                    break;
+                }
+                path.push(node);
+                node = cmp < 0 ? node.left : node.right;
+            }
+            while (!path.isEmpty()) {
+                TreeNode<T> parent = path.pop();
+                if (key.compareTo(parent.data) < 0) {
+                    right = join(right, parent, parent.right);
+                } else {
+                    left = join(parent.left, parent, left);
+                }
+            }
+            return new Split<>(left, found, right);
+        }
+
+        /**
+         * Joins two trees where every key of left is below every key of right,
+         * using the maximum of left as the new root
+         * Time Complexity: O(h)
+         */
+        static <T extends Comparable<T>> TreeNode<T> join2(TreeNode<T> left, TreeNode<T> right) {
+            if (left == null) return right;
+            if (right == null) return left;
+            // Detach the maximum of left, rejoining its right spine without it
+            ArrayDeque<TreeNode<T>> spine = new ArrayDeque<>();
+            TreeNode<T> max = left;
+            while (max.right != null) {
+                spine.push(max);
+                max = max.right;
+            }
+            TreeNode<T> rest = max.left;
+            while (!spine.isEmpty()) {
+                TreeNode<T> parent = spine.pop();
+                rest = join(parent.left, parent, rest);
+            }
+            return join(rest, max, right);
+        }
     }
 
     public static void main(String[] args) {
@@ -371,5 +1079,206 @@ public class binary_search_tree {
         System.out.println("Height (skewed): " + skewedBST.height());
         System.out.println("Note: Height is " + skewedBST.height() +
             " for " + skewedBST.size() + " nodes (degrades to linked list)");
+        System.out.println();
+
+        // Test 9: Order statistics from subtree sizes
+        System.out.println("Test 9: Order Statistics");
+        BST<Integer> scores = new BST<>();
+        int[] values = {50, 30, 70, 20, 40, 60, 80, 35, 65};
+        for (int value : values) {
+            scores.insert(value);
+        }
+        scores.insert(40); // duplicate is ignored and does not change size
+        System.out.println("Inorder: " + scores.inorder() + ", size: " + scores.size());
+        System.out.println("select(0): " + scores.select(0) + ", select(4): " + scores.select(4) +
+            ", select(8): " + scores.select(8));
+        System.out.println("rank(40): " + scores.rank(40) + ", rank(45): " + scores.rank(45) +
+            ", rank(100): " + scores.rank(100));
+        System.out.println("countInRange(30, 65): " + scores.countInRange(30, 65) +
+            ", countInRange(66, 69): " + scores.countInRange(66, 69));
+        scores.delete(50);
+        System.out.println("After deleting 50 -> size: " + scores.size() + ", height: " + scores.height() +
+            ", select(4): " + scores.select(4) + ", rank(65): " + scores.rank(65));
+        System.out.println();
+
+        // Test 10: Percentile queries against a sorted reference
+        System.out.println("Test 10: Percentiles on 100,000 Random Scores");
+        BST<Integer> leaderboard = new BST<>();
+        TreeSet<Integer> reference = new TreeSet<>();
+        Random random = new Random(34);
+        for (int i = 0; i < 100_000; i++) {
+            int score = random.nextInt(1_000_000);
+            leaderboard.insert(score);
+            reference.add(score);
+        }
+        for (int i = 0; i < 20_000; i++) {
+            int score = random.nextInt(1_000_000);
+            leaderboard.delete(score);
+            reference.remove(score);
+        }
+        List<Integer> sorted = new ArrayList<>(reference);
+        boolean consistent = leaderboard.size() == reference.size() && leaderboard.isValidBST();
+        for (int i = 0; i < 10_000; i++) {
+            int k = random.nextInt(sorted.size());
+            int lo = random.nextInt(1_000_000);
+            int hi = lo + random.nextInt(50_000);
+            consistent &= leaderboard.select(k).equals(sorted.get(k));
+            consistent &= leaderboard.rank(lo) == reference.headSet(lo).size();
+            consistent &= leaderboard.countInRange(lo, hi) == reference.subSet(lo, true, hi, true).size();
+        }
+        System.out.println("Size: " + leaderboard.size() + ", height: " + leaderboard.height() +
+            ", matches TreeSet: " + consistent);
+        int n = leaderboard.size();
+        System.out.println("p50: " + leaderboard.select(n / 2) + ", p90: " + leaderboard.select(n * 9 / 10) +
+            ", p99: " + leaderboard.select(n * 99 / 100));
+
+        long start = System.nanoTime();
+        long checksum = 0;
+        for (int i = 0; i < 1_000_000; i++) {
+            checksum += leaderboard.rank(random.nextInt(1_000_000));
+        }
+        long rankMs = (System.nanoTime() - start) / 1_000_000;
+        System.out.println("1,000,000 rank() calls: " + rankMs + " ms (checksum " + checksum + ")");
+        System.out.println();
+
+        // Test 11: Lazy iteration and early termination
+        System.out.println("Test 11: Lazy Iterators");
+        Iterator<Integer> firstAbove = leaderboard.inorderIterator();
+        int visited = 0;
+        Integer firstOver500k = null;
+        while (firstAbove.hasNext()) {
+            visited++;
+            int score = firstAbove.next();
+            if (score > 500_000) {
+                firstOver500k = score;
+                break;
+            }
+        }
+        System.out.println("First score > 500000: " + firstOver500k + " after visiting " + visited + " nodes");
+        int[] morrisCount = {0};
+        boolean complete = leaderboard.morrisInorder(score -> ++morrisCount[0] < 10);
+        System.out.println("Morris stopped after " + morrisCount[0] + " visits, completed: " + complete +
+            ", still valid: " + leaderboard.isValidBST() + ", size: " + leaderboard.size());
+        System.out.println();
+
+        // Test 12: Sized parallel streams split by subtree
+        System.out.println("Test 12: Parallel Stream");
+        Spliterator<Integer> whole = leaderboard.spliterator();
+        Spliterator<Integer> firstPart = whole.trySplit();
+        System.out.println("Split sizes: " + firstPart.estimateSize() + " + " + whole.estimateSize() +
+            " = " + leaderboard.size());
+        long parallelSum = leaderboard.stream().parallel().mapToLong(Integer::longValue).sum();
+        long sequentialSum = 0;
+        for (int score : leaderboard) {
+            sequentialSum += score;
+        }
+        System.out.println("Parallel sum equals for-each sum: " + (parallelSum == sequentialSum));
+        System.out.println("Parallel toList() is sorted: " +
+            leaderboard.stream().parallel().toList().equals(sorted));
+        System.out.println();
+
+        // Test 13: Bulk build from sorted input
+        System.out.println("Test 13: Build From Sorted Array");
+        Integer[] small = {1, 2, 3, 4, 5, 6, 7};
+        BST<Integer> balanced = BST.fromSorted(small);
+        System.out.println("fromSorted(1..7) preorder: " + balanced.preorder() + ", height: " + balanced.height());
+        Integer[] million = new Integer[1_000_000];
+        for (int i = 0; i < million.length; i++) {
+            million[i] = i * 2;
+        }
+        start = System.nanoTime();
+        BST<Integer> bulk = BST.fromSorted(million);
+        long bulkMs = (System.nanoTime() - start) / 1_000_000;
+        List<Integer> shuffled = new ArrayList<>(Arrays.asList(million));
+        Collections.shuffle(shuffled, new Random(37));
+        start = System.nanoTime();
+        BST<Integer> inserted = new BST<>();
+        for (int value : shuffled) {
+            inserted.insert(value);
+        }
+        long insertMs = (System.nanoTime() - start) / 1_000_000;
+        System.out.println("1,000,000 elements: fromSorted " + bulkMs + " ms (height " + bulk.height() +
+            "), shuffled inserts " + insertMs + " ms (height " + inserted.height() + ")");
+        System.out.println();
+
+        // Test 14: Join-based set operations
+        System.out.println("Test 14: Union, Intersection and Difference");
+        BST<Integer> evens = BST.fromSorted(new Integer[]{2, 4, 6, 8, 10, 12});
+        BST<Integer> threes = BST.fromSorted(new Integer[]{3, 6, 9, 12});
+        System.out.println("union({2..12 even}, {3,6,9,12}): " + BST.union(evens, threes).inorder() +
+            ", operands now empty: " + (evens.isEmpty() && threes.isEmpty()));
+        System.out.println("intersection: " + BST.intersection(BST.fromSorted(new Integer[]{2, 4, 6, 8, 10, 12}),
+            BST.fromSorted(new Integer[]{3, 6, 9, 12})).inorder());
+        System.out.println("difference: " + BST.difference(BST.fromSorted(new Integer[]{2, 4, 6, 8, 10, 12}),
+            BST.fromSorted(new Integer[]{3, 6, 9, 12})).inorder());
+
+        boolean setsMatch = true;
+        for (int trial = 0; trial < 200; trial++) {
+            TreeSet<Integer> left = new TreeSet<>();
+            TreeSet<Integer> right = new TreeSet<>();
+            int n1 = random.nextInt(200);
+            int n2 = random.nextInt(200);
+            for (int i = 0; i < n1; i++) left.add(random.nextInt(300));
+            for (int i = 0; i < n2; i++) right.add(random.nextInt(300));
+            TreeSet<Integer> expectedUnion = new TreeSet<>(left);
+            expectedUnion.addAll(right);
+            TreeSet<Integer> expectedIntersection = new TreeSet<>(left);
+            expectedIntersection.retainAll(right);
+            TreeSet<Integer> expectedDifference = new TreeSet<>(left);
+            expectedDifference.removeAll(right);
+            Integer[] leftArray = left.toArray(new Integer[0]);
+            Integer[] rightArray = right.toArray(new Integer[0]);
+            BST<Integer> u = BST.union(BST.fromSorted(leftArray), BST.fromSorted(rightArray));
+            BST<Integer> i = BST.intersection(BST.fromSorted(leftArray), BST.fromSorted(rightArray));
+            BST<Integer> d = BST.difference(BST.fromSorted(leftArray), BST.fromSorted(rightArray));
+            setsMatch &= u.inorder().equals(new ArrayList<>(expectedUnion)) && u.size() == expectedUnion.size();
+            setsMatch &= i.inorder().equals(new ArrayList<>(expectedIntersection)) && i.size() == expectedIntersection.size();
+            setsMatch &= d.inorder().equals(new ArrayList<>(expectedDifference)) && d.size() == expectedDifference.size();
+            setsMatch &= u.isValidBST() && i.isValidBST() && d.isValidBST();
+            for (BST<Integer> result : Arrays.asList(u, i, d)) {
+                setsMatch &= result.height() <= 1.4405 * Math.log(result.size() + 2) / Math.log(2);
+            }
+        }
+        System.out.println("200 random trials match TreeSet: " + setsMatch);
+
+        // Skewed operands (sorted insert) are rebalanced, results stay AVL-shaped
+        BST<Integer> ascending = new BST<>();
+        BST<Integer> interleaved = new BST<>();
+        for (int i = 0; i < 2000; i++) {
+            ascending.insert(2 * i);
+            interleaved.insert(2 * i + 1);
+        }
+        System.out.println("Sorted-insert operands: heights " + ascending.height() + " and " + interleaved.height());
+        BST<Integer> skewedUnion = BST.union(ascending, interleaved);
+        System.out.println("union: size " + skewedUnion.size() + ", height " + skewedUnion.height() +
+            ", valid: " + skewedUnion.isValidBST());
+        System.out.println();
+
+        // Test 15: Merging a small delta into a large index
+        System.out.println("Test 15: Merge 10,000 Updates into 1,000,000-Element Index");
+        Integer[] delta = new Integer[10_000];
+        for (int i = 0; i < delta.length; i++) {
+            delta[i] = i * 200 + 1;  // odd keys, all new
+        }
+        BST<Integer> index = BST.fromSorted(million);
+        start = System.nanoTime();
+        BST<Integer> merged = BST.union(index, BST.fromSorted(delta));
+        long unionMs = (System.nanoTime() - start) / 1_000_000;
+        BST<Integer> rebuilt = BST.fromSorted(million);
+        start = System.nanoTime();
+        for (Integer value : delta) {
+            rebuilt.insert(value);
+        }
+        long insertDeltaMs = (System.nanoTime() - start) / 1_000_000;
+        TreeSet<Integer> treeSet = new TreeSet<>(Arrays.asList(million));
+        start = System.nanoTime();
+        treeSet.addAll(Arrays.asList(delta));
+        long treeSetMs = (System.nanoTime() - start) / 1_000_000;
+        System.out.println("union: " + unionMs + " ms, size " + merged.size() + ", height " + merged.height());
+        System.out.println("insert loop: " + insertDeltaMs + " ms, TreeSet.addAll: " + treeSetMs + " ms");
+        System.out.println("Results agree: " + (merged.size() == rebuilt.size() && merged.size() == treeSet.size() &&
+            merged.countInRange(0, 100_000) == rebuilt.countInRange(0, 100_000)));
+        BST<Integer> removed = BST.difference(merged, BST.fromSorted(delta));
+        System.out.println("difference back to original size: " + removed.size());
     }
 }
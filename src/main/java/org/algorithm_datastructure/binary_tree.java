@@ -1,6 +1,11 @@
 package org.algorithm_datastructure;
 
 import java.util.*;
+import java.util.function.Consumer;
+import java.util.function.IntUnaryOperator;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * Binary Tree Implementation
@@ -9,17 +14,34 @@ import java.util.*;
  * left and right.
  *
  * Operations:
- * - insert(data): Add node in level order - O(n)
+ * - insert(data): Add node in level order - O(log n)
  * - inorder(): Traverse left-root-right - O(n)
  * - preorder(): Traverse root-left-right - O(n)
  * - postorder(): Traverse left-right-root - O(n)
  * - levelOrder(): Traverse level by level - O(n)
  * - height(): Get tree height - O(n)
- * - size(): Get number of nodes - O(n)
+ * - size(): Get number of nodes - O(1)
  * - search(data): Find node with data - O(n)
+ * - inorderIterator() / preorderIterator() / postorderIterator() /
+ *   levelOrderIterator(): Lazy traversals - O(1) amortized per element
+ * - morrisInorder(visitor): Inorder walk with O(1) extra space - O(n)
+ * - stream(): Inorder stream whose spliterator splits by subtree
+ *
+ * Lazy traversals:
+ * - Iterators keep an explicit stack (or queue) of at most h nodes instead of
+ *   building a full list through recursion, so they stop early for free and
+ *   cannot overflow the call stack on deep trees
+ * - The list-returning traversals are built on the same iterators
+ *
+ * Array-packed layout (ArrayBinaryTree):
+ * - A complete tree needs no pointers: node i has children 2i + 1 and 2i + 2
+ *   and parent (i - 1) / 2, so append is O(1) and traversals move through
+ *   one contiguous array using index arithmetic and O(1) extra space
+ * - fromSorted() fills the array so that inorder is sorted (Eytzinger order);
+ *   binarySearch() then touches the top levels in the first cache lines
  *
  * Time Complexity: O(n) for most operations
- * Space Complexity: O(n) for storage, O(h) for recursion where h is height
+ * Space Complexity: O(n) for storage, O(h) for traversal stacks where h is height
  *
  * Applications:
  * - Expression trees
@@ -44,17 +66,232 @@ public class binary_tree {
         }
     }
 
+    /**
+     * Lazy inorder iterator: the stack holds the left spine still to visit
+     */
+    static class InorderIterator<T> implements Iterator<T> {
+        private final ArrayDeque<TreeNode<T>> stack = new ArrayDeque<>();
+
+        InorderIterator(TreeNode<T> root) {
+            pushLeft(root);
+        }
+
+        private void pushLeft(TreeNode<T> node) {
+            while (node != null) {
+                stack.push(node);
+                node = node.left;
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            return !stack.isEmpty();
+        }
+
+        @Override
+        public T next() {
+            if (stack.isEmpty()) {
+                throw new NoSuchElementException();
+            }
+            TreeNode<T> node = stack.pop();
+            pushLeft(node.right);
+            return node.data;
+        }
+    }
+
+    /**
+     * Lazy preorder iterator: the stack holds subtrees still to visit
+     */
+    static class PreorderIterator<T> implements Iterator<T> {
+        private final ArrayDeque<TreeNode<T>> stack = new ArrayDeque<>();
+
+        PreorderIterator(TreeNode<T> root) {
+            if (root != null) {
+                stack.push(root);
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            return !stack.isEmpty();
+        }
+
+        @Override
+        public T next() {
+            if (stack.isEmpty()) {
+                throw new NoSuchElementException();
+            }
+            TreeNode<T> node = stack.pop();
+            if (node.right != null) stack.push(node.right);
+            if (node.left != null) stack.push(node.left);
+            return node.data;
+        }
+    }
+
+    /**
+     * Lazy postorder iterator: one stack plus the last emitted node tells
+     * whether a node's right subtree is already done
+     */
+    static class PostorderIterator<T> implements Iterator<T> {
+        private final ArrayDeque<TreeNode<T>> stack = new ArrayDeque<>();
+        private TreeNode<T> current;
+        private TreeNode<T> lastVisited;
+
+        PostorderIterator(TreeNode<T> root) {
+            this.current = root;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return current != null || !stack.isEmpty();
+        }
+
+        @Override
+        public T next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            while (true) {
+                if (current != null) {
+                    stack.push(current);
+                    current = current.left;
+                } else {
+                    TreeNode<T> top = stack.peek();
+                    if (top.right != null && top.right != lastVisited) {
+                        current = top.right;
+                    } else {
+                        stack.pop();
+                        lastVisited = top;
+                        return top.data;
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Lazy level order iterator backed by an ArrayDeque queue
+     */
+    static class LevelOrderIterator<T> implements Iterator<T> {
+        private final ArrayDeque<TreeNode<T>> queue = new ArrayDeque<>();
+
+        LevelOrderIterator(TreeNode<T> root) {
+            if (root != null) {
+                queue.offer(root);
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            return !queue.isEmpty();
+        }
+
+        @Override
+        public T next() {
+            if (queue.isEmpty()) {
+                throw new NoSuchElementException();
+            }
+            TreeNode<T> node = queue.poll();
+            if (node.left != null) queue.offer(node.left);
+            if (node.right != null) queue.offer(node.right);
+            return node.data;
+        }
+    }
+
+    /**
+     * Inorder spliterator that splits by subtree.
+     *
+     * The remaining sequence is: lone (if set), then for each stack entry from
+     * top to bottom, the entry followed by its whole right subtree. The bottom
+     * entry carries the largest right subtree, so trySplit hands everything
+     * above it to the prefix and keeps the bottom entry.
+     */
+    static class InorderSpliterator<T> implements Spliterator<T> {
+        private TreeNode<T> lone;  // emitted first, without its right subtree
+        private final ArrayDeque<TreeNode<T>> stack;
+        private long estimate;
+
+        InorderSpliterator(TreeNode<T> root, long estimate) {
+            this.stack = new ArrayDeque<>();
+            this.estimate = estimate;
+            pushLeft(root);
+        }
+
+        private InorderSpliterator(TreeNode<T> lone, ArrayDeque<TreeNode<T>> stack, long estimate) {
+            this.lone = lone;
+            this.stack = stack;
+            this.estimate = estimate;
+        }
+
+        private void pushLeft(TreeNode<T> node) {
+            while (node != null) {
+                stack.push(node);
+                node = node.left;
+            }
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super T> action) {
+            T data;
+            if (lone != null) {
+                data = lone.data;
+                lone = null;
+            } else if (!stack.isEmpty()) {
+                TreeNode<T> node = stack.pop();
+                pushLeft(node.right);
+                data = node.data;
+            } else {
+                return false;
+            }
+            action.accept(data);
+            return true;
+        }
+
+        @Override
+        public Spliterator<T> trySplit() {
+            if (lone == null && stack.size() == 1) {
+                // Expose the single entry's right subtree so it can be divided
+                lone = stack.pop();
+                pushLeft(lone.right);
+            }
+            if (stack.isEmpty() || (lone == null && stack.size() < 2)) {
+                return null;
+            }
+            ArrayDeque<TreeNode<T>> prefix = new ArrayDeque<>();
+            while (stack.size() > 1) {
+                prefix.addLast(stack.pollFirst());
+            }
+            long half = estimate >>> 1;
+            estimate -= half;
+            InorderSpliterator<T> split = new InorderSpliterator<>(lone, prefix, half);
+            lone = null;
+            return split;
+        }
+
+        @Override
+        public long estimateSize() {
+            return estimate;
+        }
+
+        @Override
+        public int characteristics() {
+            return ORDERED;
+        }
+    }
+
     /**
      * BinaryTree class implements the binary tree data structure
      */
-    static class BinaryTree<T> {
+    static class BinaryTree<T> implements Iterable<T> {
         private TreeNode<T> root;
+        private int size;
 
         /**
          * Constructor - creates empty tree
          */
         public BinaryTree() {
             this.root = null;
+            this.size = 0;
         }
 
         /**
@@ -62,38 +299,33 @@ public class binary_tree {
          */
         public BinaryTree(T data) {
             this.root = new TreeNode<>(data);
+            this.size = 1;
         }
 
         /**
-         * Inserts a node in level order
-         * Time Complexity: O(n)
+         * Inserts a node in level order. The tree stays complete, so the new
+         * node's 1-based level-order position spells its path in binary: after
+         * the leading 1, each bit picks left (0) or right (1).
+         * Time Complexity: O(log n)
          * @param data Data to insert
          */
         public void insert(T data) {
             TreeNode<T> newNode = new TreeNode<>(data);
+            size++;
 
             if (root == null) {
                 root = newNode;
                 return;
             }
 
-            Queue<TreeNode<T>> queue = new LinkedList<>();
-            queue.offer(root);
-
-            while (!queue.isEmpty()) {
-                TreeNode<T> current = queue.poll();
-
-                if (current.left == null) {
-                    current.left = newNode;
-                    return;
-                }
-                queue.offer(current.left);
-
-                if (current.right == null) {
-                    current.right = newNode;
-                    return;
-                }
-                queue.offer(current.right);
+            TreeNode<T> parent = root;
+            for (int bit = Integer.highestOneBit(size) >> 1; bit > 1; bit >>= 1) {
+                parent = (size & bit) == 0 ? parent.left : parent.right;
+            }
+            if ((size & 1) == 0) {
+                parent.left = newNode;
+            } else {
+                parent.right = newNode;
             }
         }
 
@@ -104,17 +336,10 @@ public class binary_tree {
          */
         public List<T> inorder() {
             List<T> result = new ArrayList<>();
-            inorderHelper(root, result);
+            inorderIterator().forEachRemaining(result::add);
             return result;
         }
 
-        private void inorderHelper(TreeNode<T> node, List<T> result) {
-            if (node == null) return;
-            inorderHelper(node.left, result);
-            result.add(node.data);
-            inorderHelper(node.right, result);
-        }
-
         /**
          * Preorder traversal: Root -> Left -> Right
          * Time Complexity: O(n)
@@ -122,17 +347,10 @@ public class binary_tree {
          */
         public List<T> preorder() {
             List<T> result = new ArrayList<>();
-            preorderHelper(root, result);
+            preorderIterator().forEachRemaining(result::add);
             return result;
         }
 
-        private void preorderHelper(TreeNode<T> node, List<T> result) {
-            if (node == null) return;
-            result.add(node.data);
-            preorderHelper(node.left, result);
-            preorderHelper(node.right, result);
-        }
-
         /**
          * Postorder traversal: Left -> Right -> Root
          * Time Complexity: O(n)
@@ -140,17 +358,10 @@ public class binary_tree {
          */
         public List<T> postorder() {
             List<T> result = new ArrayList<>();
-            postorderHelper(root, result);
+            postorderIterator().forEachRemaining(result::add);
             return result;
         }
 
-        private void postorderHelper(TreeNode<T> node, List<T> result) {
-            if (node == null) return;
-            postorderHelper(node.left, result);
-            postorderHelper(node.right, result);
-            result.add(node.data);
-        }
-
         /**
          * Level order traversal (BFS)
          * Time Complexity: O(n)
@@ -158,20 +369,104 @@ public class binary_tree {
          */
         public List<T> levelOrder() {
             List<T> result = new ArrayList<>();
-            if (root == null) return result;
+            levelOrderIterator().forEachRemaining(result::add);
+            return result;
+        }
+
+        /**
+         * Lazy inorder iterator using an explicit stack
+         * Time Complexity: O(1) amortized per element, O(h) space
+         * @return Iterator in inorder
+         */
+        public Iterator<T> inorderIterator() {
+            return new InorderIterator<>(root);
+        }
 
-            Queue<TreeNode<T>> queue = new LinkedList<>();
-            queue.offer(root);
+        /**
+         * Lazy preorder iterator using an explicit stack
+         * Time Complexity: O(1) per element, O(h) space
+         * @return Iterator in preorder
+         */
+        public Iterator<T> preorderIterator() {
+            return new PreorderIterator<>(root);
+        }
 
-            while (!queue.isEmpty()) {
-                TreeNode<T> current = queue.poll();
-                result.add(current.data);
+        /**
+         * Lazy postorder iterator using an explicit stack
+         * Time Complexity: O(1) amortized per element, O(h) space
+         * @return Iterator in postorder
+         */
+        public Iterator<T> postorderIterator() {
+            return new PostorderIterator<>(root);
+        }
 
-                if (current.left != null) queue.offer(current.left);
-                if (current.right != null) queue.offer(current.right);
-            }
+        /**
+         * Lazy level order iterator
+         * Time Complexity: O(1) per element, O(width) space
+         * @return Iterator in level order
+         */
+        public Iterator<T> levelOrderIterator() {
+            return new LevelOrderIterator<>(root);
+        }
 
-            return result;
+        /**
+         * Iterates in inorder (same as inorderIterator)
+         * @return Iterator in inorder
+         */
+        @Override
+        public Iterator<T> iterator() {
+            return inorderIterator();
+        }
+
+        /**
+         * Inorder spliterator that splits by subtree; size is unknown
+         * @return Spliterator in inorder
+         */
+        @Override
+        public Spliterator<T> spliterator() {
+            return new InorderSpliterator<>(root, Long.MAX_VALUE);
+        }
+
+        /**
+         * Stream of elements in inorder; call parallel() to divide by subtree
+         * @return Sequential stream in inorder
+         */
+        public Stream<T> stream() {
+            return StreamSupport.stream(spliterator(), false);
+        }
+
+        /**
+         * Morris inorder traversal with O(1) extra space. Right pointers of
+         * inorder predecessors are threaded temporarily and restored, so the
+         * tree must not be read or modified concurrently. If the visitor stops
+         * early, the walk still finishes (without visiting) to undo threads.
+         * Time Complexity: O(n)
+         * @param visitor Returns false to stop visiting
+         * @return true if every element was visited
+         */
+        public boolean morrisInorder(Predicate<? super T> visitor) {
+            boolean visiting = true;
+            TreeNode<T> current = root;
+            while (current != null) {
+                if (current.left == null) {
+                    visiting = visiting && visitor.test(current.data);
+                    current = current.right;
+                    continue;
+                }
+                TreeNode<T> predecessor = current.left;
+                while (predecessor.right != null && predecessor.right != current) {
+                    predecessor = predecessor.right;
+                }
+                if (predecessor.right == null) {
+                    predecessor.right = current;  // thread back to current
+                    current = current.left;
+                } else {
+                    predecessor.right = null;     // restore
+                    visiting = visiting && visitor.test(current.data);
+                    current = current.right;
+                }
+            }
+            return visiting;
         }
 
         /**
@@ -190,16 +485,11 @@ public class binary_tree {
 
         /**
          * Gets the number of nodes in the tree
-         * Time Complexity: O(n)
+         * Time Complexity: O(1)
          * @return Number of nodes
          */
         public int size() {
-            return sizeHelper(root);
-        }
-
-        private int sizeHelper(TreeNode<T> node) {
-            if (node == null) return 0;
-            return 1 + sizeHelper(node.left) + sizeHelper(node.right);
+            return size;
         }
 
         /**
@@ -236,6 +526,285 @@ public class binary_tree {
         }
     }
 
+    /**
+     * ArrayBinaryTree class stores a complete binary tree in one array
+     */
+    static class ArrayBinaryTree<T> implements Iterable<T> {
+        private static final int DEFAULT_CAPACITY = 16;
+
+        private Object[] elements;
+        private int size;
+
+        /**
+         * Constructor - creates empty tree
+         */
+        public ArrayBinaryTree() {
+            this.elements = new Object[DEFAULT_CAPACITY];
+            this.size = 0;
+        }
+
+        static int parent(int index) {
+            return (index - 1) >>> 1;
+        }
+
+        static int left(int index) {
+            return 2 * index + 1;
+        }
+
+        static int right(int index) {
+            return 2 * index + 2;
+        }
+
+        /**
+         * Appends a node at the next level-order position
+         * Time Complexity: O(1) amortized
+         * @param data Data to insert
+         */
+        public void insert(T data) {
+            if (size == elements.length) {
+                elements = Arrays.copyOf(elements, size * 2);
+            }
+            elements[size++] = data;
+        }
+
+        /**
+         * Gets the element at a level-order index
+         * Time Complexity: O(1)
+         * @param index Level-order index (root is 0)
+         * @return Element at index
+         */
+        @SuppressWarnings("unchecked")
+        public T get(int index) {
+            if (index < 0 || index >= size) {
+                throw new IndexOutOfBoundsException("Invalid index: " + index);
+            }
+            return (T) elements[index];
+        }
+
+        /**
+         * Index of the first node in inorder: the leftmost node
+         */
+        private int inorderFirst(int index) {
+            while (left(index) < size) {
+                index = left(index);
+            }
+            return index;
+        }
+
+        /**
+         * Inorder successor by index arithmetic: leftmost node of the right
+         * subtree, else climb while coming from a right child. -1 at the end.
+         */
+        private int inorderNext(int index) {
+            if (right(index) < size) {
+                return inorderFirst(right(index));
+            }
+            while (index > 0 && (index & 1) == 0) {  // even index = right child
+                index = parent(index);
+            }
+            return index == 0 ? -1 : parent(index);
+        }
+
+        /**
+         * Preorder successor: first child if any, else the right sibling of the
+         * nearest left-child ancestor (or self). -1 at the end.
+         */
+        private int preorderNext(int index) {
+            if (left(index) < size) {
+                return left(index);
+            }
+            while (index > 0) {
+                if ((index & 1) == 1 && index + 1 < size) {  // left child with a sibling
+                    return index + 1;
+                }
+                index = parent(index);
+            }
+            return -1;
+        }
+
+        /**
+         * First node in postorder below index: keep descending, left first
+         */
+        private int postorderFirst(int index) {
+            while (left(index) < size) {
+                index = left(index);
+            }
+            return index;
+        }
+
+        /**
+         * Postorder successor: parent after a right child or a left child with
+         * no sibling, else the first postorder node of the right sibling
+         */
+        private int postorderNext(int index) {
+            if (index == 0) {
+                return -1;
+            }
+            if ((index & 1) == 1 && index + 1 < size) {
+                return postorderFirst(index + 1);
+            }
+            return parent(index);
+        }
+
+        @SuppressWarnings("unchecked")
+        private List<T> collect(int first, IntUnaryOperator next) {
+            List<T> result = new ArrayList<>(size);
+            if (size == 0) return result;
+            for (int index = first; index >= 0; index = next.applyAsInt(index)) {
+                result.add((T) elements[index]);
+            }
+            return result;
+        }
+
+        /**
+         * Inorder traversal: Left -> Root -> Right, with no stack
+         * Time Complexity: O(n)
+         * @return List of elements in inorder
+         */
+        public List<T> inorder() {
+            return collect(inorderFirst(0), this::inorderNext);
+        }
+
+        /**
+         * Preorder traversal: Root -> Left -> Right, with no stack
+         * Time Complexity: O(n)
+         * @return List of elements in preorder
+         */
+        public List<T> preorder() {
+            return collect(0, this::preorderNext);
+        }
+
+        /**
+         * Postorder traversal: Left -> Right -> Root, with no stack
+         * Time Complexity: O(n)
+         * @return List of elements in postorder
+         */
+        public List<T> postorder() {
+            return collect(postorderFirst(0), this::postorderNext);
+        }
+
+        /**
+         * Level order traversal is the array order
+         * Time Complexity: O(n)
+         * @return List of elements in level order
+         */
+        @SuppressWarnings("unchecked")
+        public List<T> levelOrder() {
+            List<T> result = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                result.add((T) elements[i]);
+            }
+            return result;
+        }
+
+        /**
+         * Lazy inorder iterator that keeps only the current index
+         * Time Complexity: O(1) amortized per element
+         * @return Iterator in inorder
+         */
+        @Override
+        public Iterator<T> iterator() {
+            return new Iterator<>() {
+                private int index = size == 0 ? -1 : inorderFirst(0);
+
+                @Override
+                public boolean hasNext() {
+                    return index >= 0;
+                }
+
+                @Override
+                @SuppressWarnings("unchecked")
+                public T next() {
+                    if (index < 0) {
+                        throw new NoSuchElementException();
+                    }
+                    T data = (T) elements[index];
+                    index = inorderNext(index);
+                    return data;
+                }
+            };
+        }
+
+        /**
+         * Searches by scanning the contiguous array
+         * Time Complexity: O(n)
+         * @param data Data to search for
+         * @return true if found, false otherwise
+         */
+        public boolean search(T data) {
+            for (int i = 0; i < size; i++) {
+                if (Objects.equals(elements[i], data)) return true;
+            }
+            return false;
+        }
+
+        /**
+         * Builds a tree whose inorder is the given sorted array (Eytzinger
+         * layout), filling slots in inorder index order.
+         * Time Complexity: O(n)
+         * @param sorted Elements in ascending order
+         * @return Tree in Eytzinger layout
+         */
+        public static <T> ArrayBinaryTree<T> fromSorted(T[] sorted) {
+            ArrayBinaryTree<T> tree = new ArrayBinaryTree<>();
+            tree.elements = new Object[Math.max(DEFAULT_CAPACITY, sorted.length)];
+            tree.size = sorted.length;
+            if (sorted.length == 0) return tree;
+            int next = 0;
+            for (int index = tree.inorderFirst(0); index >= 0; index = tree.inorderNext(index)) {
+                tree.elements[index] = sorted[next++];
+            }
+            return tree;
+        }
+
+        /**
+         * Searches a tree built by fromSorted. The descent is i -> 2i + 1 or
+         * 2i + 2, so the first levels share a few cache lines and the next
+         * probe address depends only on one comparison.
+         * Time Complexity: O(log n)
+         * @param key Key to search for
+         * @param comparator Ordering used to sort the input
+         * @return true if found, false otherwise
+         */
+        @SuppressWarnings("unchecked")
+        public boolean binarySearch(T key, Comparator<? super T> comparator) {
+            int index = 0;
+            while (index < size) {
+                int cmp = comparator.compare(key, (T) elements[index]);
+                if (cmp == 0) return true;
+                index = cmp < 0 ? left(index) : right(index);
+            }
+            return false;
+        }
+
+        /**
+         * Gets the height: levels of a complete tree with size nodes
+         * Time Complexity: O(1)
+         * @return Height of tree
+         */
+        public int height() {
+            return 32 - Integer.numberOfLeadingZeros(size);
+        }
+
+        /**
+         * Gets the number of nodes in the tree
+         * Time Complexity: O(1)
+         * @return Number of nodes
+         */
+        public int size() {
+            return size;
+        }
+
+        /**
+         * Checks if tree is empty
+         * Time Complexity: O(1)
+         * @return true if empty, false otherwise
+         */
+        public boolean isEmpty() {
+            return size == 0;
+        }
+    }
+
     public static void main(String[] args) {
         System.out.println("Binary Tree Implementation Demo\n");
 
@@ -321,5 +890,143 @@ public class binary_tree {
         System.out.println("Height: " + smallTree.height());
         System.out.println("Size: " + smallTree.size());
         System.out.println("Level Order: " + smallTree.levelOrder());
+        System.out.println();
+
+        // Test 7: Lazy iterators with early termination
+        System.out.println("Test 7: Lazy Iterators");
+        Iterator<Integer> firstThree = tree.inorderIterator();
+        System.out.print("First three inorder:");
+        for (int i = 0; i < 3 && firstThree.hasNext(); i++) {
+            System.out.print(" " + firstThree.next());
+        }
+        System.out.println();
+        List<Integer> postorderLazy = new ArrayList<>();
+        tree.postorderIterator().forEachRemaining(postorderLazy::add);
+        System.out.println("Postorder iterator: " + postorderLazy);
+        StringBuilder forEach = new StringBuilder();
+        for (int value : tree) {
+            forEach.append(value).append(" ");
+        }
+        System.out.println("for-each (inorder): " + forEach.toString().trim());
+        List<Integer> morris = new ArrayList<>();
+        boolean complete = tree.morrisInorder(value -> {
+            morris.add(value);
+            return value != 5;
+        });
+        System.out.println("Morris inorder stopping at 5: " + morris + ", completed: " + complete +
+            ", tree intact: " + tree.inorder());
+        System.out.println();
+
+        // Test 8: Deep tree that would overflow recursive traversal
+        System.out.println("Test 8: Deep Left-Leaning Tree (1,000,000 nodes)");
+        BinaryTree<Integer> deep = new BinaryTree<>(0);
+        TreeNode<Integer> tail = deep.root;
+        for (int i = 1; i < 1_000_000; i++) {
+            tail.left = new TreeNode<>(i);
+            tail = tail.left;
+        }
+        long[] sums = new long[4];
+        deep.inorderIterator().forEachRemaining(v -> sums[0] += v);
+        deep.postorderIterator().forEachRemaining(v -> sums[1] += v);
+        deep.morrisInorder(v -> {
+            sums[2] += v;
+            return true;
+        });
+        sums[3] = deep.stream().parallel().mapToLong(Integer::longValue).sum();
+        System.out.println("Inorder sum: " + sums[0] + ", postorder sum: " + sums[1] +
+            ", Morris sum: " + sums[2] + ", parallel stream sum: " + sums[3]);
+        System.out.println();
+
+        // Test 9: Parallel stream splits by subtree and keeps encounter order
+        System.out.println("Test 9: Parallel Stream");
+        BinaryTree<Integer> large = new BinaryTree<>();
+        for (int i = 0; i < 2_000; i++) {
+            large.insert(i);
+        }
+        List<Integer> sequential = large.inorder();
+        List<Integer> parallel = large.stream().parallel().toList();
+        System.out.println("Parallel toList() equals inorder(): " + parallel.equals(sequential));
+        System.out.println("Parallel count of even values: " +
+            large.stream().parallel().filter(v -> v % 2 == 0).count());
+        System.out.println();
+
+        // Test 10: Array-packed complete tree
+        System.out.println("Test 10: Array-Packed Complete Tree");
+        ArrayBinaryTree<Integer> packed = new ArrayBinaryTree<>();
+        for (int i = 1; i <= 7; i++) {
+            packed.insert(i);
+        }
+        System.out.println("Inorder: " + packed.inorder());
+        System.out.println("Preorder: " + packed.preorder());
+        System.out.println("Postorder: " + packed.postorder());
+        System.out.println("Level Order: " + packed.levelOrder());
+        System.out.println("Height: " + packed.height() + ", size: " + packed.size() +
+            ", parent of index 5: " + packed.get(ArrayBinaryTree.parent(5)));
+        boolean same = true;
+        BinaryTree<Integer> linked = new BinaryTree<>();
+        ArrayBinaryTree<Integer> array = new ArrayBinaryTree<>();
+        for (int n = 0; n < 300; n++) {
+            same &= linked.inorder().equals(array.inorder()) && linked.preorder().equals(array.preorder()) &&
+                linked.postorder().equals(array.postorder()) && linked.levelOrder().equals(array.levelOrder());
+            linked.insert(n);
+            array.insert(n);
+        }
+        System.out.println("Matches linked BinaryTree for sizes 0..299: " + same);
+        System.out.println();
+
+        // Test 11: Insert cost, linked vs array-packed
+        System.out.println("Test 11: Building 1,000,000-Node Trees");
+        long start = System.nanoTime();
+        BinaryTree<Integer> linkedLarge = new BinaryTree<>();
+        for (int i = 0; i < 1_000_000; i++) {
+            linkedLarge.insert(i);
+        }
+        long linkedMs = (System.nanoTime() - start) / 1_000_000;
+        start = System.nanoTime();
+        ArrayBinaryTree<Integer> arrayLarge = new ArrayBinaryTree<>();
+        for (int i = 0; i < 1_000_000; i++) {
+            arrayLarge.insert(i);
+        }
+        long arrayMs = (System.nanoTime() - start) / 1_000_000;
+        System.out.println("Linked insert (bit path): " + linkedMs + " ms, array append: " + arrayMs + " ms");
+        long[] walkSums = new long[2];
+        start = System.nanoTime();
+        linkedLarge.forEach(v -> walkSums[0] += v);
+        long linkedWalk = (System.nanoTime() - start) / 1_000_000;
+        start = System.nanoTime();
+        arrayLarge.forEach(v -> walkSums[1] += v);
+        long arrayWalk = (System.nanoTime() - start) / 1_000_000;
+        System.out.println("Inorder walk: linked " + linkedWalk + " ms, array " + arrayWalk +
+            " ms (sums equal: " + (walkSums[0] == walkSums[1]) + ")");
+        System.out.println();
+
+        // Test 12: Eytzinger layout search
+        System.out.println("Test 12: Eytzinger Layout Search");
+        Integer[] sortedKeys = new Integer[1 << 20];
+        for (int i = 0; i < sortedKeys.length; i++) {
+            sortedKeys[i] = i * 2;
+        }
+        ArrayBinaryTree<Integer> eytzinger = ArrayBinaryTree.fromSorted(sortedKeys);
+        System.out.println("Inorder is sorted: " + eytzinger.inorder().equals(Arrays.asList(sortedKeys)));
+        System.out.println("binarySearch(2024): " + eytzinger.binarySearch(2024, Comparator.naturalOrder()) +
+            ", binarySearch(2025): " + eytzinger.binarySearch(2025, Comparator.naturalOrder()));
+        Random random = new Random(36);
+        int[] probes = new int[2_000_000];
+        for (int i = 0; i < probes.length; i++) {
+            probes[i] = random.nextInt(sortedKeys.length * 2);
+        }
+        int hits = 0;
+        start = System.nanoTime();
+        for (int probe : probes) {
+            if (eytzinger.binarySearch(probe, Comparator.naturalOrder())) hits++;
+        }
+        long eytzingerMs = (System.nanoTime() - start) / 1_000_000;
+        start = System.nanoTime();
+        for (int probe : probes) {
+            if (Arrays.binarySearch(sortedKeys, probe) >= 0) hits++;
+        }
+        long sortedMs = (System.nanoTime() - start) / 1_000_000;
+        System.out.println(probes.length + " searches: Eytzinger " + eytzingerMs + " ms, sorted array " +
+            sortedMs + " ms (hits " + hits + ")");
     }
 }
@@ -0,0 +1,673 @@
+package org.algorithm_datastructure;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicMarkableReference;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BiConsumer;
+
+/**
+ * Lock-Free Concurrent Skip List Map Implementation
+ *
+ * An ordered map that many threads can read and write at the same time
+ * without locks. Each node is linked into a random number of levels; level 0
+ * holds every key in order and higher levels act as express lanes.
+ *
+ * Concurrency scheme (Herlihy-Shavit lock-free skip list):
+ * - Every next pointer carries a "marked" bit (AtomicMarkableReference)
+ * - A key is logically deleted by CASing its value to null, then its next
+ *   pointers are marked top-down; traversals in find() snip marked nodes
+ * - A put that meets a logically deleted node helps mark it before retrying,
+ *   so a stalled remover never blocks writers of the same key
+ * - Inserts CAS the node into level 0 first (linearization point), then link
+ *   the upper levels, which only affect search speed
+ * - Reads never write and never retry: they walk past marked nodes and
+ *   nodes whose value is already null, and read each value exactly once
+ * - Iteration and range scans walk level 0 and are weakly consistent: they
+ *   never throw, see each key at most once, and reflect some updates made
+ *   after the scan started
+ *
+ * Operations:
+ * - get(key): Lookup, wait-free - O(log n) expected
+ * - put(key, value): Insert or replace, lock-free - O(log n) expected
+ * - remove(key): Delete, lock-free - O(log n) expected
+ * - ceilingEntry(key) / floorEntry(key): Nearest live keys, wait-free - O(log n) expected
+ * - range(from, to): Weakly consistent iterator over [from, to)
+ *
+ * Time Complexity: O(log n) expected per operation
+ * Space Complexity: O(n) expected (2 links per key on average)
+ *
+ * Applications:
+ * - Shared in-memory ordered indexes (order books, schedulers, caches)
+ * - Time-ordered event queues with concurrent producers
+ * - Memtables in log-structured storage engines
+ */
+public class concurrent_skip_list {
+
+    /**
+     * Node class with one markable next pointer per level
+     */
+    static final class Node<K, V> {
+        final K key;
+        volatile V value;  // null once logically deleted
+        final AtomicMarkableReference<Node<K, V>>[] next;
+
+        @SuppressWarnings("unchecked")
+        Node(K key, V value, int levels) {
+            this.key = key;
+            this.value = value;
+            this.next = (AtomicMarkableReference<Node<K, V>>[]) new AtomicMarkableReference<?>[levels];
+        }
+
+        int levels() {
+            return next.length;
+        }
+    }
+
+    /**
+     * ConcurrentSkipList class implements the lock-free ordered map
+     */
+    static class ConcurrentSkipList<K extends Comparable<? super K>, V> {
+        static final int MAX_LEVEL = 32;
+
+        @SuppressWarnings("rawtypes")
+        private static final AtomicReferenceFieldUpdater<Node, Object> VALUE =
+            AtomicReferenceFieldUpdater.newUpdater(Node.class, Object.class, "value");
+
+        private final Node<K, V> head;
+        private final LongAdder size = new LongAdder();
+        // Highest level any node has used; descents start here instead of MAX_LEVEL
+        private final AtomicInteger levelHint = new AtomicInteger(1);
+
+        /**
+         * Constructor - creates empty map
+         */
+        public ConcurrentSkipList() {
+            head = new Node<>(null, null, MAX_LEVEL);
+            for (int level = 0; level < MAX_LEVEL; level++) {
+                head.next[level] = new AtomicMarkableReference<>(null, false);
+            }
+        }
+
+        /**
+         * Geometric level with p = 1/2, drawn from a per-thread generator
+         */
+        private static int randomLevel() {
+            int bits = ThreadLocalRandom.current().nextInt();
+            return Math.min(MAX_LEVEL, Integer.numberOfTrailingZeros(bits) + 1);
+        }
+
+        private static void requireKey(Object key) {
+            if (key == null) {
+                throw new IllegalArgumentException("Key must not be null");
+            }
+        }
+
+        /**
+         * Locates preds/succs around key on every level, unlinking marked nodes
+         * on the way. Restarts if a snip CAS loses a race.
+         * @return true if an unmarked node with key is linked at level 0
+         */
+        private boolean find(K key, Node<K, V>[] preds, Node<K, V>[] succs) {
+            boolean[] marked = {false};
+            retry:
+            while (true) {
+                Node<K, V> pred = head;
+                Node<K, V> curr = null;
+                for (int level = levelHint.get() - 1; level >= 0; level--) {
+                    curr = pred.next[level].getReference();
+                    while (curr != null) {
+                        Node<K, V> succ = curr.next[level].get(marked);
+                        while (marked[0]) {
+                            if (!pred.next[level].compareAndSet(curr, succ, false, false)) {
+                                continue retry;
+                            }
+                            curr = succ;
+                            if (curr == null) {
+                                break;
+                            }
+                            succ = curr.next[level].get(marked);
+                        }
+                        if (curr == null || curr.key.compareTo(key) >= 0) {
+                            break;
+                        }
+                        pred = curr;
+                        curr = succ;
+                    }
+                    preds[level] = pred;
+                    succs[level] = curr;
+                }
+                return curr != null && curr.key.compareTo(key) == 0;
+            }
+        }
+
+        /**
+         * Returns the last node on level 0 with key < bound, skipping marked
+         * nodes without modifying the list
+         */
+        private Node<K, V> predecessor(K bound) {
+            boolean[] marked = {false};
+            Node<K, V> pred = head;
+            for (int level = levelHint.get() - 1; level >= 0; level--) {
+                Node<K, V> curr = pred.next[level].getReference();
+                while (curr != null) {
+                    Node<K, V> succ = curr.next[level].get(marked);
+                    if (marked[0]) {
+                        curr = succ;
+                        continue;
+                    }
+                    if (curr.key.compareTo(bound) >= 0) {
+                        break;
+                    }
+                    pred = curr;
+                    curr = succ;
+                }
+            }
+            return pred;
+        }
+
+        /**
+         * Looks up the value for key without locking or writing
+         * Time Complexity: O(log n) expected
+         * @param key Key to look up
+         * @return Value, or null if absent
+         */
+        public V get(K key) {
+            requireKey(key);
+            Node<K, V> pred = predecessor(key);
+            Node<K, V> curr = nextLive(pred);
+            return curr != null && curr.key.compareTo(key) == 0 ? curr.value : null;
+        }
+
+        /**
+         * Checks if key is present
+         * Time Complexity: O(log n) expected
+         * @param key Key to look up
+         * @return true if present
+         */
+        public boolean containsKey(K key) {
+            return get(key) != null;
+        }
+
+        /**
+         * Inserts or replaces the value for key
+         * Time Complexity: O(log n) expected
+         * @param key Key (non-null)
+         * @param value Value (non-null)
+         * @return Previous value, or null if key was absent
+         */
+        @SuppressWarnings("unchecked")
+        public V put(K key, V value) {
+            requireKey(key);
+            if (value == null) {
+                throw new IllegalArgumentException("Value must not be null");
+            }
+            Node<K, V>[] preds = (Node<K, V>[]) new Node<?, ?>[MAX_LEVEL];
+            Node<K, V>[] succs = (Node<K, V>[]) new Node<?, ?>[MAX_LEVEL];
+            int levels = randomLevel();
+            // Raise the hint before searching so find() fills every level we link
+            if (levels > levelHint.get()) {
+                levelHint.accumulateAndGet(levels, Math::max);
+            }
+
+            while (true) {
+                if (find(key, preds, succs)) {
+                    Node<K, V> existing = succs[0];
+                    V old = existing.value;
+                    if (old != null) {
+                        if (VALUE.compareAndSet(existing, old, value)) {
+                            return old;
+                        }
+                        continue;  // lost to another put or a remove
+                    }
+                    // Node is being removed: help mark and unlink it, then insert
+                    markAll(existing);
+                    continue;
+                }
+
+                Node<K, V> node = new Node<>(key, value, levels);
+                for (int level = 0; level < levels; level++) {
+                    node.next[level] = new AtomicMarkableReference<>(succs[level], false);
+                }
+                if (!preds[0].next[0].compareAndSet(succs[0], node, false, false)) {
+                    continue;
+                }
+                size.increment();
+
+                // Upper levels are search shortcuts; stop if node gets removed
+                for (int level = 1; level < levels; level++) {
+                    while (!preds[level].next[level].compareAndSet(succs[level], node, false, false)) {
+                        find(key, preds, succs);
+                        if (succs[0] != node) {
+                            return null;
+                        }
+                        Node<K, V> stale = node.next[level].getReference();
+                        if (!node.next[level].compareAndSet(stale, succs[level], false, false)) {
+                            return null;
+                        }
+                    }
+                }
+                return null;
+            }
+        }
+
+        /**
+         * Removes key
+         * Time Complexity: O(log n) expected
+         * @param key Key to remove
+         * @return Removed value, or null if absent
+         */
+        @SuppressWarnings("unchecked")
+        public V remove(K key) {
+            requireKey(key);
+            Node<K, V>[] preds = (Node<K, V>[]) new Node<?, ?>[MAX_LEVEL];
+            Node<K, V>[] succs = (Node<K, V>[]) new Node<?, ?>[MAX_LEVEL];
+
+            while (true) {
+                if (!find(key, preds, succs)) {
+                    return null;
+                }
+                Node<K, V> victim = succs[0];
+                V old = victim.value;
+                if (old == null) {
+                    return null;  // another thread already claimed the delete
+                }
+                if (!VALUE.compareAndSet(victim, old, null)) {
+                    continue;
+                }
+
+                markAll(victim);
+                size.decrement();
+                find(key, preds, succs);  // physically unlink
+                return old;
+            }
+        }
+
+        /**
+         * Marks every next pointer of a logically deleted node, top-down so no
+         * insert can link after it on any level; idempotent, so puts that meet
+         * the node can finish a stalled remove instead of waiting for it
+         */
+        private static <K, V> void markAll(Node<K, V> victim) {
+            boolean[] marked = {false};
+            for (int level = victim.levels() - 1; level >= 0; level--) {
+                Node<K, V> succ = victim.next[level].get(marked);
+                while (!marked[0]) {
+                    victim.next[level].compareAndSet(succ, succ, false, true);
+                    succ = victim.next[level].get(marked);
+                }
+            }
+        }
+
+        /**
+         * First node at or after start on level 0 that is not deleted
+         */
+        private Node<K, V> nextLive(Node<K, V> start) {
+            Node<K, V> curr = start.next[0].getReference();
+            while (curr != null && (curr.value == null || curr.next[0].isMarked())) {
+                curr = curr.next[0].getReference();
+            }
+            return curr;
+        }
+
+        private static <K, V> Map.Entry<K, V> snapshot(Node<K, V> node) {
+            if (node == null) {
+                return null;
+            }
+            V value = node.value;
+            return value == null ? null : new AbstractMap.SimpleImmutableEntry<>(node.key, value);
+        }
+
+        /**
+         * Returns the entry with the smallest key >= key
+         * Time Complexity: O(log n) expected
+         * @param key Lower bound (inclusive)
+         * @return Entry snapshot, or null if none
+         */
+        public Map.Entry<K, V> ceilingEntry(K key) {
+            requireKey(key);
+            // Read each value once, so a concurrent delete makes us move on, not retry
+            Node<K, V> curr = predecessor(key).next[0].getReference();
+            while (curr != null) {
+                V value = curr.value;
+                if (value != null) {
+                    return new AbstractMap.SimpleImmutableEntry<>(curr.key, value);
+                }
+                curr = curr.next[0].getReference();
+            }
+            return null;
+        }
+
+        /**
+         * Returns the entry with the largest key <= key
+         * Time Complexity: O(log n) expected
+         * @param key Upper bound (inclusive)
+         * @return Entry snapshot, or null if none
+         */
+        public Map.Entry<K, V> floorEntry(K key) {
+            requireKey(key);
+            // Same descent as predecessor() with an inclusive bound, but nodes are only adopted
+            // together with a non-null value read, so deleted nodes are walked past
+            boolean[] marked = {false};
+            Node<K, V> pred = head;
+            V predValue = null;
+            for (int level = levelHint.get() - 1; level >= 0; level--) {
+                Node<K, V> curr = pred.next[level].getReference();
+                while (curr != null) {
+                    Node<K, V> succ = curr.next[level].get(marked);
+                    if (curr.key.compareTo(key) > 0) {
+                        break;
+                    }
+                    V value = curr.value;
+                    if (!marked[0] && value != null) {
+                        pred = curr;
+                        predValue = value;
+                    }
+                    curr = succ;
+                }
+            }
+            return pred == head ? null : new AbstractMap.SimpleImmutableEntry<>(pred.key, predValue);
+        }
+
+        /**
+         * Returns the smallest key >= key
+         * @param key Lower bound (inclusive)
+         * @return Key, or null if none
+         */
+        public K ceilingKey(K key) {
+            Map.Entry<K, V> entry = ceilingEntry(key);
+            return entry == null ? null : entry.getKey();
+        }
+
+        /**
+         * Returns the largest key <= key
+         * @param key Upper bound (inclusive)
+         * @return Key, or null if none
+         */
+        public K floorKey(K key) {
+            Map.Entry<K, V> entry = floorEntry(key);
+            return entry == null ? null : entry.getKey();
+        }
+
+        /**
+         * Returns the smallest key
+         * Time Complexity: O(1) expected
+         * @return Smallest key
+         */
+        public K firstKey() {
+            Node<K, V> node = nextLive(head);
+            if (node == null) {
+                throw new NoSuchElementException("Map is empty");
+            }
+            return node.key;
+        }
+
+        /**
+         * Returns a weakly consistent iterator over entries with
+         * from <= key < to in ascending order
+         * Time Complexity: O(log n) to position, O(1) amortized per entry
+         * @param from Inclusive lower bound
+         * @param to Exclusive upper bound
+         * @return Iterator of entry snapshots
+         */
+        public Iterator<Map.Entry<K, V>> range(K from, K to) {
+            requireKey(from);
+            requireKey(to);
+            Node<K, V> start = predecessor(from);
+            return new Iterator<>() {
+                private Node<K, V> cursor = start;
+                private Map.Entry<K, V> nextEntry = advance();
+
+                private Map.Entry<K, V> advance() {
+                    while (true) {
+                        Node<K, V> node = nextLive(cursor);
+                        if (node == null || node.key.compareTo(to) >= 0) {
+                            return null;
+                        }
+                        cursor = node;
+                        if (node.key.compareTo(from) < 0) {
+                            continue;  // inserted between predecessor(from) and from after positioning
+                        }
+                        Map.Entry<K, V> entry = snapshot(node);
+                        if (entry != null) {
+                            return entry;
+                        }
+                    }
+                }
+
+                @Override
+                public boolean hasNext() {
+                    return nextEntry != null;
+                }
+
+                @Override
+                public Map.Entry<K, V> next() {
+                    if (nextEntry == null) {
+                        throw new NoSuchElementException();
+                    }
+                    Map.Entry<K, V> result = nextEntry;
+                    nextEntry = advance();
+                    return result;
+                }
+            };
+        }
+
+        /**
+         * Visits every live entry in ascending key order (weakly consistent)
+         * Time Complexity: O(n)
+         * @param action Callback receiving key and value
+         */
+        public void forEach(BiConsumer<? super K, ? super V> action) {
+            for (Node<K, V> node = nextLive(head); node != null; node = nextLive(node)) {
+                V value = node.value;
+                if (value != null) {
+                    action.accept(node.key, value);
+                }
+            }
+        }
+
+        /**
+         * Returns the number of keys; exact only when no update is in flight
+         * Time Complexity: O(number of threads)
+         * @return Number of keys
+         */
+        public int size() {
+            return (int) size.sum();
+        }
+
+        /**
+         * Checks if map is empty
+         * @return true if empty, false otherwise
+         */
+        public boolean isEmpty() {
+            return nextLive(head) == null;
+        }
+    }
+
+    /**
+     * Runs a mixed get/put/remove/range workload on a map and returns ops/sec
+     */
+    private static long runMixedWorkload(int threadCount, int opsPerThread, int keySpace,
+                                         KeyOps ops) throws InterruptedException {
+        List<Thread> threads = new ArrayList<>();
+        for (int t = 0; t < threadCount; t++) {
+            threads.add(new Thread(() -> {
+                ThreadLocalRandom random = ThreadLocalRandom.current();
+                for (int i = 0; i < opsPerThread; i++) {
+                    int key = random.nextInt(keySpace);
+                    int dice = random.nextInt(100);
+                    if (dice < 70) {
+                        ops.get(key);
+                    } else if (dice < 80) {
+                        ops.put(key);
+                    } else if (dice < 90) {
+                        ops.remove(key);
+                    } else {
+                        ops.range(key, key + 100);
+                    }
+                }
+            }));
+        }
+        long start = System.nanoTime();
+        for (Thread thread : threads) {
+            thread.start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        long elapsed = System.nanoTime() - start;
+        return (long) threadCount * opsPerThread * 1_000_000_000L / Math.max(1, elapsed);
+    }
+
+    /**
+     * Workload adapter so both maps run the same benchmark code
+     */
+    interface KeyOps {
+        void get(int key);
+        void put(int key);
+        void remove(int key);
+        void range(int from, int to);
+    }
+
+    public static void main(String[] args) throws InterruptedException {
+        System.out.println("Concurrent Skip List Map Demo\n");
+
+        // Test 1: Basic operations
+        System.out.println("Test 1: Basic Operations");
+        ConcurrentSkipList<Integer, String> map = new ConcurrentSkipList<>();
+        int[] keys = {50, 30, 70, 20, 40, 60, 80};
+        for (int key : keys) {
+            map.put(key, "v" + key);
+        }
+        System.out.println("Inserted: " + Arrays.toString(keys));
+        System.out.println("Size: " + map.size() + ", first key: " + map.firstKey());
+        System.out.println("get(40): " + map.get(40) + ", get(45): " + map.get(45));
+        System.out.println("put(40, updated) returned: " + map.put(40, "updated"));
+        System.out.println("remove(70): " + map.remove(70) + ", remove(70) again: " + map.remove(70));
+        StringBuilder all = new StringBuilder();
+        map.forEach((k, v) -> all.append(k).append("=").append(v).append(" "));
+        System.out.println("Entries: " + all.toString().trim());
+        System.out.println();
+
+        // Test 2: Ceiling, floor and range
+        System.out.println("Test 2: Ceiling, Floor and Range");
+        System.out.println("ceilingKey(45): " + map.ceilingKey(45) + ", ceilingKey(90): " + map.ceilingKey(90));
+        System.out.println("floorKey(45): " + map.floorKey(45) + ", floorKey(50): " + map.floorKey(50) +
+            ", floorKey(70): " + map.floorKey(70) + ", floorKey(10): " + map.floorKey(10));
+        StringBuilder ranged = new StringBuilder();
+        Iterator<Map.Entry<Integer, String>> it = map.range(30, 61);
+        while (it.hasNext()) {
+            ranged.append(it.next().getKey()).append(" ");
+        }
+        System.out.println("range [30, 61): " + ranged.toString().trim());
+        System.out.println();
+
+        // Test 3: Concurrent correctness. Each thread owns keys with
+        // key % threads == t, mirrors its ops in a private TreeMap, and the
+        // union of those maps must equal the final skip list.
+        System.out.println("Test 3: Concurrent Correctness (4 writers, 2 range readers)");
+        ConcurrentSkipList<Integer, Integer> shared = new ConcurrentSkipList<>();
+        int writers = 4;
+        int keySpace = 20_000;
+        List<TreeMap<Integer, Integer>> mirrors = new ArrayList<>();
+        List<Thread> threads = new ArrayList<>();
+        for (int t = 0; t < writers; t++) {
+            TreeMap<Integer, Integer> mirror = new TreeMap<>();
+            mirrors.add(mirror);
+            final int owner = t;
+            threads.add(new Thread(() -> {
+                Random random = new Random(owner);
+                for (int i = 0; i < 100_000; i++) {
+                    int key = random.nextInt(keySpace / writers) * writers + owner;
+                    if (random.nextInt(3) == 0) {
+                        shared.remove(key);
+                        mirror.remove(key);
+                    } else {
+                        shared.put(key, i);
+                        mirror.put(key, i);
+                    }
+                }
+            }));
+        }
+        int[] orderViolations = {0};
+        for (int t = 0; t < 2; t++) {
+            threads.add(new Thread(() -> {
+                Random random = new Random();
+                for (int i = 0; i < 2_000; i++) {
+                    int from = random.nextInt(keySpace);
+                    Iterator<Map.Entry<Integer, Integer>> scan = shared.range(from, from + 500);
+                    int previous = Integer.MIN_VALUE;
+                    while (scan.hasNext()) {
+                        int key = scan.next().getKey();
+                        if (key <= previous || key < from || key >= from + 500) {
+                            synchronized (orderViolations) {
+                                orderViolations[0]++;
+                            }
+                        }
+                        previous = key;
+                    }
+                }
+            }));
+        }
+        for (Thread thread : threads) {
+            thread.start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        TreeMap<Integer, Integer> expected = new TreeMap<>();
+        mirrors.forEach(expected::putAll);
+        TreeMap<Integer, Integer> actual = new TreeMap<>();
+        shared.forEach(actual::put);
+        System.out.println("Matches per-thread mirrors: " + expected.equals(actual) +
+            ", size(): " + shared.size() + ", expected: " + expected.size() +
+            ", range order violations: " + orderViolations[0]);
+        System.out.println();
+
+        // Test 4: Mixed workload vs ConcurrentSkipListMap
+        int threadCount = 4;
+        int opsPerThread = 500_000;
+        int benchKeys = 200_000;
+        System.out.println("Test 4: Mixed Workload vs ConcurrentSkipListMap (" + threadCount +
+            " threads, 70% get / 10% put / 10% remove / 10% range of 100)");
+        ConcurrentSkipList<Integer, Integer> lockFree = new ConcurrentSkipList<>();
+        ConcurrentSkipListMap<Integer, Integer> jdk = new ConcurrentSkipListMap<>();
+        for (int key = 0; key < benchKeys; key += 2) {
+            lockFree.put(key, key);
+            jdk.put(key, key);
+        }
+        long[] sink = {0};
+        KeyOps lockFreeOps = new KeyOps() {
+            public void get(int key) { lockFree.get(key); }
+            public void put(int key) { lockFree.put(key, key); }
+            public void remove(int key) { lockFree.remove(key); }
+            public void range(int from, int to) {
+                Iterator<Map.Entry<Integer, Integer>> scan = lockFree.range(from, to);
+                while (scan.hasNext()) {
+                    scan.next();
+                }
+            }
+        };
+        KeyOps jdkOps = new KeyOps() {
+            public void get(int key) { jdk.get(key); }
+            public void put(int key) { jdk.put(key, key); }
+            public void remove(int key) { jdk.remove(key); }
+            public void range(int from, int to) {
+                for (Map.Entry<Integer, Integer> entry : jdk.subMap(from, to).entrySet()) {
+                    sink[0] += entry.getKey();
+                }
+            }
+        };
+        // Warm up both before measuring
+        runMixedWorkload(threadCount, opsPerThread / 5, benchKeys, lockFreeOps);
+        runMixedWorkload(threadCount, opsPerThread / 5, benchKeys, jdkOps);
+        long lockFreeThroughput = runMixedWorkload(threadCount, opsPerThread, benchKeys, lockFreeOps);
+        long jdkThroughput = runMixedWorkload(threadCount, opsPerThread, benchKeys, jdkOps);
+        System.out.println("ConcurrentSkipList:    " + lockFreeThroughput + " ops/sec");
+        System.out.println("ConcurrentSkipListMap: " + jdkThroughput + " ops/sec");
+        System.out.println("Processors: " + Runtime.getRuntime().availableProcessors());
+    }
+}
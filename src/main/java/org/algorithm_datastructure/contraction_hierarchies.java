@@ -0,0 +1,660 @@
+package org.algorithm_datastructure;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+
+/**
+ * Contraction Hierarchies Implementation
+ *
+ * Speed-up technique for shortest path queries on road networks. Vertices
+ * are contracted one at a time in order of "importance". Contracting v removes
+ * it from the remaining graph. For every pair u -> v -> x whose path through v
+ * is the only shortest one (no witness path avoids v), a shortcut u -> x is
+ * added that remembers v as its middle vertex.
+ *
+ * Every edge then goes "up" from a vertex to one contracted later, and any
+ * shortest path can be written as an up-path from s meeting a down-path into t.
+ * A query is a bidirectional Dijkstra that only follows upward edges (forward
+ * from s, backward from t), so it settles a few hundred vertices instead of a
+ * large fraction of the graph. Shortcuts are expanded recursively through
+ * their middle vertices to return the original route.
+ *
+ * Node ordering: lazy priority queue keyed by
+ *   4 * edge difference (shortcuts added - edges removed) + 2 * contracted neighbors + level.
+ * Contracting a vertex only changes its neighbors' priorities, so just those
+ * are marked dirty and re-evaluated when they reach the top of the queue.
+ * Witness searches are local Dijkstras bounded by distance, hop count
+ * (SIMULATE_HOP_LIMIT for priorities, CONTRACT_HOP_LIMIT for the real
+ * contraction) and WITNESS_SETTLE_LIMIT settled vertices. They may add a few
+ * unnecessary shortcuts but never lose a shortest path. Adjacency lists are
+ * kept sorted by neighbor and shrink as vertices are contracted.
+ *
+ * Operations:
+ * - build(graph): Ordering and shortcut insertion - about 0.1 ms per vertex on grids
+ * - query(s, t): Bidirectional upward search with path unpacking - microseconds
+ * - distance(s, t): Query without unpacking
+ * - write(path) / read(path): Binary serialization of the hierarchy
+ *
+ * Time Complexity: Query O(k log k) for the k vertices in the search spaces (k << V)
+ * Space Complexity: O(V + E + shortcuts), about 2.4x the original edges on grids
+ *
+ * Applications:
+ * - Routing APIs and navigation engines (OSRM, GraphHopper)
+ * - Travel-time matrices for logistics
+ * - Map matching and traffic simulation
+ */
+public class contraction_hierarchies {
+
+    static final long INFINITY = shortest_path_engine.INFINITY;
+    private static final int MAGIC = 0x43483032;  // "CH02": 64-bit weights
+    private static final int WITNESS_SETTLE_LIMIT = 500;
+    private static final int SIMULATE_HOP_LIMIT = 3;   // cheap estimate for priorities
+    private static final int CONTRACT_HOP_LIMIT = 5;   // fewer superfluous shortcuts when it counts
+
+    /**
+     * EdgeList class is a growable list of (neighbor, weight, middle) kept
+     * sorted by neighbor, used while contracting
+     */
+    private static final class EdgeList {
+        int[] to = new int[4];
+        long[] weight = new long[4];  // shortcuts can exceed int range
+        int[] middle = new int[4];
+        int size;
+
+        /**
+         * Binary search for vertex
+         * @return Index, or -(insertion point) - 1 if absent
+         */
+        int indexOf(int vertex) {
+            return Arrays.binarySearch(to, 0, size, vertex);
+        }
+
+        /**
+         * Adds the edge or lowers the weight of an existing one
+         * @return true if the list changed
+         */
+        boolean addOrImprove(int vertex, long w, int mid) {
+            int index = indexOf(vertex);
+            if (index >= 0) {
+                if (w >= weight[index]) return false;
+                weight[index] = w;
+                middle[index] = mid;
+                return true;
+            }
+            index = -index - 1;
+            if (size == to.length) {
+                to = Arrays.copyOf(to, size * 2);
+                weight = Arrays.copyOf(weight, size * 2);
+                middle = Arrays.copyOf(middle, size * 2);
+            }
+            System.arraycopy(to, index, to, index + 1, size - index);
+            System.arraycopy(weight, index, weight, index + 1, size - index);
+            System.arraycopy(middle, index, middle, index + 1, size - index);
+            to[index] = vertex;
+            weight[index] = w;
+            middle[index] = mid;
+            size++;
+            return true;
+        }
+
+        void remove(int vertex) {
+            int index = indexOf(vertex);
+            if (index < 0) return;
+            System.arraycopy(to, index + 1, to, index, size - index - 1);
+            System.arraycopy(weight, index + 1, weight, index, size - index - 1);
+            System.arraycopy(middle, index + 1, middle, index, size - index - 1);
+            size--;
+        }
+    }
+
+    /**
+     * UpwardGraph class is one direction of the hierarchy in CSR form: for
+     * every vertex, its edges to higher-ranked vertices with weights and
+     * shortcut middles (-1 for original edges)
+     */
+    static final class UpwardGraph {
+        final int[] offsets;
+        final int[] targets;
+        final long[] weights;
+        final int[] middles;
+
+        UpwardGraph(int[] offsets, int[] targets, long[] weights, int[] middles) {
+            this.offsets = offsets;
+            this.targets = targets;
+            this.weights = weights;
+            this.middles = middles;
+        }
+
+        static UpwardGraph fromLists(EdgeList[] lists) {
+            int n = lists.length;
+            int[] offsets = new int[n + 1];
+            for (int v = 0; v < n; v++) {
+                offsets[v + 1] = offsets[v] + lists[v].size;
+            }
+            int[] targets = new int[offsets[n]];
+            long[] weights = new long[offsets[n]];
+            int[] middles = new int[offsets[n]];
+            for (int v = 0; v < n; v++) {
+                System.arraycopy(lists[v].to, 0, targets, offsets[v], lists[v].size);
+                System.arraycopy(lists[v].weight, 0, weights, offsets[v], lists[v].size);
+                System.arraycopy(lists[v].middle, 0, middles, offsets[v], lists[v].size);
+            }
+            return new UpwardGraph(offsets, targets, weights, middles);
+        }
+
+        int find(int from, int to) {
+            int e = Arrays.binarySearch(targets, offsets[from], offsets[from + 1], to);
+            if (e < 0) {
+                throw new IllegalStateException("Missing hierarchy edge " + from + " -> " + to);
+            }
+            return e;
+        }
+
+        void write(DataOutputStream out) throws IOException {
+            out.writeInt(targets.length);
+            for (int value : offsets) out.writeInt(value);
+            for (int e = 0; e < targets.length; e++) {
+                out.writeInt(targets[e]);
+                out.writeLong(weights[e]);
+                out.writeInt(middles[e]);
+            }
+        }
+
+        static UpwardGraph read(DataInputStream in, int vertexCount) throws IOException {
+            int edges = in.readInt();
+            int[] offsets = new int[vertexCount + 1];
+            for (int v = 0; v <= vertexCount; v++) offsets[v] = in.readInt();
+            int[] targets = new int[edges];
+            long[] weights = new long[edges];
+            int[] middles = new int[edges];
+            for (int e = 0; e < edges; e++) {
+                targets[e] = in.readInt();
+                weights[e] = in.readLong();
+                middles[e] = in.readInt();
+            }
+            return new UpwardGraph(offsets, targets, weights, middles);
+        }
+    }
+
+    /**
+     * ContractionHierarchy class is the preprocessed graph plus the query
+     * algorithm; immutable and safe to share between threads
+     */
+    static final class ContractionHierarchy {
+        final int vertexCount;
+        final int[] rank;          // contraction order of every vertex
+        final UpwardGraph forward;  // u -> x with rank[u] < rank[x], stored at u
+        final UpwardGraph backward; // u -> x with rank[u] > rank[x], stored at x as x <- u
+        private final ThreadLocal<shortest_path_engine.SearchState[]> states;
+        private final ThreadLocal<int[]> settled = ThreadLocal.withInitial(() -> new int[1]);
+
+        ContractionHierarchy(int vertexCount, int[] rank, UpwardGraph forward, UpwardGraph backward) {
+            this.vertexCount = vertexCount;
+            this.rank = rank;
+            this.forward = forward;
+            this.backward = backward;
+            this.states = ThreadLocal.withInitial(() -> new shortest_path_engine.SearchState[]{
+                new shortest_path_engine.SearchState(vertexCount),
+                new shortest_path_engine.SearchState(vertexCount)});
+        }
+
+        /**
+         * Contracts every vertex of a weighted graph
+         * Time Complexity: roughly O(V * witness search cost); about 2.6 s for a 150 x 150 grid
+         * @param graph Graph with non-negative weights (unweighted edges weigh 1)
+         * @return Hierarchy ready for queries
+         */
+        public static ContractionHierarchy build(csr_graph.CsrGraph graph) {
+            return new Builder(graph).build();
+        }
+
+        /**
+         * Number of edges in the hierarchy, shortcuts included
+         * @return Forward plus backward upward edges
+         */
+        public int edgeCount() {
+            return forward.targets.length + backward.targets.length;
+        }
+
+        /**
+         * Runs the bidirectional upward search
+         * @return Meeting vertex, or -1 if t is unreachable from s
+         */
+        private int search(int source, int target) {
+            if (source < 0 || source >= vertexCount || target < 0 || target >= vertexCount) {
+                throw new IndexOutOfBoundsException("Invalid vertex: " + (source < 0 || source >= vertexCount ? source : target));
+            }
+            shortest_path_engine.SearchState[] pair = states.get();
+            shortest_path_engine.SearchState up = pair[0];
+            shortest_path_engine.SearchState down = pair[1];
+            up.reset();
+            down.reset();
+            up.relax(source, 0, -1);
+            down.relax(target, 0, -1);
+            long best = INFINITY;
+            int meet = -1;
+            boolean turn = true;
+            while (true) {
+                boolean upActive = !up.isEmpty() && up.minKey() < best;
+                boolean downActive = !down.isEmpty() && down.minKey() < best;
+                if (!upActive && !downActive) break;
+                boolean isUp = upActive && (turn || !downActive);
+                turn = !turn;
+                shortest_path_engine.SearchState side = isUp ? up : down;
+                shortest_path_engine.SearchState other = isUp ? down : up;
+                UpwardGraph edges = isUp ? forward : backward;
+
+                int u = side.poll();
+                long base = side.distance(u);
+                if (other.reached(u) && base + other.distance(u) < best) {
+                    best = base + other.distance(u);
+                    meet = u;
+                }
+                for (int e = edges.offsets[u]; e < edges.offsets[u + 1]; e++) {
+                    side.relax(edges.targets[e], base + edges.weights[e], u);
+                }
+            }
+            settled.get()[0] = up.settledCount() + down.settledCount();
+            return meet;
+        }
+
+        /**
+         * Shortest distance without path unpacking
+         * Time Complexity: O(k log k) for the upward search spaces
+         * @param source Start vertex
+         * @param target End vertex
+         * @return Distance, or INFINITY if unreachable
+         */
+        public long distance(int source, int target) {
+            int meet = search(source, target);
+            shortest_path_engine.SearchState[] pair = states.get();
+            return meet < 0 ? INFINITY : pair[0].distance(meet) + pair[1].distance(meet);
+        }
+
+        /**
+         * Shortest distance and the unpacked route in original vertices
+         * Time Complexity: O(k log k + path length)
+         * @param source Start vertex
+         * @param target End vertex
+         * @return Result with distance and path (No path exists if unreachable)
+         */
+        public dijkstra_shortest_path.ShortestPathResult query(int source, int target) {
+            int meet = search(source, target);
+            if (meet < 0) {
+                return new dijkstra_shortest_path.ShortestPathResult(INFINITY, new ArrayList<>());
+            }
+            shortest_path_engine.SearchState[] pair = states.get();
+            long distance = pair[0].distance(meet) + pair[1].distance(meet);
+            List<Integer> hierarchyPath = pair[0].pathTo(meet);
+            for (int v = pair[1].parent(meet); v != -1; v = pair[1].parent(v)) {
+                hierarchyPath.add(v);
+            }
+            List<Integer> path = new ArrayList<>();
+            path.add(source);
+            for (int i = 0; i + 1 < hierarchyPath.size(); i++) {
+                unpack(hierarchyPath.get(i), hierarchyPath.get(i + 1), path);
+            }
+            return new dijkstra_shortest_path.ShortestPathResult(distance, path);
+        }
+
+        /**
+         * Appends the original vertices of edge from -> to (excluding from)
+         */
+        private void unpack(int from, int to, List<Integer> path) {
+            Deque<int[]> stack = new ArrayDeque<>();
+            stack.push(new int[]{from, to});
+            while (!stack.isEmpty()) {
+                int[] edge = stack.pop();
+                int middle = middleOf(edge[0], edge[1]);
+                if (middle < 0) {
+                    path.add(edge[1]);
+                } else {
+                    // Second half goes on the stack first so the first half is expanded first
+                    stack.push(new int[]{middle, edge[1]});
+                    stack.push(new int[]{edge[0], middle});
+                }
+            }
+        }
+
+        private int middleOf(int from, int to) {
+            if (rank[from] < rank[to]) {
+                return forward.middles[forward.find(from, to)];
+            }
+            return backward.middles[backward.find(to, from)];
+        }
+
+        /**
+         * Vertices settled by the last query on this thread
+         * @return Settled count of both searches
+         */
+        public int lastSettledCount() {
+            return settled.get()[0];
+        }
+
+        /**
+         * Writes the hierarchy in a compact binary form
+         * @param path Destination file
+         * @throws IOException on I/O failure
+         */
+        public void write(Path path) throws IOException {
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(path)))) {
+                out.writeInt(MAGIC);
+                out.writeInt(vertexCount);
+                for (int value : rank) out.writeInt(value);
+                forward.write(out);
+                backward.write(out);
+            }
+        }
+
+        /**
+         * Reads a hierarchy written by write()
+         * @param path Source file
+         * @return Hierarchy ready for queries
+         * @throws IOException if the file is not a hierarchy or is truncated
+         */
+        public static ContractionHierarchy read(Path path) throws IOException {
+            try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(path)))) {
+                if (in.readInt() != MAGIC) {
+                    throw new IOException("Not a contraction hierarchy file: " + path);
+                }
+                int vertexCount = in.readInt();
+                int[] rank = new int[vertexCount];
+                for (int v = 0; v < vertexCount; v++) rank[v] = in.readInt();
+                UpwardGraph forward = UpwardGraph.read(in, vertexCount);
+                UpwardGraph backward = UpwardGraph.read(in, vertexCount);
+                return new ContractionHierarchy(vertexCount, rank, forward, backward);
+            }
+        }
+    }
+
+    /**
+     * Builder class holds the mutable overlay graph while vertices are contracted
+     */
+    private static final class Builder {
+        private final int n;
+        private final EdgeList[] out;         // edges to uncontracted vertices only
+        private final EdgeList[] in;
+        private final EdgeList[] upForward;
+        private final EdgeList[] upBackward;
+        private final boolean[] contracted;
+        private final int[] contractedNeighbors;
+        private final int[] level;
+        private final long[] priority;
+        private final shortest_path_engine.SearchState witness;
+        private final int[] hops;             // edges from the witness source, valid for reached vertices
+        private final int[] targetStamp;      // targetStamp[x] == stamp marks the out-neighbors of the vertex being contracted
+        private int stamp;
+
+        Builder(csr_graph.CsrGraph graph) {
+            this.n = graph.vertexCount();
+            this.out = new EdgeList[n];
+            this.in = new EdgeList[n];
+            this.upForward = new EdgeList[n];
+            this.upBackward = new EdgeList[n];
+            for (int v = 0; v < n; v++) {
+                out[v] = new EdgeList();
+                in[v] = new EdgeList();
+            }
+            for (int u = 0; u < n; u++) {
+                for (int e = graph.edgeStart(u); e < graph.edgeEnd(u); e++) {
+                    int v = graph.target(e);
+                    int w = graph.weight(e);
+                    if (w < 0) {
+                        throw new IllegalArgumentException("Negative edge weight: " + w);
+                    }
+                    if (u == v) continue;  // self loops never lie on a shortest path
+                    if (out[u].addOrImprove(v, w, -1)) {
+                        in[v].addOrImprove(u, w, -1);
+                    }
+                }
+            }
+            this.contracted = new boolean[n];
+            this.contractedNeighbors = new int[n];
+            this.level = new int[n];
+            this.priority = new long[n];
+            this.witness = new shortest_path_engine.SearchState(n);
+            this.hops = new int[n];
+            this.targetStamp = new int[n];
+        }
+
+        ContractionHierarchy build() {
+            // Lazy deletion: an entry is current only if it matches priority[v]
+            PriorityQueue<long[]> queue = new PriorityQueue<>((a, b) -> Long.compare(a[0], b[0]));
+            for (int v = 0; v < n; v++) {
+                priority[v] = priority(v);
+                queue.add(new long[]{priority[v], v});
+            }
+            boolean[] dirty = new boolean[n];
+            int[] rank = new int[n];
+            int order = 0;
+            while (!queue.isEmpty()) {
+                long[] entry = queue.poll();
+                int v = (int) entry[1];
+                if (contracted[v] || entry[0] != priority[v]) continue;
+                if (dirty[v]) {
+                    // A neighbor was contracted since v was last evaluated
+                    dirty[v] = false;
+                    priority[v] = priority(v);
+                    if (!queue.isEmpty() && priority[v] > queue.peek()[0]) {
+                        queue.add(new long[]{priority[v], v});
+                        continue;
+                    }
+                }
+                for (int i = 0; i < in[v].size; i++) dirty[in[v].to[i]] = true;
+                for (int i = 0; i < out[v].size; i++) dirty[out[v].to[i]] = true;
+                contract(v);
+                rank[v] = order++;
+            }
+            return new ContractionHierarchy(n, rank, UpwardGraph.fromLists(upForward), UpwardGraph.fromLists(upBackward));
+        }
+
+        private long priority(int v) {
+            int removed = in[v].size + out[v].size;
+            int shortcuts = shortcuts(v, false);
+            return 4L * (shortcuts - removed) + 2L * contractedNeighbors[v] + level[v];
+        }
+
+        private void contract(int v) {
+            shortcuts(v, true);
+            contracted[v] = true;
+            // Every remaining edge of v leads up the hierarchy
+            upForward[v] = out[v];
+            upBackward[v] = in[v];
+            for (int i = 0; i < out[v].size; i++) {
+                int x = out[v].to[i];
+                in[x].remove(v);
+                contractedNeighbors[x]++;
+                level[x] = Math.max(level[x], level[v] + 1);
+            }
+            for (int i = 0; i < in[v].size; i++) {
+                int u = in[v].to[i];
+                out[u].remove(v);
+                contractedNeighbors[u]++;
+                level[u] = Math.max(level[u], level[v] + 1);
+            }
+            out[v] = null;
+            in[v] = null;
+        }
+
+        /**
+         * Counts (and optionally inserts) the shortcuts needed to contract v
+         */
+        private int shortcuts(int v, boolean apply) {
+            int count = 0;
+            EdgeList incoming = in[v];
+            EdgeList outgoing = out[v];
+            if (outgoing.size == 0) return 0;
+            stamp++;
+            long maxOut = 0;
+            for (int j = 0; j < outgoing.size; j++) {
+                targetStamp[outgoing.to[j]] = stamp;
+                maxOut = Math.max(maxOut, outgoing.weight[j]);
+            }
+            for (int i = 0; i < incoming.size; i++) {
+                int u = incoming.to[i];
+                long w1 = incoming.weight[i];
+                // u itself counts as a settled target when it is also an out-neighbor
+                witnessSearch(u, v, w1 + maxOut, outgoing.size,
+                    apply ? CONTRACT_HOP_LIMIT : SIMULATE_HOP_LIMIT);
+                for (int j = 0; j < outgoing.size; j++) {
+                    int x = outgoing.to[j];
+                    if (x == u) continue;
+                    long through = w1 + outgoing.weight[j];
+                    if (witness.distance(x) <= through) continue;
+                    count++;
+                    if (apply) {
+                        if (out[u].addOrImprove(x, through, v)) {
+                            in[x].addOrImprove(u, through, v);
+                        }
+                    }
+                }
+            }
+            return count;
+        }
+
+        /**
+         * Local Dijkstra from u in the remaining graph avoiding v, bounded by
+         * distance, hops and settled vertices; stops once all targets are settled
+         */
+        private void witnessSearch(int u, int avoid, long bound, int targets, int hopLimit) {
+            witness.reset();
+            witness.relax(u, 0, -1);
+            hops[u] = 0;
+            while (!witness.isEmpty() && witness.minKey() <= bound &&
+                   witness.settledCount() < WITNESS_SETTLE_LIMIT) {
+                int a = witness.poll();
+                if (targetStamp[a] == stamp && --targets == 0) break;
+                if (hops[a] >= hopLimit) continue;
+                long base = witness.distance(a);
+                EdgeList edges = out[a];
+                for (int i = 0; i < edges.size; i++) {
+                    int b = edges.to[i];
+                    long d = base + edges.weight[i];
+                    if (b != avoid && d <= bound && witness.relax(b, d, a)) {
+                        hops[b] = hops[a] + 1;
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Sums the original edge weights along a path (minimum over parallel edges)
+     */
+    private static long pathLength(csr_graph.CsrGraph graph, List<Integer> path) {
+        long length = 0;
+        for (int i = 0; i + 1 < path.size(); i++) {
+            long best = INFINITY;
+            for (int e = graph.edgeStart(path.get(i)); e < graph.edgeEnd(path.get(i)); e++) {
+                if (graph.target(e) == path.get(i + 1)) best = Math.min(best, graph.weight(e));
+            }
+            if (best == INFINITY) return INFINITY;
+            length += best;
+        }
+        return length;
+    }
+
+    public static void main(String[] args) throws IOException {
+        System.out.println("Contraction Hierarchies Demo\n");
+
+        // Test 1: Small graph from the dijkstra_shortest_path demo
+        System.out.println("Test 1: Basic Weighted Graph");
+        List<List<dijkstra_shortest_path.Edge>> small = new ArrayList<>();
+        for (int i = 0; i < 6; i++) small.add(new ArrayList<>());
+        int[][] edges = {{0, 1, 4}, {0, 2, 2}, {1, 2, 1}, {1, 3, 5}, {2, 3, 8}, {2, 4, 10}, {3, 4, 2}, {3, 5, 6}, {4, 5, 3}};
+        for (int[] edge : edges) small.get(edge[0]).add(new dijkstra_shortest_path.Edge(edge[1], edge[2]));
+        ContractionHierarchy smallCh = ContractionHierarchy.build(csr_graph.CsrGraph.fromAdjacency(small));
+        System.out.println("Contraction order (rank): " + Arrays.toString(smallCh.rank));
+        System.out.println("dijkstraWithPath: " + dijkstra_shortest_path.dijkstraWithPath(small, 0, 5, 6));
+        System.out.println("CH query:         " + smallCh.query(0, 5));
+        System.out.println("CH query 5 -> 0:  " + smallCh.query(5, 0));
+        System.out.println();
+
+        // Test 2: Road-like grid
+        int rows = 150;
+        int cols = 150;
+        System.out.println("Test 2: " + rows + " x " + cols + " Grid");
+        Random random = new Random(48);
+        csr_graph.CsrGraph graph = csr_graph.CsrGraph.fromAdjacency(shortest_path_engine.gridAdjacency(rows, cols, random));
+        long start = System.nanoTime();
+        ContractionHierarchy ch = ContractionHierarchy.build(graph);
+        long buildMs = (System.nanoTime() - start) / 1_000_000;
+        System.out.println("Preprocessing: " + buildMs + " ms, original edges: " + graph.edgeCount() +
+            ", hierarchy edges: " + ch.edgeCount());
+
+        shortest_path_engine.ShortestPathEngine dijkstra = new shortest_path_engine.ShortestPathEngine(graph);
+        int queries = 300;
+        int[][] pairs = new int[queries][];
+        for (int i = 0; i < queries; i++) {
+            pairs[i] = new int[]{random.nextInt(graph.vertexCount()), random.nextInt(graph.vertexCount())};
+        }
+        long[] expected = new long[queries];
+        long dijkstraSettled = 0;
+        start = System.nanoTime();
+        for (int i = 0; i < queries; i++) {
+            expected[i] = dijkstra.distance(pairs[i][0], pairs[i][1]);
+            dijkstraSettled += dijkstra.lastSettledCount();
+        }
+        long dijkstraMicros = (System.nanoTime() - start) / 1_000 / queries;
+
+        boolean match = true;
+        long chSettled = 0;
+        for (int i = 0; i < queries; i++) {
+            dijkstra_shortest_path.ShortestPathResult result = ch.query(pairs[i][0], pairs[i][1]);
+            chSettled += ch.lastSettledCount();
+            match &= result.exactDistance == expected[i] && pathLength(graph, result.path) == expected[i] &&
+                result.path.get(0) == pairs[i][0] && result.path.get(result.path.size() - 1) == pairs[i][1];
+        }
+        // Warm up, then time distance-only queries
+        for (int round = 0; round < 3; round++) {
+            for (int[] pair : pairs) ch.distance(pair[0], pair[1]);
+        }
+        start = System.nanoTime();
+        for (int round = 0; round < 10; round++) {
+            for (int[] pair : pairs) ch.distance(pair[0], pair[1]);
+        }
+        long chMicros = (System.nanoTime() - start) / 1_000 / (10L * queries);
+        System.out.println("Dijkstra: " + dijkstraMicros + " us/query, " + dijkstraSettled / queries + " settled");
+        System.out.println("CH:       " + chMicros + " us/query, " + chSettled / queries + " settled");
+        System.out.println("Distances and unpacked paths match Dijkstra: " + match);
+        System.out.println();
+
+        // Test 3: Serialization round trip
+        System.out.println("Test 3: Serialization");
+        Path file = Files.createTempFile("contraction_hierarchy", ".ch");
+        ch.write(file);
+        start = System.nanoTime();
+        ContractionHierarchy loaded = ContractionHierarchy.read(file);
+        long readMs = (System.nanoTime() - start) / 1_000_000;
+        boolean same = true;
+        for (int i = 0; i < queries; i++) {
+            same &= loaded.distance(pairs[i][0], pairs[i][1]) == expected[i];
+        }
+        System.out.println("File: " + Files.size(file) / 1024 + " KB, read in " + readMs +
+            " ms, answers match: " + same);
+        Files.deleteIfExists(file);
+        System.out.println();
+
+        // Test 4: Shortcuts longer than Integer.MAX_VALUE
+        System.out.println("Test 4: 2,000,000,000 Weights");
+        int length = 50;
+        List<List<dijkstra_shortest_path.Edge>> line = new ArrayList<>();
+        for (int i = 0; i < length; i++) line.add(new ArrayList<>());
+        for (int i = 0; i + 1 < length; i++) {
+            line.get(i).add(new dijkstra_shortest_path.Edge(i + 1, 2_000_000_000));
+            line.get(i + 1).add(new dijkstra_shortest_path.Edge(i, 2_000_000_000));
+        }
+        csr_graph.CsrGraph heavy = csr_graph.CsrGraph.fromAdjacency(line);
+        ContractionHierarchy heavyCh = ContractionHierarchy.build(heavy);
+        dijkstra_shortest_path.ShortestPathResult heavyResult = heavyCh.query(0, length - 1);
+        System.out.println("CH distance 0 -> " + (length - 1) + ": " + heavyResult.exactDistance +
+            ", engine: " + new shortest_path_engine.ShortestPathEngine(heavy).distance(0, length - 1) +
+            ", path vertices: " + heavyResult.path.size());
+    }
+}
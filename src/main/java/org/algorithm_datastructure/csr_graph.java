@@ -0,0 +1,571 @@
+package org.algorithm_datastructure;
+
+import java.util.*;
+import java.util.function.IntConsumer;
+
+/**
+ * Compressed Sparse Row (CSR) Graph Implementation
+ *
+ * An immutable graph over dense int vertex ids 0..V-1 stored in three flat
+ * primitive arrays instead of a Map of Lists:
+ * - offsets[V + 1]: out-edges of v are the slots offsets[v] .. offsets[v + 1] - 1
+ * - targets[E]: destination of each edge slot
+ * - weights[E]: optional weight of each edge slot (null when unweighted)
+ *
+ * Every neighbor scan is a sequential walk over one contiguous slice, and
+ * the graph costs 4 bytes per vertex plus 4 (or 8 when weighted) bytes per
+ * edge, versus ~40+ bytes per edge for boxed adjacency lists. Neighbor slices
+ * are sorted by target, so hasEdge is a binary search.
+ *
+ * Undirected graphs store each edge in both directions, exactly like
+ * graph_implementation.Graph does.
+ *
+ * Operations:
+ * - fromEdges(V, sources, targets, weights): Two-pass counting build - O(V + E log d)
+ * - fromGraph(graph): Adapter from Graph with a vertex <-> id mapping - O(V + E)
+ * - fromAdjacency(lists): Adapter from dijkstra_shortest_path edge lists - O(V + E)
+ * - degree(v), edgeStart(v), edgeEnd(v), target(e), weight(e): O(1)
+ * - hasEdge(u, v): Binary search in u's slice - O(log d)
+ * - transpose(): Graph with every edge reversed - O(V + E)
+ * - bfs(source): Hop distances over the arrays - O(V + E)
+ *
+ * Time Complexity: O(1) per neighbor visited
+ * Space Complexity: O(V + E) primitive ints
+ *
+ * Applications:
+ * - Large read-mostly graphs (social, web, road networks)
+ * - Input format for parallel graph analytics
+ * - Shortest path engines that scan adjacency in tight loops
+ */
+public class csr_graph {
+
+    /**
+     * CsrGraph class stores an immutable graph in CSR arrays
+     */
+    static final class CsrGraph {
+        private final int vertexCount;
+        private final int[] offsets;
+        private final int[] targets;
+        private final int[] weights;
+
+        CsrGraph(int vertexCount, int[] offsets, int[] targets, int[] weights) {
+            if (offsets.length != vertexCount + 1 || offsets[vertexCount] != targets.length) {
+                throw new IllegalArgumentException("Offsets do not match vertex and edge counts");
+            }
+            if (weights != null && weights.length != targets.length) {
+                throw new IllegalArgumentException("Weights must be parallel to targets");
+            }
+            this.vertexCount = vertexCount;
+            this.offsets = offsets;
+            this.targets = targets;
+            this.weights = weights;
+        }
+
+        /**
+         * Builds a CSR graph from parallel edge arrays with a counting pass
+         * (degrees -> prefix sums) and a placement pass, then sorts each slice
+         * Time Complexity: O(V + E log d) where d is the maximum degree
+         * @param vertexCount Number of vertices; ids must be in [0, V)
+         * @param sources Edge sources
+         * @param destinations Edge destinations
+         * @param edgeWeights Edge weights, or null for an unweighted graph
+         * @return New CSR graph
+         */
+        public static CsrGraph fromEdges(int vertexCount, int[] sources, int[] destinations, int[] edgeWeights) {
+            return fromEdges(vertexCount, sources, destinations, edgeWeights, sources.length);
+        }
+
+        static CsrGraph fromEdges(int vertexCount, int[] sources, int[] destinations, int[] edgeWeights, int edgeCount) {
+            if (destinations.length < edgeCount || sources.length < edgeCount ||
+                (edgeWeights != null && edgeWeights.length < edgeCount)) {
+                throw new IllegalArgumentException("Edge arrays must have the same length");
+            }
+            int[] offsets = new int[vertexCount + 1];
+            for (int e = 0; e < edgeCount; e++) {
+                int u = sources[e];
+                int v = destinations[e];
+                if (u < 0 || u >= vertexCount || v < 0 || v >= vertexCount) {
+                    throw new IllegalArgumentException("Invalid edge " + u + " -> " + v);
+                }
+                offsets[u + 1]++;
+            }
+            for (int v = 0; v < vertexCount; v++) {
+                offsets[v + 1] += offsets[v];
+            }
+
+            int[] targets = new int[edgeCount];
+            int[] weights = edgeWeights == null ? null : new int[edgeCount];
+            int[] cursor = Arrays.copyOf(offsets, vertexCount);
+            for (int e = 0; e < edgeCount; e++) {
+                int slot = cursor[sources[e]]++;
+                targets[slot] = destinations[e];
+                if (weights != null) {
+                    weights[slot] = edgeWeights[e];
+                }
+            }
+            sortSlices(vertexCount, offsets, targets, weights);
+            return new CsrGraph(vertexCount, offsets, targets, weights);
+        }
+
+        /**
+         * Sorts every neighbor slice by target, moving weights along
+         */
+        static void sortSlices(int vertexCount, int[] offsets, int[] targets, int[] weights) {
+            sortSlices(0, vertexCount, offsets, targets, weights);
+        }
+
+        /**
+         * Sorts the neighbor slices of vertices [fromVertex, toVertex); disjoint
+         * ranges can be sorted concurrently
+         */
+        static void sortSlices(int fromVertex, int toVertex, int[] offsets, int[] targets, int[] weights) {
+            long[] packed = null;
+            for (int v = fromVertex; v < toVertex; v++) {
+                int start = offsets[v];
+                int end = offsets[v + 1];
+                if (end - start < 2) continue;
+                if (weights == null) {
+                    Arrays.sort(targets, start, end);
+                    continue;
+                }
+                if (packed == null || packed.length < end - start) {
+                    packed = new long[Math.max(16, end - start)];
+                }
+                for (int e = start; e < end; e++) {
+                    packed[e - start] = ((long) targets[e] << 32) | (weights[e] & 0xFFFFFFFFL);
+                }
+                Arrays.sort(packed, 0, end - start);
+                for (int e = start; e < end; e++) {
+                    targets[e] = (int) (packed[e - start] >>> 32);
+                    weights[e] = (int) packed[e - start];
+                }
+            }
+        }
+
+        /**
+         * Adapter from the adjacency lists used by dijkstra_shortest_path
+         * Time Complexity: O(V + E log d)
+         * @param graph graph.get(u) lists the weighted out-edges of u
+         * @return Weighted CSR graph
+         */
+        public static CsrGraph fromAdjacency(List<List<dijkstra_shortest_path.Edge>> graph) {
+            int vertexCount = graph.size();
+            int[] offsets = new int[vertexCount + 1];
+            for (int u = 0; u < vertexCount; u++) {
+                offsets[u + 1] = offsets[u] + graph.get(u).size();
+            }
+            int[] targets = new int[offsets[vertexCount]];
+            int[] weights = new int[offsets[vertexCount]];
+            for (int u = 0; u < vertexCount; u++) {
+                int slot = offsets[u];
+                for (dijkstra_shortest_path.Edge edge : graph.get(u)) {
+                    targets[slot] = edge.destination;
+                    weights[slot] = edge.weight;
+                    slot++;
+                }
+            }
+            sortSlices(vertexCount, offsets, targets, weights);
+            return new CsrGraph(vertexCount, offsets, targets, weights);
+        }
+
+        /**
+         * Adapter from graph_implementation.Graph: assigns ids in vertex
+         * iteration order and copies each neighbor list into a slice
+         * Time Complexity: O(V + E log d)
+         * @param graph Source graph
+         * @return CSR graph with the vertex mapping
+         */
+        public static <T> Indexed<T> fromGraph(graph_implementation.Graph<T> graph) {
+            List<T> vertices = new ArrayList<>(graph.getVertices());
+            Map<T, Integer> ids = new HashMap<>(vertices.size() * 2);
+            for (int i = 0; i < vertices.size(); i++) {
+                ids.put(vertices.get(i), i);
+            }
+            int vertexCount = vertices.size();
+            int[] offsets = new int[vertexCount + 1];
+            for (int u = 0; u < vertexCount; u++) {
+                offsets[u + 1] = offsets[u] + graph.getNeighbors(vertices.get(u)).size();
+            }
+            int[] targets = new int[offsets[vertexCount]];
+            for (int u = 0; u < vertexCount; u++) {
+                int slot = offsets[u];
+                for (T neighbor : graph.getNeighbors(vertices.get(u))) {
+                    targets[slot++] = ids.get(neighbor);
+                }
+            }
+            sortSlices(vertexCount, offsets, targets, null);
+            return new Indexed<>(new CsrGraph(vertexCount, offsets, targets, null), vertices, ids);
+        }
+
+        /**
+         * Returns the number of vertices
+         * @return V
+         */
+        public int vertexCount() {
+            return vertexCount;
+        }
+
+        /**
+         * Returns the number of stored (directed) edge slots
+         * @return E
+         */
+        public int edgeCount() {
+            return targets.length;
+        }
+
+        /**
+         * Checks if edges carry weights
+         * @return true if weighted
+         */
+        public boolean isWeighted() {
+            return weights != null;
+        }
+
+        /**
+         * Returns the out-degree of v
+         * Time Complexity: O(1)
+         * @param v Vertex id
+         * @return Number of out-edges
+         */
+        public int degree(int v) {
+            return offsets[v + 1] - offsets[v];
+        }
+
+        /**
+         * First edge slot of v
+         * @param v Vertex id
+         * @return Index into targets/weights
+         */
+        public int edgeStart(int v) {
+            return offsets[v];
+        }
+
+        /**
+         * One past the last edge slot of v
+         * @param v Vertex id
+         * @return Index into targets/weights
+         */
+        public int edgeEnd(int v) {
+            return offsets[v + 1];
+        }
+
+        /**
+         * Destination of an edge slot
+         * @param edge Edge slot
+         * @return Target vertex id
+         */
+        public int target(int edge) {
+            return targets[edge];
+        }
+
+        /**
+         * Weight of an edge slot (1 for unweighted graphs)
+         * @param edge Edge slot
+         * @return Edge weight
+         */
+        public int weight(int edge) {
+            return weights == null ? 1 : weights[edge];
+        }
+
+        /**
+         * Calls action for every out-neighbor of v in ascending id order
+         * Time Complexity: O(degree)
+         * @param v Vertex id
+         * @param action Callback receiving neighbor ids
+         */
+        public void forEachNeighbor(int v, IntConsumer action) {
+            for (int e = offsets[v], end = offsets[v + 1]; e < end; e++) {
+                action.accept(targets[e]);
+            }
+        }
+
+        /**
+         * Checks if the edge u -> v exists
+         * Time Complexity: O(log degree)
+         * @param u Source id
+         * @param v Target id
+         * @return true if edge exists
+         */
+        public boolean hasEdge(int u, int v) {
+            return Arrays.binarySearch(targets, offsets[u], offsets[u + 1], v) >= 0;
+        }
+
+        /**
+         * Builds the reverse graph (in-edges become out-edges); slices come
+         * out sorted because sources are scanned in ascending order
+         * Time Complexity: O(V + E)
+         * @return Transposed graph
+         */
+        public CsrGraph transpose() {
+            int[] reverseOffsets = new int[vertexCount + 1];
+            for (int target : targets) {
+                reverseOffsets[target + 1]++;
+            }
+            for (int v = 0; v < vertexCount; v++) {
+                reverseOffsets[v + 1] += reverseOffsets[v];
+            }
+            int[] reverseTargets = new int[targets.length];
+            int[] reverseWeights = weights == null ? null : new int[targets.length];
+            int[] cursor = Arrays.copyOf(reverseOffsets, vertexCount);
+            for (int u = 0; u < vertexCount; u++) {
+                for (int e = offsets[u]; e < offsets[u + 1]; e++) {
+                    int slot = cursor[targets[e]]++;
+                    reverseTargets[slot] = u;
+                    if (reverseWeights != null) {
+                        reverseWeights[slot] = weights[e];
+                    }
+                }
+            }
+            return new CsrGraph(vertexCount, reverseOffsets, reverseTargets, reverseWeights);
+        }
+
+        /**
+         * Breadth-first search with an int[] queue
+         * Time Complexity: O(V + E)
+         * @param source Start vertex
+         * @return Hop distance per vertex, -1 if unreachable
+         */
+        public int[] bfs(int source) {
+            int[] distance = new int[vertexCount];
+            Arrays.fill(distance, -1);
+            int[] queue = new int[vertexCount];
+            int head = 0;
+            int tail = 0;
+            distance[source] = 0;
+            queue[tail++] = source;
+            while (head < tail) {
+                int u = queue[head++];
+                for (int e = offsets[u], end = offsets[u + 1]; e < end; e++) {
+                    int v = targets[e];
+                    if (distance[v] < 0) {
+                        distance[v] = distance[u] + 1;
+                        queue[tail++] = v;
+                    }
+                }
+            }
+            return distance;
+        }
+
+        /**
+         * Approximate heap footprint of the arrays
+         * @return Bytes used by offsets, targets and weights
+         */
+        public long sizeInBytes() {
+            return 4L * offsets.length + 4L * targets.length + (weights == null ? 0 : 4L * weights.length);
+        }
+
+        // Package-private raw access for algorithms in this package
+        int[] offsets() {
+            return offsets;
+        }
+
+        int[] targets() {
+            return targets;
+        }
+
+        int[] weights() {
+            return weights;
+        }
+    }
+
+    /**
+     * Indexed class pairs a CSR graph with the vertex <-> id mapping used to
+     * build it from a generic Graph
+     */
+    static final class Indexed<T> {
+        final CsrGraph graph;
+        private final List<T> vertices;
+        private final Map<T, Integer> ids;
+
+        Indexed(CsrGraph graph, List<T> vertices, Map<T, Integer> ids) {
+            this.graph = graph;
+            this.vertices = vertices;
+            this.ids = ids;
+        }
+
+        /**
+         * Dense id of a vertex
+         * @param vertex Original vertex
+         * @return Id in [0, V)
+         */
+        public int id(T vertex) {
+            Integer id = ids.get(vertex);
+            if (id == null) {
+                throw new NoSuchElementException("Unknown vertex: " + vertex);
+            }
+            return id;
+        }
+
+        /**
+         * Original vertex of an id
+         * @param id Dense id
+         * @return Vertex
+         */
+        public T vertex(int id) {
+            return vertices.get(id);
+        }
+    }
+
+    /**
+     * EdgeStreamBuilder class collects edges into growable primitive arrays
+     * and builds a CSR graph once the stream ends
+     */
+    static final class EdgeStreamBuilder {
+        private final boolean weighted;
+        private int[] sources = new int[1024];
+        private int[] destinations = new int[1024];
+        private int[] weights;
+        private int count;
+        private int vertexCount;
+
+        /**
+         * Constructor - creates an empty builder
+         * @param weighted true to record edge weights
+         */
+        public EdgeStreamBuilder(boolean weighted) {
+            this.weighted = weighted;
+            this.weights = weighted ? new int[1024] : null;
+        }
+
+        /**
+         * Appends a directed unweighted edge
+         * Time Complexity: O(1) amortized
+         * @param from Source id
+         * @param to Target id
+         * @return This builder
+         */
+        public EdgeStreamBuilder addEdge(int from, int to) {
+            return addEdge(from, to, 1);
+        }
+
+        /**
+         * Appends a directed weighted edge
+         * Time Complexity: O(1) amortized
+         * @param from Source id
+         * @param to Target id
+         * @param weight Edge weight (ignored when unweighted)
+         * @return This builder
+         */
+        public EdgeStreamBuilder addEdge(int from, int to, int weight) {
+            if (from < 0 || to < 0) {
+                throw new IllegalArgumentException("Vertex ids must be non-negative");
+            }
+            if (count == sources.length) {
+                int capacity = count * 2;
+                sources = Arrays.copyOf(sources, capacity);
+                destinations = Arrays.copyOf(destinations, capacity);
+                if (weighted) weights = Arrays.copyOf(weights, capacity);
+            }
+            sources[count] = from;
+            destinations[count] = to;
+            if (weighted) weights[count] = weight;
+            count++;
+            vertexCount = Math.max(vertexCount, Math.max(from, to) + 1);
+            return this;
+        }
+
+        /**
+         * Appends an edge in both directions
+         * @param v1 First id
+         * @param v2 Second id
+         * @param weight Edge weight (ignored when unweighted)
+         * @return This builder
+         */
+        public EdgeStreamBuilder addUndirectedEdge(int v1, int v2, int weight) {
+            addEdge(v1, v2, weight);
+            return addEdge(v2, v1, weight);
+        }
+
+        /**
+         * Builds the graph; V is one past the largest id seen
+         * Time Complexity: O(V + E log d)
+         * @return New CSR graph
+         */
+        public CsrGraph build() {
+            return CsrGraph.fromEdges(vertexCount, sources, destinations, weights, count);
+        }
+    }
+
+    public static void main(String[] args) {
+        System.out.println("CSR Graph Demo\n");
+
+        // Test 1: Adapter from the generic Graph
+        System.out.println("Test 1: Build from Graph");
+        graph_implementation.Graph<String> graph = new graph_implementation.Graph<>(true);
+        graph.addEdge("A", "B");
+        graph.addEdge("A", "C");
+        graph.addEdge("B", "D");
+        graph.addEdge("C", "D");
+        graph.addEdge("D", "E");
+        Indexed<String> indexed = CsrGraph.fromGraph(graph);
+        CsrGraph csr = indexed.graph;
+        System.out.println("Vertices: " + csr.vertexCount() + ", edges: " + csr.edgeCount());
+        for (int v = 0; v < csr.vertexCount(); v++) {
+            StringBuilder neighbors = new StringBuilder();
+            csr.forEachNeighbor(v, w -> neighbors.append(indexed.vertex(w)).append(" "));
+            System.out.println(indexed.vertex(v) + " (id " + v + ") -> " + neighbors.toString().trim());
+        }
+        System.out.println("hasEdge(A, C): " + csr.hasEdge(indexed.id("A"), indexed.id("C")) +
+            ", hasEdge(C, A): " + csr.hasEdge(indexed.id("C"), indexed.id("A")));
+        int[] hops = csr.bfs(indexed.id("A"));
+        System.out.println("BFS hops from A to E: " + hops[indexed.id("E")]);
+        CsrGraph reversed = csr.transpose();
+        StringBuilder intoD = new StringBuilder();
+        reversed.forEachNeighbor(indexed.id("D"), w -> intoD.append(indexed.vertex(w)).append(" "));
+        System.out.println("In-neighbors of D (transpose): " + intoD.toString().trim());
+        System.out.println();
+
+        // Test 2: Weighted edge stream and dijkstra adapter
+        System.out.println("Test 2: Weighted Edge Stream");
+        EdgeStreamBuilder builder = new EdgeStreamBuilder(true);
+        builder.addEdge(0, 2, 2).addEdge(0, 1, 4).addEdge(1, 2, 1).addEdge(1, 3, 5).addEdge(2, 3, 8);
+        CsrGraph weighted = builder.build();
+        for (int v = 0; v < weighted.vertexCount(); v++) {
+            StringBuilder edges = new StringBuilder();
+            for (int e = weighted.edgeStart(v); e < weighted.edgeEnd(v); e++) {
+                edges.append(weighted.target(e)).append("(").append(weighted.weight(e)).append(") ");
+            }
+            System.out.println(v + " -> " + edges.toString().trim());
+        }
+        List<List<dijkstra_shortest_path.Edge>> lists = new ArrayList<>();
+        for (int i = 0; i < 4; i++) lists.add(new ArrayList<>());
+        lists.get(0).add(new dijkstra_shortest_path.Edge(1, 4));
+        lists.get(0).add(new dijkstra_shortest_path.Edge(2, 2));
+        lists.get(2).add(new dijkstra_shortest_path.Edge(3, 8));
+        CsrGraph fromLists = CsrGraph.fromAdjacency(lists);
+        System.out.println("fromAdjacency edges: " + fromLists.edgeCount() + ", weighted: " + fromLists.isWeighted());
+        System.out.println();
+
+        // Test 3: Random graph, BFS agrees with Graph.bfs reachability
+        System.out.println("Test 3: Random Graph vs Graph<Integer>");
+        Random random = new Random(39);
+        int vertices = 200_000;
+        int edges = 1_000_000;
+        graph_implementation.Graph<Integer> boxed = new graph_implementation.Graph<>(false);
+        EdgeStreamBuilder stream = new EdgeStreamBuilder(false);
+        for (int v = 0; v < vertices; v++) {
+            boxed.addVertex(v);
+        }
+        for (int i = 0; i < edges; i++) {
+            int u = random.nextInt(vertices);
+            int v = random.nextInt(vertices);
+            boxed.addUndirectedEdge(u, v);
+            stream.addUndirectedEdge(u, v, 1);
+        }
+        CsrGraph big = stream.build();
+        long start = System.nanoTime();
+        List<Integer> boxedOrder = boxed.bfs(0);
+        long boxedMs = (System.nanoTime() - start) / 1_000_000;
+        start = System.nanoTime();
+        int[] distances = big.bfs(0);
+        long csrMs = (System.nanoTime() - start) / 1_000_000;
+        int reached = 0;
+        for (int d : distances) {
+            if (d >= 0) reached++;
+        }
+        System.out.println("Graph.bfs: " + boxedMs + " ms, CsrGraph.bfs: " + csrMs + " ms, reached equal: " +
+            (reached == boxedOrder.size()));
+        System.out.println("CSR arrays: " + big.sizeInBytes() / (1024 * 1024) + " MB for " + big.edgeCount() +
+            " edge slots (" + (double) big.sizeInBytes() / big.edgeCount() + " bytes/edge)");
+    }
+}
@@ -0,0 +1,322 @@
+package org.algorithm_datastructure;
+
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Delta-Stepping Single-Source Shortest Paths Implementation
+ *
+ * Parallel relaxation of Dijkstra's algorithm (Meyer and Sanders). Tentative
+ * distances are grouped into buckets of width delta: bucket i holds vertices
+ * with distance in [i * delta, (i + 1) * delta). Buckets are processed in
+ * order, and all vertices of the current bucket are relaxed at the same time:
+ * - Light edges (weight <= delta) can put vertices back into the current
+ *   bucket, so they are relaxed in rounds until the bucket stays empty
+ * - Heavy edges (weight > delta) can only reach later buckets, so they are
+ *   relaxed once for every vertex settled in the bucket
+ * Each round is a parallel pass over the frontier on a ForkJoinPool. Only
+ * non-empty buckets exist, in a TreeMap keyed by the long bucket index, so
+ * memory does not depend on the largest distance divided by delta.
+ * Distances are lowered with a CAS-min on an AtomicLongArray, and per-chunk
+ * buffers collect the improved vertices.
+ *
+ * delta = 1 behaves like Dijkstra with little parallelism per round, and
+ * delta = infinity is Bellman-Ford with lots of wasted work. The automatic
+ * choice is maxWeight / averageDegree, so a vertex has about one light edge
+ * in each delta-wide band of weights.
+ *
+ * Operations:
+ * - distances(source): long[] distances, INFINITY if unreachable
+ * - deltaStepping(graph, source, V): Drop-in for dijkstra_shortest_path.dijkstra
+ *
+ * Time Complexity: O(V + E + rounds * log) work for bounded degree and random weights
+ * Space Complexity: O(V + E)
+ *
+ * Applications:
+ * - All-distances batch jobs on road and social graphs
+ * - Betweenness and closeness centrality pre-processing
+ * - GPU and multicore graph frameworks (Gunrock, Galois, GAP)
+ */
+public class delta_stepping {
+
+    static final long INFINITY = shortest_path_engine.INFINITY;
+
+    /**
+     * DeltaStepping class runs delta-stepping on one graph and pool
+     */
+    static final class DeltaStepping {
+        private static final int FRONTIER_GRAIN = 256;
+
+        final csr_graph.CsrGraph graph;
+        final long delta;
+        private final ForkJoinPool pool;
+
+        /**
+         * Constructor - picks delta from the weights and average degree
+         * Time Complexity: O(E)
+         * @param graph Graph with non-negative weights (unweighted edges weigh 1)
+         * @param pool Pool for the relaxation rounds
+         */
+        public DeltaStepping(csr_graph.CsrGraph graph, ForkJoinPool pool) {
+            this(graph, pool, autoDelta(graph));
+        }
+
+        /**
+         * Constructor - uses a fixed bucket width
+         * @param graph Graph with non-negative weights
+         * @param pool Pool for the relaxation rounds
+         * @param delta Bucket width (at least 1)
+         */
+        public DeltaStepping(csr_graph.CsrGraph graph, ForkJoinPool pool, long delta) {
+            if (delta < 1) {
+                throw new IllegalArgumentException("Delta must be at least 1: " + delta);
+            }
+            for (int e = 0; e < graph.edgeCount(); e++) {
+                if (graph.weight(e) < 0) {
+                    throw new IllegalArgumentException("Negative edge weight: " + graph.weight(e));
+                }
+            }
+            this.graph = graph;
+            this.pool = pool;
+            this.delta = delta;
+        }
+
+        /**
+         * Bucket width of about maxWeight / averageDegree
+         * Time Complexity: O(E)
+         * @param graph Graph to tune for
+         * @return Delta of at least 1
+         */
+        static long autoDelta(csr_graph.CsrGraph graph) {
+            long maxWeight = 1;
+            for (int e = 0; e < graph.edgeCount(); e++) {
+                maxWeight = Math.max(maxWeight, graph.weight(e));
+            }
+            double averageDegree = Math.max(1.0, (double) graph.edgeCount() / Math.max(1, graph.vertexCount()));
+            return Math.max(1L, Math.round(maxWeight / averageDegree));
+        }
+
+        /**
+         * Computes shortest distances from source to every vertex
+         * Time Complexity: O(V + E) work per pass over the buckets (see class comment)
+         * @param source Source vertex
+         * @return Distances, INFINITY for unreachable vertices
+         */
+        public long[] distances(int source) {
+            int n = graph.vertexCount();
+            if (source < 0 || source >= n) {
+                throw new IndexOutOfBoundsException("Invalid vertex: " + source);
+            }
+            AtomicLongArray distance = new AtomicLongArray(n);
+            for (int v = 0; v < n; v++) distance.set(v, INFINITY);
+            distance.set(source, 0);
+
+            int[] roundStamp = new int[n];   // dedupes a frontier within one round
+            int[] bucketStamp = new int[n];  // dedupes the settled set of one bucket
+            TreeMap<Long, parallel_bfs.IntBuffer> buckets = new TreeMap<>();
+            buckets.computeIfAbsent(0L, key -> new parallel_bfs.IntBuffer()).add(source);
+            int round = 0;
+            int phase = 0;
+
+            while (!buckets.isEmpty()) {
+                long i = buckets.firstKey();
+                phase++;
+                parallel_bfs.IntBuffer settled = new parallel_bfs.IntBuffer();
+                parallel_bfs.IntBuffer pending;
+                while ((pending = buckets.remove(i)) != null) {
+                    round++;
+                    // Drop stale entries (moved to another bucket) and duplicates
+                    int size = 0;
+                    int[] frontier = pending.data;
+                    for (int k = 0; k < pending.size; k++) {
+                        int v = frontier[k];
+                        if (distance.get(v) / delta != i || roundStamp[v] == round) continue;
+                        roundStamp[v] = round;
+                        frontier[size++] = v;
+                        if (bucketStamp[v] != phase) {
+                            bucketStamp[v] = phase;
+                            settled.add(v);
+                        }
+                    }
+                    relaxAll(frontier, size, distance, buckets, true);
+                }
+                relaxAll(settled.data, settled.size, distance, buckets, false);
+            }
+
+            long[] result = new long[n];
+            for (int v = 0; v < n; v++) result[v] = distance.get(v);
+            return result;
+        }
+
+        /**
+         * Relaxes the light or heavy edges of frontier[0, size) in parallel and
+         * files the improved vertices into their buckets
+         */
+        private void relaxAll(int[] frontier, int size, AtomicLongArray distance,
+                              TreeMap<Long, parallel_bfs.IntBuffer> buckets, boolean light) {
+            if (size == 0) return;
+            int[] offsets = graph.offsets();
+            int[] targets = graph.targets();
+            int chunks = (size + FRONTIER_GRAIN - 1) / FRONTIER_GRAIN;
+            parallel_bfs.IntBuffer[] improved = new parallel_bfs.IntBuffer[chunks];
+            java.util.function.IntConsumer body = chunk -> {
+                parallel_bfs.IntBuffer found = new parallel_bfs.IntBuffer();
+                int end = Math.min(size, (chunk + 1) * FRONTIER_GRAIN);
+                for (int k = chunk * FRONTIER_GRAIN; k < end; k++) {
+                    int u = frontier[k];
+                    long base = distance.get(u);
+                    for (int e = offsets[u], stop = offsets[u + 1]; e < stop; e++) {
+                        int w = graph.weight(e);
+                        if ((w <= delta) != light) continue;
+                        int v = targets[e];
+                        if (lowerTo(distance, v, base + w)) found.add(v);
+                    }
+                }
+                improved[chunk] = found;
+            };
+            if (chunks == 1) {
+                body.accept(0);  // not worth a fork
+            } else {
+                pool.invoke(new parallel_bfs.ChunkTask(body, 0, chunks));
+            }
+            // Improved vertices mostly land in one or two buckets: cache the last one
+            long cachedIndex = -1;
+            parallel_bfs.IntBuffer cached = null;
+            for (parallel_bfs.IntBuffer found : improved) {
+                for (int k = 0; k < found.size; k++) {
+                    int v = found.data[k];
+                    long index = distance.get(v) / delta;
+                    if (index != cachedIndex) {
+                        cached = buckets.computeIfAbsent(index, key -> new parallel_bfs.IntBuffer());
+                        cachedIndex = index;
+                    }
+                    cached.add(v);
+                }
+            }
+        }
+
+        /**
+         * Atomically lowers distance[v] to candidate
+         * @return true if this call lowered it
+         */
+        private static boolean lowerTo(AtomicLongArray distance, int v, long candidate) {
+            long current = distance.get(v);
+            while (candidate < current) {
+                long witness = distance.compareAndExchange(v, current, candidate);
+                if (witness == current) return true;
+                current = witness;
+            }
+            return false;
+        }
+    }
+
+    /**
+     * Drop-in parallel replacement for dijkstra_shortest_path.dijkstra
+     * Time Complexity: O(V + E) work for typical inputs, run on the common pool
+     * @param graph Adjacency list representation
+     * @param source Source vertex
+     * @param V Number of vertices
+     * @return Array of shortest distances, Integer.MAX_VALUE if unreachable
+     * @throws ArithmeticException if a distance does not fit in an int
+     */
+    public static int[] deltaStepping(List<List<dijkstra_shortest_path.Edge>> graph, int source, int V) {
+        csr_graph.CsrGraph csr = csr_graph.CsrGraph.fromAdjacency(graph);
+        long[] distances = new DeltaStepping(csr, ForkJoinPool.commonPool()).distances(source);
+        int[] result = new int[V];
+        for (int v = 0; v < V; v++) {
+            result[v] = distances[v] == INFINITY ? Integer.MAX_VALUE : Math.toIntExact(distances[v]);
+        }
+        return result;
+    }
+
+    /**
+     * Random directed graph with weights in [1, maxWeight]
+     */
+    private static List<List<dijkstra_shortest_path.Edge>> randomGraph(int vertices, int edges, int maxWeight, Random random) {
+        List<List<dijkstra_shortest_path.Edge>> graph = new ArrayList<>();
+        for (int i = 0; i < vertices; i++) graph.add(new ArrayList<>());
+        for (int i = 0; i < edges; i++) {
+            graph.get(random.nextInt(vertices)).add(
+                new dijkstra_shortest_path.Edge(random.nextInt(vertices), 1 + random.nextInt(maxWeight)));
+        }
+        return graph;
+    }
+
+    public static void main(String[] args) {
+        System.out.println("Delta-Stepping SSSP Demo\n");
+
+        // Test 1: Small graph from the dijkstra_shortest_path demo
+        System.out.println("Test 1: Basic Weighted Graph");
+        List<List<dijkstra_shortest_path.Edge>> small = new ArrayList<>();
+        for (int i = 0; i < 6; i++) small.add(new ArrayList<>());
+        int[][] edges = {{0, 1, 4}, {0, 2, 2}, {1, 2, 1}, {1, 3, 5}, {2, 3, 8}, {2, 4, 10}, {3, 4, 2}, {3, 5, 6}, {4, 5, 3}};
+        for (int[] edge : edges) small.get(edge[0]).add(new dijkstra_shortest_path.Edge(edge[1], edge[2]));
+        System.out.println("dijkstra:      " + Arrays.toString(dijkstra_shortest_path.dijkstra(small, 0, 6)));
+        System.out.println("deltaStepping: " + Arrays.toString(deltaStepping(small, 0, 6)));
+        System.out.println("from 5:        " + Arrays.toString(deltaStepping(small, 5, 6)));
+        System.out.println();
+
+        // Test 2: Cross-check against sequential Dijkstra
+        System.out.println("Test 2: Cross-Check Against dijkstra()");
+        Random random = new Random(49);
+        List<List<dijkstra_shortest_path.Edge>> road = shortest_path_engine.gridAdjacency(300, 300, random);
+        List<List<dijkstra_shortest_path.Edge>> sparse = randomGraph(200_000, 1_000_000, 1000, random);
+        String[] names = {"300 x 300 grid", "random 200k / 1M"};
+        List<List<List<dijkstra_shortest_path.Edge>>> inputs = Arrays.asList(road, sparse);
+        for (int g = 0; g < inputs.size(); g++) {
+            List<List<dijkstra_shortest_path.Edge>> adjacency = inputs.get(g);
+            int vertices = adjacency.size();
+            boolean match = true;
+            for (int trial = 0; trial < 3; trial++) {
+                int source = random.nextInt(vertices);
+                match &= Arrays.equals(dijkstra_shortest_path.dijkstra(adjacency, source, vertices),
+                    deltaStepping(adjacency, source, vertices));
+            }
+            System.out.println(names[g] + ": 3 sources match: " + match);
+        }
+        System.out.println();
+
+        // Test 3: Timing by pool size and delta
+        System.out.println("Test 3: Timing (" + Runtime.getRuntime().availableProcessors() + " cores available)");
+        csr_graph.CsrGraph graph = csr_graph.CsrGraph.fromAdjacency(sparse);
+        long start = System.nanoTime();
+        dijkstra_shortest_path.dijkstra(sparse, 0, sparse.size());
+        System.out.println("dijkstra():  " + (System.nanoTime() - start) / 1_000_000 + " ms");
+        start = System.nanoTime();
+        new shortest_path_engine.ShortestPathEngine(graph).distancesFrom(0);
+        System.out.println("engine:      " + (System.nanoTime() - start) / 1_000_000 + " ms");
+        long auto = DeltaStepping.autoDelta(graph);
+        for (int threads : new int[]{1, 2, 4}) {
+            ForkJoinPool pool = new ForkJoinPool(threads);
+            for (long delta : new long[]{auto / 4, auto, auto * 4}) {
+                DeltaStepping stepping = new DeltaStepping(graph, pool, Math.max(1, delta));
+                stepping.distances(0);  // warm up
+                start = System.nanoTime();
+                stepping.distances(0);
+                System.out.println(threads + " thread(s), delta " + stepping.delta + (delta == auto ? " (auto)" : "") +
+                    ": " + (System.nanoTime() - start) / 1_000_000 + " ms");
+            }
+            pool.shutdown();
+        }
+        System.out.println();
+
+        // Test 4: Distances beyond int range
+        System.out.println("Test 4: Large Weights");
+        csr_graph.CsrGraph heavy = csr_graph.CsrGraph.fromEdges(3, new int[]{0, 1}, new int[]{1, 2},
+            new int[]{2_000_000_000, 2_000_000_000});
+        System.out.println("long[] distances: " +
+            Arrays.toString(new DeltaStepping(heavy, ForkJoinPool.commonPool()).distances(0)));
+        System.out.println("delta = 1: " +
+            Arrays.toString(new DeltaStepping(heavy, ForkJoinPool.commonPool(), 1).distances(0)));
+        try {
+            List<List<dijkstra_shortest_path.Edge>> list = new ArrayList<>();
+            for (int i = 0; i < 3; i++) list.add(new ArrayList<>());
+            list.get(0).add(new dijkstra_shortest_path.Edge(1, 2_000_000_000));
+            list.get(1).add(new dijkstra_shortest_path.Edge(2, 2_000_000_000));
+            deltaStepping(list, 0, 3);
+        } catch (ArithmeticException e) {
+            System.out.println("int[] version: " + e.getMessage());
+        }
+    }
+}
@@ -161,20 +161,28 @@ public class dijkstra_shortest_path {
      * Result class containing distance and path
      */
     static class ShortestPathResult {
-        int distance;
+        int distance;         // Integer.MAX_VALUE if unreachable (or too large for an int)
+        long exactDistance;   // Long.MAX_VALUE if unreachable
         List<Integer> path;
 
         ShortestPathResult(int distance, List<Integer> path) {
             this.distance = distance;
+            this.exactDistance = distance == Integer.MAX_VALUE ? Long.MAX_VALUE : distance;
+            this.path = path;
+        }
+
+        ShortestPathResult(long distance, List<Integer> path) {
+            this.distance = (int) Math.min(distance, Integer.MAX_VALUE);
+            this.exactDistance = distance;
             this.path = path;
         }
 
         @Override
         public String toString() {
-            if (distance == Integer.MAX_VALUE) {
+            if (exactDistance == Long.MAX_VALUE) {
                 return "No path exists";
             }
-            return "Distance: " + distance + ", Path: " + path;
+            return "Distance: " + exactDistance + ", Path: " + path;
         }
     }
 
@@ -0,0 +1,481 @@
+package org.algorithm_datastructure;
+
+import java.util.*;
+import java.util.function.IntConsumer;
+
+/**
+ * Dynamic Graph Implementation
+ *
+ * A mutable graph over int vertex ids whose neighbor sets are open-addressing
+ * int hash sets, so edge insert, delete and lookup are O(1) expected instead
+ * of the O(degree) list scans of graph_implementation.Graph. Directed graphs
+ * also keep in-neighbor sets, which makes removeVertex O(degree) rather than
+ * a scan over every adjacency list.
+ *
+ * Connected components (weak components for directed graphs) are tracked
+ * incrementally with union_find.UnionFind: every insert is one union, so
+ * insert-only phases answer connected() in O(α(n)). A deletion can split a
+ * component, which union-find cannot undo, so it only marks the structure
+ * stale; the next connectivity query rebuilds it from the current edges in
+ * O(V + E). A burst of deletions therefore costs one rebuild, not one per edge.
+ *
+ * Operations:
+ * - addEdge(u, v): Insert an edge - O(1) expected
+ * - removeEdge(u, v): Delete an edge - O(1) expected
+ * - hasEdge(u, v): Edge lookup - O(1) expected
+ * - removeVertex(v): Delete all incident edges - O(degree)
+ * - connected(u, v): Same component - O(α(n)), O(V + E) after deletions
+ * - componentCount(): Number of components - O(1), O(V + E) after deletions
+ * - snapshot(): Immutable csr_graph.CsrGraph copy - O(V + E log d)
+ *
+ * Time Complexity: O(1) expected per edge update
+ * Space Complexity: O(V + E)
+ *
+ * Applications:
+ * - Streaming network topologies
+ * - Social graphs with follow/unfollow churn
+ * - Online connectivity queries between batches of updates
+ */
+public class dynamic_graph {
+
+    /**
+     * IntHashSet class is a linear-probing set of non-negative ints with
+     * backward-shift deletion (no tombstones)
+     */
+    static final class IntHashSet {
+        private static final int EMPTY = -1;
+
+        private int[] table;
+        private int shift;  // 32 - log2(table.length): keep the top bits of the hash
+        private int size;
+
+        IntHashSet() {
+            table = new int[4];
+            shift = 30;
+            Arrays.fill(table, EMPTY);
+        }
+
+        private int slot(int value) {
+            return (value * 0x9E3779B9) >>> shift;
+        }
+
+        boolean contains(int value) {
+            int mask = table.length - 1;
+            for (int i = slot(value); table[i] != EMPTY; i = (i + 1) & mask) {
+                if (table[i] == value) return true;
+            }
+            return false;
+        }
+
+        boolean add(int value) {
+            if ((size + 1) * 4 > table.length * 3) {
+                resize(table.length * 2);
+            }
+            int mask = table.length - 1;
+            int i = slot(value);
+            while (table[i] != EMPTY) {
+                if (table[i] == value) return false;
+                i = (i + 1) & mask;
+            }
+            table[i] = value;
+            size++;
+            return true;
+        }
+
+        boolean remove(int value) {
+            int mask = table.length - 1;
+            int i = slot(value);
+            while (table[i] != value) {
+                if (table[i] == EMPTY) return false;
+                i = (i + 1) & mask;
+            }
+            // Shift later entries of the probe run back into the hole
+            int hole = i;
+            for (int j = (hole + 1) & mask; table[j] != EMPTY; j = (j + 1) & mask) {
+                int home = slot(table[j]);
+                if (((j - home) & mask) >= ((j - hole) & mask)) {
+                    table[hole] = table[j];
+                    hole = j;
+                }
+            }
+            table[hole] = EMPTY;
+            size--;
+            return true;
+        }
+
+        private void resize(int capacity) {
+            int[] old = table;
+            table = new int[capacity];
+            shift = Integer.numberOfLeadingZeros(capacity) + 1;
+            Arrays.fill(table, EMPTY);
+            size = 0;
+            for (int value : old) {
+                if (value != EMPTY) add(value);
+            }
+        }
+
+        void forEach(IntConsumer action) {
+            for (int value : table) {
+                if (value != EMPTY) action.accept(value);
+            }
+        }
+
+        int[] toArray() {
+            int[] result = new int[size];
+            int count = 0;
+            for (int value : table) {
+                if (value != EMPTY) result[count++] = value;
+            }
+            return result;
+        }
+
+        int size() {
+            return size;
+        }
+    }
+
+    /**
+     * DynamicGraph class stores hashed neighbor sets with incremental
+     * connectivity
+     */
+    static class DynamicGraph {
+        private final boolean isDirected;
+        private IntHashSet[] out;
+        private IntHashSet[] in;  // in-neighbors, directed graphs only
+        private int vertexCount;
+        private int edgeCount;
+        private union_find.UnionFind components;
+        private boolean componentsStale;
+        private int rebuilds;
+
+        /**
+         * Constructor - creates empty graph
+         * @param isDirected true for directed graph, false for undirected
+         */
+        public DynamicGraph(boolean isDirected) {
+            this.isDirected = isDirected;
+            this.out = new IntHashSet[16];
+            this.in = isDirected ? new IntHashSet[16] : null;
+            this.components = new union_find.UnionFind(out.length);
+        }
+
+        /**
+         * Makes ids 0..vertex valid
+         * Time Complexity: O(1) amortized
+         * @param vertex Vertex id
+         */
+        public void addVertex(int vertex) {
+            if (vertex < 0) {
+                throw new IllegalArgumentException("Vertex ids must be non-negative");
+            }
+            if (vertex < vertexCount) return;
+            if (vertex >= out.length) {
+                int capacity = Math.max(out.length * 2, vertex + 1);
+                out = Arrays.copyOf(out, capacity);
+                if (isDirected) in = Arrays.copyOf(in, capacity);
+                components.ensureCapacity(capacity);
+            }
+            vertexCount = vertex + 1;
+        }
+
+        private static IntHashSet set(IntHashSet[] sets, int vertex) {
+            if (sets[vertex] == null) sets[vertex] = new IntHashSet();
+            return sets[vertex];
+        }
+
+        /**
+         * Adds an edge (both directions if undirected)
+         * Time Complexity: O(1) expected
+         * @param from Source vertex
+         * @param to Destination vertex
+         * @return true if the edge was new
+         */
+        public boolean addEdge(int from, int to) {
+            addVertex(Math.max(from, to));
+            addVertex(Math.min(from, to));
+            if (!set(out, from).add(to)) {
+                return false;
+            }
+            if (isDirected) {
+                set(in, to).add(from);
+            } else if (from != to) {
+                set(out, to).add(from);
+            }
+            edgeCount++;
+            if (!componentsStale) {
+                components.union(from, to);
+            }
+            return true;
+        }
+
+        /**
+         * Removes an edge (both directions if undirected)
+         * Time Complexity: O(1) expected
+         * @param from Source vertex
+         * @param to Destination vertex
+         * @return true if the edge existed
+         */
+        public boolean removeEdge(int from, int to) {
+            if (!hasEdge(from, to)) {
+                return false;
+            }
+            out[from].remove(to);
+            if (isDirected) {
+                in[to].remove(from);
+            } else {
+                out[to].remove(from);
+            }
+            edgeCount--;
+            componentsStale = true;
+            return true;
+        }
+
+        /**
+         * Checks if an edge exists
+         * Time Complexity: O(1) expected
+         * @param from Source vertex
+         * @param to Destination vertex
+         * @return true if edge exists
+         */
+        public boolean hasEdge(int from, int to) {
+            return from >= 0 && from < vertexCount && out[from] != null && out[from].contains(to);
+        }
+
+        /**
+         * Removes every edge touching a vertex; the id stays valid
+         * Time Complexity: O(degree)
+         * @param vertex Vertex to isolate
+         * @return Number of edges removed
+         */
+        public int removeVertex(int vertex) {
+            if (vertex < 0 || vertex >= vertexCount) return 0;
+            int removed = 0;
+            if (out[vertex] != null) {
+                for (int neighbor : out[vertex].toArray()) {
+                    removed += removeEdge(vertex, neighbor) ? 1 : 0;
+                }
+            }
+            if (isDirected && in[vertex] != null) {
+                for (int neighbor : in[vertex].toArray()) {
+                    removed += removeEdge(neighbor, vertex) ? 1 : 0;
+                }
+            }
+            return removed;
+        }
+
+        /**
+         * Gets the out-degree of a vertex
+         * Time Complexity: O(1)
+         * @param vertex Vertex id
+         * @return Number of out-neighbors
+         */
+        public int degree(int vertex) {
+            return vertex < vertexCount && out[vertex] != null ? out[vertex].size() : 0;
+        }
+
+        /**
+         * Calls action for every out-neighbor (in no particular order)
+         * Time Complexity: O(degree)
+         * @param vertex Vertex id
+         * @param action Callback receiving neighbor ids
+         */
+        public void forEachNeighbor(int vertex, IntConsumer action) {
+            if (vertex < vertexCount && out[vertex] != null) {
+                out[vertex].forEach(action);
+            }
+        }
+
+        /**
+         * Checks if two vertices are in the same (weak) component
+         * Time Complexity: O(α(n)), O(V + E) for the first query after deletions
+         * @param u First vertex
+         * @param v Second vertex
+         * @return true if connected
+         */
+        public boolean connected(int u, int v) {
+            refreshComponents();
+            return components.connected(u, v);
+        }
+
+        /**
+         * Returns the number of (weak) components, isolated vertices included
+         * Time Complexity: O(1), O(V + E) for the first query after deletions
+         * @return Number of components
+         */
+        public int componentCount() {
+            refreshComponents();
+            // Ids beyond vertexCount are reserved capacity and always singletons
+            return components.getNumSets() - (out.length - vertexCount);
+        }
+
+        /**
+         * Rebuilds the union-find from the current edges if deletions happened
+         */
+        private void refreshComponents() {
+            if (!componentsStale) return;
+            components = new union_find.UnionFind(out.length);
+            for (int u = 0; u < vertexCount; u++) {
+                if (out[u] == null) continue;
+                final int from = u;
+                out[u].forEach(to -> components.union(from, to));
+            }
+            componentsStale = false;
+            rebuilds++;
+        }
+
+        /**
+         * Number of union-find rebuilds caused by deletions so far
+         * @return Rebuild count
+         */
+        public int rebuildCount() {
+            return rebuilds;
+        }
+
+        /**
+         * Copies the current edges into an immutable CSR graph
+         * Time Complexity: O(V + E log d)
+         * @return CSR snapshot (undirected edges appear in both directions)
+         */
+        public csr_graph.CsrGraph snapshot() {
+            int slots = 0;
+            for (int u = 0; u < vertexCount; u++) {
+                slots += degree(u);
+            }
+            int[] sources = new int[slots];
+            int[] targets = new int[slots];
+            int position = 0;
+            for (int u = 0; u < vertexCount; u++) {
+                if (out[u] == null) continue;
+                for (int v : out[u].toArray()) {
+                    sources[position] = u;
+                    targets[position++] = v;
+                }
+            }
+            return csr_graph.CsrGraph.fromEdges(vertexCount, sources, targets, null);
+        }
+
+        /**
+         * Returns the number of vertex ids in use
+         * @return Number of vertices
+         */
+        public int getVertexCount() {
+            return vertexCount;
+        }
+
+        /**
+         * Returns the number of edges
+         * @return Number of edges
+         */
+        public int getEdgeCount() {
+            return edgeCount;
+        }
+    }
+
+    /**
+     * Counts components of a CSR graph with repeated BFS (reference check)
+     */
+    private static int countComponents(csr_graph.CsrGraph graph) {
+        boolean[] seen = new boolean[graph.vertexCount()];
+        int count = 0;
+        for (int v = 0; v < graph.vertexCount(); v++) {
+            if (seen[v]) continue;
+            count++;
+            int[] distance = graph.bfs(v);
+            for (int w = 0; w < distance.length; w++) {
+                if (distance[w] >= 0) seen[w] = true;
+            }
+        }
+        return count;
+    }
+
+    public static void main(String[] args) {
+        System.out.println("Dynamic Graph Demo\n");
+
+        // Test 1: Basic updates
+        System.out.println("Test 1: Basic Updates");
+        DynamicGraph graph = new DynamicGraph(false);
+        graph.addEdge(0, 1);
+        graph.addEdge(1, 2);
+        graph.addEdge(3, 4);
+        System.out.println("addEdge(0, 1) again: " + graph.addEdge(0, 1));
+        System.out.println("Edges: " + graph.getEdgeCount() + ", components: " + graph.componentCount());
+        System.out.println("hasEdge(2, 1): " + graph.hasEdge(2, 1) + ", connected(0, 2): " + graph.connected(0, 2));
+        System.out.println();
+
+        // Test 2: Deletions trigger a lazy rebuild
+        System.out.println("Test 2: Deletions");
+        graph.removeEdge(1, 2);
+        graph.removeEdge(3, 4);
+        System.out.println("After removing 1-2 and 3-4: connected(0, 2): " + graph.connected(0, 2) +
+            ", components: " + graph.componentCount() + ", rebuilds: " + graph.rebuildCount());
+        graph.addEdge(2, 4);
+        System.out.println("After adding 2-4: connected(2, 4): " + graph.connected(2, 4) +
+            ", rebuilds: " + graph.rebuildCount());
+        System.out.println();
+
+        // Test 3: Directed graph removeVertex uses in-neighbor sets
+        System.out.println("Test 3: Directed removeVertex");
+        DynamicGraph directed = new DynamicGraph(true);
+        directed.addEdge(0, 1);
+        directed.addEdge(2, 1);
+        directed.addEdge(1, 3);
+        System.out.println("Removed edges touching 1: " + directed.removeVertex(1) +
+            ", edges left: " + directed.getEdgeCount());
+        System.out.println();
+
+        // Test 4: Random churn cross-checked against BFS on snapshots
+        System.out.println("Test 4: Random Churn vs BFS Components");
+        Random random = new Random(42);
+        DynamicGraph churn = new DynamicGraph(false);
+        Set<Long> reference = new HashSet<>();
+        List<Long> present = new ArrayList<>();  // reference edges, for picking deletions
+        int vertices = 20_000;
+        boolean consistent = true;
+        for (int batch = 0; batch < 20; batch++) {
+            for (int i = 0; i < 1_000; i++) {
+                if (batch % 2 == 1 && random.nextInt(3) == 0 && !present.isEmpty()) {
+                    int pick = random.nextInt(present.size());
+                    long key = present.get(pick);
+                    present.set(pick, present.get(present.size() - 1));
+                    present.remove(present.size() - 1);
+                    reference.remove(key);
+                    consistent &= churn.removeEdge((int) key, (int) (key >>> 32));
+                } else {
+                    int u = random.nextInt(vertices);
+                    int v = random.nextInt(vertices);
+                    long key = (long) Math.min(u, v) << 32 | Math.max(u, v);
+                    boolean added = reference.add(key);
+                    if (added) present.add(key);
+                    consistent &= churn.addEdge(u, v) == added;
+                }
+            }
+            churn.addVertex(vertices - 1);
+            consistent &= churn.getEdgeCount() == reference.size();
+            consistent &= churn.componentCount() == countComponents(churn.snapshot());
+        }
+        System.out.println("Matches reference: " + consistent + ", edges: " + churn.getEdgeCount() +
+            ", components: " + churn.componentCount() + ", rebuilds: " + churn.rebuildCount());
+        System.out.println();
+
+        // Test 5: Build up then tear down hub vertices vs Graph's ArrayList neighbors
+        System.out.println("Test 5: 50,000 Inserts then 50,000 Deletes on 10 Hub Vertices");
+        int[][] edges = new int[50_000][];
+        for (int i = 0; i < edges.length; i++) {
+            edges[i] = new int[]{random.nextInt(10), 10 + i};
+        }
+        int[][] deletions = edges.clone();
+        Collections.shuffle(Arrays.asList(deletions), random);
+        long start = System.nanoTime();
+        graph_implementation.Graph<Integer> lists = new graph_implementation.Graph<>(false);
+        for (int[] edge : edges) lists.addUndirectedEdge(edge[0], edge[1]);
+        for (int[] edge : deletions) lists.removeEdge(edge[0], edge[1]);
+        long listMs = (System.nanoTime() - start) / 1_000_000;
+        start = System.nanoTime();
+        DynamicGraph hashed = new DynamicGraph(false);
+        for (int[] edge : edges) hashed.addEdge(edge[0], edge[1]);
+        for (int[] edge : deletions) hashed.removeEdge(edge[0], edge[1]);
+        long hashedMs = (System.nanoTime() - start) / 1_000_000;
+        System.out.println("Graph (ArrayList): " + listMs + " ms, DynamicGraph: " + hashedMs +
+            " ms, edges left: " + lists.getEdgeCount() + "/" + hashed.getEdgeCount());
+    }
+}
@@ -0,0 +1,527 @@
+package org.algorithm_datastructure;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+/**
+ * Parallel Edge List Loader Implementation
+ *
+ * Builds a csr_graph.CsrGraph from a text edge list ("u v" or "u v w" per
+ * line, separated by spaces, tabs or commas; lines starting with '#' or '%'
+ * are comments) without going through Graph.addEdge and boxed maps:
+ *
+ * 1. Chunk: split the file into byte ranges that end on a newline
+ * 2. Parse: every chunk is mapped and parsed in parallel straight from the
+ *    bytes (no String, no split), and labels get dense ids from a shared
+ *    striped-lock VertexDictionary
+ * 3. Count: degrees are counted into an AtomicIntegerArray, then prefix-summed
+ *    into CSR offsets
+ * 4. Place: chunks scatter their edges in parallel, each edge claiming a slot
+ *    with getAndIncrement on its source's cursor
+ * 5. Sort: neighbor slices are sorted in parallel over vertex ranges
+ *
+ * Vertex labels must be non-negative integers (any long); ids are assigned
+ * in first-seen order per thread, so they differ between runs while the graph
+ * itself does not.
+ *
+ * Operations:
+ * - load(path, undirected, weighted, pool): Parse a file into a CSR graph - O(n + E log d)
+ * - Loaded.label(id), Loaded.id(label): Map between labels and ids - O(1)
+ *
+ * Time Complexity: O(n / p + E log d / p) for n bytes on p threads
+ * Space Complexity: O(V + E)
+ *
+ * Applications:
+ * - Loading SNAP / KONECT / Graph500 edge lists
+ * - ETL from log exports into graph analytics
+ */
+public class edge_list_loader {
+
+    private static final int MIN_CHUNK_BYTES = 1 << 20;
+    private static final int MAX_CHUNK_BYTES = 1 << 28;
+    private static final int VERTEX_GRAIN = 4096;
+
+    /**
+     * VertexDictionary class assigns dense ids to long labels; the key space
+     * is split into lock-striped open-addressing segments so threads parsing
+     * different labels rarely contend
+     */
+    static final class VertexDictionary {
+        private static final int STRIPE_BITS = 6;
+        private static final long EMPTY = -1L;
+
+        private final Segment[] segments = new Segment[1 << STRIPE_BITS];
+        private final AtomicInteger nextId = new AtomicInteger();
+
+        /**
+         * Segment class is one open-addressing table guarded by its own monitor
+         */
+        private static final class Segment {
+            long[] keys = new long[64];
+            int[] ids = new int[64];
+            int size;
+
+            Segment() {
+                Arrays.fill(keys, EMPTY);
+            }
+        }
+
+        VertexDictionary() {
+            for (int i = 0; i < segments.length; i++) {
+                segments[i] = new Segment();
+            }
+        }
+
+        private static long mix(long label) {
+            long h = label * 0x9E3779B97F4A7C15L;
+            return h ^ (h >>> 29);
+        }
+
+        /**
+         * Returns the id of label, assigning the next free id on first sight
+         * Time Complexity: O(1) expected
+         * @param label Non-negative vertex label
+         * @return Dense id
+         */
+        int idOf(long label) {
+            long hash = mix(label);
+            Segment segment = segments[(int) (hash >>> (64 - STRIPE_BITS))];
+            synchronized (segment) {
+                int mask = segment.keys.length - 1;
+                int slot = (int) hash & mask;
+                while (segment.keys[slot] != EMPTY) {
+                    if (segment.keys[slot] == label) return segment.ids[slot];
+                    slot = (slot + 1) & mask;
+                }
+                int id = nextId.getAndIncrement();
+                segment.keys[slot] = label;
+                segment.ids[slot] = id;
+                if (++segment.size * 2 > segment.keys.length) {
+                    grow(segment);
+                }
+                return id;
+            }
+        }
+
+        private static void grow(Segment segment) {
+            long[] oldKeys = segment.keys;
+            int[] oldIds = segment.ids;
+            segment.keys = new long[oldKeys.length * 2];
+            segment.ids = new int[oldKeys.length * 2];
+            Arrays.fill(segment.keys, EMPTY);
+            int mask = segment.keys.length - 1;
+            for (int i = 0; i < oldKeys.length; i++) {
+                if (oldKeys[i] == EMPTY) continue;
+                int slot = (int) mix(oldKeys[i]) & mask;
+                while (segment.keys[slot] != EMPTY) {
+                    slot = (slot + 1) & mask;
+                }
+                segment.keys[slot] = oldKeys[i];
+                segment.ids[slot] = oldIds[i];
+            }
+        }
+
+        int size() {
+            return nextId.get();
+        }
+
+        /**
+         * Inverts the dictionary once parsing is done
+         * @return labels[id]
+         */
+        long[] labels() {
+            long[] labels = new long[size()];
+            for (Segment segment : segments) {
+                for (int i = 0; i < segment.keys.length; i++) {
+                    if (segment.keys[i] != EMPTY) labels[segment.ids[i]] = segment.keys[i];
+                }
+            }
+            return labels;
+        }
+    }
+
+    /**
+     * ParsedChunk class holds the edges one parse task produced, already in ids
+     */
+    private static final class ParsedChunk {
+        final parallel_bfs.IntBuffer sources = new parallel_bfs.IntBuffer();
+        final parallel_bfs.IntBuffer targets = new parallel_bfs.IntBuffer();
+        final parallel_bfs.IntBuffer weights;
+
+        ParsedChunk(boolean weighted) {
+            this.weights = weighted ? new parallel_bfs.IntBuffer() : null;
+        }
+    }
+
+    /**
+     * Loaded class is the loader result: the graph, the id <-> label mapping
+     * and load statistics
+     */
+    static final class Loaded {
+        final csr_graph.CsrGraph graph;
+        private final long[] labels;
+        private Map<Long, Integer> ids;
+        final long inputEdges;
+        final long parseMillis;
+        final long buildMillis;
+        final long peakHeapBytes;
+
+        Loaded(csr_graph.CsrGraph graph, long[] labels, long inputEdges, long parseMillis, long buildMillis,
+               long peakHeapBytes) {
+            this.graph = graph;
+            this.labels = labels;
+            this.inputEdges = inputEdges;
+            this.parseMillis = parseMillis;
+            this.buildMillis = buildMillis;
+            this.peakHeapBytes = peakHeapBytes;
+        }
+
+        /**
+         * Original label of an id
+         * @param id Dense id
+         * @return Label from the file
+         */
+        public long label(int id) {
+            return labels[id];
+        }
+
+        /**
+         * Id of a label (builds the reverse map on first use)
+         * @param label Label from the file
+         * @return Dense id
+         */
+        public int id(long label) {
+            if (ids == null) {
+                ids = new HashMap<>(labels.length * 2);
+                for (int i = 0; i < labels.length; i++) {
+                    ids.put(labels[i], i);
+                }
+            }
+            Integer id = ids.get(label);
+            if (id == null) {
+                throw new NoSuchElementException("Unknown vertex: " + label);
+            }
+            return id;
+        }
+
+        /**
+         * Input edges per second over parse and build
+         * @return Throughput
+         */
+        public double edgesPerSecond() {
+            return inputEdges * 1000.0 / Math.max(1, parseMillis + buildMillis);
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%,d vertices, %,d edges in %d + %d ms (%,.0f edges/sec), peak heap %d MB",
+                graph.vertexCount(), inputEdges, parseMillis, buildMillis, edgesPerSecond(),
+                peakHeapBytes / (1024 * 1024));
+        }
+    }
+
+    /**
+     * Loads an edge list file into a CSR graph
+     * Time Complexity: O(n / p + E log d / p)
+     * @param path Edge list file
+     * @param undirected true to store every edge in both directions
+     * @param weighted true to read a third integer column as the weight
+     * @param pool Pool that runs the parallel phases
+     * @return Graph, labels and statistics
+     * @throws IOException on I/O failure
+     * @throws IllegalArgumentException on a malformed line
+     */
+    public static Loaded load(Path path, boolean undirected, boolean weighted, ForkJoinPool pool) throws IOException {
+        List<MemoryPoolMXBean> heapPools = new ArrayList<>();
+        for (MemoryPoolMXBean memoryPool : ManagementFactory.getMemoryPoolMXBeans()) {
+            if (memoryPool.getType() == MemoryType.HEAP) {
+                memoryPool.resetPeakUsage();
+                heapPools.add(memoryPool);
+            }
+        }
+        long start = System.nanoTime();
+        VertexDictionary dictionary = new VertexDictionary();
+        ParsedChunk[] chunks;
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long[] bounds = chunkBounds(channel, pool.getParallelism());
+            chunks = new ParsedChunk[bounds.length - 1];
+            if (chunks.length == 0) {
+                // Empty file: no edges and no vertices
+                csr_graph.CsrGraph empty = new csr_graph.CsrGraph(0, new int[1], new int[0], weighted ? new int[0] : null);
+                return new Loaded(empty, new long[0], 0, (System.nanoTime() - start) / 1_000_000, 0,
+                    peakHeapBytes(heapPools));
+            }
+            pool.invoke(new parallel_bfs.ChunkTask(chunk -> {
+                try {
+                    MappedByteBuffer bytes = channel.map(FileChannel.MapMode.READ_ONLY,
+                        bounds[chunk], bounds[chunk + 1] - bounds[chunk]);
+                    chunks[chunk] = parse(bytes, bounds[chunk], weighted, dictionary);
+                } catch (IOException e) {
+                    throw new java.io.UncheckedIOException(e);
+                }
+            }, 0, chunks.length));
+        } catch (java.io.UncheckedIOException e) {
+            throw e.getCause();
+        } catch (IllegalArgumentException e) {
+            // ForkJoin may rethrow a copy wrapping the worker's exception
+            throw e.getCause() instanceof IllegalArgumentException ? (IllegalArgumentException) e.getCause() : e;
+        }
+        long parsed = System.nanoTime();
+
+        int vertexCount = dictionary.size();
+        long inputEdges = 0;
+        for (ParsedChunk chunk : chunks) {
+            inputEdges += chunk.sources.size;
+        }
+        if (inputEdges * (undirected ? 2 : 1) > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Too many edges for CsrGraph: " + inputEdges);
+        }
+
+        // Pass 1: count out-degrees
+        AtomicIntegerArray degree = new AtomicIntegerArray(vertexCount);
+        pool.invoke(new parallel_bfs.ChunkTask(chunk -> {
+            ParsedChunk edges = chunks[chunk];
+            for (int i = 0; i < edges.sources.size; i++) {
+                degree.incrementAndGet(edges.sources.data[i]);
+                if (undirected) degree.incrementAndGet(edges.targets.data[i]);
+            }
+        }, 0, chunks.length));
+        int[] offsets = new int[vertexCount + 1];
+        for (int v = 0; v < vertexCount; v++) {
+            offsets[v + 1] = offsets[v] + degree.get(v);
+        }
+
+        // Pass 2: scatter edges into their slots
+        int[] targets = new int[offsets[vertexCount]];
+        int[] weights = weighted ? new int[targets.length] : null;
+        AtomicIntegerArray cursor = degree;
+        for (int v = 0; v < vertexCount; v++) {
+            cursor.set(v, offsets[v]);
+        }
+        pool.invoke(new parallel_bfs.ChunkTask(chunk -> {
+            ParsedChunk edges = chunks[chunk];
+            for (int i = 0; i < edges.sources.size; i++) {
+                int u = edges.sources.data[i];
+                int v = edges.targets.data[i];
+                int slot = cursor.getAndIncrement(u);
+                targets[slot] = v;
+                if (weighted) weights[slot] = edges.weights.data[i];
+                if (undirected) {
+                    slot = cursor.getAndIncrement(v);
+                    targets[slot] = u;
+                    if (weighted) weights[slot] = edges.weights.data[i];
+                }
+            }
+            chunks[chunk] = null;  // release parse buffers as soon as they are placed
+        }, 0, chunks.length));
+
+        int vertexChunks = (vertexCount + VERTEX_GRAIN - 1) / VERTEX_GRAIN;
+        if (vertexChunks > 0) {
+            pool.invoke(new parallel_bfs.ChunkTask(chunk -> csr_graph.CsrGraph.sortSlices(chunk * VERTEX_GRAIN,
+                Math.min(vertexCount, (chunk + 1) * VERTEX_GRAIN), offsets, targets, weights), 0, vertexChunks));
+        }
+        csr_graph.CsrGraph graph = new csr_graph.CsrGraph(vertexCount, offsets, targets, weights);
+        long built = System.nanoTime();
+
+        return new Loaded(graph, dictionary.labels(), inputEdges, (parsed - start) / 1_000_000,
+            (built - parsed) / 1_000_000, peakHeapBytes(heapPools));
+    }
+
+    private static long peakHeapBytes(List<MemoryPoolMXBean> heapPools) {
+        long peak = 0;
+        for (MemoryPoolMXBean memoryPool : heapPools) {
+            peak += memoryPool.getPeakUsage().getUsed();
+        }
+        return peak;
+    }
+
+    /**
+     * Splits the file into ranges of roughly equal size, each ending just
+     * after a newline (or at end of file)
+     */
+    private static long[] chunkBounds(FileChannel channel, int parallelism) throws IOException {
+        long size = channel.size();
+        long target = Math.max(MIN_CHUNK_BYTES, Math.min(MAX_CHUNK_BYTES, size / (parallelism * 8L)));
+        List<Long> bounds = new ArrayList<>();
+        bounds.add(0L);
+        ByteBuffer probe = ByteBuffer.allocate(4096);
+        long position = 0;
+        while (position < size) {
+            long end = Math.min(size, position + target);
+            // Advance end past the next newline so no line straddles two chunks
+            scan:
+            while (end < size) {
+                probe.clear();
+                int read = channel.read(probe, end);
+                for (int i = 0; i < read; i++) {
+                    if (probe.get(i) == '\n') {
+                        end += i + 1;
+                        break scan;
+                    }
+                }
+                end += read;
+            }
+            end = Math.min(end, size);
+            bounds.add(end);
+            position = end;
+        }
+        long[] result = new long[bounds.size()];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = bounds.get(i);
+        }
+        return result;
+    }
+
+    /**
+     * Parses the edges of one chunk directly from its bytes
+     */
+    private static ParsedChunk parse(ByteBuffer bytes, long baseOffset, boolean weighted,
+                                     VertexDictionary dictionary) {
+        ParsedChunk chunk = new ParsedChunk(weighted);
+        long[] fields = new long[3];
+        int limit = bytes.limit();
+        int position = 0;
+        while (position < limit) {
+            int lineStart = position;
+            int count = 0;
+            byte b = bytes.get(position);
+            if (b == '#' || b == '%') {
+                while (position < limit && bytes.get(position) != '\n') position++;
+                position++;
+                continue;
+            }
+            while (position < limit && (b = bytes.get(position)) != '\n') {
+                if (b == ' ' || b == '\t' || b == ',' || b == '\r') {
+                    position++;
+                    continue;
+                }
+                boolean negative = b == '-';
+                if (negative) position++;
+                long value = 0;
+                int digits = 0;
+                while (position < limit && (b = bytes.get(position)) >= '0' && b <= '9') {
+                    value = value * 10 + (b - '0');
+                    position++;
+                    digits++;
+                }
+                if (digits == 0) {
+                    throw new IllegalArgumentException("Malformed edge at byte " + (baseOffset + lineStart));
+                }
+                if (count < fields.length) fields[count] = negative ? -value : value;
+                count++;  // extra columns (timestamps, ...) are ignored
+            }
+            position++;  // newline
+            if (count == 0) continue;
+            if (count < 2 || (weighted && count < 3) || fields[0] < 0 || fields[1] < 0) {
+                throw new IllegalArgumentException("Malformed edge at byte " + (baseOffset + lineStart));
+            }
+            chunk.sources.add(dictionary.idOf(fields[0]));
+            chunk.targets.add(dictionary.idOf(fields[1]));
+            if (weighted) chunk.weights.add((int) fields[2]);
+        }
+        return chunk;
+    }
+
+    /**
+     * Writes a random edge list with sparse 12-digit labels
+     */
+    private static void writeRandomEdgeList(Path path, int vertices, int edges, long seed) throws IOException {
+        Random random = new Random(seed);
+        long[] labels = new long[vertices];
+        for (int i = 0; i < vertices; i++) {
+            labels[i] = 100_000_000_000L + (long) i * 7_919 + random.nextInt(7_919);
+        }
+        try (BufferedWriter writer = Files.newBufferedWriter(path)) {
+            writer.write("# random edge list: source target\n");
+            for (int i = 0; i < edges; i++) {
+                writer.write(Long.toString(labels[random.nextInt(vertices)]));
+                writer.write('\t');
+                writer.write(Long.toString(labels[random.nextInt(vertices)]));
+                writer.write('\n');
+            }
+        }
+    }
+
+    public static void main(String[] args) throws IOException {
+        System.out.println("Parallel Edge List Loader Demo\n");
+        Path directory = Files.createTempDirectory("edge_list_loader");
+        ForkJoinPool pool = ForkJoinPool.commonPool();
+
+        // Test 1: Small weighted file with comments, tabs, commas and CRLF
+        System.out.println("Test 1: Small Weighted File");
+        Path small = directory.resolve("small.txt");
+        Files.writeString(small, "# from to weight\n1001 2002 7\n1001\t3003\t2\r\n% comment\n\n3003,2002,1\n");
+        Loaded loaded = load(small, false, true, pool);
+        for (int v = 0; v < loaded.graph.vertexCount(); v++) {
+            StringBuilder edges = new StringBuilder();
+            for (int e = loaded.graph.edgeStart(v); e < loaded.graph.edgeEnd(v); e++) {
+                edges.append(loaded.label(loaded.graph.target(e))).append("(").append(loaded.graph.weight(e)).append(") ");
+            }
+            System.out.println(loaded.label(v) + " -> " + edges.toString().trim());
+        }
+        Path bad = directory.resolve("bad.txt");
+        Files.writeString(bad, "1 2\n3 x\n");
+        try {
+            load(bad, false, false, pool);
+        } catch (IllegalArgumentException e) {
+            System.out.println("Malformed file: " + e.getMessage());
+        }
+        Path empty = directory.resolve("empty.txt");
+        Files.createFile(empty);
+        Loaded emptyGraph = load(empty, true, true, pool);
+        System.out.println("Empty file: " + emptyGraph.graph.vertexCount() + " vertices, " +
+            emptyGraph.graph.edgeCount() + " edges");
+        System.out.println();
+
+        // Test 2: Same file through BufferedReader + split + Graph.addEdge
+        System.out.println("Test 2: 500,000 Edges vs Graph.addEdge");
+        Path medium = directory.resolve("medium.txt");
+        writeRandomEdgeList(medium, 100_000, 500_000, 44);
+        long start = System.nanoTime();
+        graph_implementation.Graph<Long> boxed = new graph_implementation.Graph<>(false);
+        try (BufferedReader reader = Files.newBufferedReader(medium)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.startsWith("#")) continue;
+                String[] parts = line.split("\\s+");
+                boxed.addUndirectedEdge(Long.parseLong(parts[0]), Long.parseLong(parts[1]));
+            }
+        }
+        long boxedMs = (System.nanoTime() - start) / 1_000_000;
+        Loaded mediumGraph = load(medium, true, false, pool);
+        boolean degreesMatch = mediumGraph.graph.vertexCount() == boxed.getVertexCount();
+        for (long label : boxed.getVertices()) {
+            degreesMatch &= boxed.getNeighbors(label).size() == mediumGraph.graph.degree(mediumGraph.id(label));
+        }
+        System.out.println("Graph.addEdge: " + boxedMs + " ms");
+        System.out.println("Loader: " + mediumGraph);
+        System.out.println("Degrees match: " + degreesMatch);
+        System.out.println();
+
+        // Test 3: Throughput on a larger file
+        System.out.println("Test 3: 4,000,000 Edges");
+        Path large = directory.resolve("large.txt");
+        writeRandomEdgeList(large, 1_000_000, 4_000_000, 45);
+        System.out.println("File: " + Files.size(large) / (1024 * 1024) + " MB, threads: " + pool.getParallelism());
+        System.out.println("Loader: " + load(large, false, false, pool));
+
+        for (Path file : new Path[]{small, bad, empty, medium, large}) {
+            Files.deleteIfExists(file);
+        }
+        Files.deleteIfExists(directory);
+    }
+}
@@ -1,6 +1,10 @@
 package org.algorithm_datastructure;
 
 import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
 
 /**
  * Graph Implementation using Adjacency List
@@ -18,6 +22,14 @@ import java.util.*;
  * - getNeighbors(vertex): Get adjacent vertices - O(1)
  * - dfs(): Depth-first search - O(V + E)
  * - bfs(): Breadth-first search - O(V + E)
+ * - findCycle(): Directed cycle as a vertex path - O(V + E)
+ * - topologicalSort(): Kahn's algorithm - O(V + E)
+ * - topologicalWaves(): Parallel Kahn wavefronts - O(V + E) work
+ *
+ * dfs runs iteratively over the vertices it reaches. Cycle detection and
+ * topological sorts visit the whole graph anyway, so they snapshot the
+ * adjacency lists into int-indexed arrays first. All of them use explicit
+ * stacks, so chains millions of vertices deep do not overflow the call stack.
  *
  * Time Complexity: Most operations O(1), traversals O(V + E)
  * Space Complexity: O(V + E)
@@ -30,6 +42,96 @@ import java.util.*;
  */
 public class graph_implementation {
 
+    /**
+     * IntIndex class is an int-indexed snapshot of a graph: vertex i is
+     * vertices.get(i), and its neighbors are targets[offsets[i] .. offsets[i + 1] - 1]
+     * in adjacency list order
+     */
+    static final class IntIndex<T> {
+        final List<T> vertices;
+        final Map<T, Integer> ids;
+        final int[] offsets;
+        final int[] targets;
+
+        IntIndex(Map<T, List<T>> adjacencyList) {
+            int n = adjacencyList.size();
+            this.vertices = new ArrayList<>(adjacencyList.keySet());
+            this.ids = new HashMap<>(n * 2);
+            for (int i = 0; i < n; i++) {
+                ids.put(vertices.get(i), i);
+            }
+            this.offsets = new int[n + 1];
+            for (int i = 0; i < n; i++) {
+                offsets[i + 1] = offsets[i] + adjacencyList.get(vertices.get(i)).size();
+            }
+            this.targets = new int[offsets[n]];
+            int slot = 0;
+            for (T vertex : vertices) {
+                for (T neighbor : adjacencyList.get(vertex)) {
+                    targets[slot++] = ids.get(neighbor);
+                }
+            }
+        }
+
+        int size() {
+            return vertices.size();
+        }
+
+        List<T> toVertices(int[] path, int from, int to) {
+            List<T> result = new ArrayList<>(to - from);
+            for (int i = from; i < to; i++) {
+                result.add(vertices.get(path[i]));
+            }
+            return result;
+        }
+    }
+
+    /**
+     * WaveTask class releases the successors of wave[lo, hi): every vertex
+     * whose in-degree drops to zero is appended to next
+     */
+    static final class WaveTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+        private static final int GRAIN = 1024;  // vertices per leaf task
+
+        private final transient IntIndex<?> index;
+        private final int[] wave;
+        private final int lo;
+        private final int hi;
+        private final AtomicIntegerArray inDegree;
+        private final int[] next;
+        private final AtomicInteger nextSize;
+
+        WaveTask(IntIndex<?> index, int[] wave, int lo, int hi, AtomicIntegerArray inDegree,
+                 int[] next, AtomicInteger nextSize) {
+            this.index = index;
+            this.wave = wave;
+            this.lo = lo;
+            this.hi = hi;
+            this.inDegree = inDegree;
+            this.next = next;
+            this.nextSize = nextSize;
+        }
+
+        @Override
+        protected void compute() {
+            if (hi - lo > GRAIN) {
+                int mid = (lo + hi) >>> 1;
+                invokeAll(new WaveTask(index, wave, lo, mid, inDegree, next, nextSize),
+                          new WaveTask(index, wave, mid, hi, inDegree, next, nextSize));
+                return;
+            }
+            for (int i = lo; i < hi; i++) {
+                int vertex = wave[i];
+                for (int e = index.offsets[vertex]; e < index.offsets[vertex + 1]; e++) {
+                    if (inDegree.decrementAndGet(index.targets[e]) == 0) {
+                        next[nextSize.getAndIncrement()] = index.targets[e];
+                    }
+                }
+            }
+        }
+    }
+
     /**
      * Graph class using adjacency list
      */
@@ -145,26 +247,35 @@ public class graph_implementation {
 
         /**
          * Performs depth-first search from a starting vertex
-         * Time Complexity: O(V + E)
+         * Time Complexity: O(V' + E') for the reachable part of the graph
          * @param start Starting vertex
          * @return List of vertices in DFS order
          */
         public List<T> dfs(T start) {
+            // Iterative: one neighbor iterator per open vertex, so deep graphs
+            // cannot overflow the call stack and only reachable vertices are touched
             List<T> result = new ArrayList<>();
             Set<T> visited = new HashSet<>();
-            dfsHelper(start, visited, result);
-            return result;
-        }
-
-        private void dfsHelper(T vertex, Set<T> visited, List<T> result) {
-            visited.add(vertex);
-            result.add(vertex);
+            Deque<Iterator<T>> stack = new ArrayDeque<>();
 
-            for (T neighbor : getNeighbors(vertex)) {
-                if (!visited.contains(neighbor)) {
-                    dfsHelper(neighbor, visited, result);
+            visited.add(start);
+            result.add(start);
+            stack.push(getNeighbors(start).iterator());
+
+            while (!stack.isEmpty()) {
+                Iterator<T> neighbors = stack.peek();
+                if (!neighbors.hasNext()) {
+                    stack.pop();
+                    continue;
+                }
+                T neighbor = neighbors.next();
+                if (visited.add(neighbor)) {
+                    result.add(neighbor);
+                    stack.push(getNeighbors(neighbor).iterator());
                 }
             }
+
+            return result;
         }
 
         /**
@@ -202,38 +313,126 @@ public class graph_implementation {
          * @return true if cycle exists
          */
         public boolean hasCycle() {
-            Set<T> visited = new HashSet<>();
-            Set<T> recursionStack = new HashSet<>();
+            return !findCycle().isEmpty();
+        }
 
-            for (T vertex : adjacencyList.keySet()) {
-                if (hasCycleHelper(vertex, visited, recursionStack)) {
-                    return true;
+        /**
+         * Finds a directed cycle with an iterative three-color DFS
+         * Time Complexity: O(V + E)
+         * @return Cycle as a closed path [v, ..., v], or empty list if acyclic
+         */
+        public List<T> findCycle() {
+            IntIndex<T> index = new IntIndex<>(adjacencyList);
+            int n = index.size();
+            byte[] state = new byte[n];  // 0 = unvisited, 1 = on stack, 2 = finished
+            int[] stack = new int[n + 1];
+            int[] cursor = Arrays.copyOf(index.offsets, n);
+
+            for (int root = 0; root < n; root++) {
+                if (state[root] != 0) continue;
+                int top = 0;
+                stack[0] = root;
+                state[root] = 1;
+                while (top >= 0) {
+                    int vertex = stack[top];
+                    if (cursor[vertex] == index.offsets[vertex + 1]) {
+                        state[vertex] = 2;
+                        top--;
+                        continue;
+                    }
+                    int neighbor = index.targets[cursor[vertex]++];
+                    if (state[neighbor] == 0) {
+                        state[neighbor] = 1;
+                        stack[++top] = neighbor;
+                    } else if (state[neighbor] == 1) {
+                        // Back edge: the cycle is the stack suffix starting at neighbor
+                        int from = top;
+                        while (stack[from] != neighbor) {
+                            from--;
+                        }
+                        stack[top + 1] = neighbor;
+                        return index.toVertices(stack, from, top + 2);
+                    }
                 }
             }
-
-            return false;
+            return new ArrayList<>();
         }
 
-        private boolean hasCycleHelper(T vertex, Set<T> visited, Set<T> recursionStack) {
-            if (recursionStack.contains(vertex)) {
-                return true;
+        /**
+         * Orders vertices so every edge goes forward (Kahn's algorithm)
+         * Time Complexity: O(V + E)
+         * @return Vertices in topological order
+         * @throws IllegalStateException if the graph has a cycle
+         */
+        public List<T> topologicalSort() {
+            IntIndex<T> index = new IntIndex<>(adjacencyList);
+            int n = index.size();
+            int[] inDegree = new int[n];
+            for (int target : index.targets) {
+                inDegree[target]++;
             }
-
-            if (visited.contains(vertex)) {
-                return false;
+            int[] queue = new int[n];
+            int head = 0;
+            int tail = 0;
+            for (int v = 0; v < n; v++) {
+                if (inDegree[v] == 0) queue[tail++] = v;
             }
-
-            visited.add(vertex);
-            recursionStack.add(vertex);
-
-            for (T neighbor : getNeighbors(vertex)) {
-                if (hasCycleHelper(neighbor, visited, recursionStack)) {
-                    return true;
+            while (head < tail) {
+                int vertex = queue[head++];
+                for (int e = index.offsets[vertex]; e < index.offsets[vertex + 1]; e++) {
+                    if (--inDegree[index.targets[e]] == 0) {
+                        queue[tail++] = index.targets[e];
+                    }
                 }
             }
+            if (tail < n) {
+                throw new IllegalStateException("Graph has a cycle: " + findCycle());
+            }
+            return index.toVertices(queue, 0, n);
+        }
 
-            recursionStack.remove(vertex);
-            return false;
+        /**
+         * Groups vertices into Kahn wavefronts: wave 0 has no incoming edges,
+         * and wave k holds the vertices whose last predecessor is in wave k - 1.
+         * Each wave is processed in parallel, decrementing shared atomic
+         * in-degrees; vertices of one wave can be built/scheduled concurrently.
+         * Time Complexity: O(V + E) work, O(longest path) parallel steps
+         * @param pool Pool that processes each wave
+         * @return Waves in order; concatenated they form a topological order
+         * @throws IllegalStateException if the graph has a cycle
+         */
+        public List<List<T>> topologicalWaves(ForkJoinPool pool) {
+            IntIndex<T> index = new IntIndex<>(adjacencyList);
+            int n = index.size();
+            int[] counts = new int[n];
+            for (int target : index.targets) {
+                counts[target]++;
+            }
+            AtomicIntegerArray inDegree = new AtomicIntegerArray(counts);
+            int[] wave = new int[n];
+            int waveSize = 0;
+            for (int v = 0; v < n; v++) {
+                if (counts[v] == 0) wave[waveSize++] = v;
+            }
+            int[] next = new int[n];
+            List<List<T>> waves = new ArrayList<>();
+            int processed = 0;
+
+            while (waveSize > 0) {
+                waves.add(index.toVertices(wave, 0, waveSize));
+                processed += waveSize;
+                AtomicInteger nextSize = new AtomicInteger();
+                pool.invoke(new WaveTask(index, wave, 0, waveSize, inDegree, next, nextSize));
+                waveSize = nextSize.get();
+                Arrays.sort(next, 0, waveSize);  // threads append in any order
+                int[] swap = wave;
+                wave = next;
+                next = swap;
+            }
+            if (processed < n) {
+                throw new IllegalStateException("Graph has a cycle: " + findCycle());
+            }
+            return waves;
         }
 
         /**
@@ -331,6 +530,7 @@ public class graph_implementation {
         System.out.println("Cyclic graph:");
         System.out.println(cyclicGraph);
         System.out.println("Has cycle: " + cyclicGraph.hasCycle());
+        System.out.println("Cycle path: " + cyclicGraph.findCycle());
 
         Graph<String> acyclicGraph = new Graph<>(true);
         acyclicGraph.addEdge("A", "B");
@@ -340,6 +540,7 @@ public class graph_implementation {
         System.out.println("\nAcyclic graph:");
         System.out.println(acyclicGraph);
         System.out.println("Has cycle: " + acyclicGraph.hasCycle());
+        System.out.println("Cycle path: " + acyclicGraph.findCycle());
         System.out.println();
 
         // Test 7: Remove operations
@@ -359,5 +560,73 @@ public class graph_implementation {
         removeGraph.removeVertex("C");
         System.out.println("After removing vertex C:");
         System.out.println(removeGraph);
+
+        // Test 8: Topological sort of a build graph
+        System.out.println("Test 8: Topological Sort");
+        Graph<String> build = new Graph<>(true);
+        build.addEdge("core", "io");
+        build.addEdge("core", "util");
+        build.addEdge("util", "net");
+        build.addEdge("io", "net");
+        build.addEdge("net", "app");
+        build.addEdge("util", "app");
+        System.out.println("Topological order: " + build.topologicalSort());
+        System.out.println("Parallel waves: " + build.topologicalWaves(ForkJoinPool.commonPool()));
+        build.addEdge("app", "core");
+        try {
+            build.topologicalSort();
+        } catch (IllegalStateException e) {
+            System.out.println("After adding app -> core: " + e.getMessage());
+        }
+        System.out.println();
+
+        // Test 9: Dependency chain 1,000,000 deep (recursion would overflow)
+        System.out.println("Test 9: 1,000,000-Deep Chain");
+        Graph<Integer> chain = new Graph<>(true);
+        int depth = 1_000_000;
+        for (int i = 0; i < depth - 1; i++) {
+            chain.addEdge(i, i + 1);
+        }
+        List<Integer> deepDfs = chain.dfs(0);
+        System.out.println("DFS visited: " + deepDfs.size() + ", last: " + deepDfs.get(deepDfs.size() - 1));
+        System.out.println("Has cycle: " + chain.hasCycle());
+        List<Integer> order = chain.topologicalSort();
+        System.out.println("Topological sort first/last: " + order.get(0) + "/" + order.get(depth - 1));
+        chain.addEdge(depth - 1, depth / 2);
+        List<Integer> cycle = chain.findCycle();
+        System.out.println("After closing a loop, cycle length: " + (cycle.size() - 1) +
+            ", from " + cycle.get(0) + " to " + cycle.get(cycle.size() - 1));
+        System.out.println();
+
+        // Test 10: Wide random DAG, waves respect every edge
+        System.out.println("Test 10: Random DAG Waves");
+        Graph<Integer> dag = new Graph<>(true);
+        Random random = new Random(41);
+        int vertices = 100_000;
+        for (int v = 0; v < vertices; v++) {
+            dag.addVertex(v);
+        }
+        for (int i = 0; i < 500_000; i++) {
+            int a = random.nextInt(vertices);
+            int b = random.nextInt(vertices);
+            if (a != b) dag.addEdge(Math.min(a, b), Math.max(a, b));
+        }
+        List<List<Integer>> waves = dag.topologicalWaves(ForkJoinPool.commonPool());
+        Map<Integer, Integer> waveOf = new HashMap<>();
+        for (int w = 0; w < waves.size(); w++) {
+            for (int v : waves.get(w)) waveOf.put(v, w);
+        }
+        Map<Integer, Integer> position = new HashMap<>();
+        List<Integer> sorted = dag.topologicalSort();
+        for (int i = 0; i < sorted.size(); i++) {
+            position.put(sorted.get(i), i);
+        }
+        boolean valid = waveOf.size() == vertices && position.size() == vertices;
+        for (int v = 0; v < vertices; v++) {
+            for (int w : dag.getNeighbors(v)) {
+                valid &= waveOf.get(v) < waveOf.get(w) && position.get(v) < position.get(w);
+            }
+        }
+        System.out.println("Waves: " + waves.size() + ", every edge goes forward: " + valid);
     }
 }
@@ -0,0 +1,384 @@
+package org.algorithm_datastructure;
+
+import java.util.*;
+
+/**
+ * Interval Tree Implementation
+ *
+ * A self-balancing (AVL) binary search tree of closed intervals [low, high],
+ * ordered by (low, high). Every node also stores the largest high endpoint
+ * in its subtree, which lets queries skip whole subtrees that end before the
+ * query starts.
+ *
+ * Unlike merge_interval, which sorts and merges a static array once, the tree
+ * supports inserts and deletes between queries.
+ *
+ * Overlap rule: [a, b] and [c, d] overlap when a <= d and c <= b.
+ * Pruning rule: descend left only if left.maxHigh >= query low; descend
+ * right only if node.low <= query high (right keys are not smaller).
+ *
+ * Operations:
+ * - put(low, high, value): Insert or replace an interval - O(log n)
+ * - remove(low, high): Delete an interval - O(log n)
+ * - stab(point): All intervals containing point - O(log n + k) typical
+ * - overlapping(low, high): All intervals overlapping [low, high] - O(log n + k) typical
+ * - anyOverlap(low, high): One overlapping interval or null - O(log n)
+ *
+ * Time Complexity: O(log n) per update, O(min(n, (k + 1) log n)) per report query
+ * Space Complexity: O(n)
+ *
+ * Applications:
+ * - Scheduling and calendar conflict detection
+ * - Genomic range lookups
+ * - Window queries in databases and GIS
+ */
+public class interval_tree {
+
+    /**
+     * Interval class is an immutable closed interval with a payload
+     */
+    static final class Interval<V> {
+        final int low;
+        final int high;
+        final V value;
+
+        Interval(int low, int high, V value) {
+            this.low = low;
+            this.high = high;
+            this.value = value;
+        }
+
+        boolean overlaps(int otherLow, int otherHigh) {
+            return low <= otherHigh && otherLow <= high;
+        }
+
+        @Override
+        public String toString() {
+            return "[" + low + ", " + high + "]" + (value == null ? "" : "=" + value);
+        }
+    }
+
+    /**
+     * Node class stores one interval and the subtree augmentation
+     */
+    static class Node<V> {
+        Interval<V> interval;
+        Node<V> left;
+        Node<V> right;
+        int height;
+        int maxHigh;  // largest high endpoint in this subtree
+
+        Node(Interval<V> interval) {
+            this.interval = interval;
+            this.height = 1;
+            this.maxHigh = interval.high;
+        }
+    }
+
+    /**
+     * IntervalTree class implements the augmented AVL tree
+     */
+    static class IntervalTree<V> {
+        private Node<V> root;
+        private int size;
+        private V previous;  // value replaced or removed by the last update
+
+        /**
+         * Constructor - creates empty interval tree
+         */
+        public IntervalTree() {
+            this.root = null;
+            this.size = 0;
+        }
+
+        private static int height(Node<?> node) {
+            return node == null ? 0 : node.height;
+        }
+
+        private static int maxHigh(Node<?> node) {
+            return node == null ? Integer.MIN_VALUE : node.maxHigh;
+        }
+
+        private static void update(Node<?> node) {
+            node.height = 1 + Math.max(height(node.left), height(node.right));
+            node.maxHigh = Math.max(node.interval.high, Math.max(maxHigh(node.left), maxHigh(node.right)));
+        }
+
+        private static int compare(int low, int high, Interval<?> interval) {
+            if (low != interval.low) return Integer.compare(low, interval.low);
+            return Integer.compare(high, interval.high);
+        }
+
+        private Node<V> rotateRight(Node<V> node) {
+            Node<V> pivot = node.left;
+            node.left = pivot.right;
+            pivot.right = node;
+            update(node);
+            update(pivot);
+            return pivot;
+        }
+
+        private Node<V> rotateLeft(Node<V> node) {
+            Node<V> pivot = node.right;
+            node.right = pivot.left;
+            pivot.left = node;
+            update(node);
+            update(pivot);
+            return pivot;
+        }
+
+        private Node<V> rebalance(Node<V> node) {
+            update(node);
+            int balance = height(node.left) - height(node.right);
+            if (balance > 1) {
+                if (height(node.left.left) < height(node.left.right)) {
+                    node.left = rotateLeft(node.left);
+                }
+                return rotateRight(node);
+            }
+            if (balance < -1) {
+                if (height(node.right.right) < height(node.right.left)) {
+                    node.right = rotateRight(node.right);
+                }
+                return rotateLeft(node);
+            }
+            return node;
+        }
+
+        /**
+         * Inserts the interval [low, high] or replaces its value
+         * Time Complexity: O(log n)
+         * @param low Start (inclusive)
+         * @param high End (inclusive), at least low
+         * @param value Payload
+         * @return Previous value for the same interval, or null
+         */
+        public V put(int low, int high, V value) {
+            if (low > high) {
+                throw new IllegalArgumentException("Invalid interval: [" + low + ", " + high + "]");
+            }
+            previous = null;
+            root = putHelper(root, new Interval<>(low, high, value));
+            return previous;
+        }
+
+        private Node<V> putHelper(Node<V> node, Interval<V> interval) {
+            if (node == null) {
+                size++;
+                return new Node<>(interval);
+            }
+            int cmp = compare(interval.low, interval.high, node.interval);
+            if (cmp < 0) {
+                node.left = putHelper(node.left, interval);
+            } else if (cmp > 0) {
+                node.right = putHelper(node.right, interval);
+            } else {
+                previous = node.interval.value;
+                node.interval = interval;
+                return node;
+            }
+            return rebalance(node);
+        }
+
+        /**
+         * Removes the interval [low, high]
+         * Time Complexity: O(log n)
+         * @param low Start of interval
+         * @param high End of interval
+         * @return Removed value, or null if absent
+         */
+        public V remove(int low, int high) {
+            previous = null;
+            root = removeHelper(root, low, high);
+            return previous;
+        }
+
+        private Node<V> removeHelper(Node<V> node, int low, int high) {
+            if (node == null) return null;
+            int cmp = compare(low, high, node.interval);
+            if (cmp < 0) {
+                node.left = removeHelper(node.left, low, high);
+            } else if (cmp > 0) {
+                node.right = removeHelper(node.right, low, high);
+            } else {
+                previous = node.interval.value;
+                size--;
+                if (node.left == null) return node.right;
+                if (node.right == null) return node.left;
+                Node<V> successor = node.right;
+                while (successor.left != null) {
+                    successor = successor.left;
+                }
+                node.interval = successor.interval;
+                size++;  // the successor's own removal decrements again
+                V removed = previous;
+                node.right = removeHelper(node.right, successor.interval.low, successor.interval.high);
+                previous = removed;
+            }
+            return rebalance(node);
+        }
+
+        /**
+         * Finds all intervals containing point
+         * Time Complexity: O(log n + k) typical
+         * @param point Query point
+         * @return Intervals with low <= point <= high, sorted by (low, high)
+         */
+        public List<Interval<V>> stab(int point) {
+            return overlapping(point, point);
+        }
+
+        /**
+         * Finds all intervals overlapping [low, high]
+         * Time Complexity: O(log n + k) typical
+         * @param low Query start (inclusive)
+         * @param high Query end (inclusive)
+         * @return Overlapping intervals sorted by (low, high)
+         */
+        public List<Interval<V>> overlapping(int low, int high) {
+            List<Interval<V>> result = new ArrayList<>();
+            collect(root, low, high, result);
+            return result;
+        }
+
+        private void collect(Node<V> node, int low, int high, List<Interval<V>> result) {
+            if (node == null || node.maxHigh < low) return;
+            collect(node.left, low, high, result);
+            if (node.interval.overlaps(low, high)) {
+                result.add(node.interval);
+            }
+            if (node.interval.low <= high) {
+                collect(node.right, low, high, result);
+            }
+        }
+
+        /**
+         * Finds any one interval overlapping [low, high]
+         * Time Complexity: O(log n)
+         * @param low Query start (inclusive)
+         * @param high Query end (inclusive)
+         * @return An overlapping interval, or null if none
+         */
+        public Interval<V> anyOverlap(int low, int high) {
+            Node<V> node = root;
+            while (node != null) {
+                if (node.interval.overlaps(low, high)) {
+                    return node.interval;
+                }
+                // If the left subtree reaches low, it holds an overlap or none exists
+                node = node.left != null && node.left.maxHigh >= low ? node.left : node.right;
+            }
+            return null;
+        }
+
+        /**
+         * Gets the number of intervals
+         * Time Complexity: O(1)
+         * @return Number of intervals
+         */
+        public int size() {
+            return size;
+        }
+
+        /**
+         * Gets the height of the tree
+         * Time Complexity: O(1)
+         * @return Height of tree
+         */
+        public int height() {
+            return height(root);
+        }
+
+        /**
+         * Checks if tree is empty
+         * @return true if empty, false otherwise
+         */
+        public boolean isEmpty() {
+            return root == null;
+        }
+    }
+
+    public static void main(String[] args) {
+        System.out.println("Interval Tree Demo\n");
+
+        // Test 1: Meeting room bookings
+        System.out.println("Test 1: Bookings");
+        IntervalTree<String> bookings = new IntervalTree<>();
+        bookings.put(900, 1000, "standup");
+        bookings.put(930, 1130, "design review");
+        bookings.put(1300, 1400, "lunch talk");
+        bookings.put(1000, 1030, "1:1");
+        bookings.put(1600, 1700, "retro");
+        System.out.println("Size: " + bookings.size() + ", height: " + bookings.height());
+        System.out.println();
+
+        // Test 2: Stabbing and overlap queries
+        System.out.println("Test 2: Stabbing and Overlap Queries");
+        System.out.println("stab(1000): " + bookings.stab(1000));
+        System.out.println("stab(1200): " + bookings.stab(1200));
+        System.out.println("overlapping(1100, 1330): " + bookings.overlapping(1100, 1330));
+        System.out.println("anyOverlap(1430, 1530): " + bookings.anyOverlap(1430, 1530));
+        System.out.println("anyOverlap(1530, 1615): " + bookings.anyOverlap(1530, 1615));
+        System.out.println();
+
+        // Test 3: Updates
+        System.out.println("Test 3: Updates");
+        System.out.println("put(1300, 1400, moved talk) replaced: " + bookings.put(1300, 1400, "moved talk"));
+        System.out.println("remove(930, 1130): " + bookings.remove(930, 1130));
+        System.out.println("remove(930, 1130) again: " + bookings.remove(930, 1130));
+        System.out.println("overlapping(0, 2400): " + bookings.overlapping(0, 2400));
+        System.out.println();
+
+        // Test 4: Randomized check against a brute-force scan
+        System.out.println("Test 4: Randomized Check vs Linear Scan");
+        IntervalTree<Integer> tree = new IntervalTree<>();
+        Map<Long, int[]> reference = new HashMap<>();
+        Random random = new Random(38);
+        boolean consistent = true;
+        for (int step = 0; step < 100_000; step++) {
+            int low = random.nextInt(10_000);
+            int high = low + random.nextInt(200);
+            long key = ((long) low << 32) | high;
+            if (random.nextInt(4) == 0 && !reference.isEmpty()) {
+                consistent &= (tree.remove(low, high) != null) == (reference.remove(key) != null);
+            } else {
+                tree.put(low, high, step);
+                reference.put(key, new int[]{low, high});
+            }
+            if (step % 100 == 0) {
+                int qLow = random.nextInt(10_000);
+                int qHigh = qLow + random.nextInt(300);
+                long expected = reference.values().stream().filter(iv -> iv[0] <= qHigh && qLow <= iv[1]).count();
+                consistent &= tree.overlapping(qLow, qHigh).size() == expected;
+                consistent &= (tree.anyOverlap(qLow, qHigh) != null) == (expected > 0);
+            }
+        }
+        System.out.println("Matches linear scan: " + consistent + ", size: " + tree.size() +
+            " (expected " + reference.size() + "), height: " + tree.height());
+        System.out.println();
+
+        // Test 5: Query cost vs re-scanning
+        System.out.println("Test 5: 10,000 Stabbing Queries over " + tree.size() + " Intervals");
+        int[][] flat = reference.values().toArray(new int[0][]);
+        int[] points = new int[10_000];
+        for (int i = 0; i < points.length; i++) {
+            points[i] = random.nextInt(10_000);
+        }
+        long start = System.nanoTime();
+        long treeHits = 0;
+        for (int point : points) {
+            treeHits += tree.stab(point).size();
+        }
+        long treeMs = (System.nanoTime() - start) / 1_000_000;
+        start = System.nanoTime();
+        long scanHits = 0;
+        for (int point : points) {
+            for (int[] interval : flat) {
+                if (interval[0] <= point && point <= interval[1]) scanHits++;
+            }
+        }
+        long scanMs = (System.nanoTime() - start) / 1_000_000;
+        System.out.println("Interval tree: " + treeMs + " ms, linear scan: " + scanMs +
+            " ms (hits equal: " + (treeHits == scanHits) + ")");
+    }
+}
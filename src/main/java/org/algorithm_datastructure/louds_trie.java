@@ -0,0 +1,403 @@
+package org.algorithm_datastructure;
+
+import java.util.*;
+
+/**
+ * LOUDS Compact Trie Implementation
+ *
+ * An immutable, succinct encoding of a trie_implementation.Trie. Instead of one
+ * object (plus a HashMap) per node, the whole tree is stored in a few flat arrays
+ * using LOUDS (Level-Order Unary Degree Sequence):
+ * - Nodes are numbered in breadth-first order (root = 0)
+ * - For every node, its degree d is written as d one-bits followed by a zero-bit
+ * - Edge labels are stored in the same BFS order, children sorted by character
+ * - A separate bitvector marks which nodes end a word
+ *
+ * With nodes numbered this way, the children of node v are exactly the nodes
+ * with ids [childStart(v), childStart(v + 1)), where
+ *   childStart(v) = select0(v - 1) + 1 - v + 1   (childStart(0) = 1)
+ * so navigation needs only a select0 directory on the structure bits.
+ * Descendants of a node form one contiguous id range per level, which lets
+ * prefix counting use rank1 over the terminal bits instead of a subtree walk.
+ *
+ * Memory per node: 2 structure bits + 16-bit label + 1 terminal bit + small
+ * rank/select directories, roughly 3 bytes, compared to well over 100 bytes
+ * for a TrieNode with its HashMap, entries and table.
+ *
+ * Operations:
+ * - fromTrie(trie): Build from an existing Trie - O(N log σ) where N is node count
+ * - search(word): Check if word exists - O(m log σ)
+ * - startsWith(prefix): Check if prefix exists - O(m log σ)
+ * - countWordsWithPrefix(prefix): Count words with prefix - O(m log σ + d) where d
+ *   is the depth of the prefix subtree
+ *
+ * Time Complexity: O(m log σ) per lookup, σ = alphabet size
+ * Space Complexity: about 2N + 17N bits plus o(N) directories
+ *
+ * Applications:
+ * - Large static dictionaries
+ * - Autocomplete indexes loaded read-only
+ * - Spell checkers
+ * - Compressed keyword sets
+ */
+public class louds_trie {
+
+    /**
+     * BitVector class is an immutable bit array with rank1 and select0 support
+     */
+    static final class BitVector {
+        private static final int SELECT_SAMPLE = 256;  // one select hint per 256 zeros
+
+        private final long[] words;
+        private final int length;
+        private final int[] rankPerWord;   // ones before word i
+        private final int[] selectZeroHints; // word index holding zero number k * SELECT_SAMPLE
+
+        BitVector(long[] words, int length) {
+            this.words = words;
+            this.length = length;
+            this.rankPerWord = new int[words.length + 1];
+
+            int ones = 0;
+            int zeros = 0;
+            List<Integer> hints = new ArrayList<>();
+            for (int i = 0; i < words.length; i++) {
+                rankPerWord[i] = ones;
+                int bitsInWord = Math.min(64, length - i * 64);
+                int onesInWord = Long.bitCount(words[i]);
+                int zerosInWord = bitsInWord - onesInWord;
+                // Record the word that contains each sampled zero
+                while (hints.size() * SELECT_SAMPLE < zeros + zerosInWord) {
+                    hints.add(i);
+                }
+                ones += onesInWord;
+                zeros += zerosInWord;
+            }
+            rankPerWord[words.length] = ones;
+
+            this.selectZeroHints = new int[hints.size()];
+            for (int i = 0; i < hints.size(); i++) {
+                selectZeroHints[i] = hints.get(i);
+            }
+        }
+
+        boolean get(int index) {
+            return (words[index >>> 6] & (1L << (index & 63))) != 0;
+        }
+
+        /**
+         * Counts one-bits in positions [0, index)
+         * Time Complexity: O(1)
+         */
+        int rank1(int index) {
+            int word = index >>> 6;
+            int bit = index & 63;
+            int result = rankPerWord[word];
+            if (bit != 0) {
+                result += Long.bitCount(words[word] & ((1L << bit) - 1));
+            }
+            return result;
+        }
+
+        /**
+         * Finds the position of the k-th zero-bit (0-based)
+         * Time Complexity: O(1) expected, bounded by the sample spacing
+         */
+        int select0(int k) {
+            int word = selectZeroHints[k / SELECT_SAMPLE];
+            int zerosBefore = word * 64 - rankPerWord[word];
+
+            // Advance word by word until the target zero is inside
+            while (true) {
+                int zerosInWord = Long.bitCount(~words[word]);
+                if (word == words.length - 1) {
+                    zerosInWord -= 64 - (length - word * 64);
+                }
+                if (zerosBefore + zerosInWord > k) {
+                    break;
+                }
+                zerosBefore += zerosInWord;
+                word++;
+            }
+
+            // Clear the lowest (k - zerosBefore) zero-bits, then take the next one
+            long inverted = ~words[word];
+            for (int r = k - zerosBefore; r > 0; r--) {
+                inverted &= inverted - 1;
+            }
+            return word * 64 + Long.numberOfTrailingZeros(inverted);
+        }
+
+        long sizeInBytes() {
+            return words.length * 8L + rankPerWord.length * 4L + selectZeroHints.length * 4L;
+        }
+    }
+
+    /**
+     * LoudsTrie class implements the read-only succinct trie
+     */
+    static final class LoudsTrie {
+        private final BitVector structure;  // unary degree sequence
+        private final BitVector terminal;   // terminal[v] = node v ends a word
+        private final char[] labels;        // labels[v - 1] = edge label into node v
+        private final int nodeCount;
+        private final int wordCount;
+
+        private LoudsTrie(BitVector structure, BitVector terminal, char[] labels,
+                          int nodeCount, int wordCount) {
+            this.structure = structure;
+            this.terminal = terminal;
+            this.labels = labels;
+            this.nodeCount = nodeCount;
+            this.wordCount = wordCount;
+        }
+
+        /**
+         * Builds a compact trie from an existing pointer-based Trie
+         * Time Complexity: O(N log σ) where N is the number of nodes
+         * Space Complexity: O(N) bits for the result, O(width) for the BFS queue
+         * @param trie Source trie
+         * @return Immutable compact trie with the same words
+         */
+        public static LoudsTrie fromTrie(trie_implementation.Trie trie) {
+            // First pass: count nodes so the flat arrays can be sized exactly
+            int nodes = 0;
+            Deque<trie_implementation.TrieNode> queue = new ArrayDeque<>();
+            queue.add(trie.getRootNode());
+            while (!queue.isEmpty()) {
+                trie_implementation.TrieNode node = queue.poll();
+                nodes++;
+                queue.addAll(node.children.values());
+            }
+
+            int structureBits = 2 * nodes - 1;
+            long[] structureWords = new long[(structureBits + 63) >>> 6];
+            long[] terminalWords = new long[(nodes + 63) >>> 6];
+            char[] labels = new char[nodes - 1];
+
+            // Second pass: BFS with children in label order
+            int bitPos = 0;
+            int nodeId = 0;
+            int labelPos = 0;
+            queue.add(trie.getRootNode());
+            while (!queue.isEmpty()) {
+                trie_implementation.TrieNode node = queue.poll();
+                if (node.isEndOfWord) {
+                    terminalWords[nodeId >>> 6] |= 1L << (nodeId & 63);
+                }
+                nodeId++;
+
+                Character[] keys = node.children.keySet().toArray(new Character[0]);
+                Arrays.sort(keys);
+                for (Character key : keys) {
+                    labels[labelPos++] = key;
+                    structureWords[bitPos >>> 6] |= 1L << (bitPos & 63);
+                    bitPos++;
+                    queue.add(node.children.get(key));
+                }
+                bitPos++;  // zero-bit terminating this node's degree
+            }
+
+            return new LoudsTrie(new BitVector(structureWords, structureBits),
+                new BitVector(terminalWords, nodes), labels, nodes, trie.size());
+        }
+
+        /**
+         * First child id of node v; childStart(v + 1) is one past its last child
+         */
+        private int childStart(int v) {
+            if (v == 0) {
+                return 1;
+            }
+            if (v == nodeCount) {
+                return nodeCount;
+            }
+            return structure.select0(v - 1) + 2 - v;
+        }
+
+        /**
+         * Binary searches the sorted child labels of node v
+         * @return Child node id, or -1 if there is no such edge
+         */
+        private int child(int v, char ch) {
+            int lo = childStart(v);
+            int hi = childStart(v + 1) - 1;
+
+            while (lo <= hi) {
+                int mid = (lo + hi) >>> 1;
+                char label = labels[mid - 1];
+                if (label < ch) {
+                    lo = mid + 1;
+                } else if (label > ch) {
+                    hi = mid - 1;
+                } else {
+                    return mid;
+                }
+            }
+            return -1;
+        }
+
+        private int findNode(String str) {
+            int node = 0;
+            for (int i = 0; i < str.length() && node >= 0; i++) {
+                node = child(node, str.charAt(i));
+            }
+            return node;
+        }
+
+        /**
+         * Searches for a word
+         * Time Complexity: O(m log σ)
+         * @param word Word to search for
+         * @return true if word exists, false otherwise
+         */
+        public boolean search(String word) {
+            int node = findNode(word);
+            return node >= 0 && terminal.get(node);
+        }
+
+        /**
+         * Checks if any word starts with given prefix
+         * Time Complexity: O(m log σ)
+         * @param prefix Prefix to check
+         * @return true if prefix exists, false otherwise
+         */
+        public boolean startsWith(String prefix) {
+            return findNode(prefix) >= 0;
+        }
+
+        /**
+         * Counts words with given prefix without materializing them.
+         * The descendants of a node on each level form a contiguous id range,
+         * so each level costs two select0 calls and two rank1 calls.
+         * Time Complexity: O(m log σ + d) where d is the subtree depth
+         * @param prefix Prefix to count
+         * @return Number of words with prefix
+         */
+        public int countWordsWithPrefix(String prefix) {
+            int node = findNode(prefix);
+            if (node < 0) {
+                return 0;
+            }
+
+            int count = 0;
+            int lo = node;
+            int hi = node + 1;
+            while (lo < hi) {
+                count += terminal.rank1(hi) - terminal.rank1(lo);
+                lo = childStart(lo);
+                hi = childStart(hi);
+            }
+            return count;
+        }
+
+        /**
+         * Returns total number of words
+         * Time Complexity: O(1)
+         * @return Number of words
+         */
+        public int size() {
+            return wordCount;
+        }
+
+        /**
+         * Returns number of trie nodes, including the root
+         * Time Complexity: O(1)
+         * @return Number of nodes
+         */
+        public int nodeCount() {
+            return nodeCount;
+        }
+
+        /**
+         * Approximate heap footprint of the encoded arrays
+         * @return Size in bytes
+         */
+        public long sizeInBytes() {
+            return structure.sizeInBytes() + terminal.sizeInBytes() + labels.length * 2L;
+        }
+    }
+
+    private static long usedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+    public static void main(String[] args) {
+        System.out.println("LOUDS Compact Trie Implementation Demo\n");
+
+        // Test 1: Basic search on a converted trie
+        System.out.println("Test 1: Build From Trie and Search");
+        trie_implementation.Trie trie = new trie_implementation.Trie();
+        String[] words = {"apple", "app", "application", "apply", "banana", "band", "bandana"};
+        for (String word : words) {
+            trie.insert(word);
+        }
+        LoudsTrie compact = LoudsTrie.fromTrie(trie);
+        System.out.println("Words: " + Arrays.toString(words));
+        System.out.println("Nodes: " + compact.nodeCount() + ", words: " + compact.size());
+        System.out.println("Search 'apple': " + compact.search("apple"));
+        System.out.println("Search 'appl': " + compact.search("appl"));
+        System.out.println("Search 'bandana': " + compact.search("bandana"));
+        System.out.println("Search 'cat': " + compact.search("cat"));
+        System.out.println();
+
+        // Test 2: Prefix queries
+        System.out.println("Test 2: Prefix Queries");
+        for (String prefix : new String[]{"app", "appl", "ban", "band", "b", "", "x"}) {
+            System.out.println("'" + prefix + "': startsWith=" + compact.startsWith(prefix) +
+                ", count=" + compact.countWordsWithPrefix(prefix) +
+                " (Trie: " + trie.countWordsWithPrefix(prefix) + ")");
+        }
+        System.out.println();
+
+        // Test 3: Edge cases
+        System.out.println("Test 3: Empty Trie");
+        LoudsTrie empty = LoudsTrie.fromTrie(new trie_implementation.Trie());
+        System.out.println("Nodes: " + empty.nodeCount() + ", search 'a': " + empty.search("a") +
+            ", count '': " + empty.countWordsWithPrefix(""));
+        System.out.println();
+
+        // Test 4: Cross-check and memory on a larger dictionary
+        System.out.println("Test 4: Large Dictionary (200,000 random words)");
+        Random random = new Random(42);
+        List<String> dictionary = new ArrayList<>();
+        for (int i = 0; i < 200_000; i++) {
+            int len = 3 + random.nextInt(10);
+            StringBuilder sb = new StringBuilder();
+            for (int j = 0; j < len; j++) {
+                sb.append((char) ('a' + random.nextInt(26)));
+            }
+            dictionary.add(sb.toString());
+        }
+
+        long before = usedHeap();
+        trie_implementation.Trie bigTrie = new trie_implementation.Trie();
+        for (String word : dictionary) {
+            bigTrie.insert(word);
+        }
+        long trieBytes = usedHeap() - before;
+
+        LoudsTrie bigCompact = LoudsTrie.fromTrie(bigTrie);
+        boolean consistent = true;
+        for (int i = 0; i < 1000; i++) {
+            String word = dictionary.get(i);
+            String prefix = word.substring(0, 2);
+            String missing = word + "#";
+            if (!bigCompact.search(word) || bigCompact.search(missing) ||
+                bigCompact.countWordsWithPrefix(prefix) != bigTrie.countWordsWithPrefix(prefix)) {
+                consistent = false;
+            }
+        }
+        System.out.println("Nodes: " + bigCompact.nodeCount() + ", words: " + bigCompact.size());
+        System.out.println("Results match Trie: " + consistent);
+        System.out.println("HashMap Trie heap: ~" + trieBytes / 1024 + " KB");
+        System.out.println("LOUDS trie size: ~" + bigCompact.sizeInBytes() / 1024 + " KB (" +
+            String.format("%.1f", bigCompact.sizeInBytes() / (double) bigCompact.nodeCount()) +
+            " bytes/node)");
+        System.out.println("Reduction: ~" + (trieBytes / Math.max(1, bigCompact.sizeInBytes())) + "x");
+    }
+}
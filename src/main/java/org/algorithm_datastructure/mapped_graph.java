@@ -0,0 +1,541 @@
+package org.algorithm_datastructure;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.nio.LongBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.*;
+import java.util.function.IntConsumer;
+
+/**
+ * Memory-Mapped Graph Implementation
+ *
+ * A binary CSR graph file that is written once and then opened with
+ * FileChannel.map, so "loading" is just mapping pages: no parsing, no copying
+ * into the heap, and the OS page cache decides what stays in memory. Graphs
+ * larger than the Java heap (or than one 2 GB MappedByteBuffer) work because
+ * every section is mapped as a list of 1 GB windows.
+ *
+ * File layout (little-endian):
+ * - Header, 32 bytes: magic "CSRG", version, flags (bit 0 = weighted),
+ *   vertexCount (int), edgeCount (long), reserved (long)
+ * - offsets: long[V + 1], edges of v are offsets[v] .. offsets[v + 1] - 1
+ * - targets: int[E], sorted within each vertex
+ * - weights: int[E], present only when weighted
+ *
+ * Offsets are longs on disk, so a file can hold more than 2^31 edges even
+ * though csr_graph.CsrGraph cannot.
+ *
+ * Operations:
+ * - write(path, graph): Serialize a CsrGraph - O(V + E)
+ * - Writer: Stream vertices to disk in id order without holding the graph - O(V + E)
+ * - open(path): Map a file - O(1) reads, independent of graph size
+ * - degree(v), target(e), weight(e), hasEdge(u, v): Same as CsrGraph, over the mapping
+ * - bfs(source): Hop distances read straight from the mapped pages - O(V + E)
+ *
+ * Time Complexity: O(1) per neighbor visited (plus page faults on first touch)
+ * Space Complexity: O(1) heap for the graph itself; O(V) for BFS state
+ *
+ * Applications:
+ * - Fast restarts of graph services
+ * - Out-of-core analytics on graphs larger than RAM
+ * - Sharing one read-only graph between processes through the page cache
+ */
+public class mapped_graph {
+
+    static final int MAGIC = 0x47525343;  // "CSRG" read as a little-endian int
+    static final int VERSION = 1;
+    static final int HEADER_BYTES = 32;
+    private static final int WEIGHTED_FLAG = 1;
+    private static final int WINDOW_SHIFT = 30;  // 1 GB mapping windows
+
+    /**
+     * MappedIntArray class is an int array spread over 1 GB mapped windows
+     */
+    static final class MappedIntArray {
+        private static final int SHIFT = WINDOW_SHIFT - 2;
+        private static final long MASK = (1L << SHIFT) - 1;
+        private final IntBuffer[] windows;
+
+        MappedIntArray(FileChannel channel, MapMode mode, long position, long length) throws IOException {
+            int count = (int) ((length + MASK) >>> SHIFT);
+            windows = new IntBuffer[count];
+            for (int i = 0; i < count; i++) {
+                long elements = Math.min(1L << SHIFT, length - ((long) i << SHIFT));
+                MappedByteBuffer buffer = channel.map(mode, position + ((long) i << WINDOW_SHIFT), elements * 4);
+                windows[i] = buffer.order(ByteOrder.LITTLE_ENDIAN).asIntBuffer();
+            }
+        }
+
+        int get(long index) {
+            return windows[(int) (index >>> SHIFT)].get((int) (index & MASK));
+        }
+
+        void set(long index, int value) {
+            windows[(int) (index >>> SHIFT)].put((int) (index & MASK), value);
+        }
+    }
+
+    /**
+     * MappedLongArray class is a long array spread over 1 GB mapped windows
+     */
+    static final class MappedLongArray {
+        private static final int SHIFT = WINDOW_SHIFT - 3;
+        private static final long MASK = (1L << SHIFT) - 1;
+        private final LongBuffer[] windows;
+
+        MappedLongArray(FileChannel channel, MapMode mode, long position, long length) throws IOException {
+            int count = (int) ((length + MASK) >>> SHIFT);
+            windows = new LongBuffer[count];
+            for (int i = 0; i < count; i++) {
+                long elements = Math.min(1L << SHIFT, length - ((long) i << SHIFT));
+                MappedByteBuffer buffer = channel.map(mode, position + ((long) i << WINDOW_SHIFT), elements * 8);
+                windows[i] = buffer.order(ByteOrder.LITTLE_ENDIAN).asLongBuffer();
+            }
+        }
+
+        long get(long index) {
+            return windows[(int) (index >>> SHIFT)].get((int) (index & MASK));
+        }
+
+        void set(long index, long value) {
+            windows[(int) (index >>> SHIFT)].put((int) (index & MASK), value);
+        }
+    }
+
+    /**
+     * Byte position of each section for a graph of the given shape
+     */
+    private static long targetsPosition(int vertexCount) {
+        return HEADER_BYTES + 8L * (vertexCount + 1);
+    }
+
+    private static long weightsPosition(int vertexCount, long edgeCount) {
+        return targetsPosition(vertexCount) + 4L * edgeCount;
+    }
+
+    /**
+     * Writer class streams a graph to disk one vertex at a time, in id order;
+     * the file is sized up front and filled through a writable mapping
+     */
+    static final class Writer implements AutoCloseable {
+        private final FileChannel channel;
+        private final int vertexCount;
+        private final long edgeCount;
+        private final MappedLongArray offsets;
+        private final MappedIntArray targets;
+        private final MappedIntArray weights;
+        private int nextVertex;
+        private long nextEdge;
+        private long[] scratch = new long[16];
+
+        /**
+         * Constructor - creates (or truncates) the file for a graph of known shape
+         * @param path File to write
+         * @param vertexCount Number of vertices
+         * @param edgeCount Number of edges that will be appended
+         * @param weighted true to store weights
+         * @throws IOException if the file cannot be created
+         */
+        public Writer(Path path, int vertexCount, long edgeCount, boolean weighted) throws IOException {
+            if (vertexCount < 0 || edgeCount < 0) {
+                throw new IllegalArgumentException("Counts must be non-negative");
+            }
+            this.channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING,
+                StandardOpenOption.READ, StandardOpenOption.WRITE);
+            this.vertexCount = vertexCount;
+            this.edgeCount = edgeCount;
+
+            ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+            header.putInt(MAGIC).putInt(VERSION).putInt(weighted ? WEIGHTED_FLAG : 0).putInt(vertexCount)
+                .putLong(edgeCount).putLong(0L).flip();
+            channel.write(header, 0);
+
+            this.offsets = new MappedLongArray(channel, MapMode.READ_WRITE, HEADER_BYTES, vertexCount + 1L);
+            this.targets = new MappedIntArray(channel, MapMode.READ_WRITE, targetsPosition(vertexCount), edgeCount);
+            this.weights = weighted
+                ? new MappedIntArray(channel, MapMode.READ_WRITE, weightsPosition(vertexCount, edgeCount), edgeCount)
+                : null;
+            offsets.set(0, 0L);
+        }
+
+        /**
+         * Appends the out-edges of the next vertex; targets are sorted on disk
+         * Time Complexity: O(d log d)
+         * @param neighbors Targets (the first count entries are used)
+         * @param edgeWeights Weights parallel to neighbors, or null if unweighted
+         * @param count Number of edges
+         */
+        public void appendVertex(int[] neighbors, int[] edgeWeights, int count) {
+            if (nextVertex == vertexCount) {
+                throw new IllegalStateException("All " + vertexCount + " vertices already written");
+            }
+            if (nextEdge + count > edgeCount) {
+                throw new IllegalStateException("More than " + edgeCount + " edges appended");
+            }
+            // Pack (target, weight) so one primitive sort orders both
+            if (scratch.length < count) {
+                scratch = new long[Math.max(count, scratch.length * 2)];
+            }
+            for (int i = 0; i < count; i++) {
+                int target = neighbors[i];
+                if (target < 0 || target >= vertexCount) {
+                    throw new IllegalArgumentException("Invalid edge " + nextVertex + " -> " + target);
+                }
+                int weight = edgeWeights == null ? 0 : edgeWeights[i];
+                scratch[i] = ((long) target << 32) | (weight & 0xFFFFFFFFL);
+            }
+            Arrays.sort(scratch, 0, count);
+            for (int i = 0; i < count; i++) {
+                targets.set(nextEdge, (int) (scratch[i] >>> 32));
+                if (weights != null) weights.set(nextEdge, (int) scratch[i]);
+                nextEdge++;
+            }
+            offsets.set(++nextVertex, nextEdge);
+        }
+
+        /**
+         * Flushes the mapping and closes the file
+         * @throws IOException on I/O failure
+         * @throws IllegalStateException if fewer vertices or edges were written than declared
+         */
+        @Override
+        public void close() throws IOException {
+            try {
+                if (nextVertex != vertexCount || nextEdge != edgeCount) {
+                    throw new IllegalStateException("Wrote " + nextVertex + "/" + vertexCount +
+                        " vertices and " + nextEdge + "/" + edgeCount + " edges");
+                }
+                channel.force(false);
+            } finally {
+                channel.close();
+            }
+        }
+    }
+
+    /**
+     * Writes an in-memory CSR graph to a file
+     * Time Complexity: O(V + E)
+     * @param path File to write
+     * @param graph Graph to store
+     * @throws IOException on I/O failure
+     */
+    public static void write(Path path, csr_graph.CsrGraph graph) throws IOException {
+        int[] offsets = graph.offsets();
+        int[] targets = graph.targets();
+        int[] weights = graph.weights();
+        try (Writer writer = new Writer(path, graph.vertexCount(), graph.edgeCount(), graph.isWeighted())) {
+            for (int v = 0; v < graph.vertexCount(); v++) {
+                int degree = offsets[v + 1] - offsets[v];
+                writer.appendVertex(Arrays.copyOfRange(targets, offsets[v], offsets[v + 1]),
+                    weights == null ? null : Arrays.copyOfRange(weights, offsets[v], offsets[v + 1]), degree);
+            }
+        }
+    }
+
+    /**
+     * Maps a graph file read-only
+     * Time Complexity: O(1) in the graph size
+     * @param path File written by write() or Writer
+     * @return Mapped graph; the mapping stays valid after the file channel closes
+     * @throws IOException if the file is missing, truncated or not a graph file
+     */
+    public static MappedGraph open(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+            if (channel.read(header, 0) != HEADER_BYTES || header.getInt(0) != MAGIC) {
+                throw new IOException("Not a graph file: " + path);
+            }
+            if (header.getInt(4) != VERSION) {
+                throw new IOException("Unsupported graph file version " + header.getInt(4) + ": " + path);
+            }
+            boolean weighted = (header.getInt(8) & WEIGHTED_FLAG) != 0;
+            int vertexCount = header.getInt(12);
+            long edgeCount = header.getLong(16);
+            long expected = weightsPosition(vertexCount, edgeCount) + (weighted ? 4L * edgeCount : 0);
+            if (vertexCount < 0 || edgeCount < 0 || channel.size() < expected) {
+                throw new IOException("Truncated graph file: " + path);
+            }
+            return new MappedGraph(vertexCount, edgeCount,
+                new MappedLongArray(channel, MapMode.READ_ONLY, HEADER_BYTES, vertexCount + 1L),
+                new MappedIntArray(channel, MapMode.READ_ONLY, targetsPosition(vertexCount), edgeCount),
+                weighted ? new MappedIntArray(channel, MapMode.READ_ONLY,
+                    weightsPosition(vertexCount, edgeCount), edgeCount) : null);
+        }
+    }
+
+    /**
+     * MappedGraph class is a read-only CSR graph backed by mapped file pages
+     */
+    static final class MappedGraph {
+        private final int vertexCount;
+        private final long edgeCount;
+        private final MappedLongArray offsets;
+        private final MappedIntArray targets;
+        private final MappedIntArray weights;
+
+        MappedGraph(int vertexCount, long edgeCount, MappedLongArray offsets, MappedIntArray targets,
+                    MappedIntArray weights) {
+            this.vertexCount = vertexCount;
+            this.edgeCount = edgeCount;
+            this.offsets = offsets;
+            this.targets = targets;
+            this.weights = weights;
+        }
+
+        /**
+         * Returns the number of vertices
+         * @return V
+         */
+        public int vertexCount() {
+            return vertexCount;
+        }
+
+        /**
+         * Returns the number of edges
+         * @return E
+         */
+        public long edgeCount() {
+            return edgeCount;
+        }
+
+        /**
+         * Checks if edges carry weights
+         * @return true if weighted
+         */
+        public boolean isWeighted() {
+            return weights != null;
+        }
+
+        /**
+         * Returns the out-degree of v
+         * Time Complexity: O(1)
+         * @param v Vertex id
+         * @return Number of out-edges
+         */
+        public int degree(int v) {
+            return (int) (offsets.get(v + 1) - offsets.get(v));
+        }
+
+        /**
+         * First edge slot of v
+         * @param v Vertex id
+         * @return Index into targets/weights
+         */
+        public long edgeStart(int v) {
+            return offsets.get(v);
+        }
+
+        /**
+         * One past the last edge slot of v
+         * @param v Vertex id
+         * @return Index into targets/weights
+         */
+        public long edgeEnd(int v) {
+            return offsets.get(v + 1);
+        }
+
+        /**
+         * Destination of an edge slot
+         * @param edge Edge slot
+         * @return Target vertex id
+         */
+        public int target(long edge) {
+            return targets.get(edge);
+        }
+
+        /**
+         * Weight of an edge slot (1 for unweighted graphs)
+         * @param edge Edge slot
+         * @return Edge weight
+         */
+        public int weight(long edge) {
+            return weights == null ? 1 : weights.get(edge);
+        }
+
+        /**
+         * Calls action for every out-neighbor of v in ascending id order
+         * Time Complexity: O(degree)
+         * @param v Vertex id
+         * @param action Callback receiving neighbor ids
+         */
+        public void forEachNeighbor(int v, IntConsumer action) {
+            for (long e = offsets.get(v), end = offsets.get(v + 1); e < end; e++) {
+                action.accept(targets.get(e));
+            }
+        }
+
+        /**
+         * Checks if the edge u -> v exists
+         * Time Complexity: O(log degree)
+         * @param u Source id
+         * @param v Target id
+         * @return true if edge exists
+         */
+        public boolean hasEdge(int u, int v) {
+            long lo = offsets.get(u);
+            long hi = offsets.get(u + 1) - 1;
+            while (lo <= hi) {
+                long mid = (lo + hi) >>> 1;
+                int target = targets.get(mid);
+                if (target == v) return true;
+                if (target < v) lo = mid + 1;
+                else hi = mid - 1;
+            }
+            return false;
+        }
+
+        /**
+         * Breadth-first search reading adjacency straight from the mapping
+         * Time Complexity: O(V + E)
+         * @param source Start vertex
+         * @return Hop distance per vertex, -1 if unreachable
+         */
+        public int[] bfs(int source) {
+            int[] distance = new int[vertexCount];
+            Arrays.fill(distance, -1);
+            int[] queue = new int[vertexCount];
+            int head = 0;
+            int tail = 0;
+            distance[source] = 0;
+            queue[tail++] = source;
+            while (head < tail) {
+                int u = queue[head++];
+                for (long e = offsets.get(u), end = offsets.get(u + 1); e < end; e++) {
+                    int v = targets.get(e);
+                    if (distance[v] < 0) {
+                        distance[v] = distance[u] + 1;
+                        queue[tail++] = v;
+                    }
+                }
+            }
+            return distance;
+        }
+
+        /**
+         * Copies the graph into the heap as a CsrGraph
+         * Time Complexity: O(V + E)
+         * @return In-memory copy
+         * @throws IllegalStateException if the graph has more than 2^31 - 1 edges
+         */
+        public csr_graph.CsrGraph toCsr() {
+            if (edgeCount > Integer.MAX_VALUE) {
+                throw new IllegalStateException("Too many edges for CsrGraph: " + edgeCount);
+            }
+            int[] heapOffsets = new int[vertexCount + 1];
+            for (int v = 0; v <= vertexCount; v++) {
+                heapOffsets[v] = (int) offsets.get(v);
+            }
+            int[] heapTargets = new int[(int) edgeCount];
+            int[] heapWeights = weights == null ? null : new int[(int) edgeCount];
+            for (int e = 0; e < edgeCount; e++) {
+                heapTargets[e] = targets.get(e);
+                if (heapWeights != null) heapWeights[e] = weights.get(e);
+            }
+            return new csr_graph.CsrGraph(vertexCount, heapOffsets, heapTargets, heapWeights);
+        }
+    }
+
+    public static void main(String[] args) throws IOException {
+        System.out.println("Memory-Mapped Graph Demo\n");
+        Path directory = Files.createTempDirectory("mapped_graph");
+
+        // Test 1: Round trip of a small weighted graph
+        System.out.println("Test 1: Small Weighted Graph Round Trip");
+        csr_graph.CsrGraph small = new csr_graph.EdgeStreamBuilder(true)
+            .addEdge(0, 2, 2).addEdge(0, 1, 4).addEdge(1, 2, 1).addEdge(1, 3, 5).addEdge(2, 3, 8).build();
+        Path smallFile = directory.resolve("small.csrg");
+        write(smallFile, small);
+        MappedGraph mappedSmall = open(smallFile);
+        System.out.println("File size: " + Files.size(smallFile) + " bytes, vertices: " +
+            mappedSmall.vertexCount() + ", edges: " + mappedSmall.edgeCount());
+        for (int v = 0; v < mappedSmall.vertexCount(); v++) {
+            StringBuilder edges = new StringBuilder();
+            for (long e = mappedSmall.edgeStart(v); e < mappedSmall.edgeEnd(v); e++) {
+                edges.append(mappedSmall.target(e)).append("(").append(mappedSmall.weight(e)).append(") ");
+            }
+            System.out.println(v + " -> " + edges.toString().trim());
+        }
+        System.out.println("hasEdge(1, 3): " + mappedSmall.hasEdge(1, 3) + ", hasEdge(3, 1): " + mappedSmall.hasEdge(3, 1));
+        System.out.println();
+
+        // Test 2: Corrupt files are rejected
+        System.out.println("Test 2: Invalid Files");
+        Path bogus = directory.resolve("bogus.csrg");
+        Files.write(bogus, "not a graph, just some text".getBytes());
+        try {
+            open(bogus);
+        } catch (IOException e) {
+            System.out.println("open(bogus): " + e.getMessage().replace(directory.toString(), "<tmp>"));
+        }
+        System.out.println();
+
+        // Test 3: Streaming writer, vertex by vertex
+        System.out.println("Test 3: Streaming Writer");
+        Path ringFile = directory.resolve("ring.csrg");
+        int ring = 100_000;
+        try (Writer writer = new Writer(ringFile, ring, 2L * ring, false)) {
+            int[] neighbors = new int[2];
+            for (int v = 0; v < ring; v++) {
+                neighbors[0] = (v + 1) % ring;
+                neighbors[1] = (v + ring - 1) % ring;
+                writer.appendVertex(neighbors, null, 2);
+            }
+        }
+        MappedGraph mappedRing = open(ringFile);
+        int[] ringHops = mappedRing.bfs(0);
+        System.out.println("Ring of " + ring + ": farthest vertex is " + ringHops[ring / 2] + " hops away");
+        System.out.println();
+
+        // Test 4: Startup time, rebuild from edges vs mapping the file
+        System.out.println("Test 4: 1,000,000 Vertices, 8,000,000 Edges");
+        Random random = new Random(43);
+        int vertices = 1_000_000;
+        int edges = 8_000_000;
+        int[] sources = new int[edges];
+        int[] targets = new int[edges];
+        for (int i = 0; i < edges; i++) {
+            sources[i] = random.nextInt(vertices);
+            targets[i] = random.nextInt(vertices);
+        }
+        long start = System.nanoTime();
+        csr_graph.CsrGraph heapGraph = csr_graph.CsrGraph.fromEdges(vertices, sources, targets, null);
+        long buildMs = (System.nanoTime() - start) / 1_000_000;
+        Path bigFile = directory.resolve("big.csrg");
+        start = System.nanoTime();
+        write(bigFile, heapGraph);
+        long writeMs = (System.nanoTime() - start) / 1_000_000;
+        start = System.nanoTime();
+        MappedGraph mapped = open(bigFile);
+        long openMicros = (System.nanoTime() - start) / 1_000;
+        System.out.println("Build from edge arrays: " + buildMs + " ms, write: " + writeMs +
+            " ms, open: " + openMicros + " us (" + Files.size(bigFile) / (1024 * 1024) + " MB file)");
+
+        start = System.nanoTime();
+        int[] heapHops = heapGraph.bfs(0);
+        long heapMs = (System.nanoTime() - start) / 1_000_000;
+        start = System.nanoTime();
+        int[] mappedHops = mapped.bfs(0);
+        long mappedMs = (System.nanoTime() - start) / 1_000_000;
+        System.out.println("BFS heap: " + heapMs + " ms, BFS mapped: " + mappedMs + " ms, equal: " +
+            Arrays.equals(heapHops, mappedHops));
+        csr_graph.CsrGraph copy = mapped.toCsr();
+        boolean same = copy.edgeCount() == heapGraph.edgeCount();
+        for (int e = 0; same && e < copy.edgeCount(); e++) {
+            same = copy.target(e) == heapGraph.target(e);
+        }
+        System.out.println("toCsr() identical to original: " + same);
+
+        for (Path file : new Path[]{smallFile, bogus, ringFile, bigFile}) {
+            Files.deleteIfExists(file);
+        }
+        Files.deleteIfExists(directory);
+    }
+}
@@ -0,0 +1,414 @@
+package org.algorithm_datastructure;
+
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.IntConsumer;
+
+/**
+ * Parallel Breadth First Search Implementation
+ *
+ * Level-synchronous BFS over a csr_graph.CsrGraph, run on a ForkJoinPool.
+ * Each level is one parallel step over the current frontier; the visited set
+ * is a shared atomic bitset (one CAS claims a vertex), and every task
+ * collects its discoveries in a private buffer, so the next frontier is just
+ * the concatenation of the buffers.
+ *
+ * Direction-optimizing BFS (Beamer, Asanovic, Patterson 2012) switches
+ * between two kinds of step:
+ * - Top-down: every frontier vertex scans its out-edges for unvisited
+ *   vertices. Cheap while the frontier is small.
+ * - Bottom-up: every unvisited vertex scans its in-edges for any parent in
+ *   the frontier and stops at the first hit. Cheap once the frontier holds a
+ *   large share of the graph, because most scans end after a few edges.
+ * The switch to bottom-up happens when the frontier's edges exceed
+ * 1/ALPHA of the edges still unexplored, and back to top-down when the
+ * frontier shrinks below V/BETA vertices.
+ *
+ * Operations:
+ * - search(source): Direction-optimizing BFS - O(V + E) work
+ * - searchTopDown(source): Level-synchronous top-down BFS - O(V + E) work
+ *
+ * Time Complexity: O(V + E) work, O(D) parallel steps for BFS depth D
+ * Space Complexity: O(V) besides the graph (plus the transpose for directed graphs)
+ *
+ * Applications:
+ * - Hop distances and reachability in large social / web graphs
+ * - Graph500-style benchmarks
+ * - Building block for betweenness centrality and connected components
+ */
+public class parallel_bfs {
+
+    /**
+     * AtomicBitset class is a fixed-size bitset with lock-free test-and-set
+     */
+    static final class AtomicBitset {
+        private final AtomicLongArray words;
+
+        AtomicBitset(int bits) {
+            this.words = new AtomicLongArray((bits + 63) >>> 6);
+        }
+
+        boolean get(int bit) {
+            return (words.get(bit >>> 6) & (1L << bit)) != 0;
+        }
+
+        /**
+         * Sets the bit if it was clear
+         * @return true if this call set it, false if it was already set
+         */
+        boolean testAndSet(int bit) {
+            int index = bit >>> 6;
+            long mask = 1L << bit;
+            long word = words.get(index);
+            while ((word & mask) == 0) {
+                long witness = words.compareAndExchange(index, word, word | mask);
+                if (witness == word) {
+                    return true;
+                }
+                word = witness;
+            }
+            return false;
+        }
+    }
+
+    /**
+     * IntBuffer class is a growable int array owned by one task
+     */
+    static final class IntBuffer {
+        int[] data = new int[64];
+        int size;
+
+        void add(int value) {
+            if (size == data.length) {
+                data = Arrays.copyOf(data, size * 2);
+            }
+            data[size++] = value;
+        }
+    }
+
+    /**
+     * ChunkTask class runs body(chunk) for chunks [lo, hi) by recursive halving
+     */
+    static final class ChunkTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final transient IntConsumer body;
+        private final int lo;
+        private final int hi;
+
+        ChunkTask(IntConsumer body, int lo, int hi) {
+            this.body = body;
+            this.lo = lo;
+            this.hi = hi;
+        }
+
+        @Override
+        protected void compute() {
+            if (hi <= lo) {
+                return;
+            }
+            if (hi - lo == 1) {
+                body.accept(lo);
+                return;
+            }
+            int mid = (lo + hi) >>> 1;
+            invokeAll(new ChunkTask(body, lo, mid), new ChunkTask(body, mid, hi));
+        }
+    }
+
+    /**
+     * BfsResult class holds the BFS tree and step statistics
+     */
+    static final class BfsResult {
+        final int[] distance;  // hops from source, -1 if unreachable
+        final int[] parent;    // BFS tree parent, -1 for source and unreachable
+        final int topDownSteps;
+        final int bottomUpSteps;
+
+        BfsResult(int[] distance, int[] parent, int topDownSteps, int bottomUpSteps) {
+            this.distance = distance;
+            this.parent = parent;
+            this.topDownSteps = topDownSteps;
+            this.bottomUpSteps = bottomUpSteps;
+        }
+
+        /**
+         * Counts reached vertices
+         * @return Number of vertices with distance >= 0
+         */
+        public int reached() {
+            int count = 0;
+            for (int d : distance) {
+                if (d >= 0) count++;
+            }
+            return count;
+        }
+
+        @Override
+        public String toString() {
+            return "reached=" + reached() + ", top-down steps=" + topDownSteps +
+                ", bottom-up steps=" + bottomUpSteps;
+        }
+    }
+
+    /**
+     * ParallelBfs class runs BFS searches over one graph
+     */
+    static final class ParallelBfs {
+        static final int ALPHA = 14;
+        static final int BETA = 24;
+        private static final int FRONTIER_GRAIN = 1024;  // frontier vertices per top-down chunk
+        private static final int VERTEX_GRAIN = 4096;    // vertices per bottom-up chunk (multiple of 64)
+
+        private final csr_graph.CsrGraph graph;
+        private final csr_graph.CsrGraph reverse;
+        private final ForkJoinPool pool;
+
+        /**
+         * Constructor - prepares BFS over a directed graph (builds its transpose)
+         * @param graph Graph to search
+         */
+        public ParallelBfs(csr_graph.CsrGraph graph) {
+            this(graph, graph.transpose(), ForkJoinPool.commonPool());
+        }
+
+        /**
+         * Constructor - prepares BFS with a known reverse graph; pass the graph
+         * itself when it is symmetric (undirected)
+         * @param graph Graph to search
+         * @param reverse Transpose of graph, used by bottom-up steps
+         * @param pool Pool that runs the steps
+         */
+        public ParallelBfs(csr_graph.CsrGraph graph, csr_graph.CsrGraph reverse, ForkJoinPool pool) {
+            if (graph.vertexCount() != reverse.vertexCount() || graph.edgeCount() != reverse.edgeCount()) {
+                throw new IllegalArgumentException("Reverse graph does not match graph");
+            }
+            this.graph = graph;
+            this.reverse = reverse;
+            this.pool = pool;
+        }
+
+        /**
+         * Direction-optimizing BFS
+         * Time Complexity: O(V + E) work
+         * @param source Start vertex
+         * @return Distances, parents and step counts
+         */
+        public BfsResult search(int source) {
+            return run(source, true);
+        }
+
+        /**
+         * Level-synchronous BFS that only uses top-down steps
+         * Time Complexity: O(V + E) work
+         * @param source Start vertex
+         * @return Distances, parents and step counts
+         */
+        public BfsResult searchTopDown(int source) {
+            return run(source, false);
+        }
+
+        private BfsResult run(int source, boolean directionOptimizing) {
+            int vertexCount = graph.vertexCount();
+            if (source < 0 || source >= vertexCount) {
+                throw new IndexOutOfBoundsException("Invalid vertex: " + source);
+            }
+            int[] distance = new int[vertexCount];
+            int[] parent = new int[vertexCount];
+            Arrays.fill(distance, -1);
+            Arrays.fill(parent, -1);
+            AtomicBitset visited = new AtomicBitset(vertexCount);
+            long[] frontierBits = directionOptimizing ? new long[(vertexCount + 63) >>> 6] : null;
+
+            visited.testAndSet(source);
+            distance[source] = 0;
+            int[] frontier = {source};
+            int frontierSize = 1;
+            long frontierEdges = graph.degree(source);
+            long unexploredEdges = (long) graph.edgeCount() - reverse.degree(source);
+            boolean bottomUp = false;
+            int topDownSteps = 0;
+            int bottomUpSteps = 0;
+            int level = 0;
+
+            while (frontierSize > 0) {
+                if (directionOptimizing) {
+                    if (!bottomUp && frontierEdges > unexploredEdges / ALPHA) {
+                        bottomUp = true;
+                    } else if (bottomUp && frontierSize < vertexCount / BETA) {
+                        bottomUp = false;
+                    }
+                }
+                int chunks;
+                IntBuffer[] discovered;
+                long[] outDegrees;
+                long[] inDegrees;
+                final int[] current = frontier;
+                final int currentSize = frontierSize;
+                final int nextLevel = level + 1;
+
+                if (bottomUp) {
+                    Arrays.fill(frontierBits, 0L);
+                    for (int i = 0; i < currentSize; i++) {
+                        frontierBits[current[i] >>> 6] |= 1L << current[i];
+                    }
+                    chunks = (vertexCount + VERTEX_GRAIN - 1) / VERTEX_GRAIN;
+                    discovered = new IntBuffer[chunks];
+                    outDegrees = new long[chunks];
+                    inDegrees = new long[chunks];
+                    int[] offsets = reverse.offsets();
+                    int[] sources = reverse.targets();
+                    pool.invoke(new ChunkTask(chunk -> {
+                        IntBuffer found = new IntBuffer();
+                        long out = 0;
+                        long in = 0;
+                        int end = Math.min(vertexCount, (chunk + 1) * VERTEX_GRAIN);
+                        for (int v = chunk * VERTEX_GRAIN; v < end; v++) {
+                            if (visited.get(v)) continue;
+                            for (int e = offsets[v], stop = offsets[v + 1]; e < stop; e++) {
+                                int u = sources[e];
+                                if ((frontierBits[u >>> 6] & (1L << u)) != 0) {
+                                    visited.testAndSet(v);
+                                    distance[v] = nextLevel;
+                                    parent[v] = u;
+                                    found.add(v);
+                                    out += graph.degree(v);
+                                    in += stop - offsets[v];
+                                    break;
+                                }
+                            }
+                        }
+                        discovered[chunk] = found;
+                        outDegrees[chunk] = out;
+                        inDegrees[chunk] = in;
+                    }, 0, chunks));
+                    bottomUpSteps++;
+                } else {
+                    chunks = (currentSize + FRONTIER_GRAIN - 1) / FRONTIER_GRAIN;
+                    discovered = new IntBuffer[chunks];
+                    outDegrees = new long[chunks];
+                    inDegrees = new long[chunks];
+                    int[] offsets = graph.offsets();
+                    int[] targets = graph.targets();
+                    pool.invoke(new ChunkTask(chunk -> {
+                        IntBuffer found = new IntBuffer();
+                        long out = 0;
+                        long in = 0;
+                        int end = Math.min(currentSize, (chunk + 1) * FRONTIER_GRAIN);
+                        for (int i = chunk * FRONTIER_GRAIN; i < end; i++) {
+                            int u = current[i];
+                            for (int e = offsets[u], stop = offsets[u + 1]; e < stop; e++) {
+                                int v = targets[e];
+                                if (!visited.get(v) && visited.testAndSet(v)) {
+                                    distance[v] = nextLevel;
+                                    parent[v] = u;
+                                    found.add(v);
+                                    out += offsets[v + 1] - offsets[v];
+                                    in += reverse.degree(v);
+                                }
+                            }
+                        }
+                        discovered[chunk] = found;
+                        outDegrees[chunk] = out;
+                        inDegrees[chunk] = in;
+                    }, 0, chunks));
+                    topDownSteps++;
+                }
+
+                // Concatenate the per-chunk buffers into the next frontier
+                int nextSize = 0;
+                frontierEdges = 0;
+                for (int c = 0; c < chunks; c++) {
+                    nextSize += discovered[c].size;
+                    frontierEdges += outDegrees[c];
+                    unexploredEdges -= inDegrees[c];
+                }
+                int[] next = new int[nextSize];
+                int position = 0;
+                for (int c = 0; c < chunks; c++) {
+                    System.arraycopy(discovered[c].data, 0, next, position, discovered[c].size);
+                    position += discovered[c].size;
+                }
+                frontier = next;
+                frontierSize = nextSize;
+                level = nextLevel;
+            }
+            return new BfsResult(distance, parent, topDownSteps, bottomUpSteps);
+        }
+    }
+
+    /**
+     * Checks that parent pointers form a valid BFS tree for the distances
+     */
+    private static boolean validTree(csr_graph.CsrGraph graph, BfsResult result) {
+        for (int v = 0; v < graph.vertexCount(); v++) {
+            int p = result.parent[v];
+            if (p < 0) continue;
+            if (!graph.hasEdge(p, v) || result.distance[p] != result.distance[v] - 1) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public static void main(String[] args) {
+        System.out.println("Parallel BFS Demo\n");
+
+        // Test 1: Small directed graph
+        System.out.println("Test 1: Small Directed Graph");
+        csr_graph.EdgeStreamBuilder small = new csr_graph.EdgeStreamBuilder(false);
+        small.addEdge(0, 1).addEdge(0, 2).addEdge(1, 3).addEdge(2, 3).addEdge(3, 4).addEdge(5, 0);
+        csr_graph.CsrGraph smallGraph = small.build();
+        BfsResult smallResult = new ParallelBfs(smallGraph).search(0);
+        System.out.println("Distances from 0: " + Arrays.toString(smallResult.distance));
+        System.out.println("Parents: " + Arrays.toString(smallResult.parent));
+        System.out.println();
+
+        // Test 2: Random undirected graph, all variants agree with sequential BFS
+        System.out.println("Test 2: Random Graph, 1,000,000 Vertices, 16,000,000 Edge Slots");
+        Random random = new Random(40);
+        int vertices = 1_000_000;
+        csr_graph.EdgeStreamBuilder builder = new csr_graph.EdgeStreamBuilder(false);
+        for (int i = 0; i < 8_000_000; i++) {
+            // Skewed endpoints give a few high-degree hubs, like social graphs
+            int u = (int) (vertices * Math.pow(random.nextDouble(), 2));
+            int v = random.nextInt(vertices);
+            builder.addUndirectedEdge(u, v, 1);
+        }
+        csr_graph.CsrGraph graph = builder.build();
+        ParallelBfs bfs = new ParallelBfs(graph, graph, ForkJoinPool.commonPool());
+
+        long start = System.nanoTime();
+        int[] expected = graph.bfs(0);
+        long sequentialMs = (System.nanoTime() - start) / 1_000_000;
+        start = System.nanoTime();
+        BfsResult topDown = bfs.searchTopDown(0);
+        long topDownMs = (System.nanoTime() - start) / 1_000_000;
+        start = System.nanoTime();
+        BfsResult optimized = bfs.search(0);
+        long optimizedMs = (System.nanoTime() - start) / 1_000_000;
+
+        System.out.println("Sequential CsrGraph.bfs: " + sequentialMs + " ms");
+        System.out.println("Parallel top-down:       " + topDownMs + " ms (" + topDown + ")");
+        System.out.println("Direction-optimizing:    " + optimizedMs + " ms (" + optimized + ")");
+        System.out.println("Distances match: " + (Arrays.equals(expected, topDown.distance) &&
+            Arrays.equals(expected, optimized.distance)));
+        System.out.println("Parent trees valid: " + (validTree(graph, topDown) && validTree(graph, optimized)));
+        System.out.println("Pool parallelism: " + ForkJoinPool.commonPool().getParallelism());
+        System.out.println();
+
+        // Test 3: Directed graph needs the transpose for bottom-up steps
+        System.out.println("Test 3: Random Directed Graph");
+        csr_graph.EdgeStreamBuilder directed = new csr_graph.EdgeStreamBuilder(false);
+        for (int i = 0; i < 2_000_000; i++) {
+            directed.addEdge(random.nextInt(200_000), random.nextInt(200_000));
+        }
+        csr_graph.CsrGraph directedGraph = directed.build();
+        BfsResult directedResult = new ParallelBfs(directedGraph).search(0);
+        System.out.println(directedResult + ", matches sequential: " +
+            Arrays.equals(directedGraph.bfs(0), directedResult.distance) +
+            ", tree valid: " + validTree(directedGraph, directedResult));
+    }
+}
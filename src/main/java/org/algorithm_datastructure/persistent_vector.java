@@ -0,0 +1,757 @@
+package org.algorithm_datastructure;
+
+import java.util.*;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Persistent Vector and Persistent List Implementation
+ *
+ * Immutable collections where every "update" returns a new version and leaves
+ * the old one untouched. New versions share almost all of their structure with
+ * the previous version, so an update copies only O(log32 n) small arrays
+ * instead of the whole collection.
+ *
+ * PersistentVector is a 32-way bit-partitioned trie (as popularised by Clojure):
+ * - Index bits are consumed 5 at a time from the top level down to the leaves
+ * - The last (up to 32) elements live in a separate "tail" array so appends
+ *   touch the trie only once every 32 elements
+ * - A TransientVector allows batch updates in place, then is frozen back into
+ *   a PersistentVector in O(1)
+ *
+ * PersistentList is an immutable singly linked (cons) list where every version
+ * shares its tail with the version it was built from.
+ *
+ * Operations (PersistentVector):
+ * - get(index): Read element - O(log32 n)
+ * - append(value): Add element at end - O(log32 n), O(1) amortized
+ * - set(index, value): Replace element - O(log32 n)
+ * - pop(): Remove last element - O(log32 n)
+ * - asTransient(): Get mutable batch builder - O(1)
+ *
+ * Operations (PersistentList):
+ * - prepend(value): Add element at front - O(1)
+ * - head() / tail(): First element / rest of list - O(1)
+ *
+ * Time Complexity: O(log32 n) per update, effectively constant (7 levels for 2^32 elements)
+ * Space Complexity: O(n) total, O(log32 n) new memory per update
+ *
+ * Thread safety: a published PersistentVector/PersistentList never changes, so any
+ * number of readers can use it without locks. Writers publish new versions through
+ * a volatile field or AtomicReference. A TransientVector must stay confined to one
+ * thread until persistent() is called.
+ *
+ * Applications:
+ * - Read-mostly configuration snapshots
+ * - Undo/redo history
+ * - Functional programming languages
+ * - Lock-free copy-on-write data sharing
+ */
+public class persistent_vector {
+
+    private static final int BITS = 5;
+    private static final int WIDTH = 1 << BITS;  // 32 children per node
+    private static final int MASK = WIDTH - 1;
+
+    /**
+     * Ownership token for transient in-place edits. Nodes created by a transient
+     * carry its token and may be mutated while the token is alive.
+     */
+    static final class Edit {
+        volatile boolean alive = true;
+    }
+
+    /**
+     * Node class represents an internal or leaf node of the trie
+     */
+    static final class Node {
+        final Edit edit;
+        final Object[] array;
+
+        Node(Edit edit, Object[] array) {
+            this.edit = edit;
+            this.array = array;
+        }
+    }
+
+    private static final Node EMPTY_NODE = new Node(null, new Object[WIDTH]);
+
+    /**
+     * PersistentVector class implements the immutable bit-partitioned vector trie
+     */
+    static final class PersistentVector<T> implements Iterable<T> {
+        private static final PersistentVector<?> EMPTY =
+            new PersistentVector<>(0, BITS, EMPTY_NODE, new Object[0]);
+
+        private final int count;
+        private final int shift;     // bits to shift at the root level
+        private final Node root;
+        private final Object[] tail; // last 1..32 elements, exactly sized
+
+        private PersistentVector(int count, int shift, Node root, Object[] tail) {
+            this.count = count;
+            this.shift = shift;
+            this.root = root;
+            this.tail = tail;
+        }
+
+        /**
+         * Returns the empty vector
+         * Time Complexity: O(1)
+         * @return Empty vector
+         */
+        @SuppressWarnings("unchecked")
+        public static <T> PersistentVector<T> empty() {
+            return (PersistentVector<T>) EMPTY;
+        }
+
+        /**
+         * Builds a vector from the given items using a transient
+         * Time Complexity: O(n)
+         * @param items Items to add
+         * @return Vector containing items in order
+         */
+        @SafeVarargs
+        public static <T> PersistentVector<T> of(T... items) {
+            TransientVector<T> builder = PersistentVector.<T>empty().asTransient();
+            for (T item : items) {
+                builder.append(item);
+            }
+            return builder.persistent();
+        }
+
+        /**
+         * Returns the number of elements
+         * Time Complexity: O(1)
+         * @return Number of elements
+         */
+        public int size() {
+            return count;
+        }
+
+        /**
+         * Checks if vector is empty
+         * Time Complexity: O(1)
+         * @return true if empty, false otherwise
+         */
+        public boolean isEmpty() {
+            return count == 0;
+        }
+
+        private int tailOffset() {
+            return PersistentVector.tailOffset(count);
+        }
+
+        private static int tailOffset(int count) {
+            return count < WIDTH ? 0 : ((count - 1) >>> BITS) << BITS;
+        }
+
+        /**
+         * Finds the leaf array holding the given index
+         * Time Complexity: O(log32 n)
+         */
+        private Object[] arrayFor(int index) {
+            if (index < 0 || index >= count) {
+                throw new IndexOutOfBoundsException("Invalid index: " + index);
+            }
+            if (index >= tailOffset()) {
+                return tail;
+            }
+            Node node = root;
+            for (int level = shift; level > 0; level -= BITS) {
+                node = (Node) node.array[(index >>> level) & MASK];
+            }
+            return node.array;
+        }
+
+        /**
+         * Gets the element at given index
+         * Time Complexity: O(log32 n)
+         * @param index Index of element
+         * @return Element at index
+         */
+        @SuppressWarnings("unchecked")
+        public T get(int index) {
+            return (T) arrayFor(index)[index & MASK];
+        }
+
+        /**
+         * Returns a new vector with the element at index replaced
+         * Time Complexity: O(log32 n)
+         * @param index Index to replace
+         * @param value New value
+         * @return New vector; this vector is unchanged
+         */
+        public PersistentVector<T> set(int index, T value) {
+            if (index < 0 || index >= count) {
+                throw new IndexOutOfBoundsException("Invalid index: " + index);
+            }
+
+            if (index >= tailOffset()) {
+                Object[] newTail = tail.clone();
+                newTail[index & MASK] = value;
+                return new PersistentVector<>(count, shift, root, newTail);
+            }
+
+            return new PersistentVector<>(count, shift, setInPath(shift, root, index, value), tail);
+        }
+
+        private static Node setInPath(int level, Node node, int index, Object value) {
+            // Path copying: clone only the nodes on the way to the leaf
+            Node copy = new Node(null, node.array.clone());
+            if (level == 0) {
+                copy.array[index & MASK] = value;
+            } else {
+                int sub = (index >>> level) & MASK;
+                copy.array[sub] = setInPath(level - BITS, (Node) node.array[sub], index, value);
+            }
+            return copy;
+        }
+
+        /**
+         * Returns a new vector with value appended at the end
+         * Time Complexity: O(log32 n), O(1) amortized
+         * @param value Value to append
+         * @return New vector; this vector is unchanged
+         */
+        public PersistentVector<T> append(T value) {
+            // Room in tail: copy only the tail
+            if (count - tailOffset() < WIDTH) {
+                Object[] newTail = Arrays.copyOf(tail, tail.length + 1);
+                newTail[tail.length] = value;
+                return new PersistentVector<>(count + 1, shift, root, newTail);
+            }
+
+            // Tail is full: push it into the trie and start a new tail
+            Node tailNode = new Node(null, tail);
+            Node newRoot;
+            int newShift = shift;
+
+            if ((count >>> BITS) > (1 << shift)) {
+                // Root overflow: grow the tree by one level
+                newRoot = new Node(null, new Object[WIDTH]);
+                newRoot.array[0] = root;
+                newRoot.array[1] = newPath(null, shift, tailNode);
+                newShift += BITS;
+            } else {
+                newRoot = pushTail(count, shift, root, tailNode);
+            }
+
+            return new PersistentVector<>(count + 1, newShift, newRoot, new Object[]{value});
+        }
+
+        private static Node pushTail(int count, int level, Node parent, Node tailNode) {
+            int sub = ((count - 1) >>> level) & MASK;
+            Node copy = new Node(null, parent.array.clone());
+            Node toInsert;
+
+            if (level == BITS) {
+                toInsert = tailNode;
+            } else {
+                Node child = (Node) parent.array[sub];
+                toInsert = child != null
+                    ? pushTail(count, level - BITS, child, tailNode)
+                    : newPath(null, level - BITS, tailNode);
+            }
+
+            copy.array[sub] = toInsert;
+            return copy;
+        }
+
+        /**
+         * Returns a new vector without the last element
+         * Time Complexity: O(log32 n)
+         * @return New vector; this vector is unchanged
+         */
+        public PersistentVector<T> pop() {
+            if (count == 0) {
+                throw new IllegalStateException("Vector is empty");
+            }
+            if (count == 1) {
+                return empty();
+            }
+
+            if (count - tailOffset() > 1) {
+                Object[] newTail = Arrays.copyOf(tail, tail.length - 1);
+                return new PersistentVector<>(count - 1, shift, root, newTail);
+            }
+
+            // Tail becomes empty: pull the rightmost leaf out of the trie
+            Object[] newTail = arrayFor(count - 2);
+            Node newRoot = popTail(shift, root);
+            int newShift = shift;
+
+            if (newRoot == null) {
+                newRoot = EMPTY_NODE;
+            }
+            if (shift > BITS && newRoot.array[1] == null) {
+                // Root has a single child: shrink the tree by one level
+                newRoot = (Node) newRoot.array[0];
+                newShift -= BITS;
+            }
+
+            return new PersistentVector<>(count - 1, newShift, newRoot, newTail);
+        }
+
+        private Node popTail(int level, Node node) {
+            int sub = ((count - 2) >>> level) & MASK;
+
+            if (level > BITS) {
+                Node newChild = popTail(level - BITS, (Node) node.array[sub]);
+                if (newChild == null && sub == 0) {
+                    return null;
+                }
+                Node copy = new Node(null, node.array.clone());
+                copy.array[sub] = newChild;
+                return copy;
+            } else if (sub == 0) {
+                return null;
+            } else {
+                Node copy = new Node(null, node.array.clone());
+                copy.array[sub] = null;
+                return copy;
+            }
+        }
+
+        /**
+         * Returns a transient copy for efficient batch updates
+         * Time Complexity: O(1)
+         * @return TransientVector sharing this vector's structure
+         */
+        public TransientVector<T> asTransient() {
+            return new TransientVector<>(this);
+        }
+
+        /**
+         * Iterates elements in index order, one leaf array lookup per 32 elements
+         * @return Iterator over elements
+         */
+        @Override
+        public Iterator<T> iterator() {
+            return new Iterator<T>() {
+                private int index = 0;
+                private Object[] leaf = count > 0 ? arrayFor(0) : null;
+
+                @Override
+                public boolean hasNext() {
+                    return index < count;
+                }
+
+                @Override
+                @SuppressWarnings("unchecked")
+                public T next() {
+                    if (index >= count) {
+                        throw new NoSuchElementException();
+                    }
+                    if (index > 0 && (index & MASK) == 0) {
+                        leaf = arrayFor(index);
+                    }
+                    return (T) leaf[index++ & MASK];
+                }
+            };
+        }
+
+        @Override
+        public String toString() {
+            StringBuilder sb = new StringBuilder("[");
+            Iterator<T> it = iterator();
+            while (it.hasNext()) {
+                sb.append(it.next());
+                if (it.hasNext()) {
+                    sb.append(", ");
+                }
+            }
+            return sb.append("]").toString();
+        }
+    }
+
+    private static Node newPath(Edit edit, int level, Node node) {
+        if (level == 0) {
+            return node;
+        }
+        Node path = new Node(edit, new Object[WIDTH]);
+        path.array[0] = newPath(edit, level - BITS, node);
+        return path;
+    }
+
+    /**
+     * TransientVector class is a single-threaded mutable builder over a
+     * PersistentVector. Nodes it creates are edited in place; nodes shared
+     * with the source vector are copied on first write.
+     */
+    static final class TransientVector<T> {
+        private final Edit edit = new Edit();
+        private int count;
+        private int shift;
+        private Node root;
+        private Object[] tail;
+
+        private TransientVector(PersistentVector<T> vector) {
+            this.count = vector.count;
+            this.shift = vector.shift;
+            this.root = new Node(edit, vector.root.array.clone());
+            this.tail = Arrays.copyOf(vector.tail, WIDTH);
+        }
+
+        private void ensureAlive() {
+            if (!edit.alive) {
+                throw new IllegalStateException("Transient used after persistent() call");
+            }
+        }
+
+        private Node ensureEditable(Node node) {
+            if (node.edit == edit) {
+                return node;
+            }
+            return new Node(edit, node.array.clone());
+        }
+
+        /**
+         * Returns the number of elements
+         * Time Complexity: O(1)
+         * @return Number of elements
+         */
+        public int size() {
+            ensureAlive();
+            return count;
+        }
+
+        /**
+         * Gets the element at given index
+         * Time Complexity: O(log32 n)
+         * @param index Index of element
+         * @return Element at index
+         */
+        @SuppressWarnings("unchecked")
+        public T get(int index) {
+            ensureAlive();
+            if (index < 0 || index >= count) {
+                throw new IndexOutOfBoundsException("Invalid index: " + index);
+            }
+            if (index >= PersistentVector.tailOffset(count)) {
+                return (T) tail[index & MASK];
+            }
+            Node node = root;
+            for (int level = shift; level > 0; level -= BITS) {
+                node = (Node) node.array[(index >>> level) & MASK];
+            }
+            return (T) node.array[index & MASK];
+        }
+
+        /**
+         * Appends value in place
+         * Time Complexity: O(1) amortized
+         * @param value Value to append
+         * @return this transient
+         */
+        public TransientVector<T> append(T value) {
+            ensureAlive();
+
+            if (count - PersistentVector.tailOffset(count) < WIDTH) {
+                tail[count & MASK] = value;
+                count++;
+                return this;
+            }
+
+            Node tailNode = new Node(edit, tail);
+            tail = new Object[WIDTH];
+            tail[0] = value;
+
+            if ((count >>> BITS) > (1 << shift)) {
+                Node newRoot = new Node(edit, new Object[WIDTH]);
+                newRoot.array[0] = root;
+                newRoot.array[1] = newPath(edit, shift, tailNode);
+                root = newRoot;
+                shift += BITS;
+            } else {
+                root = pushTail(shift, root, tailNode);
+            }
+
+            count++;
+            return this;
+        }
+
+        private Node pushTail(int level, Node parent, Node tailNode) {
+            Node node = ensureEditable(parent);
+            int sub = ((count - 1) >>> level) & MASK;
+
+            if (level == BITS) {
+                node.array[sub] = tailNode;
+            } else {
+                Node child = (Node) node.array[sub];
+                node.array[sub] = child != null
+                    ? pushTail(level - BITS, child, tailNode)
+                    : newPath(edit, level - BITS, tailNode);
+            }
+
+            return node;
+        }
+
+        /**
+         * Replaces the element at index in place
+         * Time Complexity: O(log32 n)
+         * @param index Index to replace
+         * @param value New value
+         * @return this transient
+         */
+        public TransientVector<T> set(int index, T value) {
+            ensureAlive();
+            if (index < 0 || index >= count) {
+                throw new IndexOutOfBoundsException("Invalid index: " + index);
+            }
+
+            if (index >= PersistentVector.tailOffset(count)) {
+                tail[index & MASK] = value;
+            } else {
+                root = setInPath(shift, root, index, value);
+            }
+            return this;
+        }
+
+        private Node setInPath(int level, Node node, int index, Object value) {
+            Node editable = ensureEditable(node);
+            if (level == 0) {
+                editable.array[index & MASK] = value;
+            } else {
+                int sub = (index >>> level) & MASK;
+                editable.array[sub] = setInPath(level - BITS, (Node) editable.array[sub], index, value);
+            }
+            return editable;
+        }
+
+        /**
+         * Freezes this transient into a persistent vector. The transient can
+         * no longer be used afterwards.
+         * Time Complexity: O(1)
+         * @return Persistent vector with the current contents
+         */
+        public PersistentVector<T> persistent() {
+            ensureAlive();
+            edit.alive = false;
+            Object[] trimmedTail = Arrays.copyOf(tail, count - PersistentVector.tailOffset(count));
+            return new PersistentVector<>(count, shift, root, trimmedTail);
+        }
+    }
+
+    /**
+     * PersistentList class implements an immutable cons list with shared tails
+     */
+    static final class PersistentList<T> implements Iterable<T> {
+        private static final PersistentList<?> EMPTY = new PersistentList<>(null, null, 0);
+
+        private final T head;
+        private final PersistentList<T> tail;
+        private final int size;
+
+        private PersistentList(T head, PersistentList<T> tail, int size) {
+            this.head = head;
+            this.tail = tail;
+            this.size = size;
+        }
+
+        /**
+         * Returns the empty list
+         * Time Complexity: O(1)
+         * @return Empty list
+         */
+        @SuppressWarnings("unchecked")
+        public static <T> PersistentList<T> empty() {
+            return (PersistentList<T>) EMPTY;
+        }
+
+        /**
+         * Returns a new list with value in front of this list
+         * Time Complexity: O(1)
+         * @param value Value to prepend
+         * @return New list sharing this list as its tail
+         */
+        public PersistentList<T> prepend(T value) {
+            return new PersistentList<>(value, this, size + 1);
+        }
+
+        /**
+         * Gets the first element
+         * Time Complexity: O(1)
+         * @return First element
+         */
+        public T head() {
+            if (size == 0) {
+                throw new IllegalStateException("List is empty");
+            }
+            return head;
+        }
+
+        /**
+         * Gets the list without its first element
+         * Time Complexity: O(1)
+         * @return Rest of the list
+         */
+        public PersistentList<T> tail() {
+            if (size == 0) {
+                throw new IllegalStateException("List is empty");
+            }
+            return tail;
+        }
+
+        /**
+         * Returns the number of elements
+         * Time Complexity: O(1)
+         * @return Number of elements
+         */
+        public int size() {
+            return size;
+        }
+
+        /**
+         * Checks if list is empty
+         * Time Complexity: O(1)
+         * @return true if empty, false otherwise
+         */
+        public boolean isEmpty() {
+            return size == 0;
+        }
+
+        @Override
+        public Iterator<T> iterator() {
+            return new Iterator<T>() {
+                private PersistentList<T> current = PersistentList.this;
+
+                @Override
+                public boolean hasNext() {
+                    return current.size > 0;
+                }
+
+                @Override
+                public T next() {
+                    if (current.size == 0) {
+                        throw new NoSuchElementException();
+                    }
+                    T value = current.head;
+                    current = current.tail;
+                    return value;
+                }
+            };
+        }
+
+        @Override
+        public String toString() {
+            StringBuilder sb = new StringBuilder("[");
+            for (PersistentList<T> node = this; node.size > 0; node = node.tail) {
+                sb.append(node.head);
+                if (node.size > 1) {
+                    sb.append(" -> ");
+                }
+            }
+            return sb.append("]").toString();
+        }
+    }
+
+    public static void main(String[] args) throws InterruptedException {
+        System.out.println("Persistent Vector and List Implementation Demo\n");
+
+        // Test 1: Basic operations
+        System.out.println("Test 1: Basic Operations");
+        PersistentVector<Integer> v0 = PersistentVector.empty();
+        PersistentVector<Integer> v1 = v0.append(10).append(20).append(30);
+        System.out.println("v0: " + v0);
+        System.out.println("v1 = v0 + 10, 20, 30: " + v1);
+        System.out.println("v1.get(1): " + v1.get(1));
+        System.out.println("Size: " + v1.size());
+        System.out.println();
+
+        // Test 2: Old versions are unchanged
+        System.out.println("Test 2: Versions Are Immutable");
+        PersistentVector<Integer> v2 = v1.set(1, 99);
+        PersistentVector<Integer> v3 = v2.pop();
+        System.out.println("v1: " + v1);
+        System.out.println("v2 = v1.set(1, 99): " + v2);
+        System.out.println("v3 = v2.pop(): " + v3);
+        System.out.println();
+
+        // Test 3: Large vector spanning several trie levels
+        System.out.println("Test 3: Multi-level Trie (100,000 appends)");
+        int n = 100_000;
+        PersistentVector<Integer> big = PersistentVector.empty();
+        for (int i = 0; i < n; i++) {
+            big = big.append(i);
+        }
+        boolean allMatch = true;
+        for (int i = 0; i < n; i++) {
+            if (big.get(i) != i) {
+                allMatch = false;
+                break;
+            }
+        }
+        PersistentVector<Integer> updated = big.set(54_321, -1);
+        System.out.println("Size: " + big.size() + ", all values correct: " + allMatch);
+        System.out.println("After set(54321, -1): updated=" + updated.get(54_321) +
+            ", original=" + big.get(54_321));
+        System.out.println();
+
+        // Test 4: Pop back across leaf and level boundaries
+        System.out.println("Test 4: Pop Back to Empty");
+        PersistentVector<Integer> shrinking = big;
+        boolean popOk = true;
+        for (int i = n - 1; i >= 0; i--) {
+            if (shrinking.get(i) != i) {
+                popOk = false;
+            }
+            shrinking = shrinking.pop();
+        }
+        System.out.println("Popped " + n + " elements, values correct: " + popOk +
+            ", empty: " + shrinking.isEmpty());
+        System.out.println();
+
+        // Test 5: Transient batch updates
+        System.out.println("Test 5: Transient Batch Build");
+        long start = System.nanoTime();
+        TransientVector<Integer> builder = PersistentVector.<Integer>empty().asTransient();
+        for (int i = 0; i < 1_000_000; i++) {
+            builder.append(i);
+        }
+        for (int i = 0; i < 1_000_000; i += 2) {
+            builder.set(i, -i);
+        }
+        PersistentVector<Integer> built = builder.persistent();
+        long elapsedMs = (System.nanoTime() - start) / 1_000_000;
+        System.out.println("Built 1,000,000 elements in " + elapsedMs + " ms");
+        System.out.println("built.get(10)=" + built.get(10) + ", built.get(11)=" + built.get(11));
+        try {
+            builder.append(1);
+        } catch (IllegalStateException e) {
+            System.out.println("Reusing transient after persistent(): " + e.getMessage());
+        }
+        PersistentVector<Integer> batch = big.asTransient().set(0, 7).append(n).persistent();
+        System.out.println("Transient over existing vector: batch.get(0)=" + batch.get(0) +
+            ", big.get(0)=" + big.get(0) + ", batch size=" + batch.size());
+        System.out.println();
+
+        // Test 6: Lock-free config snapshots
+        System.out.println("Test 6: Config Snapshots Shared With Readers");
+        AtomicReference<PersistentVector<String>> config =
+            new AtomicReference<>(PersistentVector.of("timeout=30", "retries=3"));
+        Thread reader = new Thread(() -> {
+            for (int i = 0; i < 1000; i++) {
+                PersistentVector<String> snapshot = config.get();  // no lock, never torn
+                if (snapshot.size() < 2) {
+                    throw new AssertionError("Torn snapshot");
+                }
+            }
+        });
+        reader.start();
+        config.updateAndGet(c -> c.set(0, "timeout=60"));
+        config.updateAndGet(c -> c.append("verbose=true"));
+        reader.join();
+        System.out.println("Latest config: " + config.get());
+        System.out.println();
+
+        // Test 7: Persistent list
+        System.out.println("Test 7: Persistent List");
+        PersistentList<String> base = PersistentList.<String>empty().prepend("C").prepend("B");
+        PersistentList<String> withA = base.prepend("A");
+        PersistentList<String> withZ = base.prepend("Z");
+        System.out.println("base: " + base);
+        System.out.println("withA: " + withA + " (shares tail: " + (withA.tail() == base) + ")");
+        System.out.println("withZ: " + withZ + " (shares tail: " + (withZ.tail() == base) + ")");
+        System.out.println("withA.head(): " + withA.head() + ", size: " + withA.size());
+    }
+}
@@ -0,0 +1,345 @@
+package org.algorithm_datastructure;
+
+import java.util.*;
+
+/**
+ * Point-to-Point Shortest Path Search
+ *
+ * Goal-directed alternatives to a one-sided Dijkstra for single s-t queries,
+ * all returning dijkstra_shortest_path.ShortestPathResult:
+ *
+ * Bidirectional Dijkstra: one search forward from s and one backward from t
+ * (over the transpose), always advancing the side with the smaller minimum
+ * key. Every edge relaxed into a vertex the other side has reached offers a
+ * candidate mu = d_f(u) + w + d_b(v); the search stops once
+ * minKey_f + minKey_b >= mu. Two balls of radius d/2 replace one of radius d.
+ *
+ * A*: Dijkstra ordered by d(s, v) + h(v), where h is a lower bound on the
+ * remaining distance. The heuristic must be admissible (never overestimate)
+ * and consistent (h(u) <= w(u, v) + h(v)), so settled vertices are final;
+ * straight-line or Manhattan bounds and ALT both qualify.
+ *
+ * ALT (A*, Landmarks, Triangle inequality): preprocessing picks landmarks
+ * by farthest-point selection and stores d(L, v) and d(v, L) for every
+ * vertex. By the triangle inequality,
+ *   d(v, t) >= d(L, t) - d(L, v)  and  d(v, t) >= d(v, L) - d(t, L),
+ * and the best of these over all landmarks is a consistent heuristic.
+ *
+ * Operations:
+ * - bidirectional(s, t): Bidirectional Dijkstra
+ * - aStar(s, t, heuristic): A* with a caller-supplied heuristic
+ * - buildLandmarks(k): ALT preprocessing - O(k (V + E) log V)
+ *
+ * Time Complexity: O((V' + E') log V') for the V' vertices settled
+ * Space Complexity: O(V) per thread, plus O(k V) for k landmarks
+ *
+ * Applications:
+ * - Route planning on road networks
+ * - Game and robot path finding
+ * - Interactive point-to-point queries where preprocessing is cheap
+ */
+public class point_to_point_search {
+
+    static final long INFINITY = shortest_path_engine.INFINITY;
+
+    /**
+     * Heuristic interface gives a lower bound on the distance to the target
+     */
+    interface Heuristic {
+        /**
+         * @param vertex Current vertex
+         * @param target Query target
+         * @return Lower bound on d(vertex, target); INFINITY if provably unreachable
+         */
+        long estimate(int vertex, int target);
+    }
+
+    /**
+     * Landmarks class is the ALT heuristic: distances to and from a few
+     * landmark vertices
+     */
+    static final class Landmarks implements Heuristic {
+        final int[] landmarks;
+        private final long[][] from;  // from[i][v] = d(landmark i, v)
+        private final long[][] to;    // to[i][v] = d(v, landmark i)
+
+        Landmarks(int[] landmarks, long[][] from, long[][] to) {
+            this.landmarks = landmarks;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        public long estimate(int vertex, int target) {
+            long best = 0;
+            for (int i = 0; i < landmarks.length; i++) {
+                long[] f = from[i];
+                long[] t = to[i];
+                if (f[vertex] != INFINITY && f[target] != INFINITY) {
+                    best = Math.max(best, f[target] - f[vertex]);
+                }
+                if (t[vertex] != INFINITY && t[target] != INFINITY) {
+                    best = Math.max(best, t[vertex] - t[target]);
+                }
+            }
+            return best;
+        }
+    }
+
+    /**
+     * PointToPointSearch class answers s-t queries on one graph; each thread
+     * gets its own pair of reusable SearchStates
+     */
+    static class PointToPointSearch {
+        final csr_graph.CsrGraph graph;
+        final csr_graph.CsrGraph reverse;
+        private final ThreadLocal<shortest_path_engine.SearchState[]> states;
+        private final ThreadLocal<int[]> settled = ThreadLocal.withInitial(() -> new int[1]);
+
+        /**
+         * Constructor - prepares searches over a graph (builds its transpose)
+         * @param graph Graph with non-negative weights
+         */
+        public PointToPointSearch(csr_graph.CsrGraph graph) {
+            for (int e = 0; e < graph.edgeCount(); e++) {
+                if (graph.weight(e) < 0) {
+                    throw new IllegalArgumentException("Negative edge weight: " + graph.weight(e));
+                }
+            }
+            this.graph = graph;
+            this.reverse = graph.transpose();
+            this.states = ThreadLocal.withInitial(() -> new shortest_path_engine.SearchState[]{
+                new shortest_path_engine.SearchState(graph.vertexCount()),
+                new shortest_path_engine.SearchState(graph.vertexCount())});
+        }
+
+        private void checkVertex(int v) {
+            if (v < 0 || v >= graph.vertexCount()) {
+                throw new IndexOutOfBoundsException("Invalid vertex: " + v);
+            }
+        }
+
+        /**
+         * Bidirectional Dijkstra
+         * Time Complexity: O((V' + E') log V')
+         * @param source Start vertex
+         * @param target End vertex
+         * @return Distance and path (No path exists if unreachable)
+         */
+        public dijkstra_shortest_path.ShortestPathResult bidirectional(int source, int target) {
+            checkVertex(source);
+            checkVertex(target);
+            shortest_path_engine.SearchState[] pair = states.get();
+            shortest_path_engine.SearchState forward = pair[0];
+            shortest_path_engine.SearchState backward = pair[1];
+            forward.reset();
+            backward.reset();
+            forward.relax(source, 0, -1);
+            backward.relax(target, 0, -1);
+            long best = source == target ? 0 : INFINITY;
+            int meet = source == target ? source : -1;
+
+            while (!forward.isEmpty() && !backward.isEmpty()) {
+                if (forward.minKey() + backward.minKey() >= best) break;
+                boolean isForward = forward.minKey() <= backward.minKey();
+                shortest_path_engine.SearchState side = isForward ? forward : backward;
+                shortest_path_engine.SearchState other = isForward ? backward : forward;
+                csr_graph.CsrGraph edges = isForward ? graph : reverse;
+
+                int u = side.poll();
+                long base = side.distance(u);
+                for (int e = edges.edgeStart(u); e < edges.edgeEnd(u); e++) {
+                    int v = edges.target(e);
+                    long candidate = base + edges.weight(e);
+                    side.relax(v, candidate, u);
+                    if (other.reached(v) && candidate + other.distance(v) < best) {
+                        best = candidate + other.distance(v);
+                        meet = v;
+                    }
+                }
+            }
+            settled.get()[0] = forward.settledCount() + backward.settledCount();
+            if (meet < 0) {
+                return new dijkstra_shortest_path.ShortestPathResult(INFINITY, new ArrayList<>());
+            }
+            List<Integer> path = forward.pathTo(meet);
+            for (int v = backward.parent(meet); v != -1; v = backward.parent(v)) {
+                path.add(v);
+            }
+            return new dijkstra_shortest_path.ShortestPathResult(best, path);
+        }
+
+        /**
+         * A* search
+         * Time Complexity: O((V' + E') log V'), V' shrinking as h gets tighter
+         * @param source Start vertex
+         * @param target End vertex
+         * @param heuristic Admissible and consistent lower bound
+         * @return Distance and path (No path exists if unreachable)
+         */
+        public dijkstra_shortest_path.ShortestPathResult aStar(int source, int target, Heuristic heuristic) {
+            checkVertex(source);
+            checkVertex(target);
+            shortest_path_engine.SearchState state = states.get()[0];
+            state.reset();
+            state.relax(source, 0, heuristic.estimate(source, target), -1);
+            while (!state.isEmpty()) {
+                int u = state.poll();
+                if (u == target) break;
+                long base = state.distance(u);
+                for (int e = graph.edgeStart(u); e < graph.edgeEnd(u); e++) {
+                    int v = graph.target(e);
+                    long candidate = base + graph.weight(e);
+                    if (candidate >= state.distance(v)) continue;
+                    long remaining = heuristic.estimate(v, target);
+                    if (remaining == INFINITY) continue;
+                    state.relax(v, candidate, candidate + remaining, u);
+                }
+            }
+            settled.get()[0] = state.settledCount();
+            return new dijkstra_shortest_path.ShortestPathResult(state.distance(target), state.pathTo(target));
+        }
+
+        /**
+         * ALT preprocessing with farthest-point landmark selection: each new
+         * landmark is the reachable vertex farthest from all chosen ones
+         * Time Complexity: O(k (V + E) log V)
+         * @param count Number of landmarks (typically 8-16)
+         * @return Landmark heuristic for aStar
+         */
+        public Landmarks buildLandmarks(int count) {
+            if (count <= 0 || count > graph.vertexCount()) {
+                throw new IllegalArgumentException("Invalid landmark count: " + count);
+            }
+            shortest_path_engine.ShortestPathEngine forwardEngine = new shortest_path_engine.ShortestPathEngine(graph);
+            shortest_path_engine.ShortestPathEngine backwardEngine = new shortest_path_engine.ShortestPathEngine(reverse);
+            int n = graph.vertexCount();
+            int[] landmarks = new int[count];
+            long[][] from = new long[count][];
+            long[][] to = new long[count][];
+            long[] nearest = new long[n];  // distance to the closest landmark so far
+            Arrays.fill(nearest, INFINITY);
+            boolean[] chosen = new boolean[n];
+
+            // Start from the vertex farthest from vertex 0
+            long[] seed = forwardEngine.distancesFrom(0);
+            int next = farthest(seed, chosen);
+            for (int i = 0; i < count; i++) {
+                landmarks[i] = next;
+                chosen[next] = true;
+                from[i] = forwardEngine.distancesFrom(next);
+                to[i] = backwardEngine.distancesFrom(next);
+                for (int v = 0; v < n; v++) {
+                    nearest[v] = Math.min(nearest[v], from[i][v]);
+                }
+                if (i + 1 < count) {
+                    next = farthest(nearest, chosen);  // count <= n leaves an unchosen vertex
+                }
+            }
+            return new Landmarks(landmarks, from, to);
+        }
+
+        /**
+         * Vertex with the largest finite value (ties and all-infinite fall back
+         * to the first non-landmark vertex)
+         */
+        private static int farthest(long[] distance, boolean[] chosen) {
+            int best = -1;
+            for (int v = 0; v < distance.length; v++) {
+                if (chosen[v]) continue;
+                if (best < 0 || (distance[v] != INFINITY &&
+                    (distance[best] == INFINITY || distance[v] > distance[best]))) {
+                    best = v;
+                }
+            }
+            return best;
+        }
+
+        /**
+         * Vertices settled by the last query on this thread (both sides for
+         * bidirectional search)
+         * @return Settled count
+         */
+        public int lastSettledCount() {
+            return settled.get()[0];
+        }
+    }
+
+    public static void main(String[] args) {
+        System.out.println("Point-to-Point Search Demo\n");
+
+        // Test 1: Small graph from the dijkstra_shortest_path demo
+        System.out.println("Test 1: Basic Weighted Graph");
+        List<List<dijkstra_shortest_path.Edge>> small = new ArrayList<>();
+        for (int i = 0; i < 6; i++) small.add(new ArrayList<>());
+        int[][] edges = {{0, 1, 4}, {0, 2, 2}, {1, 2, 1}, {1, 3, 5}, {2, 3, 8}, {2, 4, 10}, {3, 4, 2}, {3, 5, 6}, {4, 5, 3}};
+        for (int[] edge : edges) small.get(edge[0]).add(new dijkstra_shortest_path.Edge(edge[1], edge[2]));
+        PointToPointSearch smallSearch = new PointToPointSearch(csr_graph.CsrGraph.fromAdjacency(small));
+        Landmarks smallLandmarks = smallSearch.buildLandmarks(2);
+        System.out.println("dijkstraWithPath: " + dijkstra_shortest_path.dijkstraWithPath(small, 0, 5, 6));
+        System.out.println("bidirectional:    " + smallSearch.bidirectional(0, 5));
+        System.out.println("A* (ALT):         " + smallSearch.aStar(0, 5, smallLandmarks));
+        System.out.println("bidirectional 5 -> 0: " + smallSearch.bidirectional(5, 0));
+        Landmarks everyVertex = smallSearch.buildLandmarks(6);
+        System.out.println("Every vertex as a landmark: " + Arrays.toString(everyVertex.landmarks) +
+            ", A* 0 -> 5: " + smallSearch.aStar(0, 5, everyVertex).exactDistance);
+        System.out.println();
+
+        // Test 2: Road-like grid, settled vertices per query
+        int rows = 300;
+        int cols = 300;
+        System.out.println("Test 2: 200 Queries on a " + rows + " x " + cols + " Grid");
+        Random random = new Random(47);
+        List<List<dijkstra_shortest_path.Edge>> adjacency = shortest_path_engine.gridAdjacency(rows, cols, random);
+        csr_graph.CsrGraph graph = csr_graph.CsrGraph.fromAdjacency(adjacency);
+        shortest_path_engine.ShortestPathEngine dijkstra = new shortest_path_engine.ShortestPathEngine(graph);
+        PointToPointSearch search = new PointToPointSearch(graph);
+        long start = System.nanoTime();
+        Landmarks landmarks = search.buildLandmarks(16);
+        System.out.println("ALT preprocessing (16 landmarks): " + (System.nanoTime() - start) / 1_000_000 + " ms");
+        // Every step costs at least 10, so 10 x Manhattan distance is a consistent bound
+        Heuristic manhattan = (v, t) -> 10L * (Math.abs(v / cols - t / cols) + Math.abs(v % cols - t % cols));
+
+        int queries = 200;
+        int[][] pairs = new int[queries][];
+        for (int i = 0; i < queries; i++) {
+            pairs[i] = new int[]{random.nextInt(rows * cols), random.nextInt(rows * cols)};
+        }
+        String[] names = {"Dijkstra", "Bidirectional", "A* Manhattan", "A* ALT"};
+        long[] settledTotal = new long[4];
+        boolean match = true;
+        for (int method = 0; method < 4; method++) {
+            for (int[] pair : pairs) {
+                long expected = dijkstra.distance(pair[0], pair[1]);
+                int baseSettled = dijkstra.lastSettledCount();
+                if (method == 0) {
+                    settledTotal[0] += baseSettled;
+                    continue;
+                }
+                dijkstra_shortest_path.ShortestPathResult result =
+                    method == 1 ? search.bidirectional(pair[0], pair[1])
+                    : method == 2 ? search.aStar(pair[0], pair[1], manhattan)
+                    : search.aStar(pair[0], pair[1], landmarks);
+                settledTotal[method] += search.lastSettledCount();
+                match &= result.exactDistance == expected;
+                // The returned path must have exactly the reported length
+                long length = 0;
+                for (int i = 0; i + 1 < result.path.size(); i++) {
+                    int u = result.path.get(i);
+                    int v = result.path.get(i + 1);
+                    long w = INFINITY;
+                    for (int e = graph.edgeStart(u); e < graph.edgeEnd(u); e++) {
+                        if (graph.target(e) == v) w = Math.min(w, graph.weight(e));
+                    }
+                    length += w;
+                }
+                match &= length == expected && result.path.get(0) == pair[0];
+            }
+        }
+        for (int method = 0; method < 4; method++) {
+            System.out.printf("%-14s avg settled %6d (%5.1fx fewer)%n", names[method], settledTotal[method] / queries,
+                (double) settledTotal[0] / settledTotal[method]);
+        }
+        System.out.println("All distances and paths match Dijkstra: " + match);
+    }
+}
@@ -0,0 +1,430 @@
+package org.algorithm_datastructure;
+
+import java.util.*;
+
+/**
+ * Segment Tree and Fenwick Tree Implementation (range updates, range queries)
+ *
+ * Both structures answer aggregate queries over a long[] array while it is
+ * being updated, without re-scanning the range.
+ *
+ * LazySegmentTree (iterative, bottom-up):
+ * - Leaves live at [size, 2 * size) of flat sum/min/lazy arrays, node k has
+ *   children 2k and 2k + 1; no recursion and no node objects
+ * - A range add on a fully covered node is recorded in lazy[k] and pushed to
+ *   the children only when a later operation passes through k
+ * - Before touching [l, r) the pending adds on the two boundary paths are
+ *   pushed top-down; after an update the same paths are recomputed bottom-up
+ *
+ * FenwickTree (binary indexed tree with two arrays):
+ * - prefixSum(i) = sum(B1, i) * i - sum(B2, i) supports range add and range sum
+ * - Smaller and faster than the segment tree, but sums only (no min)
+ *
+ * Operations:
+ * - rangeAdd(l, r, delta): Add delta to every element of [l, r) - O(log n)
+ * - rangeSum(l, r): Sum of [l, r) - O(log n)
+ * - rangeMin(l, r): Minimum of [l, r) - O(log n) (segment tree only)
+ * - set(i, value) / get(i): Point write and read - O(log n)
+ *
+ * Time Complexity: O(log n) per operation, O(n) to build
+ * Space Complexity: O(n)
+ *
+ * Applications:
+ * - Scheduler capacity (sum/min of booked load over a time range)
+ * - Range-update analytics counters
+ * - Order book depth aggregation
+ */
+public class segment_tree {
+
+    /**
+     * LazySegmentTree class supports range add with range sum and range min
+     */
+    static class LazySegmentTree {
+        private final int n;
+        private final int size;    // number of leaves, power of two
+        private final int log;
+        private final long[] sum;
+        private final long[] min;
+        private final long[] lazy;  // pending add for the children of k
+        private final int[] width;  // real (non-padding) leaves under k
+
+        /**
+         * Constructor - builds the tree over a copy of values
+         * Time Complexity: O(n)
+         * @param values Initial array
+         */
+        public LazySegmentTree(long[] values) {
+            this.n = values.length;
+            int leaves = 1;
+            int levels = 0;
+            while (leaves < Math.max(1, n)) {
+                leaves <<= 1;
+                levels++;
+            }
+            this.size = leaves;
+            this.log = levels;
+            this.sum = new long[2 * size];
+            this.min = new long[2 * size];
+            this.lazy = new long[size];
+            this.width = new int[2 * size];
+
+            Arrays.fill(min, Long.MAX_VALUE);
+            for (int i = 0; i < n; i++) {
+                sum[size + i] = values[i];
+                min[size + i] = values[i];
+                width[size + i] = 1;
+            }
+            for (int k = size - 1; k >= 1; k--) {
+                width[k] = width[2 * k] + width[2 * k + 1];
+                pull(k);
+            }
+        }
+
+        private void pull(int k) {
+            sum[k] = sum[2 * k] + sum[2 * k + 1];
+            min[k] = Math.min(min[2 * k], min[2 * k + 1]);
+        }
+
+        private void apply(int k, long delta) {
+            if (width[k] == 0) return;  // padding leaves stay at MAX_VALUE
+            sum[k] += delta * width[k];
+            min[k] += delta;
+            if (k < size) lazy[k] += delta;
+        }
+
+        private void push(int k) {
+            if (lazy[k] != 0) {
+                apply(2 * k, lazy[k]);
+                apply(2 * k + 1, lazy[k]);
+                lazy[k] = 0;
+            }
+        }
+
+        /**
+         * Pushes pending adds on the paths above the boundaries l and r
+         */
+        private void pushBoundaries(int l, int r) {
+            for (int i = log; i >= 1; i--) {
+                if (((l >> i) << i) != l) push(l >> i);
+                if (((r >> i) << i) != r) push((r - 1) >> i);
+            }
+        }
+
+        private void checkRange(int l, int r) {
+            if (l < 0 || r > n || l > r) {
+                throw new IndexOutOfBoundsException("Invalid range: [" + l + ", " + r + ")");
+            }
+        }
+
+        /**
+         * Adds delta to every element in [l, r)
+         * Time Complexity: O(log n)
+         * @param l Start index (inclusive)
+         * @param r End index (exclusive)
+         * @param delta Amount to add
+         */
+        public void rangeAdd(int l, int r, long delta) {
+            checkRange(l, r);
+            if (l == r) return;
+            l += size;
+            r += size;
+            pushBoundaries(l, r);
+
+            for (int lo = l, hi = r; lo < hi; lo >>= 1, hi >>= 1) {
+                if ((lo & 1) == 1) apply(lo++, delta);
+                if ((hi & 1) == 1) apply(--hi, delta);
+            }
+
+            for (int i = 1; i <= log; i++) {
+                if (((l >> i) << i) != l) pull(l >> i);
+                if (((r >> i) << i) != r) pull((r - 1) >> i);
+            }
+        }
+
+        /**
+         * Returns the sum of [l, r)
+         * Time Complexity: O(log n)
+         * @param l Start index (inclusive)
+         * @param r End index (exclusive)
+         * @return Sum of elements
+         */
+        public long rangeSum(int l, int r) {
+            checkRange(l, r);
+            if (l == r) return 0;
+            l += size;
+            r += size;
+            pushBoundaries(l, r);
+            long result = 0;
+            for (; l < r; l >>= 1, r >>= 1) {
+                if ((l & 1) == 1) result += sum[l++];
+                if ((r & 1) == 1) result += sum[--r];
+            }
+            return result;
+        }
+
+        /**
+         * Returns the minimum of [l, r)
+         * Time Complexity: O(log n)
+         * @param l Start index (inclusive)
+         * @param r End index (exclusive), greater than l
+         * @return Minimum element
+         */
+        public long rangeMin(int l, int r) {
+            checkRange(l, r);
+            if (l == r) {
+                throw new IllegalArgumentException("Range is empty");
+            }
+            l += size;
+            r += size;
+            pushBoundaries(l, r);
+            long result = Long.MAX_VALUE;
+            for (; l < r; l >>= 1, r >>= 1) {
+                if ((l & 1) == 1) result = Math.min(result, min[l++]);
+                if ((r & 1) == 1) result = Math.min(result, min[--r]);
+            }
+            return result;
+        }
+
+        /**
+         * Sets one element
+         * Time Complexity: O(log n)
+         * @param index Element index
+         * @param value New value
+         */
+        public void set(int index, long value) {
+            checkRange(index, index + 1);
+            int k = index + size;
+            for (int i = log; i >= 1; i--) push(k >> i);
+            sum[k] = value;
+            min[k] = value;
+            for (int i = 1; i <= log; i++) pull(k >> i);
+        }
+
+        /**
+         * Gets one element
+         * Time Complexity: O(log n)
+         * @param index Element index
+         * @return Current value
+         */
+        public long get(int index) {
+            checkRange(index, index + 1);
+            int k = index + size;
+            for (int i = log; i >= 1; i--) push(k >> i);
+            return sum[k];
+        }
+
+        /**
+         * Gets the number of elements
+         * @return Array length
+         */
+        public int size() {
+            return n;
+        }
+    }
+
+    /**
+     * FenwickTree class supports range add and range sum with two BITs
+     */
+    static class FenwickTree {
+        private final int n;
+        private final long[] b1;  // coefficient of i in prefix sums
+        private final long[] b2;  // constant correction term
+
+        /**
+         * Constructor - builds the tree from values
+         * Time Complexity: O(n)
+         * @param values Initial array
+         */
+        public FenwickTree(long[] values) {
+            this.n = values.length;
+            this.b1 = new long[n + 1];
+            this.b2 = new long[n + 1];
+            // Point values become a B2-only prefix: prefixSum(i) = -sum(B2, i)
+            for (int i = 1; i <= n; i++) {
+                b2[i] -= values[i - 1];
+                int parent = i + (i & -i);
+                if (parent <= n) b2[parent] += b2[i];
+            }
+        }
+
+        private static void add(long[] tree, int index, long delta) {
+            for (int i = index; i < tree.length; i += i & -i) {
+                tree[i] += delta;
+            }
+        }
+
+        private static long sum(long[] tree, int index) {
+            long result = 0;
+            for (int i = index; i > 0; i -= i & -i) {
+                result += tree[i];
+            }
+            return result;
+        }
+
+        /**
+         * Sum of the first count elements
+         * Time Complexity: O(log n)
+         * @param count Number of leading elements
+         * @return Prefix sum
+         */
+        public long prefixSum(int count) {
+            if (count < 0 || count > n) {
+                throw new IndexOutOfBoundsException("Invalid count: " + count);
+            }
+            return sum(b1, count) * count - sum(b2, count);
+        }
+
+        /**
+         * Adds delta to every element in [l, r)
+         * Time Complexity: O(log n)
+         * @param l Start index (inclusive)
+         * @param r End index (exclusive)
+         * @param delta Amount to add
+         */
+        public void rangeAdd(int l, int r, long delta) {
+            if (l < 0 || r > n || l > r) {
+                throw new IndexOutOfBoundsException("Invalid range: [" + l + ", " + r + ")");
+            }
+            add(b1, l + 1, delta);
+            add(b1, r + 1, -delta);
+            add(b2, l + 1, delta * l);
+            add(b2, r + 1, -delta * r);
+        }
+
+        /**
+         * Returns the sum of [l, r)
+         * Time Complexity: O(log n)
+         * @param l Start index (inclusive)
+         * @param r End index (exclusive)
+         * @return Sum of elements
+         */
+        public long rangeSum(int l, int r) {
+            if (l > r) {
+                throw new IndexOutOfBoundsException("Invalid range: [" + l + ", " + r + ")");
+            }
+            return prefixSum(r) - prefixSum(l);
+        }
+
+        /**
+         * Gets one element
+         * Time Complexity: O(log n)
+         * @param index Element index
+         * @return Current value
+         */
+        public long get(int index) {
+            return rangeSum(index, index + 1);
+        }
+    }
+
+    public static void main(String[] args) {
+        System.out.println("Segment Tree and Fenwick Tree Demo\n");
+
+        // Test 1: Segment tree basics
+        System.out.println("Test 1: Lazy Segment Tree");
+        long[] load = {5, 3, 8, 6, 1, 4, 7, 2};
+        LazySegmentTree segment = new LazySegmentTree(load);
+        System.out.println("Array: " + Arrays.toString(load));
+        System.out.println("rangeSum(2, 6): " + segment.rangeSum(2, 6) + ", rangeMin(2, 6): " + segment.rangeMin(2, 6));
+        segment.rangeAdd(1, 5, 10);
+        System.out.println("After rangeAdd(1, 5, +10): sum(0, 8) = " + segment.rangeSum(0, 8) +
+            ", min(0, 8) = " + segment.rangeMin(0, 8) + ", min(1, 5) = " + segment.rangeMin(1, 5));
+        segment.set(0, 100);
+        System.out.print("After set(0, 100):");
+        for (int i = 0; i < segment.size(); i++) {
+            System.out.print(" " + segment.get(i));
+        }
+        System.out.println();
+        System.out.println();
+
+        // Test 2: Fenwick tree basics
+        System.out.println("Test 2: Fenwick Tree");
+        FenwickTree fenwick = new FenwickTree(load);
+        System.out.println("rangeSum(2, 6): " + fenwick.rangeSum(2, 6));
+        fenwick.rangeAdd(1, 5, 10);
+        System.out.println("After rangeAdd(1, 5, +10): sum(0, 8) = " + fenwick.rangeSum(0, 8) +
+            ", get(4) = " + fenwick.get(4) + ", get(5) = " + fenwick.get(5));
+        System.out.println();
+
+        // Test 3: Randomized check against a plain array (odd size exercises padding)
+        System.out.println("Test 3: Randomized Check vs Plain Array");
+        Random random = new Random(38);
+        int n = 1_003;
+        long[] plain = new long[n];
+        for (int i = 0; i < n; i++) {
+            plain[i] = random.nextInt(1000) - 500;
+        }
+        LazySegmentTree tree = new LazySegmentTree(plain);
+        FenwickTree bit = new FenwickTree(plain);
+        boolean consistent = true;
+        for (int step = 0; step < 20_000; step++) {
+            int l = random.nextInt(n);
+            int r = l + 1 + random.nextInt(n - l);
+            switch (random.nextInt(4)) {
+                case 0:
+                    long delta = random.nextInt(200) - 100;
+                    tree.rangeAdd(l, r, delta);
+                    bit.rangeAdd(l, r, delta);
+                    for (int i = l; i < r; i++) plain[i] += delta;
+                    break;
+                case 1:
+                    long value = random.nextInt(1000);
+                    tree.set(l, value);
+                    bit.rangeAdd(l, l + 1, value - plain[l]);
+                    plain[l] = value;
+                    break;
+                default:
+                    long expectedSum = 0;
+                    long expectedMin = Long.MAX_VALUE;
+                    for (int i = l; i < r; i++) {
+                        expectedSum += plain[i];
+                        expectedMin = Math.min(expectedMin, plain[i]);
+                    }
+                    consistent &= tree.rangeSum(l, r) == expectedSum;
+                    consistent &= bit.rangeSum(l, r) == expectedSum;
+                    consistent &= tree.rangeMin(l, r) == expectedMin;
+            }
+        }
+        System.out.println("Matches plain array: " + consistent);
+        System.out.println();
+
+        // Test 4: Throughput vs re-scanning
+        int size = 1_000_000;
+        int operations = 200_000;
+        System.out.println("Test 4: " + operations + " Mixed Range Ops on " + size + " Elements");
+        long[] big = new long[size];
+        LazySegmentTree bigTree = new LazySegmentTree(big);
+        FenwickTree bigBit = new FenwickTree(big);
+        int[][] ops = new int[operations][];
+        for (int i = 0; i < operations; i++) {
+            int l = random.nextInt(size);
+            int r = l + 1 + random.nextInt(Math.min(size - l, 50_000));
+            ops[i] = new int[]{random.nextInt(2), l, r};
+        }
+        long start = System.nanoTime();
+        long checksum = 0;
+        for (int[] op : ops) {
+            if (op[0] == 0) bigTree.rangeAdd(op[1], op[2], 3);
+            else checksum += bigTree.rangeSum(op[1], op[2]);
+        }
+        long treeMs = (System.nanoTime() - start) / 1_000_000;
+        start = System.nanoTime();
+        long bitChecksum = 0;
+        for (int[] op : ops) {
+            if (op[0] == 0) bigBit.rangeAdd(op[1], op[2], 3);
+            else bitChecksum += bigBit.rangeSum(op[1], op[2]);
+        }
+        long bitMs = (System.nanoTime() - start) / 1_000_000;
+        start = System.nanoTime();
+        long scanChecksum = 0;
+        for (int[] op : ops) {
+            if (op[0] == 0) {
+                for (int i = op[1]; i < op[2]; i++) big[i] += 3;
+            } else {
+                for (int i = op[1]; i < op[2]; i++) scanChecksum += big[i];
+            }
+        }
+        long scanMs = (System.nanoTime() - start) / 1_000_000;
+        System.out.println("Segment tree: " + treeMs + " ms, Fenwick: " + bitMs + " ms, array scan: " + scanMs + " ms");
+        System.out.println("Checksums equal: " + (checksum == bitChecksum && checksum == scanChecksum));
+    }
+}
@@ -0,0 +1,620 @@
+package org.algorithm_datastructure;
+
+import java.util.*;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Shortest Path Query Engine
+ *
+ * A Dijkstra engine for many point-to-point queries over one immutable
+ * csr_graph.CsrGraph. Compared to dijkstra_shortest_path.dijkstra it:
+ * - uses an indexed binary heap of primitive (vertex, key) pairs with
+ *   decrease-key, so no Node objects and no stale queue entries
+ * - keeps one SearchState per thread and reuses it across queries; instead
+ *   of clearing V-sized arrays with Arrays.fill, every query bumps a
+ *   generation number and an entry counts only if its stamp matches, so the
+ *   per-query cost is proportional to the vertices actually touched
+ * - stops as soon as the target is settled
+ * - keeps long distances, so sums of large int weights cannot overflow
+ *
+ * Operations:
+ * - distance(source, target): Point-to-point distance with early exit - O((V + E) log V) worst case
+ * - shortestPath(source, target): Distance and route as ShortestPathResult
+ * - distancesFrom(source): Full single-source distances
+ * - distanceMatrix(sources, targets): Many-to-many table, one search per source
+ *   on a caller-supplied pool whose workers keep their SearchState between
+ *   calls, each search stopping once every target is settled; rows can be
+ *   streamed to a callback instead of held in memory
+ *
+ * Time Complexity: O((V' + E') log V') for the V' vertices settled before the target
+ * Space Complexity: O(V) per thread, allocated once
+ *
+ * Applications:
+ * - Routing services answering millions of queries
+ * - Travel-time lookups in logistics and ride hailing
+ * - Inner loop of many-to-many and matrix computations
+ */
+public class shortest_path_engine {
+
+    static final long INFINITY = Long.MAX_VALUE;
+
+    /**
+     * SearchState class is reusable per-thread Dijkstra state: generation
+     * stamped distance/parent arrays plus an indexed min-heap
+     */
+    static final class SearchState {
+        private static final int SETTLED = -1;
+
+        private final int[] stamp;       // stamp[v] == generation means v was reached this query
+        private final long[] distance;
+        private final int[] parent;
+        private final int[] heapIndex;   // position in heap, or SETTLED
+        private final int[] heapVertex;
+        private final long[] heapKey;
+        private int heapSize;
+        private int generation;
+        private int settledCount;
+
+        SearchState(int vertexCount) {
+            this.stamp = new int[vertexCount];
+            this.distance = new long[vertexCount];
+            this.parent = new int[vertexCount];
+            this.heapIndex = new int[vertexCount];
+            this.heapVertex = new int[vertexCount];
+            this.heapKey = new long[vertexCount];
+        }
+
+        /**
+         * Forgets the previous query in O(1) (O(V) once every 2^31 queries)
+         */
+        void reset() {
+            heapSize = 0;
+            settledCount = 0;
+            if (++generation == Integer.MAX_VALUE) {
+                Arrays.fill(stamp, 0);
+                generation = 1;
+            }
+        }
+
+        boolean reached(int v) {
+            return stamp[v] == generation;
+        }
+
+        long distance(int v) {
+            return stamp[v] == generation ? distance[v] : INFINITY;
+        }
+
+        int parent(int v) {
+            return stamp[v] == generation ? parent[v] : -1;
+        }
+
+        boolean isSettled(int v) {
+            return stamp[v] == generation && heapIndex[v] == SETTLED;
+        }
+
+        int settledCount() {
+            return settledCount;
+        }
+
+        boolean isEmpty() {
+            return heapSize == 0;
+        }
+
+        long minKey() {
+            return heapKey[0];
+        }
+
+        /**
+         * Offers a tentative distance; inserts v or decreases its key
+         * @return true if the distance improved
+         */
+        boolean relax(int v, long newDistance, int from) {
+            return relax(v, newDistance, newDistance, from);
+        }
+
+        /**
+         * Offers a tentative distance with a separate heap key (A* orders by
+         * distance + heuristic); the key must grow with the distance
+         * @return true if the distance improved
+         */
+        boolean relax(int v, long newDistance, long key, int from) {
+            if (stamp[v] != generation) {
+                stamp[v] = generation;
+                distance[v] = newDistance;
+                parent[v] = from;
+                heapVertex[heapSize] = v;
+                heapKey[heapSize] = key;
+                heapIndex[v] = heapSize;
+                siftUp(heapSize++);
+                return true;
+            }
+            if (heapIndex[v] != SETTLED && newDistance < distance[v]) {
+                distance[v] = newDistance;
+                parent[v] = from;
+                heapKey[heapIndex[v]] = key;
+                siftUp(heapIndex[v]);
+                return true;
+            }
+            return false;
+        }
+
+        /**
+         * Removes and settles the vertex with the smallest distance
+         * @return Settled vertex
+         */
+        int poll() {
+            int v = heapVertex[0];
+            heapIndex[v] = SETTLED;
+            settledCount++;
+            if (--heapSize > 0) {
+                heapVertex[0] = heapVertex[heapSize];
+                heapKey[0] = heapKey[heapSize];
+                heapIndex[heapVertex[0]] = 0;
+                siftDown(0);
+            }
+            return v;
+        }
+
+        private void siftUp(int i) {
+            int v = heapVertex[i];
+            long key = heapKey[i];
+            while (i > 0) {
+                int up = (i - 1) >>> 1;
+                if (heapKey[up] <= key) break;
+                heapVertex[i] = heapVertex[up];
+                heapKey[i] = heapKey[up];
+                heapIndex[heapVertex[i]] = i;
+                i = up;
+            }
+            heapVertex[i] = v;
+            heapKey[i] = key;
+            heapIndex[v] = i;
+        }
+
+        private void siftDown(int i) {
+            int v = heapVertex[i];
+            long key = heapKey[i];
+            while (true) {
+                int child = 2 * i + 1;
+                if (child >= heapSize) break;
+                if (child + 1 < heapSize && heapKey[child + 1] < heapKey[child]) child++;
+                if (heapKey[child] >= key) break;
+                heapVertex[i] = heapVertex[child];
+                heapKey[i] = heapKey[child];
+                heapIndex[heapVertex[i]] = i;
+                i = child;
+            }
+            heapVertex[i] = v;
+            heapKey[i] = key;
+            heapIndex[v] = i;
+        }
+
+        /**
+         * Follows parent pointers back from target
+         * @return Vertices from the search root to target, empty if unreached
+         */
+        List<Integer> pathTo(int target) {
+            List<Integer> path = new ArrayList<>();
+            if (!reached(target)) return path;
+            for (int v = target; v != -1; v = parent[v]) {
+                path.add(v);
+            }
+            Collections.reverse(path);
+            return path;
+        }
+    }
+
+    /**
+     * RowConsumer interface receives distance matrix rows as they finish
+     */
+    @FunctionalInterface
+    interface RowConsumer {
+        /**
+         * Called from a worker thread, in no particular order
+         * @param sourceIndex Index into the sources array
+         * @param row row[j] is the distance to targets[j] (INFINITY if unreachable); owned by the callee
+         */
+        void accept(int sourceIndex, long[] row);
+    }
+
+    /**
+     * ShortestPathEngine class answers Dijkstra queries on one graph from
+     * any number of threads
+     */
+    static class ShortestPathEngine {
+        final csr_graph.CsrGraph graph;
+        private final ThreadLocal<SearchState> states;
+
+        /**
+         * Constructor - prepares queries over a graph (unweighted edges weigh 1)
+         * @param graph Graph with non-negative weights
+         */
+        public ShortestPathEngine(csr_graph.CsrGraph graph) {
+            for (int e = 0; e < graph.edgeCount(); e++) {
+                if (graph.weight(e) < 0) {
+                    throw new IllegalArgumentException("Negative edge weight: " + graph.weight(e));
+                }
+            }
+            this.graph = graph;
+            this.states = ThreadLocal.withInitial(() -> new SearchState(graph.vertexCount()));
+        }
+
+        /**
+         * Creates an engine from dijkstra_shortest_path adjacency lists
+         * @param adjacency graph.get(u) lists the out-edges of u
+         * @return New engine
+         */
+        public static ShortestPathEngine fromAdjacency(List<List<dijkstra_shortest_path.Edge>> adjacency) {
+            return new ShortestPathEngine(csr_graph.CsrGraph.fromAdjacency(adjacency));
+        }
+
+        /**
+         * Returns this thread's search state, reset for a new query
+         */
+        SearchState freshState() {
+            SearchState state = states.get();
+            state.reset();
+            return state;
+        }
+
+        void checkVertex(int v) {
+            if (v < 0 || v >= graph.vertexCount()) {
+                throw new IndexOutOfBoundsException("Invalid vertex: " + v);
+            }
+        }
+
+        /**
+         * Runs Dijkstra from source until target is settled (or the heap empties)
+         */
+        SearchState search(int source, int target) {
+            checkVertex(source);
+            SearchState state = freshState();
+            int[] offsets = graph.offsets();
+            int[] targets = graph.targets();
+            int[] weights = graph.weights();
+            state.relax(source, 0, -1);
+            while (!state.isEmpty()) {
+                int u = state.poll();
+                if (u == target) break;
+                long base = state.distance(u);
+                for (int e = offsets[u]; e < offsets[u + 1]; e++) {
+                    state.relax(targets[e], base + (weights == null ? 1 : weights[e]), u);
+                }
+            }
+            return state;
+        }
+
+        /**
+         * Shortest distance with early exit
+         * Time Complexity: O((V' + E') log V') for the settled part of the graph
+         * @param source Start vertex
+         * @param target End vertex
+         * @return Distance, or INFINITY if unreachable
+         */
+        public long distance(int source, int target) {
+            checkVertex(target);
+            return search(source, target).distance(target);
+        }
+
+        /**
+         * Shortest distance and route with early exit
+         * Time Complexity: O((V' + E') log V')
+         * @param source Start vertex
+         * @param target End vertex
+         * @return Result with the long distance and the path (empty if unreachable)
+         */
+        public dijkstra_shortest_path.ShortestPathResult shortestPath(int source, int target) {
+            checkVertex(target);
+            SearchState state = search(source, target);
+            return new dijkstra_shortest_path.ShortestPathResult(state.distance(target), state.pathTo(target));
+        }
+
+        /**
+         * Distances from source to every vertex
+         * Time Complexity: O((V + E) log V)
+         * @param source Start vertex
+         * @return New array, INFINITY for unreachable vertices
+         */
+        public long[] distancesFrom(int source) {
+            SearchState state = search(source, -1);
+            long[] result = new long[graph.vertexCount()];
+            for (int v = 0; v < result.length; v++) {
+                result[v] = state.distance(v);
+            }
+            return result;
+        }
+
+        /**
+         * Vertices settled by the last query on this thread
+         * @return Settled count
+         */
+        public int lastSettledCount() {
+            return states.get().settledCount();
+        }
+
+        /**
+         * Distances from every source to every target, held in memory, computed
+         * on the common pool
+         * Time Complexity: O(|sources| * (V' + E') log V') over the pool's parallelism
+         * @param sources Row vertices
+         * @param targets Column vertices
+         * @return matrix[i][j] = distance(sources[i], targets[j])
+         */
+        public long[][] distanceMatrix(int[] sources, int[] targets) {
+            long[][] matrix = new long[sources.length][];
+            distanceMatrix(sources, targets, ForkJoinPool.commonPool(),
+                (sourceIndex, row) -> matrix[sourceIndex] = row);
+            return matrix;
+        }
+
+        /**
+         * Streams the distance matrix row by row. At most one row per worker
+         * exists at a time, so a 10k x 10k table needs O(parallelism * |targets|)
+         * memory. The pool bounds the concurrency, and because its worker
+         * threads outlive the call, each keeps its thread-local SearchState
+         * across sources and across calls. Each search stops once the last
+         * distinct target is settled.
+         * Time Complexity: O(|sources| * (V' + E') log V') over the pool's parallelism
+         * @param sources Row vertices
+         * @param targets Column vertices (duplicates allowed)
+         * @param pool Pool to run the searches on
+         * @param consumer Receives every row once; must be thread-safe when the pool has several workers
+         */
+        public void distanceMatrix(int[] sources, int[] targets, ForkJoinPool pool, RowConsumer consumer) {
+            for (int s : sources) checkVertex(s);
+            boolean[] isTarget = new boolean[graph.vertexCount()];
+            int distinctTargets = 0;
+            for (int t : targets) {
+                checkVertex(t);
+                if (!isTarget[t]) {
+                    isTarget[t] = true;
+                    distinctTargets++;
+                }
+            }
+            if (distinctTargets == 0) {
+                // No columns: nothing to search for
+                for (int i = 0; i < sources.length; i++) {
+                    consumer.accept(i, new long[0]);
+                }
+                return;
+            }
+            final int remainingTargets = distinctTargets;
+            AtomicInteger next = new AtomicInteger();
+            AtomicBoolean failed = new AtomicBoolean();
+            Runnable worker = () -> {
+                try {
+                    int i;
+                    while (!failed.get() && (i = next.getAndIncrement()) < sources.length) {
+                        SearchState state = searchTargets(sources[i], isTarget, remainingTargets);
+                        long[] row = new long[targets.length];
+                        for (int j = 0; j < targets.length; j++) {
+                            row[j] = state.distance(targets[j]);
+                        }
+                        consumer.accept(i, row);
+                    }
+                } catch (RuntimeException | Error e) {
+                    failed.set(true);
+                    throw e;
+                }
+            };
+
+            int workers = Math.min(pool.getParallelism(), sources.length);
+            List<Future<?>> futures = new ArrayList<>();
+            try {
+                for (int w = 0; w < workers; w++) {
+                    futures.add(pool.submit(worker));
+                }
+                for (Future<?> future : futures) {
+                    future.get();
+                }
+            } catch (InterruptedException e) {
+                failed.set(true);
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while computing distance matrix", e);
+            } catch (ExecutionException e) {
+                if (e.getCause() instanceof RuntimeException) throw (RuntimeException) e.getCause();
+                if (e.getCause() instanceof Error) throw (Error) e.getCause();
+                throw new IllegalStateException(e.getCause());
+            }
+        }
+
+        /**
+         * Runs Dijkstra from source until all marked targets are settled
+         */
+        private SearchState searchTargets(int source, boolean[] isTarget, int targetCount) {
+            SearchState state = freshState();
+            int[] offsets = graph.offsets();
+            int[] targets = graph.targets();
+            int[] weights = graph.weights();
+            int remaining = targetCount;
+            state.relax(source, 0, -1);
+            while (!state.isEmpty()) {
+                int u = state.poll();
+                if (isTarget[u] && --remaining == 0) break;
+                long base = state.distance(u);
+                for (int e = offsets[u]; e < offsets[u + 1]; e++) {
+                    state.relax(targets[e], base + (weights == null ? 1 : weights[e]), u);
+                }
+            }
+            return state;
+        }
+    }
+
+    /**
+     * Builds a road-like grid: every cell links to its 4 neighbors in both
+     * directions with a random travel time of 10..99 per step
+     */
+    static List<List<dijkstra_shortest_path.Edge>> gridAdjacency(int rows, int cols, Random random) {
+        List<List<dijkstra_shortest_path.Edge>> adjacency = new ArrayList<>();
+        for (int i = 0; i < rows * cols; i++) {
+            adjacency.add(new ArrayList<>());
+        }
+        for (int r = 0; r < rows; r++) {
+            for (int c = 0; c < cols; c++) {
+                int v = r * cols + c;
+                if (c + 1 < cols) {
+                    int w = 10 + random.nextInt(90);
+                    adjacency.get(v).add(new dijkstra_shortest_path.Edge(v + 1, w));
+                    adjacency.get(v + 1).add(new dijkstra_shortest_path.Edge(v, w));
+                }
+                if (r + 1 < rows) {
+                    int w = 10 + random.nextInt(90);
+                    adjacency.get(v).add(new dijkstra_shortest_path.Edge(v + cols, w));
+                    adjacency.get(v + cols).add(new dijkstra_shortest_path.Edge(v, w));
+                }
+            }
+        }
+        return adjacency;
+    }
+
+    public static void main(String[] args) throws Exception {
+        System.out.println("Shortest Path Engine Demo\n");
+
+        // Test 1: Same graph as the dijkstra_shortest_path demo
+        System.out.println("Test 1: Basic Weighted Graph");
+        List<List<dijkstra_shortest_path.Edge>> small = new ArrayList<>();
+        for (int i = 0; i < 6; i++) small.add(new ArrayList<>());
+        int[][] edges = {{0, 1, 4}, {0, 2, 2}, {1, 2, 1}, {1, 3, 5}, {2, 3, 8}, {2, 4, 10}, {3, 4, 2}, {3, 5, 6}, {4, 5, 3}};
+        for (int[] edge : edges) small.get(edge[0]).add(new dijkstra_shortest_path.Edge(edge[1], edge[2]));
+        ShortestPathEngine engine = ShortestPathEngine.fromAdjacency(small);
+        System.out.println("Distances from 0: " + Arrays.toString(engine.distancesFrom(0)).replace(
+            String.valueOf(INFINITY), "∞"));
+        System.out.println("0 -> 5: " + engine.shortestPath(0, 5));
+        System.out.println("5 -> 0: " + engine.shortestPath(5, 0));
+        System.out.println();
+
+        // Test 2: Long distances do not overflow
+        System.out.println("Test 2: Large Weights");
+        List<List<dijkstra_shortest_path.Edge>> heavy = new ArrayList<>();
+        for (int i = 0; i < 3; i++) heavy.add(new ArrayList<>());
+        heavy.get(0).add(new dijkstra_shortest_path.Edge(1, 2_000_000_000));
+        heavy.get(1).add(new dijkstra_shortest_path.Edge(2, 2_000_000_000));
+        System.out.println("int dijkstra 0 -> 2: " + dijkstra_shortest_path.dijkstra(heavy, 0, 3)[2]);
+        System.out.println("engine 0 -> 2: " + ShortestPathEngine.fromAdjacency(heavy).distance(0, 2));
+        System.out.println();
+
+        // Test 3: Point-to-point queries vs dijkstraWithPath
+        System.out.println("Test 3: 200 Queries on a 300 x 300 Grid");
+        Random random = new Random(46);
+        int vertices = 300 * 300;
+        List<List<dijkstra_shortest_path.Edge>> adjacency = gridAdjacency(300, 300, random);
+        ShortestPathEngine big = ShortestPathEngine.fromAdjacency(adjacency);
+        int[][] queries = new int[200][];
+        for (int i = 0; i < queries.length; i++) {
+            queries[i] = new int[]{random.nextInt(vertices), random.nextInt(vertices)};
+        }
+        long start = System.nanoTime();
+        long[] expected = new long[queries.length];
+        for (int i = 0; i < queries.length; i++) {
+            expected[i] = dijkstra_shortest_path.dijkstraWithPath(adjacency, queries[i][0], queries[i][1], vertices).distance;
+        }
+        long baselineMs = (System.nanoTime() - start) / 1_000_000;
+        start = System.nanoTime();
+        boolean match = true;
+        long settled = 0;
+        for (int i = 0; i < queries.length; i++) {
+            match &= big.distance(queries[i][0], queries[i][1]) == expected[i];
+            settled += big.lastSettledCount();
+        }
+        long engineMs = (System.nanoTime() - start) / 1_000_000;
+        System.out.println("dijkstraWithPath: " + baselineMs + " ms, engine: " + engineMs + " ms, distances match: " +
+            match + ", avg settled: " + settled / queries.length);
+        long[] all = big.distancesFrom(0);
+        int[] reference = dijkstra_shortest_path.dijkstra(adjacency, 0, vertices);
+        boolean sameAll = true;
+        for (int v = 0; v < vertices; v++) {
+            sameAll &= all[v] == reference[v];
+        }
+        System.out.println("distancesFrom(0) matches dijkstra: " + sameAll);
+        System.out.println();
+
+        // Test 4: One engine shared by several threads
+        System.out.println("Test 4: 4 Threads Sharing One Engine");
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        List<Future<Boolean>> futures = new ArrayList<>();
+        for (int t = 0; t < 4; t++) {
+            final int offset = t;
+            futures.add(executor.submit(() -> {
+                boolean ok = true;
+                for (int i = offset; i < queries.length; i += 4) {
+                    ok &= big.distance(queries[i][0], queries[i][1]) == expected[i];
+                }
+                return ok;
+            }));
+        }
+        boolean allOk = true;
+        for (Future<Boolean> future : futures) {
+            allOk &= future.get();
+        }
+        executor.shutdown();
+        System.out.println("All threads match: " + allOk);
+        System.out.println();
+
+        // Test 5: Many-to-many distance matrix
+        System.out.println("Test 5: Distance Matrix");
+        int[] sources = new int[100];
+        int[] targets = new int[100];
+        for (int i = 0; i < 100; i++) {
+            sources[i] = random.nextInt(vertices);
+            targets[i] = random.nextInt(vertices);
+        }
+        start = System.nanoTime();
+        long[][] naive = new long[sources.length][targets.length];
+        for (int i = 0; i < sources.length; i++) {
+            int[] row = dijkstra_shortest_path.dijkstra(adjacency, sources[i], vertices);
+            for (int j = 0; j < targets.length; j++) naive[i][j] = row[targets[j]];
+        }
+        long naiveMs = (System.nanoTime() - start) / 1_000_000;
+        start = System.nanoTime();
+        long[][] matrix = big.distanceMatrix(sources, targets);
+        long matrixMs = (System.nanoTime() - start) / 1_000_000;
+        System.out.println("100 x 100 random: dijkstra per source " + naiveMs + " ms, distanceMatrix " +
+            matrixMs + " ms, match: " + Arrays.deepEquals(naive, matrix));
+
+        // Targets in one 20 x 20 district: searches stop long before covering the grid
+        int[] district = new int[400];
+        for (int i = 0; i < 400; i++) district[i] = (140 + i / 20) * 300 + 140 + i % 20;
+        int[] depots = Arrays.copyOf(district, 100);
+        start = System.nanoTime();
+        long[][] local = big.distanceMatrix(depots, district);
+        long localMs = (System.nanoTime() - start) / 1_000_000;
+        boolean localMatch = true;
+        for (int i = 0; i < depots.length; i += 10) {
+            long[] full = big.distancesFrom(depots[i]);
+            for (int j = 0; j < district.length; j++) localMatch &= local[i][j] == full[district[j]];
+        }
+        System.out.println("100 x 400 in one district: " + localMs + " ms, spot checks match: " + localMatch);
+
+        // Streaming: rows are consumed as they finish and never stored. The
+        // pool is reused, so its workers keep their SearchState between calls
+        long expectedSum = 0;
+        for (long[] row : matrix) for (long d : row) expectedSum += d;
+        ForkJoinPool matrixPool = new ForkJoinPool(4);
+        for (int call = 1; call <= 2; call++) {
+            long[] checksum = new long[1];
+            AtomicInteger rows = new AtomicInteger();
+            start = System.nanoTime();
+            big.distanceMatrix(sources, targets, matrixPool, (sourceIndex, row) -> {
+                long sum = 0;
+                for (long d : row) sum += d;
+                synchronized (checksum) {
+                    checksum[0] += sum;
+                }
+                rows.incrementAndGet();
+            });
+            System.out.println("Call " + call + ": streamed " + rows.get() + " rows on a 4-worker pool in " +
+                (System.nanoTime() - start) / 1_000_000 + " ms, checksum matches: " + (checksum[0] == expectedSum));
+        }
+        matrixPool.shutdown();
+        start = System.nanoTime();
+        long[][] noColumns = big.distanceMatrix(sources, new int[0]);
+        System.out.println("No targets: " + noColumns.length + " empty rows in " +
+            (System.nanoTime() - start) / 1_000 + " us");
+    }
+}
@@ -15,6 +15,13 @@ import java.util.*;
  * - delete(word): Remove word from trie - O(m)
  * - getAllWords(): Get all words in trie - O(n) where n is total characters
  * - countWords(): Count words with given prefix - O(m + k) where k is matches
+ * - insert(word, score): Add or re-score a weighted word - O(m * K)
+ * - topK(prefix, k): k best-scored words with prefix - O(m + k) for k <= TOP_K_CAPACITY, otherwise a subtree walk
+ *
+ * Top-k autocomplete: every node keeps a bounded summary of the K best-scored
+ * word nodes in its subtree (K = TOP_K_CAPACITY), sorted by score. Inserting or
+ * raising a score offers the word to each summary on its path; deleting or
+ * lowering a score rebuilds the summaries on its path from the children's.
  *
  * Time Complexity: O(m) for most operations where m is word length
  * Space Complexity: O(ALPHABET_SIZE * N * M) worst case
@@ -27,12 +34,28 @@ import java.util.*;
  */
 public class trie_implementation {
 
+    /**
+     * Number of best completions summarized in each node
+     */
+    static final int TOP_K_CAPACITY = 10;
+
+    /**
+     * Ranking order for completions: higher score first, then alphabetical
+     */
+    private static final Comparator<TrieNode> BY_SCORE =
+        Comparator.comparingLong((TrieNode node) -> node.score).reversed()
+            .thenComparing(node -> node.word);
+
     /**
      * TrieNode represents a single node in the trie
      */
     static class TrieNode {
         Map<Character, TrieNode> children;
         boolean isEndOfWord;
+        String word;                 // complete word when isEndOfWord, so it is never rebuilt
+        long score;                  // ranking weight used by topK
+        TrieNode[] topCompletions;   // best-scored word nodes in this subtree, best first
+        int topCount;
 
         TrieNode() {
             children = new HashMap<>();
@@ -56,26 +79,130 @@ public class trie_implementation {
         }
 
         /**
-         * Inserts a word into the trie
-         * Time Complexity: O(m) where m is word length
+         * Inserts a word into the trie with score 0; an existing word keeps its score
+         * Time Complexity: O(m * K) where m is word length, K is TOP_K_CAPACITY
          * @param word Word to insert
          */
         public void insert(String word) {
+            insertWord(word, 0, true);
+        }
+
+        /**
+         * Inserts a word with a ranking score, or updates the score of an existing word
+         * Time Complexity: O(m * K) for a new or higher score,
+         *                  O(m * σ * K) for a lower score where σ is the fan-out
+         * @param word Word to insert
+         * @param score Ranking weight used by topK (higher ranks first)
+         */
+        public void insert(String word, long score) {
+            insertWord(word, score, false);
+        }
+
+        private void insertWord(String word, long score, boolean keepExistingScore) {
             if (word == null || word.isEmpty()) {
                 return;
             }
 
+            TrieNode[] path = new TrieNode[word.length() + 1];
             TrieNode current = root;
+            path[0] = root;
 
-            for (char ch : word.toCharArray()) {
-                current.children.putIfAbsent(ch, new TrieNode());
-                current = current.children.get(ch);
+            for (int i = 0; i < word.length(); i++) {
+                current = current.children.computeIfAbsent(word.charAt(i), ch -> new TrieNode());
+                path[i + 1] = current;
             }
 
             if (!current.isEndOfWord) {
                 current.isEndOfWord = true;
+                current.word = word;
+                current.score = score;
                 wordCount++;
+            } else if (keepExistingScore || current.score == score) {
+                return;
+            } else if (score < current.score) {
+                // A lower score may let another word into the summaries: rebuild bottom-up
+                current.score = score;
+                for (int i = path.length - 1; i >= 0; i--) {
+                    recomputeTopCompletions(path[i]);
+                }
+                return;
+            } else {
+                current.score = score;
+            }
+
+            for (TrieNode node : path) {
+                offerCompletion(node, current);
+            }
+        }
+
+        /**
+         * Inserts or moves candidate in node's summary, keeping it sorted and bounded
+         * Time Complexity: O(K)
+         */
+        private void offerCompletion(TrieNode node, TrieNode candidate) {
+            if (node.topCompletions == null) {
+                node.topCompletions = new TrieNode[TOP_K_CAPACITY];
+            }
+            TrieNode[] top = node.topCompletions;
+            int n = node.topCount;
+
+            int existing = -1;
+            for (int i = 0; i < n; i++) {
+                if (top[i] == candidate) {
+                    existing = i;
+                    break;
+                }
+            }
+
+            if (existing >= 0) {
+                System.arraycopy(top, existing + 1, top, existing, n - existing - 1);
+                n--;
+            } else if (n == TOP_K_CAPACITY) {
+                if (BY_SCORE.compare(candidate, top[n - 1]) >= 0) {
+                    return;
+                }
+                n--;  // drop the current worst
+            }
+
+            int i = n;
+            while (i > 0 && BY_SCORE.compare(candidate, top[i - 1]) < 0) {
+                top[i] = top[i - 1];
+                i--;
+            }
+            top[i] = candidate;
+            node.topCount = n + 1;
+        }
+
+        /**
+         * Rebuilds node's summary from its own word and its children's summaries
+         * Time Complexity: O(σ * K log(σ * K)) where σ is the number of children
+         */
+        private void recomputeTopCompletions(TrieNode node) {
+            List<TrieNode> candidates = new ArrayList<>();
+            if (node.isEndOfWord) {
+                candidates.add(node);
+            }
+            for (TrieNode child : node.children.values()) {
+                for (int i = 0; i < child.topCount; i++) {
+                    candidates.add(child.topCompletions[i]);
+                }
+            }
+            candidates.sort(BY_SCORE);
+
+            int n = Math.min(candidates.size(), TOP_K_CAPACITY);
+            if (n == 0) {
+                node.topCompletions = null;
+                node.topCount = 0;
+                return;
+            }
+            if (node.topCompletions == null) {
+                node.topCompletions = new TrieNode[TOP_K_CAPACITY];
             }
+            Arrays.fill(node.topCompletions, null);
+            for (int i = 0; i < n; i++) {
+                node.topCompletions[i] = candidates.get(i);
+            }
+            node.topCount = n;
         }
 
         /**
@@ -119,8 +246,8 @@ public class trie_implementation {
         }
 
         /**
-         * Deletes a word from the trie
-         * Time Complexity: O(m) where m is word length
+         * Deletes a word from the trie and rebuilds the top-K summaries on its path
+         * Time Complexity: O(m * σ * K log(σ * K)) where m is word length, σ the fan-out
          * @param word Word to delete
          * @return true if word was deleted, false if not found
          */
@@ -137,6 +264,9 @@ public class trie_implementation {
         private boolean deleteHelper(TrieNode current, String word, int index) {
             if (index == word.length()) {
                 current.isEndOfWord = false;
+                current.word = null;
+                current.score = 0;
+                recomputeTopCompletions(current);
                 return current.children.isEmpty();
             }
 
@@ -151,10 +281,10 @@ public class trie_implementation {
 
             if (shouldDeleteChild) {
                 current.children.remove(ch);
-                return current.children.isEmpty() && !current.isEndOfWord;
             }
+            recomputeTopCompletions(current);
 
-            return false;
+            return shouldDeleteChild && current.children.isEmpty() && !current.isEndOfWord;
         }
 
         /**
@@ -164,17 +294,17 @@ public class trie_implementation {
          */
         public List<String> getAllWords() {
             List<String> words = new ArrayList<>();
-            getAllWordsHelper(root, "", words);
+            getAllWordsHelper(root, words);
             return words;
         }
 
-        private void getAllWordsHelper(TrieNode node, String prefix, List<String> words) {
+        private void getAllWordsHelper(TrieNode node, List<String> words) {
             if (node.isEndOfWord) {
-                words.add(prefix);
+                words.add(node.word);
             }
 
-            for (Map.Entry<Character, TrieNode> entry : node.children.entrySet()) {
-                getAllWordsHelper(entry.getValue(), prefix + entry.getKey(), words);
+            for (TrieNode child : node.children.values()) {
+                getAllWordsHelper(child, words);
             }
         }
 
@@ -189,7 +319,7 @@ public class trie_implementation {
             TrieNode node = searchNode(prefix);
 
             if (node != null) {
-                getAllWordsHelper(node, prefix, words);
+                getAllWordsHelper(node, words);
             }
 
             return words;
@@ -205,6 +335,56 @@ public class trie_implementation {
             return getAllWordsWithPrefix(prefix).size();
         }
 
+        /**
+         * Returns the k highest-scored words starting with prefix, best first
+         * (ties broken alphabetically). For k <= TOP_K_CAPACITY the answer is read
+         * directly from the prefix node's summary; larger k falls back to a
+         * bounded heap over the subtree.
+         * Time Complexity: O(m + k) for k <= TOP_K_CAPACITY,
+         *                  O(m + s log k) otherwise where s is the subtree size
+         * @param prefix Prefix typed so far
+         * @param k Number of completions wanted
+         * @return Up to k words with prefix, best first
+         */
+        public List<String> topK(String prefix, int k) {
+            List<String> result = new ArrayList<>();
+            TrieNode node = searchNode(prefix);
+            if (node == null || k <= 0) {
+                return result;
+            }
+
+            if (k <= TOP_K_CAPACITY) {
+                int n = Math.min(k, node.topCount);
+                for (int i = 0; i < n; i++) {
+                    result.add(node.topCompletions[i].word);
+                }
+                return result;
+            }
+
+            // Keep the k best seen so far; the heap head is the worst of them
+            PriorityQueue<TrieNode> heap = new PriorityQueue<>(BY_SCORE.reversed());
+            Deque<TrieNode> stack = new ArrayDeque<>();
+            stack.push(node);
+            while (!stack.isEmpty()) {
+                TrieNode current = stack.pop();
+                if (current.isEndOfWord) {
+                    heap.offer(current);
+                    if (heap.size() > k) {
+                        heap.poll();
+                    }
+                }
+                for (TrieNode child : current.children.values()) {
+                    stack.push(child);
+                }
+            }
+
+            while (!heap.isEmpty()) {
+                result.add(heap.poll().word);
+            }
+            Collections.reverse(result);
+            return result;
+        }
+
         /**
          * Returns total number of words in trie
          * Time Complexity: O(1)
@@ -223,6 +403,14 @@ public class trie_implementation {
             return wordCount == 0;
         }
 
+        /**
+         * Returns the root node, used to convert this trie into compact encodings
+         * @return Root node
+         */
+        TrieNode getRootNode() {
+            return root;
+        }
+
         /**
          * Finds longest common prefix among all words
          * Time Complexity: O(n * m)
@@ -333,5 +521,46 @@ public class trie_implementation {
         System.out.println("Is empty: " + emptyTrie.isEmpty());
         System.out.println("Size: " + emptyTrie.size());
         System.out.println("Search 'test': " + emptyTrie.search("test"));
+        System.out.println("Top 3 for '': " + emptyTrie.topK("", 3));
+        System.out.println();
+
+        // Test 10: Weighted top-k autocomplete
+        System.out.println("Test 10: Top-K Autocomplete");
+        Trie searchLog = new Trie();
+        searchLog.insert("java", 900);
+        searchLog.insert("javascript", 1200);
+        searchLog.insert("jar", 150);
+        searchLog.insert("jazz", 400);
+        searchLog.insert("jaguar", 300);
+        searchLog.insert("jam", 50);
+        System.out.println("Scores: javascript=1200, java=900, jazz=400, jaguar=300, jar=150, jam=50");
+        System.out.println("Top 3 for 'ja': " + searchLog.topK("ja", 3));
+        System.out.println("Top 2 for 'jav': " + searchLog.topK("jav", 2));
+        searchLog.insert("jam", 2000);
+        System.out.println("After jam -> 2000, top 3 for 'ja': " + searchLog.topK("ja", 3));
+        searchLog.insert("javascript", 10);
+        System.out.println("After javascript -> 10, top 3 for 'ja': " + searchLog.topK("ja", 3));
+        searchLog.delete("jam");
+        System.out.println("After deleting jam, top 3 for 'ja': " + searchLog.topK("ja", 3));
+        System.out.println("Top 20 for 'j' (heap fallback): " + searchLog.topK("j", 20));
+        System.out.println();
+
+        // Test 11: Completion latency does not depend on subtree size
+        System.out.println("Test 11: Top-K on a Large Subtree");
+        Trie large = new Trie();
+        Random random = new Random(1);
+        for (int i = 0; i < 200_000; i++) {
+            large.insert("a" + Integer.toString(i, 36), random.nextInt(1_000_000));
+        }
+        long start = System.nanoTime();
+        List<String> best = large.topK("a", 5);
+        long topKMicros = (System.nanoTime() - start) / 1000;
+        start = System.nanoTime();
+        int all = large.getAllWordsWithPrefix("a").size();
+        long allMicros = (System.nanoTime() - start) / 1000;
+        System.out.println("Words under 'a': " + all);
+        System.out.println("topK('a', 5): " + best + " in " + topKMicros + " us");
+        System.out.println("Fallback heap agrees: " + large.topK("a", 11).subList(0, 5).equals(best));
+        System.out.println("getAllWordsWithPrefix('a') took " + allMicros + " us");
     }
 }
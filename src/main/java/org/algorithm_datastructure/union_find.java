@@ -51,6 +51,23 @@ public class union_find {
             }
         }
 
+        /**
+         * Grows the structure to n elements; new elements are singleton sets
+         * Time Complexity: O(n) when growing, O(1) otherwise (grow geometrically
+         * for amortized O(1) per element)
+         * @param n Required number of elements
+         */
+        public void ensureCapacity(int n) {
+            int old = parent.length;
+            if (n <= old) return;
+            parent = java.util.Arrays.copyOf(parent, n);
+            rank = java.util.Arrays.copyOf(rank, n);
+            for (int i = old; i < n; i++) {
+                parent[i] = i;
+            }
+            numSets += n - old;
+        }
+
         /**
          * Finds the representative (root) of the set containing x
          * Uses path compression for optimization